@@ -16,7 +16,6 @@ package org.eclipse.core.internal.databinding.beans;
 
 import java.beans.PropertyChangeListener;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.runtime.Assert;
@@ -41,8 +40,7 @@ public class BeanPropertyListenerSupport {
 		Assert.isNotNull(bean, "Bean cannot be null"); //$NON-NLS-1$
 		Assert.isNotNull(listener, "Listener cannot be null"); //$NON-NLS-1$
 		Assert.isNotNull(propertyName, "Property name cannot be null"); //$NON-NLS-1$
-		processListener(bean, propertyName, listener,
-				"addPropertyChangeListener", "Could not attach listener to ");//$NON-NLS-1$ //$NON-NLS-2$
+		processListener(bean, propertyName, listener, true, "Could not attach listener to "); //$NON-NLS-1$
 	}
 
 	/**
@@ -54,11 +52,57 @@ public class BeanPropertyListenerSupport {
 		Assert.isNotNull(listener, "Listener cannot be null"); //$NON-NLS-1$
 		Assert.isNotNull(propertyName, "Property name cannot be null"); //$NON-NLS-1$
 
-		processListener(
-				bean,
-				propertyName,
-				listener,
-				"removePropertyChangeListener", "Cound not remove listener from "); //$NON-NLS-1$ //$NON-NLS-2$
+		processListener(bean, propertyName, listener, false, "Cound not remove listener from "); //$NON-NLS-1$
+	}
+
+	/**
+	 * The listener methods of a bean class, looked up once per class.
+	 */
+	private static final ClassValue<ListenerMethods> LISTENER_METHODS = new ClassValue<>() {
+		@Override
+		protected ListenerMethods computeValue(Class<?> type) {
+			return new ListenerMethods(type);
+		}
+	};
+
+	/**
+	 * The add and remove methods for property change listeners of a bean
+	 * class.
+	 */
+	private static final class ListenerMethods {
+		private final ListenerMethod add;
+		private final ListenerMethod remove;
+
+		ListenerMethods(Class<?> beanClass) {
+			add = new ListenerMethod(beanClass, "addPropertyChangeListener"); //$NON-NLS-1$
+			remove = new ListenerMethod(beanClass, "removePropertyChangeListener"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * The result of looking up a listener method, attempting to first find the
+	 * method with the property name and then the unnamed version.
+	 */
+	private static final class ListenerMethod {
+		private MethodAccessor accessor;
+		private boolean named;
+		private NoSuchMethodException missing;
+
+		ListenerMethod(Class<?> beanClass, String methodName) {
+			try {
+				try {
+					accessor = MethodAccessor.forMethod(
+							beanClass.getMethod(methodName, String.class, PropertyChangeListener.class));
+					named = true;
+				} catch (NoSuchMethodException e) {
+					accessor = MethodAccessor.forMethod(beanClass.getMethod(methodName, PropertyChangeListener.class));
+				}
+			} catch (SecurityException e) {
+				// ignore
+			} catch (NoSuchMethodException e) {
+				missing = e;
+			}
+		}
 	}
 
 	/**
@@ -67,39 +111,29 @@ public class BeanPropertyListenerSupport {
 	 *
 	 * @param bean
 	 *            object to invoke the method on
-	 * @param methodName
-	 *            either addPropertyChangeListener or
-	 *            removePropertyChangeListener
+	 * @param add
+	 *            <code>true</code> to invoke addPropertyChangeListener,
+	 *            <code>false</code> to invoke removePropertyChangeListener
 	 * @param message
 	 *            string that will be prefixed to the target in an error message
 	 *
 	 * @return <code>true</code> if the method was invoked successfully
 	 */
 	private static boolean processListener(Object bean, String propertyName,
-			PropertyChangeListener listener, String methodName, String message) {
-		Method method = null;
-		Object[] parameters = null;
-
-		try {
-			try {
-				method = bean.getClass().getMethod(methodName, String.class, PropertyChangeListener.class);
-
-				parameters = new Object[] { propertyName, listener };
-			} catch (NoSuchMethodException e) {
-				method = bean.getClass().getMethod(methodName, PropertyChangeListener.class);
-
-				parameters = new Object[] { listener };
-			}
-		} catch (SecurityException e) {
-			// ignore
-		} catch (NoSuchMethodException e) {
-			log(IStatus.WARNING, message + bean, e);
+			PropertyChangeListener listener, boolean add, String message) {
+		ListenerMethods methods = LISTENER_METHODS.get(bean.getClass());
+		ListenerMethod method = add ? methods.add : methods.remove;
+		if (method.missing != null) {
+			log(IStatus.WARNING, message + bean, method.missing);
 		}
 
-		if (method != null) {
-			BeanPropertyHelper.setAccessible(method);
+		if (method.accessor != null) {
 			try {
-				method.invoke(bean, parameters);
+				if (method.named) {
+					method.accessor.invoke(bean, propertyName, listener);
+				} else {
+					method.accessor.invoke(bean, listener);
+				}
 				return true;
 			} catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
 				log(IStatus.WARNING, message + bean, e);
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.beans;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invokes a bean method through a {@link MethodHandle} compiled once per
+ * method, instead of going through the access checks and argument array of
+ * {@link Method#invoke(Object, Object...)} on every call. The accessors are
+ * cached per declaring class, so they don't prevent the class from being
+ * unloaded.
+ * <p>
+ * The accessor behaves like {@link Method#invoke(Object, Object...)}. Calls
+ * whose arguments would need a conversion other than unboxing, or which are
+ * invalid, are delegated to the reflective method.
+ */
+final class MethodAccessor {
+
+	private static final ClassValue<Map<Method, MethodAccessor>> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected Map<Method, MethodAccessor> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final Method method;
+
+	private final Class<?> declaringClass;
+
+	/*
+	 * The parameter types of the method, with primitive types replaced by
+	 * their wrapper types
+	 */
+	private final Class<?>[] parameterTypes;
+
+	private final boolean[] primitive;
+
+	/*
+	 * The method handle, adapted to take and return Object, or null if the
+	 * method can only be invoked reflectively
+	 */
+	private final MethodHandle handle;
+
+	private MethodAccessor(Method method) {
+		this.method = method;
+		this.declaringClass = method.getDeclaringClass();
+		Class<?>[] types = method.getParameterTypes();
+		this.parameterTypes = new Class<?>[types.length];
+		this.primitive = new boolean[types.length];
+		for (int i = 0; i < types.length; i++) {
+			primitive[i] = types[i].isPrimitive();
+			parameterTypes[i] = primitive[i] ? MethodType.methodType(types[i]).wrap().returnType() : types[i];
+		}
+		this.handle = createHandle(method);
+	}
+
+	private static MethodHandle createHandle(Method method) {
+		if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > 2) {
+			return null;
+		}
+		try {
+			BeanPropertyHelper.setAccessible(method);
+			MethodHandle handle = MethodHandles.lookup().unreflect(method);
+			return handle.asType(MethodType.genericMethodType(method.getParameterCount() + 1));
+		} catch (IllegalAccessException | RuntimeException e) {
+			// e.g. inaccessible module, use reflection
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the accessor for the given method.
+	 *
+	 * @param method the method
+	 * @return the accessor, not <code>null</code>
+	 */
+	static MethodAccessor forMethod(Method method) {
+		return ACCESSORS.get(method.getDeclaringClass()).computeIfAbsent(method, MethodAccessor::new);
+	}
+
+	/**
+	 * @return the method this accessor invokes
+	 */
+	Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Invokes a method without parameters.
+	 *
+	 * @param target the object to invoke the method on
+	 * @return the result, or <code>null</code> for a void method
+	 * @throws IllegalAccessException    see {@link Method#invoke}
+	 * @throws InvocationTargetException if the method threw an exception
+	 */
+	Object invoke(Object target) throws IllegalAccessException, InvocationTargetException {
+		if (handle == null || parameterTypes.length != 0 || !declaringClass.isInstance(target)) {
+			BeanPropertyHelper.setAccessible(method);
+			return method.invoke(target);
+		}
+		try {
+			return handle.invokeExact(target);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/**
+	 * Invokes a method with one parameter.
+	 *
+	 * @param target   the object to invoke the method on
+	 * @param argument the argument
+	 * @return the result, or <code>null</code> for a void method
+	 * @throws IllegalAccessException    see {@link Method#invoke}
+	 * @throws InvocationTargetException if the method threw an exception
+	 */
+	Object invoke(Object target, Object argument) throws IllegalAccessException, InvocationTargetException {
+		if (handle == null || parameterTypes.length != 1 || !declaringClass.isInstance(target)
+				|| !accepts(0, argument)) {
+			BeanPropertyHelper.setAccessible(method);
+			return method.invoke(target, argument);
+		}
+		try {
+			return handle.invokeExact(target, argument);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/**
+	 * Invokes a method with two parameters.
+	 *
+	 * @param target    the object to invoke the method on
+	 * @param argument1 the first argument
+	 * @param argument2 the second argument
+	 * @return the result, or <code>null</code> for a void method
+	 * @throws IllegalAccessException    see {@link Method#invoke}
+	 * @throws InvocationTargetException if the method threw an exception
+	 */
+	Object invoke(Object target, Object argument1, Object argument2)
+			throws IllegalAccessException, InvocationTargetException {
+		if (handle == null || parameterTypes.length != 2 || !declaringClass.isInstance(target)
+				|| !accepts(0, argument1) || !accepts(1, argument2)) {
+			BeanPropertyHelper.setAccessible(method);
+			return method.invoke(target, argument1, argument2);
+		}
+		try {
+			return handle.invokeExact(target, argument1, argument2);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/*
+	 * Whether the argument can be passed to the method handle without a
+	 * widening conversion
+	 */
+	private boolean accepts(int index, Object argument) {
+		if (argument == null) {
+			return !primitive[index];
+		}
+		return primitive[index] ? argument.getClass() == parameterTypes[index]
+				: parameterTypes[index].isInstance(argument);
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * Reads and writes a bean property through the {@link MethodAccessor}s of its
+ * read and write methods. Properties keep an instance, so that the accessors
+ * are only looked up on first use. The static helpers share the instances
+ * returned by {@link #forDescriptor(PropertyDescriptor)}.
+ *
+ * @see BeanPropertyHelper#readProperty(Object, PropertyDescriptor)
+ * @see BeanPropertyHelper#writeProperty(Object, PropertyDescriptor, Object)
+ */
+final class PropertyAccessor {
+
+	/**
+	 * The name of the attribute which holds the shared accessor of a property
+	 * descriptor.
+	 */
+	private static final String ACCESSOR_ATTRIBUTE = PropertyAccessor.class.getName();
+
+	private final PropertyDescriptor propertyDescriptor;
+
+	private MethodAccessor readAccessor;
+
+	private MethodAccessor writeAccessor;
+
+	PropertyAccessor(PropertyDescriptor propertyDescriptor) {
+		this.propertyDescriptor = propertyDescriptor;
+	}
+
+	/**
+	 * Returns the shared accessor for the given property. It is stored as an
+	 * attribute of the descriptor, which is cheaper to look up than a map
+	 * keyed by descriptors, whose hash code is computed from all its methods.
+	 *
+	 * @param propertyDescriptor the property
+	 * @return the accessor, not <code>null</code>
+	 */
+	static PropertyAccessor forDescriptor(PropertyDescriptor propertyDescriptor) {
+		if (propertyDescriptor.getValue(ACCESSOR_ATTRIBUTE) instanceof PropertyAccessor accessor) {
+			return accessor;
+		}
+		// racing threads may each store an accessor, which is harmless
+		PropertyAccessor accessor = new PropertyAccessor(propertyDescriptor);
+		propertyDescriptor.setValue(ACCESSOR_ATTRIBUTE, accessor);
+		return accessor;
+	}
+
+	/**
+	 * Sets the contents of the property on the given source object to the
+	 * given value.
+	 *
+	 * @param source
+	 *            the source object which has the property being updated
+	 * @param value
+	 *            the new value of the property
+	 */
+	void write(Object source, Object value) {
+		try {
+			MethodAccessor accessor = writeAccessor;
+			if (accessor == null) {
+				Method writeMethod = propertyDescriptor.getWriteMethod();
+				if (null == writeMethod) {
+					throw new IllegalArgumentException(
+							"Missing public setter method for " //$NON-NLS-1$
+									+ propertyDescriptor.getName() + " property"); //$NON-NLS-1$
+				}
+				writeAccessor = accessor = MethodAccessor.forMethod(writeMethod);
+			}
+			accessor.invoke(source, value);
+		} catch (InvocationTargetException e) {
+			/*
+			 * InvocationTargetException wraps any exception thrown by the
+			 * invoked method.
+			 */
+			throw new RuntimeException(e.getCause());
+		} catch (Exception e) {
+			Policy.getLog()
+					.log(new Status(
+							IStatus.WARNING,
+							Policy.JFACE_DATABINDING,
+							IStatus.OK,
+							"Could not change value of " + source + "." + propertyDescriptor.getName(), e)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Returns the contents of the property for the given bean.
+	 *
+	 * @param source
+	 *            the source bean
+	 * @return the contents of the property for the given bean.
+	 */
+	Object read(Object source) {
+		try {
+			MethodAccessor accessor = readAccessor;
+			if (accessor == null) {
+				Method readMethod = propertyDescriptor.getReadMethod();
+				if (readMethod == null) {
+					throw new IllegalArgumentException(propertyDescriptor.getName()
+							+ " property does not have a read method."); //$NON-NLS-1$
+				}
+				readAccessor = accessor = MethodAccessor.forMethod(readMethod);
+			}
+			return accessor.invoke(source);
+		} catch (InvocationTargetException e) {
+			/*
+			 * InvocationTargetException wraps any exception thrown by the
+			 * invoked method.
+			 */
+			throw new RuntimeException(e.getCause());
+		} catch (Exception e) {
+			Policy.getLog()
+					.log(new Status(
+							IStatus.WARNING,
+							Policy.JFACE_DATABINDING,
+							IStatus.OK,
+							"Could not read value of " + source + "." + propertyDescriptor.getName(), e)); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+	}
+}
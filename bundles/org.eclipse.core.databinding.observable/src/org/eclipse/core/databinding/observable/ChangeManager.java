@@ -99,6 +99,20 @@ import org.eclipse.core.runtime.ListenerList;
 		return false;
 	}
 
+	/**
+	 * Returns whether there are listeners of the given type. Allows subclasses
+	 * to avoid creating events that no listener would receive.
+	 *
+	 * @param listenerType arbitrary object to identify a type of the listener
+	 * @return <code>true</code> if at least one listener of the given type is
+	 *         registered
+	 * @since 1.14
+	 */
+	protected boolean hasListeners(Object listenerType) {
+		int listenerTypeIndex = findListenerTypeIndex(listenerType);
+		return listenerTypeIndex != -1 && !listenerLists[listenerTypeIndex].isEmpty();
+	}
+
 	private int findListenerTypeIndex(Object listenerType) {
 		if (listenerTypes != null) {
 			for (int i = 0; i < listenerTypes.length; i++) {
@@ -111,6 +125,18 @@ import org.eclipse.core.runtime.ListenerList;
 	}
 
 	protected void fireEvent(ObservableEvent event) {
+		if (!realm.deferEvent(this, event)) {
+			dispatchEvent(event);
+		}
+	}
+
+	/**
+	 * Notifies the listeners of the given event, regardless of whether a
+	 * transaction is running in the realm.
+	 *
+	 * @param event the event
+	 */
+	void dispatchEvent(ObservableEvent event) {
 		Object listenerType = event.getListenerType();
 		int listenerTypeIndex = findListenerTypeIndex(listenerType);
 		if (listenerTypeIndex != -1) {
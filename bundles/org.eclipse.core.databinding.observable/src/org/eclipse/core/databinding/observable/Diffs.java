@@ -32,11 +32,19 @@ import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.map.MapDiff;
 import org.eclipse.core.databinding.observable.set.SetDiff;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.internal.databinding.observable.MyersListDiff;
 
 /**
  * @since 1.0
  */
 public class Diffs {
+	/**
+	 * Maximum product of the sizes of the differing ranges of two lists for
+	 * which {@link #computeListDiff(List, List)} still uses the quadratic
+	 * algorithm, larger ranges are compared with {@link MyersListDiff}.
+	 */
+	private static final int SMALL_LIST_DIFF_LIMIT = 4096;
+
 	private static final class UnmodifiableListDiff<E> extends ListDiff<E> {
 		private ListDiff<? extends E> toWrap;
 
@@ -215,6 +223,12 @@ public class Diffs {
 	/**
 	 * Returns a {@link ListDiff} describing the change between the specified
 	 * old and new list states.
+	 * <p>
+	 * Elements which are removed and added again at a different position are
+	 * reported as adjacent removal and addition entries, see
+	 * {@link ListDiff#accept(org.eclipse.core.databinding.observable.list.ListDiffVisitor)}.
+	 * Apart from a common prefix and suffix, larger lists are compared in
+	 * O((N+D)D) time and linear space, where D is the size of the difference.
 	 *
 	 * @param <E>
 	 *            the list element type
@@ -228,7 +242,22 @@ public class Diffs {
 	 */
 	public static <E> ListDiff<E> computeListDiff(List<? extends E> oldList, List<? extends E> newList) {
 		List<ListDiffEntry<E>> diffEntries = new ArrayList<>();
-		createListDiffs(new ArrayList<>(oldList), newList, diffEntries);
+		int oldEnd = oldList.size();
+		int newEnd = newList.size();
+		int start = 0;
+		while (start < oldEnd && start < newEnd && Objects.equals(oldList.get(start), newList.get(start))) {
+			start++;
+		}
+		while (oldEnd > start && newEnd > start && Objects.equals(oldList.get(oldEnd - 1), newList.get(newEnd - 1))) {
+			oldEnd--;
+			newEnd--;
+		}
+		if ((long) (oldEnd - start) * (newEnd - start) <= SMALL_LIST_DIFF_LIMIT) {
+			createListDiffs(new ArrayList<>(oldList.subList(start, oldEnd)), newList.subList(start, newEnd), start,
+					diffEntries);
+		} else {
+			MyersListDiff.createListDiffs(oldList, newList, start, oldEnd, newEnd, diffEntries);
+		}
 		return createListDiff(diffEntries);
 	}
 
@@ -264,14 +293,17 @@ public class Diffs {
 
 	/**
 	 * adapted from EMF's ListDifferenceAnalyzer
+	 * <p>
+	 * Quadratic in the list sizes, only used for small ranges remaining after
+	 * stripping the common prefix and suffix.
 	 */
-	private static <E> void createListDiffs(List<E> oldList, List<? extends E> newList,
+	private static <E> void createListDiffs(List<E> oldList, List<? extends E> newList, int offset,
 			List<ListDiffEntry<E>> listDiffs) {
 		int index = 0;
 		for (E newValue : newList) {
 			if (oldList.size() <= index) {
 				// append newValue to newList
-				listDiffs.add(createListDiffEntry(index, true, newValue));
+				listDiffs.add(createListDiffEntry(offset + index, true, newValue));
 			} else {
 				boolean done;
 				do {
@@ -286,7 +318,7 @@ public class Diffs {
 									oldValue, index);
 							if (newIndexOfOldValue == -1) {
 								// removing oldValue from list[index]
-								listDiffs.add(createListDiffEntry(index, false,
+								listDiffs.add(createListDiffEntry(offset + index, false,
 										oldValue));
 								oldList.remove(index);
 								done = false;
@@ -303,27 +335,27 @@ public class Diffs {
 									// correct spot.
 									newIndexOfOldValue = oldList.size() - 1;
 								}
-								listDiffs.add(createListDiffEntry(index, false,
+								listDiffs.add(createListDiffEntry(offset + index, false,
 										oldValue));
 								oldList.remove(index);
 								listDiffs.add(createListDiffEntry(
-										newIndexOfOldValue, true, oldValue));
+										offset + newIndexOfOldValue, true, oldValue));
 								oldList.add(newIndexOfOldValue, oldValue);
 								done = false;
 							} else {
 								// move newValue from list[oldIndexOfNewValue]
 								// to [index]
 								listDiffs.add(createListDiffEntry(
-										oldIndexOfNewValue, false, newValue));
+										offset + oldIndexOfNewValue, false, newValue));
 								oldList.remove(oldIndexOfNewValue);
-								listDiffs.add(createListDiffEntry(index, true,
+								listDiffs.add(createListDiffEntry(offset + index, true,
 										newValue));
 								oldList.add(index, newValue);
 							}
 						} else {
 							// add newValue at list[index]
 							oldList.add(index, newValue);
-							listDiffs.add(createListDiffEntry(index, true,
+							listDiffs.add(createListDiffEntry(offset + index, true,
 									newValue));
 						}
 					}
@@ -333,7 +365,7 @@ public class Diffs {
 		}
 		for (int i = oldList.size(); i > index;) {
 			// remove excess trailing elements not present in newList
-			listDiffs.add(createListDiffEntry(--i, false, oldList.get(i)));
+			listDiffs.add(createListDiffEntry(offset + --i, false, oldList.get(i)));
 		}
 	}
 
@@ -553,6 +585,154 @@ public class Diffs {
 		};
 	}
 
+	/**
+	 * Returns a {@link ValueDiff} describing the combined effect of two
+	 * consecutive changes of a value.
+	 *
+	 * @param <T>    the value type
+	 * @param first  the first change
+	 * @param second the change following the first one
+	 * @return a value diff from the old value of the first change to the new
+	 *         value of the second change
+	 * @since 1.14
+	 */
+	public static <T> ValueDiff<T> mergeDiffs(ValueDiff<? extends T> first, ValueDiff<? extends T> second) {
+		return createValueDiff(first.getOldValue(), second.getNewValue());
+	}
+
+	/**
+	 * Returns a {@link ListDiff} describing the combined effect of two
+	 * consecutive changes of a list. The entries of the returned diff are the
+	 * entries of the first diff followed by the entries of the second diff.
+	 *
+	 * @param <E>    the list element type
+	 * @param first  the first change
+	 * @param second the change following the first one
+	 * @return a list diff applying both changes
+	 * @since 1.14
+	 */
+	public static <E> ListDiff<E> mergeDiffs(ListDiff<? extends E> first, ListDiff<? extends E> second) {
+		ListDiffEntry<? extends E>[] firstEntries = first.getDifferences();
+		ListDiffEntry<? extends E>[] secondEntries = second.getDifferences();
+		@SuppressWarnings("unchecked")
+		ListDiffEntry<E>[] entries = new ListDiffEntry[firstEntries.length + secondEntries.length];
+		System.arraycopy(firstEntries, 0, entries, 0, firstEntries.length);
+		System.arraycopy(secondEntries, 0, entries, firstEntries.length, secondEntries.length);
+		return createListDiff(entries);
+	}
+
+	/**
+	 * Returns a {@link SetDiff} describing the combined effect of two
+	 * consecutive changes of a set. Elements which are added by one change and
+	 * removed by the other are not contained in the returned diff.
+	 *
+	 * @param <E>    the set element type
+	 * @param first  the first change
+	 * @param second the change following the first one
+	 * @return a set diff with the net additions and removals of both changes
+	 * @since 1.14
+	 */
+	public static <E> SetDiff<E> mergeDiffs(SetDiff<? extends E> first, SetDiff<? extends E> second) {
+		Set<E> additions = new HashSet<>(first.getAdditions());
+		Set<E> removals = new HashSet<>(first.getRemovals());
+		for (E element : second.getRemovals()) {
+			if (!additions.remove(element)) {
+				removals.add(element);
+			}
+		}
+		for (E element : second.getAdditions()) {
+			if (!removals.remove(element)) {
+				additions.add(element);
+			}
+		}
+		return createSetDiff(additions, removals);
+	}
+
+	/**
+	 * Returns a {@link MapDiff} describing the combined effect of two
+	 * consecutive changes of a map. Keys which are added by one change and
+	 * removed by the other, and keys whose value is changed back to the
+	 * original value are not contained in the returned diff.
+	 *
+	 * @param <K>    the type of keys maintained by the map
+	 * @param <V>    the type of mapped values
+	 * @param first  the first change
+	 * @param second the change following the first one
+	 * @return a map diff with the net changes of both changes
+	 * @since 1.14
+	 */
+	public static <K, V> MapDiff<K, V> mergeDiffs(MapDiff<? extends K, ? extends V> first,
+			MapDiff<? extends K, ? extends V> second) {
+		Set<K> addedKeys = new HashSet<>();
+		Set<K> removedKeys = new HashSet<>();
+		Set<K> changedKeys = new HashSet<>();
+		Map<K, V> oldValues = new HashMap<>();
+		Map<K, V> newValues = new HashMap<>();
+		Set<? extends K> secondAdded = second.getAddedKeys();
+		Set<? extends K> secondRemoved = second.getRemovedKeys();
+		Set<? extends K> secondChanged = second.getChangedKeys();
+
+		for (K key : first.getAddedKeys()) {
+			if (secondChanged.contains(key)) {
+				addedKeys.add(key);
+				newValues.put(key, second.getNewValue(key));
+			} else if (!secondRemoved.contains(key)) {
+				addedKeys.add(key);
+				newValues.put(key, first.getNewValue(key));
+			}
+		}
+		for (K key : first.getRemovedKeys()) {
+			V oldValue = first.getOldValue(key);
+			if (!secondAdded.contains(key)) {
+				removedKeys.add(key);
+				oldValues.put(key, oldValue);
+			} else if (!Objects.equals(oldValue, second.getNewValue(key))) {
+				changedKeys.add(key);
+				oldValues.put(key, oldValue);
+				newValues.put(key, second.getNewValue(key));
+			}
+		}
+		for (K key : first.getChangedKeys()) {
+			V oldValue = first.getOldValue(key);
+			if (secondRemoved.contains(key)) {
+				removedKeys.add(key);
+				oldValues.put(key, oldValue);
+			} else {
+				V newValue = secondChanged.contains(key) ? second.getNewValue(key) : first.getNewValue(key);
+				if (!Objects.equals(oldValue, newValue)) {
+					changedKeys.add(key);
+					oldValues.put(key, oldValue);
+					newValues.put(key, newValue);
+				}
+			}
+		}
+
+		// keys which are not touched by the first change
+		Set<? extends K> firstAdded = first.getAddedKeys();
+		Set<? extends K> firstRemoved = first.getRemovedKeys();
+		Set<? extends K> firstChanged = first.getChangedKeys();
+		for (K key : secondAdded) {
+			if (!firstRemoved.contains(key)) {
+				addedKeys.add(key);
+				newValues.put(key, second.getNewValue(key));
+			}
+		}
+		for (K key : secondRemoved) {
+			if (!firstAdded.contains(key) && !firstChanged.contains(key)) {
+				removedKeys.add(key);
+				oldValues.put(key, second.getOldValue(key));
+			}
+		}
+		for (K key : secondChanged) {
+			if (!firstAdded.contains(key) && !firstChanged.contains(key)) {
+				changedKeys.add(key);
+				oldValues.put(key, second.getOldValue(key));
+				newValues.put(key, second.getNewValue(key));
+			}
+		}
+		return createMapDiff(addedKeys, removedKeys, changedKeys, oldValues, newValues);
+	}
+
 	/**
 	 * Creates a diff between two values
 	 *
@@ -15,6 +15,9 @@
  *******************************************************************************/
 package org.eclipse.core.databinding.observable;
 
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.databinding.util.Policy;
@@ -64,20 +67,225 @@ import org.eclipse.core.runtime.Status;
 public class ObservableTracker {
 
 	/**
-	 * Threadlocal storage pointing to the current Set of IObservables, or null
-	 * if none. Note that this is actually the top of a stack. Whenever a method
-	 * changes the current value, it remembers the old value as a local variable
-	 * and restores the old value when the method exits.
+	 * Dependency arrays up to this size are searched linearly, larger ones
+	 * through an identity hash map.
 	 */
-	private static ThreadLocal<IChangeListener> currentChangeListener = new ThreadLocal<>();
+	private static final int LINEAR_SEARCH_LIMIT = 8;
 
-	private static ThreadLocal<IStaleListener> currentStaleListener = new ThreadLocal<>();
+	/**
+	 * The state of one invocation of
+	 * {@link ObservableTracker#runAndMonitor(Runnable, IObservable[], IChangeListener, IStaleListener)}.
+	 * Frames are reused by later invocations at the same nesting depth, so
+	 * that monitoring does not allocate anything but the resulting array.
+	 */
+	private static final class Frame {
+		IChangeListener changeListener;
+
+		IStaleListener staleListener;
+
+		/*
+		 * The dependencies of the previous run, whose listeners are still
+		 * registered, and which of them were read again
+		 */
+		IObservable[] previous;
+
+		boolean[] previousRead = new boolean[LINEAR_SEARCH_LIMIT];
+
+		int previousReadCount;
+
+		Map<IObservable, Integer> previousIndex;
+
+		/*
+		 * The observables read in this run
+		 */
+		IObservable[] observables = new IObservable[LINEAR_SEARCH_LIMIT];
+
+		int size;
+
+		Set<IObservable> observableSet;
 
-	private static ThreadLocal<Set<IObservable>> currentGetterCalledSet = new ThreadLocal<>();
+		void start(IObservable[] previousDependencies, IChangeListener newChangeListener,
+				IStaleListener newStaleListener) {
+			changeListener = newChangeListener;
+			staleListener = newStaleListener;
+			previous = previousDependencies;
+			if (previous != null) {
+				if (previousRead.length < previous.length) {
+					previousRead = new boolean[previous.length];
+				}
+				if (previous.length > LINEAR_SEARCH_LIMIT) {
+					previousIndex = new IdentityHashMap<>(previous.length);
+					for (int i = 0; i < previous.length; i++) {
+						previousIndex.put(previous[i], Integer.valueOf(i));
+					}
+				}
+			}
+		}
+
+		void getterCalled(IObservable observable) {
+			if (!add(observable)) {
+				return;
+			}
+			if (previous != null) {
+				int index = indexOfPrevious(observable);
+				if (index != -1) {
+					// still registered from the previous run
+					previousRead[index] = true;
+					previousReadCount++;
+					return;
+				}
+			}
+			if (changeListener != null)
+				observable.addChangeListener(changeListener);
+			if (staleListener != null)
+				observable.addStaleListener(staleListener);
+		}
 
-	private static ThreadLocal<Set<IObservable>> currentObservableCreatedSet = new ThreadLocal<>();
+		private boolean add(IObservable observable) {
+			if (observableSet != null) {
+				if (!observableSet.add(observable)) {
+					return false;
+				}
+			} else {
+				for (int i = 0; i < size; i++) {
+					if (observables[i] == observable) {
+						return false;
+					}
+				}
+			}
+			if (size == observables.length) {
+				observables = Arrays.copyOf(observables, size * 2);
+			}
+			observables[size++] = observable;
+			if (observableSet == null && size > LINEAR_SEARCH_LIMIT) {
+				observableSet = new IdentitySet<>();
+				for (int i = 0; i < size; i++) {
+					observableSet.add(observables[i]);
+				}
+			}
+			return true;
+		}
 
-	private static ThreadLocal<Integer> currentIgnoreCount = new ThreadLocal<>();
+		private int indexOfPrevious(IObservable observable) {
+			if (previousIndex != null) {
+				Integer index = previousIndex.get(observable);
+				return index == null ? -1 : index.intValue();
+			}
+			for (int i = 0; i < previous.length; i++) {
+				if (previous[i] == observable) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Returns the observables read in this run, or the previous
+		 * dependencies if they did not change.
+		 */
+		IObservable[] getObservables() {
+			if (previous != null && previousReadCount == previous.length && size == previous.length) {
+				return previous;
+			}
+			return Arrays.copyOf(observables, size);
+		}
+
+		/**
+		 * Removes the listeners from the previous dependencies which were not
+		 * read in this run.
+		 */
+		void removeUnusedListeners(IObservable[] result) {
+			if (previous != null && result != previous) {
+				for (int i = 0; i < previous.length; i++) {
+					if (!previousRead[i]) {
+						removeListeners(previous[i]);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Restores the listener registrations of the previous run after the
+		 * runnable failed.
+		 */
+		void abort() {
+			if (previous != null) {
+				for (int i = 0; i < size; i++) {
+					if (indexOfPrevious(observables[i]) == -1) {
+						removeListeners(observables[i]);
+					}
+				}
+			}
+		}
+
+		private void removeListeners(IObservable observable) {
+			if (changeListener != null)
+				observable.removeChangeListener(changeListener);
+			if (staleListener != null)
+				observable.removeStaleListener(staleListener);
+		}
+
+		void reset() {
+			if (previous != null) {
+				Arrays.fill(previousRead, 0, previous.length, false);
+			}
+			Arrays.fill(observables, 0, size, null);
+			size = 0;
+			previous = null;
+			previousReadCount = 0;
+			previousIndex = null;
+			observableSet = null;
+			changeListener = null;
+			staleListener = null;
+		}
+	}
+
+	/**
+	 * The tracking state of a thread.
+	 */
+	private static final class TrackerState {
+		/*
+		 * The frames of the active runAndMonitor invocations, the top of the
+		 * stack is at depth - 1. Frames above the top are kept for reuse.
+		 */
+		Frame[] frames = new Frame[4];
+
+		int depth;
+
+		/*
+		 * The frame of the innermost active runAndMonitor invocation, or null
+		 * if none. Inside runAndCollect the frame of an enclosing runAndMonitor
+		 * stays active.
+		 */
+		Frame current;
+
+		Set<IObservable> observableCreatedSet;
+
+		int ignoreCount;
+
+		Frame push() {
+			if (depth == frames.length) {
+				frames = Arrays.copyOf(frames, depth * 2);
+			}
+			Frame frame = frames[depth];
+			if (frame == null) {
+				frame = frames[depth] = new Frame();
+			}
+			depth++;
+			return frame;
+		}
+	}
+
+	private static ThreadLocal<TrackerState> currentState = new ThreadLocal<>();
+
+	private static TrackerState getState() {
+		TrackerState state = currentState.get();
+		if (state == null) {
+			state = new TrackerState();
+			currentState.set(state);
+		}
+		return state;
+	}
 
 	/**
 	 * Invokes the given runnable, and returns the set of IObservables that were
@@ -97,31 +305,71 @@ public class ObservableTracker {
 	 */
 	public static IObservable[] runAndMonitor(Runnable runnable,
 			IChangeListener changeListener, IStaleListener staleListener) {
+		return runAndMonitor(runnable, null, changeListener, staleListener);
+	}
+
+	/**
+	 * Invokes the given runnable, and returns the set of IObservables that were
+	 * read by the runnable, updating the listener registrations of a previous
+	 * invocation with the same listeners incrementally.
+	 * <p>
+	 * The listeners are expected to be registered with all of the given
+	 * previous dependencies. They are registered with the observables read
+	 * for the first time, and removed from the previous dependencies which
+	 * are no longer read. Dependencies read in both invocations keep their
+	 * listeners, and if the set of dependencies did not change, the given
+	 * array is returned. If the runnable throws an exception, the listener
+	 * registrations are restored to those of the previous dependencies.
+	 * </p>
+	 *
+	 * @param runnable
+	 *            runnable to execute
+	 * @param previousDependencies
+	 *            the result of the previous invocation, or <code>null</code>
+	 *            if the listeners are not registered with any observable
+	 * @param changeListener
+	 *            listener to register with all accessed observables, or
+	 *            <code>null</code> if no change listener is to be registered
+	 * @param staleListener
+	 *            listener to register with all accessed observables, or
+	 *            <code>null</code> if no stale listener is to be registered
+	 * @return an array of unique observable objects
+	 * @since 1.14
+	 */
+	public static IObservable[] runAndMonitor(Runnable runnable, IObservable[] previousDependencies,
+			IChangeListener changeListener, IStaleListener staleListener) {
+		TrackerState state = getState();
 		// Remember the previous value in the listener stack
-		Set<IObservable> lastObservableSet = currentGetterCalledSet.get();
-		IChangeListener lastChangeListener = currentChangeListener.get();
-		IStaleListener lastStaleListener = currentStaleListener.get();
-		Integer lastIgnore = currentIgnoreCount.get();
+		Frame lastFrame = state.current;
+		int lastIgnore = state.ignoreCount;
 
-		Set<IObservable> observableSet = new IdentitySet<>();
-		// Push the new listeners to the top of the stack
-		currentGetterCalledSet.set(observableSet);
-		currentChangeListener.set(changeListener);
-		currentStaleListener.set(staleListener);
-		currentIgnoreCount.remove();
+		Frame frame = state.push();
+		frame.start(previousDependencies, changeListener, staleListener);
+		// Push the new frame to the top of the stack
+		state.current = frame;
+		state.ignoreCount = 0;
+		IObservable[] result = null;
 		try {
 			runnable.run();
+			result = frame.getObservables();
 		} finally {
-			// Pop the new listener off the top of the stack (by restoring the
-			// previous listener)
-			currentGetterCalledSet.set(lastObservableSet);
-			currentChangeListener.set(lastChangeListener);
-			currentStaleListener.set(lastStaleListener);
-			checkUnmatchedIgnore(runnable);
-			currentIgnoreCount.set(lastIgnore);
+			// Pop the frame off the top of the stack (by restoring the
+			// previous frame)
+			state.current = lastFrame;
+			checkUnmatchedIgnore(state, runnable);
+			state.ignoreCount = lastIgnore;
+			try {
+				if (result != null) {
+					frame.removeUnusedListeners(result);
+				} else {
+					frame.abort();
+				}
+			} finally {
+				frame.reset();
+				state.depth--;
+			}
 		}
-
-		return observableSet.toArray(new IObservable[observableSet.size()]);
+		return result;
 	}
 
 	/**
@@ -141,34 +389,35 @@ public class ObservableTracker {
 	 * @since 1.2
 	 */
 	public static IObservable[] runAndCollect(Runnable runnable) {
-		Set<IObservable> lastObservableCreatedSet = currentObservableCreatedSet.get();
-		Integer lastIgnore = currentIgnoreCount.get();
+		TrackerState state = getState();
+		Set<IObservable> lastObservableCreatedSet = state.observableCreatedSet;
+		int lastIgnore = state.ignoreCount;
 
 		Set<IObservable> observableSet = new IdentitySet<>();
 		// Push the new listeners to the top of the stack
-		currentObservableCreatedSet.set(observableSet);
-		currentIgnoreCount.remove();
+		state.observableCreatedSet = observableSet;
+		state.ignoreCount = 0;
 		try {
 			runnable.run();
 		} finally {
 			// Pop the new listener off the top of the stack (by restoring the
 			// previous listener)
-			currentObservableCreatedSet.set(lastObservableCreatedSet);
-			checkUnmatchedIgnore(runnable);
-			currentIgnoreCount.set(lastIgnore);
+			state.observableCreatedSet = lastObservableCreatedSet;
+			checkUnmatchedIgnore(state, runnable);
+			state.ignoreCount = lastIgnore;
 		}
 
 		return observableSet.toArray(new IObservable[observableSet.size()]);
 	}
 
-	private static void checkUnmatchedIgnore(Runnable runnable) {
-		if (isIgnore()) {
+	private static void checkUnmatchedIgnore(TrackerState state, Runnable runnable) {
+		if (state.ignoreCount > 0) {
 			Policy.getLog()
 					.log(new Status(
 							IStatus.ERROR,
 							Policy.JFACE_DATABINDING,
 							"There were " //$NON-NLS-1$
-									+ currentIgnoreCount.get()
+									+ state.ignoreCount
 									+ " unmatched setIgnore(true) invocations in runnable " //$NON-NLS-1$
 									+ runnable));
 		}
@@ -193,19 +442,14 @@ public class ObservableTracker {
 	 * @since 1.3
 	 */
 	public static void setIgnore(boolean ignore) {
-		Integer lastCount = currentIgnoreCount.get();
+		TrackerState state = getState();
 
-		int newCount = (lastCount == null ? 0 : lastCount.intValue())
-				+ (ignore ? 1 : -1);
+		int newCount = state.ignoreCount + (ignore ? 1 : -1);
 
 		if (newCount < 0)
 			throw new IllegalStateException("Ignore count is already zero"); //$NON-NLS-1$
 
-		if (newCount == 0) {
-			currentIgnoreCount.remove();
-		} else {
-			currentIgnoreCount.set(Integer.valueOf(newCount));
-		}
+		state.ignoreCount = newCount;
 	}
 
 	/**
@@ -235,10 +479,6 @@ public class ObservableTracker {
 				+ Integer.toHexString(System.identityHashCode(observable));
 	}
 
-	private static boolean isIgnore() {
-		return currentIgnoreCount.get() != null;
-	}
-
 	/**
 	 * Notifies the ObservableTracker that an observable was read from. The
 	 * JavaDoc for methods that invoke this method should include the following
@@ -258,18 +498,13 @@ public class ObservableTracker {
 			Assert.isTrue(false, "Getter called outside realm of observable " //$NON-NLS-1$
 					+ toString(observable));
 
-		if (isIgnore())
+		TrackerState state = currentState.get();
+		if (state == null || state.ignoreCount > 0)
 			return;
 
-		Set<IObservable> getterCalledSet = currentGetterCalledSet.get();
-		if (getterCalledSet != null && getterCalledSet.add(observable)) {
-			// If anyone is listening for observable usage...
-			IChangeListener changeListener = currentChangeListener.get();
-			if (changeListener != null)
-				observable.addChangeListener(changeListener);
-			IStaleListener staleListener = currentStaleListener.get();
-			if (staleListener != null)
-				observable.addStaleListener(staleListener);
+		Frame frame = state.current;
+		if (frame != null) {
+			frame.getterCalled(observable);
 		}
 	}
 
@@ -281,9 +516,10 @@ public class ObservableTracker {
 	 * @since 1.2
 	 */
 	public static void observableCreated(IObservable observable) {
-		if (isIgnore())
+		TrackerState state = currentState.get();
+		if (state == null || state.ignoreCount > 0)
 			return;
-		Set<IObservable> observableCreatedSet = currentObservableCreatedSet.get();
+		Set<IObservable> observableCreatedSet = state.observableCreatedSet;
 		if (observableCreatedSet != null) {
 			observableCreatedSet.add(observable);
 		}
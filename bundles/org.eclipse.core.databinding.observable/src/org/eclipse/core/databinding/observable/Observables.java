@@ -36,14 +36,25 @@ import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.ISetChangeListener;
 import org.eclipse.core.databinding.observable.set.ObservableSet;
 import org.eclipse.core.databinding.observable.value.DecoratingObservableValue;
+import org.eclipse.core.databinding.observable.value.IDoubleObservableValue;
+import org.eclipse.core.databinding.observable.value.IIntObservableValue;
+import org.eclipse.core.databinding.observable.value.ILongObservableValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.IVetoableValue;
 import org.eclipse.core.databinding.observable.value.ValueChangingEvent;
+import org.eclipse.core.internal.databinding.observable.BufferedValuesObservableList;
 import org.eclipse.core.internal.databinding.observable.ConstantObservableValue;
 import org.eclipse.core.internal.databinding.observable.DelayedObservableValue;
+import org.eclipse.core.internal.databinding.observable.DoubleObservableValueAdapter;
 import org.eclipse.core.internal.databinding.observable.EmptyObservableList;
 import org.eclipse.core.internal.databinding.observable.EmptyObservableSet;
+import org.eclipse.core.internal.databinding.observable.IntObservableValueAdapter;
+import org.eclipse.core.internal.databinding.observable.LongObservableValueAdapter;
 import org.eclipse.core.internal.databinding.observable.MapEntryObservableValue;
+import org.eclipse.core.internal.databinding.observable.RateLimitedObservableList;
+import org.eclipse.core.internal.databinding.observable.RateLimitedObservableSet;
+import org.eclipse.core.internal.databinding.observable.RateLimitedObservableValue;
+import org.eclipse.core.internal.databinding.observable.RateLimiter;
 import org.eclipse.core.internal.databinding.observable.StalenessObservableValue;
 import org.eclipse.core.internal.databinding.observable.UnmodifiableObservableList;
 import org.eclipse.core.internal.databinding.observable.UnmodifiableObservableMap;
@@ -105,6 +116,232 @@ public class Observables {
 		return new DelayedObservableValue<>(delay, observable);
 	}
 
+	/**
+	 * Returns an unmodifiable observable value which follows the given
+	 * observable value, but passes its changes on at most once per interval.
+	 * The first change is passed on immediately; all further changes until the
+	 * end of the interval are passed on together when the interval has elapsed.
+	 * <p>
+	 * While changes are pending, the returned observable is stale and still
+	 * reflects the previous state of <code>source</code>. The returned
+	 * observable does not dispose <code>source</code> when it is disposed.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            the value type
+	 * @param source
+	 *            the observable value to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable value which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <T> IObservableValue<T> throttledValue(IObservableValue<T> source, int interval) {
+		return new RateLimitedObservableValue<>(source, RateLimiter.Mode.THROTTLE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable list which follows the given
+	 * observable list and applies the same throttling to its changes as {@link
+	 * #throttledValue(IObservableValue, int)}. Changes occurring in between are
+	 * merged into a single diff, and while changes are pending, the returned
+	 * list is stale.
+	 *
+	 * @param <E>
+	 *            the element type
+	 * @param source
+	 *            the observable list to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable list which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <E> IObservableList<E> throttledList(IObservableList<E> source, int interval) {
+		return new RateLimitedObservableList<>(source, RateLimiter.Mode.THROTTLE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable set which follows the given observable
+	 * set and applies the same throttling to its changes as {@link
+	 * #throttledValue(IObservableValue, int)}. Changes occurring in between are
+	 * merged into a single diff, and while changes are pending, the returned
+	 * set is stale.
+	 *
+	 * @param <E>
+	 *            the element type
+	 * @param source
+	 *            the observable set to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable set which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <E> IObservableSet<E> throttledSet(IObservableSet<E> source, int interval) {
+		return new RateLimitedObservableSet<>(source, RateLimiter.Mode.THROTTLE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable value which follows the given
+	 * observable value, but passes its changes on only once <code>source</code>
+	 * has not changed for the given interval.
+	 * <p>
+	 * While changes are pending, the returned observable is stale and still
+	 * reflects the previous state of <code>source</code>. The returned
+	 * observable does not dispose <code>source</code> when it is disposed.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            the value type
+	 * @param source
+	 *            the observable value to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable value which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <T> IObservableValue<T> debouncedValue(IObservableValue<T> source, int interval) {
+		return new RateLimitedObservableValue<>(source, RateLimiter.Mode.DEBOUNCE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable list which follows the given
+	 * observable list and applies the same debouncing to its changes as {@link
+	 * #debouncedValue(IObservableValue, int)}. Changes occurring in between are
+	 * merged into a single diff, and while changes are pending, the returned
+	 * list is stale.
+	 *
+	 * @param <E>
+	 *            the element type
+	 * @param source
+	 *            the observable list to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable list which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <E> IObservableList<E> debouncedList(IObservableList<E> source, int interval) {
+		return new RateLimitedObservableList<>(source, RateLimiter.Mode.DEBOUNCE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable set which follows the given observable
+	 * set and applies the same debouncing to its changes as {@link
+	 * #debouncedValue(IObservableValue, int)}. Changes occurring in between are
+	 * merged into a single diff, and while changes are pending, the returned
+	 * set is stale.
+	 *
+	 * @param <E>
+	 *            the element type
+	 * @param source
+	 *            the observable set to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable set which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <E> IObservableSet<E> debouncedSet(IObservableSet<E> source, int interval) {
+		return new RateLimitedObservableSet<>(source, RateLimiter.Mode.DEBOUNCE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable value which follows the given
+	 * observable value, but passes its changes on at the end of the interval
+	 * which starts with the first change. Unlike {@link
+	 * #throttledValue(IObservableValue, int) throttling}, no change is passed
+	 * on immediately.
+	 * <p>
+	 * While changes are pending, the returned observable is stale and still
+	 * reflects the previous state of <code>source</code>. The returned
+	 * observable does not dispose <code>source</code> when it is disposed.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            the value type
+	 * @param source
+	 *            the observable value to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable value which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <T> IObservableValue<T> sampledValue(IObservableValue<T> source, int interval) {
+		return new RateLimitedObservableValue<>(source, RateLimiter.Mode.SAMPLE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable list which follows the given
+	 * observable list and applies the same sampling to its changes as {@link
+	 * #sampledValue(IObservableValue, int)}. Changes occurring in between are
+	 * merged into a single diff, and while changes are pending, the returned
+	 * list is stale.
+	 *
+	 * @param <E>
+	 *            the element type
+	 * @param source
+	 *            the observable list to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable list which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <E> IObservableList<E> sampledList(IObservableList<E> source, int interval) {
+		return new RateLimitedObservableList<>(source, RateLimiter.Mode.SAMPLE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable set which follows the given observable
+	 * set and applies the same sampling to its changes as {@link
+	 * #sampledValue(IObservableValue, int)}. Changes occurring in between are
+	 * merged into a single diff, and while changes are pending, the returned
+	 * set is stale.
+	 *
+	 * @param <E>
+	 *            the element type
+	 * @param source
+	 *            the observable set to follow
+	 * @param interval
+	 *            the interval in milliseconds; must be positive
+	 * @return an observable set which rate limits the changes of
+	 *         <code>source</code>
+	 * @since 1.14
+	 */
+	public static <E> IObservableSet<E> sampledSet(IObservableSet<E> source, int interval) {
+		return new RateLimitedObservableSet<>(source, RateLimiter.Mode.SAMPLE, interval);
+	}
+
+	/**
+	 * Returns an unmodifiable observable list which collects the values the
+	 * given observable value takes on. The time span starts with a change of
+	 * <code>source</code>; when it has elapsed, the values collected during
+	 * the time span become the contents of the returned list. The list keeps
+	 * these values until the next time span has elapsed.
+	 * <p>
+	 * While values are being collected, the returned list is stale. The
+	 * returned list does not dispose <code>source</code> when it is disposed.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            the value type
+	 * @param source
+	 *            the observable value whose values are collected
+	 * @param timeSpan
+	 *            the time span in milliseconds; must be positive
+	 * @return an observable list holding the values of <code>source</code>
+	 *         during the last time span
+	 * @since 1.14
+	 */
+	public static <T> IObservableList<T> bufferedValues(IObservableValue<T> source, int timeSpan) {
+		return new BufferedValuesObservableList<>(source, timeSpan);
+	}
+
 	/**
 	 * Returns an unmodifiable observable value backed by the given observable
 	 * value.
@@ -123,6 +360,69 @@ public class Observables {
 		return new UnmodifiableObservableValue<>(value);
 	}
 
+	/**
+	 * Returns an observable <code>int</code> value backed by the given
+	 * observable value. Changes are propagated in both directions, a
+	 * <code>null</code> value of the backing observable is reported as zero. If
+	 * the given observable already is an {@link IIntObservableValue} it is
+	 * returned as is.
+	 *
+	 * @param value
+	 *            the observable value to adapt
+	 * @return an observable <code>int</code> value backed by the given
+	 *         observable value
+	 * @since 1.14
+	 */
+	public static IIntObservableValue intObservableValue(IObservableValue<Integer> value) {
+		Assert.isNotNull(value, "Argument 'value' cannot be null"); //$NON-NLS-1$
+		if (value instanceof IIntObservableValue intValue) {
+			return intValue;
+		}
+		return new IntObservableValueAdapter(value);
+	}
+
+	/**
+	 * Returns an observable <code>long</code> value backed by the given
+	 * observable value. Changes are propagated in both directions, a
+	 * <code>null</code> value of the backing observable is reported as zero. If
+	 * the given observable already is an {@link ILongObservableValue} it is
+	 * returned as is.
+	 *
+	 * @param value
+	 *            the observable value to adapt
+	 * @return an observable <code>long</code> value backed by the given
+	 *         observable value
+	 * @since 1.14
+	 */
+	public static ILongObservableValue longObservableValue(IObservableValue<Long> value) {
+		Assert.isNotNull(value, "Argument 'value' cannot be null"); //$NON-NLS-1$
+		if (value instanceof ILongObservableValue longValue) {
+			return longValue;
+		}
+		return new LongObservableValueAdapter(value);
+	}
+
+	/**
+	 * Returns an observable <code>double</code> value backed by the given
+	 * observable value. Changes are propagated in both directions, a
+	 * <code>null</code> value of the backing observable is reported as zero. If
+	 * the given observable already is an {@link IDoubleObservableValue} it is
+	 * returned as is.
+	 *
+	 * @param value
+	 *            the observable value to adapt
+	 * @return an observable <code>double</code> value backed by the given
+	 *         observable value
+	 * @since 1.14
+	 */
+	public static IDoubleObservableValue doubleObservableValue(IObservableValue<Double> value) {
+		Assert.isNotNull(value, "Argument 'value' cannot be null"); //$NON-NLS-1$
+		if (value instanceof IDoubleObservableValue doubleValue) {
+			return doubleValue;
+		}
+		return new DoubleObservableValueAdapter(value);
+	}
+
 	/**
 	 * Returns an observable value with the given constant value.
 	 *
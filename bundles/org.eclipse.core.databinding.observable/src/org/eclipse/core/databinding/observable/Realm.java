@@ -22,6 +22,7 @@ import java.util.TimerTask;
 
 import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.internal.databinding.observable.Queue;
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.SafeRunner;
@@ -128,6 +129,8 @@ public abstract class Realm {
 
 	Queue workQueue = new Queue();
 
+	private Transaction transaction;
+
 	/**
 	 * Runs the given runnable. If an exception occurs within the runnable, it is
 	 * logged and not re-thrown. If the runnable implements {@link ISafeRunnable},
@@ -324,6 +327,67 @@ public abstract class Realm {
 		}
 	}
 
+	/**
+	 * Runs the given runnable as a transaction. While the runnable runs, change
+	 * events of observables in this realm are not fired. Instead, the changes
+	 * of each observable are merged (see <code>Diffs.mergeDiffs</code>) and
+	 * fired when the outermost transaction completes, so that every listener
+	 * is notified at most once per observable even if the observable changed
+	 * many times. Stale, dispose and vetoable value changing events are still
+	 * fired immediately.
+	 * <p>
+	 * Transactions can be nested, the events are fired when the outermost
+	 * transaction completes, even if the runnable throws an exception. Note
+	 * that observables depending on observables changed in the transaction,
+	 * e.g. <code>ComputedValue</code>s, are only notified when the transaction
+	 * completes and may therefore return outdated values within the
+	 * transaction.
+	 * </p>
+	 * <p>
+	 * This method must be called from within this realm.
+	 * </p>
+	 *
+	 * @param runnable {@link Runnable} to execute
+	 * @since 1.14
+	 */
+	public void runInTransaction(Runnable runnable) {
+		Assert.isTrue(isCurrent(), "This operation must be run within the realm"); //$NON-NLS-1$
+		if (transaction == null) {
+			transaction = new Transaction();
+		}
+		Transaction current = transaction;
+		current.depth++;
+		try {
+			runnable.run();
+		} finally {
+			if (--current.depth == 0) {
+				transaction = null;
+				current.commit();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a transaction is running in this realm.
+	 *
+	 * @return <code>true</code> if called from within
+	 *         {@link #runInTransaction(Runnable)}
+	 * @since 1.14
+	 */
+	public boolean isInTransaction() {
+		return transaction != null;
+	}
+
+	/**
+	 * Defers the given event if a transaction is running in this realm.
+	 *
+	 * @return <code>true</code> if the event was deferred
+	 */
+	boolean deferEvent(ChangeManager changeManager, ObservableEvent event) {
+		Transaction current = transaction;
+		return current != null && current.defer(changeManager, event);
+	}
+
 	/**
 	 * Sets the provided <code>realm</code> as the default for the duration of
 	 * {@link Runnable#run()} and resets the previous realm after completion.
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.core.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.observable.set.SetDiff;
+import org.eclipse.core.databinding.observable.value.DoubleValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.IntValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.LongValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+
+/**
+ * Collects the change events fired in a realm while a transaction is running
+ * and merges them per observable.
+ *
+ * @see Realm#runInTransaction(Runnable)
+ */
+/* package */final class Transaction {
+
+	/**
+	 * The deferred events of one observable.
+	 */
+	private static final class PendingEvents {
+		final ChangeManager changeManager;
+
+		ChangeEvent changeEvent;
+
+		// usually a single event, unless the observable fires different kinds
+		// of diffs
+		final List<ObservableEvent> diffEvents = new ArrayList<>(1);
+
+		PendingEvents(ChangeManager changeManager) {
+			this.changeManager = changeManager;
+		}
+	}
+
+	private final Thread thread = Thread.currentThread();
+
+	int depth;
+
+	private final Map<ChangeManager, PendingEvents> pendingEvents = new IdentityHashMap<>();
+
+	// observables in the order of their first change
+	private final List<PendingEvents> order = new ArrayList<>();
+
+	/**
+	 * Defers the given event until the transaction completes. Only change
+	 * events and events carrying a diff are deferred, all other events (e.g.
+	 * stale, dispose or vetoable value changing events) are fired immediately.
+	 *
+	 * @param changeManager the change manager firing the event
+	 * @param event         the event
+	 * @return <code>true</code> if the event was deferred, <code>false</code>
+	 *         if it has to be fired immediately
+	 */
+	boolean defer(ChangeManager changeManager, ObservableEvent event) {
+		if (thread != Thread.currentThread() || !isDeferrable(event)) {
+			return false;
+		}
+		PendingEvents pending = pendingEvents.get(changeManager);
+		if (pending == null) {
+			pending = new PendingEvents(changeManager);
+			pendingEvents.put(changeManager, pending);
+			order.add(pending);
+		}
+		if (event instanceof ChangeEvent) {
+			if (pending.changeEvent == null) {
+				pending.changeEvent = (ChangeEvent) event;
+			}
+		} else {
+			List<ObservableEvent> diffEvents = pending.diffEvents;
+			for (int i = 0; i < diffEvents.size(); i++) {
+				if (diffEvents.get(i).getListenerType() == event.getListenerType()) {
+					diffEvents.set(i, merge(diffEvents.get(i), event));
+					return true;
+				}
+			}
+			diffEvents.add(event);
+		}
+		return true;
+	}
+
+	private static boolean isDeferrable(ObservableEvent event) {
+		return event instanceof ChangeEvent || event instanceof ValueChangeEvent || event instanceof ListChangeEvent
+				|| event instanceof SetChangeEvent || event instanceof MapChangeEvent || event instanceof IntValueChangeEvent
+				|| event instanceof LongValueChangeEvent || event instanceof DoubleValueChangeEvent;
+	}
+
+	/**
+	 * Fires the deferred events, one change event and one merged diff event
+	 * per observable. Observables whose changes cancel each other out do not
+	 * fire any event.
+	 */
+	void commit() {
+		for (PendingEvents pending : order) {
+			List<ObservableEvent> diffEvents = pending.diffEvents;
+			boolean hadDiffs = !diffEvents.isEmpty();
+			diffEvents.removeIf(Transaction::isEmpty);
+			if (hadDiffs && diffEvents.isEmpty()) {
+				continue;
+			}
+			if (pending.changeEvent != null) {
+				pending.changeManager.dispatchEvent(pending.changeEvent);
+			}
+			for (ObservableEvent diffEvent : diffEvents) {
+				pending.changeManager.dispatchEvent(diffEvent);
+			}
+		}
+	}
+
+	private static boolean isEmpty(ObservableEvent event) {
+		if (event instanceof ValueChangeEvent<?> valueChangeEvent) {
+			ValueDiff<?> diff = valueChangeEvent.diff;
+			return Objects.equals(diff.getOldValue(), diff.getNewValue());
+		}
+		if (event instanceof ListChangeEvent<?> listChangeEvent) {
+			return listChangeEvent.diff.isEmpty();
+		}
+		if (event instanceof SetChangeEvent<?> setChangeEvent) {
+			return setChangeEvent.diff.isEmpty();
+		}
+		if (event instanceof MapChangeEvent<?, ?> mapChangeEvent) {
+			return mapChangeEvent.diff.isEmpty();
+		}
+		if (event instanceof IntValueChangeEvent intValueChangeEvent) {
+			return intValueChangeEvent.oldValue == intValueChangeEvent.newValue;
+		}
+		if (event instanceof LongValueChangeEvent longValueChangeEvent) {
+			return longValueChangeEvent.oldValue == longValueChangeEvent.newValue;
+		}
+		if (event instanceof DoubleValueChangeEvent doubleValueChangeEvent) {
+			return Double.doubleToLongBits(doubleValueChangeEvent.oldValue) == Double
+					.doubleToLongBits(doubleValueChangeEvent.newValue);
+		}
+		return false;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static ObservableEvent merge(ObservableEvent first, ObservableEvent second) {
+		if (first instanceof ValueChangeEvent valueChangeEvent && second instanceof ValueChangeEvent next) {
+			return new ValueChangeEvent(valueChangeEvent.getObservableValue(),
+					Diffs.mergeDiffs((ValueDiff) valueChangeEvent.diff, (ValueDiff) next.diff));
+		}
+		if (first instanceof ListChangeEvent listChangeEvent && second instanceof ListChangeEvent next) {
+			return new ListChangeEvent(listChangeEvent.getObservableList(),
+					Diffs.mergeDiffs((ListDiff) listChangeEvent.diff, (ListDiff) next.diff));
+		}
+		if (first instanceof SetChangeEvent setChangeEvent && second instanceof SetChangeEvent next) {
+			return new SetChangeEvent(setChangeEvent.getObservableSet(),
+					Diffs.mergeDiffs((SetDiff) setChangeEvent.diff, (SetDiff) next.diff));
+		}
+		if (first instanceof MapChangeEvent mapChangeEvent && second instanceof MapChangeEvent next) {
+			return new MapChangeEvent(mapChangeEvent.getObservableMap(),
+					Diffs.mergeDiffs((MapDiff) mapChangeEvent.diff, (MapDiff) next.diff));
+		}
+		if (first instanceof IntValueChangeEvent intValueChangeEvent && second instanceof IntValueChangeEvent next) {
+			return new IntValueChangeEvent(intValueChangeEvent.getObservableValue(), intValueChangeEvent.oldValue,
+					next.newValue);
+		}
+		if (first instanceof LongValueChangeEvent longValueChangeEvent && second instanceof LongValueChangeEvent next) {
+			return new LongValueChangeEvent(longValueChangeEvent.getObservableValue(), longValueChangeEvent.oldValue,
+					next.newValue);
+		}
+		if (first instanceof DoubleValueChangeEvent doubleValueChangeEvent
+				&& second instanceof DoubleValueChangeEvent next) {
+			return new DoubleValueChangeEvent(doubleValueChangeEvent.getObservableValue(),
+					doubleValueChangeEvent.oldValue, next.newValue);
+		}
+		return second;
+	}
+}
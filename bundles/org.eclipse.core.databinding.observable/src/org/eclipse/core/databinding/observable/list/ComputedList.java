@@ -224,9 +224,10 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 			// This line will do the following:
 			// - Run the calculate method
 			// - While doing so, add any observable that is touched to the
-			// dependencies list
+			// dependencies list, keeping the listeners of dependencies that
+			// were already used by the previous calculation
 			IObservable[] newDependencies = ObservableTracker.runAndMonitor(
-					privateInterface, privateInterface, null);
+					privateInterface, dependencies, privateInterface, privateInterface);
 
 			// If any dependencies are stale, a stale event will be fired here
 			// even if we were already stale before recomputing. This is in case
@@ -239,12 +240,6 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 				}
 			}
 
-			if (!stale) {
-				for (IObservable newDependency : newDependencies) {
-					newDependency.addStaleListener(privateInterface);
-				}
-			}
-
 			dependencies = newDependencies;
 
 			dirty = false;
@@ -273,7 +268,11 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 
 			makeStale();
 
-			stopListening();
+			if (!hasListeners()) {
+				// Nobody is interested in further changes, release the
+				// dependencies until the list is requested again
+				stopListening();
+			}
 
 			// copy the old list
 			final List<E> oldList = new ArrayList<>(cachedList);
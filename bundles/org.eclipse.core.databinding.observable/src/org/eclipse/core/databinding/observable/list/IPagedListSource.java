@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import java.util.List;
+
+/**
+ * A source of list elements which can be loaded in windows, e.g. the rows of
+ * a database query. Used by {@link PagedObservableList} to load only the
+ * elements which are actually accessed.
+ * <p>
+ * Implementations must be thread safe: {@link #fetch(int, int)} is called
+ * from background threads, possibly concurrently.
+ * </p>
+ *
+ * @param <E> the type of the elements
+ *
+ * @see PagedObservableList
+ * @since 1.14
+ */
+public interface IPagedListSource<E> {
+
+	/**
+	 * Returns the total number of elements. Called once from the realm of the
+	 * list when the list is created; the number of elements must not change
+	 * afterwards.
+	 *
+	 * @return the total number of elements
+	 */
+	int size();
+
+	/**
+	 * Loads a window of elements. Called from a background thread.
+	 *
+	 * @param offset the index of the first element to load
+	 * @param length the number of elements to load; the window never extends
+	 *               beyond {@link #size()}
+	 * @return the elements at the indices <code>offset</code> to
+	 *         <code>offset + length - 1</code>; must contain exactly
+	 *         <code>length</code> elements
+	 */
+	List<E> fetch(int offset, int length);
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.internal.databinding.observable.IndexedArrayList;
+
+/**
+ * Mutable observable list which maintains a hash index of its elements in
+ * addition to the backing array. {@link #contains(Object)} takes constant time,
+ * and {@link #indexOf(Object)}, {@link #remove(Object)} and
+ * {@link #removeAll(Collection)} look elements up in the index instead of
+ * scanning the whole list. This pays off for large lists which are frequently
+ * searched, e.g. as the target of a list binding or as the input of a viewer,
+ * at the cost of additional memory and of hashing the elements on every
+ * modification.
+ * <p>
+ * Elements must implement {@link Object#hashCode()} consistently with
+ * {@link Object#equals(Object)} and must not change their hash code while
+ * they are contained in the list.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @param <E>
+ *            the type of the elements in this list
+ *
+ * @since 1.14
+ */
+public class IndexedWritableList<E> extends WritableList<E> {
+
+	/**
+	 * Creates an empty list in the default realm with a <code>null</code>
+	 * element type.
+	 */
+	public IndexedWritableList() {
+		this(Realm.getDefault());
+	}
+
+	/**
+	 * Creates an empty list with a <code>null</code> element type.
+	 *
+	 * @param realm
+	 *            the observable's realm
+	 */
+	public IndexedWritableList(Realm realm) {
+		super(realm, new IndexedArrayList<>(), null);
+	}
+
+	/**
+	 * Constructs a new instance in the default realm containing the elements of
+	 * the given collection. Changes to the given collection after calling this
+	 * method do not affect the contents of the created list.
+	 *
+	 * @param collection
+	 *            the collection to copy
+	 * @param elementType
+	 *            can be <code>null</code>
+	 */
+	public IndexedWritableList(Collection<? extends E> collection, Object elementType) {
+		this(Realm.getDefault(), collection, elementType);
+	}
+
+	/**
+	 * Constructs a new instance containing the elements of the given
+	 * collection. Changes to the given collection after calling this method do
+	 * not affect the contents of the created list.
+	 *
+	 * @param realm
+	 *            the observable's realm
+	 * @param collection
+	 *            the collection to copy
+	 * @param elementType
+	 *            can be <code>null</code>
+	 */
+	public IndexedWritableList(Realm realm, Collection<? extends E> collection, Object elementType) {
+		super(realm, new IndexedArrayList<E>(collection), elementType);
+	}
+
+	@Override
+	protected void updateWrappedList(List<E> newList) {
+		super.updateWrappedList(newList instanceof IndexedArrayList ? newList : new IndexedArrayList<>(newList));
+	}
+
+	/**
+	 * @param elementType
+	 *            can be <code>null</code>
+	 * @return new list with the default realm.
+	 */
+	public static <T> IndexedWritableList<T> withElementType(Object elementType) {
+		return new IndexedWritableList<>(Realm.getDefault(), List.of(), elementType);
+	}
+}
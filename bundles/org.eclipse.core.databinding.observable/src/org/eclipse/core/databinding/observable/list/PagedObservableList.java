@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * An unmodifiable observable list which loads its elements on demand from an
+ * {@link IPagedListSource}, one page of consecutive elements at a time. Meant
+ * as input for virtual tables showing very large result sets, which only
+ * request the elements of the visible rows.
+ * <p>
+ * {@link #get(int)} returns a placeholder for an element whose page has not
+ * been loaded yet, and schedules loading the page on the given executor. The
+ * placeholder is given when the list is created and defaults to
+ * <code>null</code>. Once the page has been loaded, a list change event is
+ * fired which replaces the placeholders with the loaded elements. While pages
+ * are being loaded, the list is stale.
+ * </p>
+ * <p>
+ * Only the most recently used pages are kept. When a page is evicted, the same
+ * list change event replaces its elements with placeholders again, and the page
+ * is loaded again the next time one of its elements is requested. Iterating
+ * over the list or calling other bulk methods requests every page, and should
+ * therefore be avoided.
+ * </p>
+ * <p>
+ * The size of the list is determined once, when the list is created: the
+ * constructor calls {@link IPagedListSource#size()} synchronously, on the
+ * calling thread. Sources for which counting the elements is expensive should
+ * determine the size in the background before the list is created. To show a
+ * changed result set, create a new list.
+ * </p>
+ *
+ * @param <E> the type of the elements in this list
+ *
+ * @since 1.14
+ */
+public class PagedObservableList<E> extends AbstractObservableList<E> {
+	private final IPagedListSource<E> source;
+	private final Executor executor;
+	private final int pageSize;
+	private final int size;
+	private final Object elementType;
+	private final E placeholder;
+	private final int cachedPages;
+
+	private final Map<Integer, List<E>> pages = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Set<Integer> pendingPages = new HashSet<>();
+
+	/**
+	 * Creates a paged list in the given realm.
+	 *
+	 * @param realm        the realm of the list
+	 * @param source       the source of the elements
+	 * @param pageSize     the number of elements loaded at once; must be
+	 *                     positive
+	 * @param cachedPages  the maximum number of pages kept in memory; must be
+	 *                     positive
+	 * @param executor     the executor which loads the pages
+	 * @param elementType  the element type, may be <code>null</code> to
+	 *                     indicate unknown element type
+	 */
+	public PagedObservableList(Realm realm, IPagedListSource<E> source, int pageSize, int cachedPages,
+			Executor executor, Object elementType) {
+		this(realm, source, pageSize, cachedPages, executor, elementType, null);
+	}
+
+	/**
+	 * Creates a paged list in the given realm, which returns the given
+	 * placeholder for elements which have not been loaded. The size of the
+	 * source is queried synchronously.
+	 *
+	 * @param realm        the realm of the list
+	 * @param source       the source of the elements
+	 * @param pageSize     the number of elements loaded at once; must be
+	 *                     positive
+	 * @param cachedPages  the maximum number of pages kept in memory; must be
+	 *                     positive
+	 * @param executor     the executor which loads the pages
+	 * @param elementType  the element type, may be <code>null</code> to
+	 *                     indicate unknown element type
+	 * @param placeholder  the element returned while the actual element is not
+	 *                     loaded, may be <code>null</code>
+	 */
+	public PagedObservableList(Realm realm, IPagedListSource<E> source, int pageSize, int cachedPages,
+			Executor executor, Object elementType, E placeholder) {
+		super(realm);
+		Assert.isNotNull(source, "Source cannot be null"); //$NON-NLS-1$
+		Assert.isNotNull(executor, "Executor cannot be null"); //$NON-NLS-1$
+		Assert.isTrue(pageSize > 0, "Page size must be positive"); //$NON-NLS-1$
+		Assert.isTrue(cachedPages > 0, "Number of cached pages must be positive"); //$NON-NLS-1$
+		this.source = source;
+		this.executor = executor;
+		this.pageSize = pageSize;
+		this.size = source.size();
+		this.elementType = elementType;
+		this.placeholder = placeholder;
+		this.cachedPages = cachedPages;
+	}
+
+	/**
+	 * Creates a paged list in the default realm.
+	 *
+	 * @param source       the source of the elements
+	 * @param pageSize     the number of elements loaded at once; must be
+	 *                     positive
+	 * @param cachedPages  the maximum number of pages kept in memory; must be
+	 *                     positive
+	 * @param executor     the executor which loads the pages
+	 */
+	public PagedObservableList(IPagedListSource<E> source, int pageSize, int cachedPages, Executor executor) {
+		this(Realm.getDefault(), source, pageSize, cachedPages, executor, null);
+	}
+
+	@Override
+	protected int doGetSize() {
+		return size;
+	}
+
+	@Override
+	public E get(int index) {
+		checkRealm();
+		ObservableTracker.getterCalled(this);
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index: " + index + ", size: " + size); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		int page = index / pageSize;
+		List<E> elements = pages.get(page);
+		if (elements == null) {
+			loadPage(page);
+			return placeholder;
+		}
+		return elements.get(index - page * pageSize);
+	}
+
+	/**
+	 * Returns whether the element at the given index has been loaded, without
+	 * requesting its page.
+	 *
+	 * @param index the index of the element
+	 * @return <code>true</code> if {@link #get(int)} returns the element
+	 *         without loading it first
+	 */
+	public boolean isLoaded(int index) {
+		checkRealm();
+		return pages.containsKey(index / pageSize);
+	}
+
+	private void loadPage(final int page) {
+		if (isDisposed() || !pendingPages.add(page)) {
+			return;
+		}
+		if (pendingPages.size() == 1) {
+			fireStale();
+		}
+		final int offset = page * pageSize;
+		final int length = Math.min(pageSize, size - offset);
+		final Realm realm = getRealm();
+		try {
+			executor.execute(() -> {
+				List<E> elements = null;
+				try {
+					List<E> fetched = new ArrayList<>(source.fetch(offset, length));
+					if (fetched.size() != length) {
+						throw new IllegalStateException("Expected " + length + " elements, but got " + fetched.size()); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					elements = fetched;
+				} catch (RuntimeException e) {
+					logLoadFailure(page, e);
+				} finally {
+					// also report errors, so that the page does not stay pending
+					final List<E> loaded = elements;
+					realm.asyncExec(() -> pageLoaded(page, loaded));
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			logLoadFailure(page, e);
+			pageLoaded(page, null);
+		}
+	}
+
+	private static void logLoadFailure(int page, Exception e) {
+		Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE_DATABINDING, IStatus.OK,
+				"Could not load page " + page, e)); //$NON-NLS-1$
+	}
+
+	private void pageLoaded(int page, List<E> elements) {
+		if (isDisposed()) {
+			return;
+		}
+		pendingPages.remove(page);
+		if (elements == null) {
+			// loading failed; it is retried on the next access. Listeners are
+			// still told that the list is no longer stale.
+			if (pendingPages.isEmpty()) {
+				fireListChange(Diffs.createListDiff(new ArrayList<>()));
+			}
+			return;
+		}
+		pages.put(page, elements);
+
+		List<ListDiffEntry<E>> differences = new ArrayList<>(2 * elements.size());
+		addReplacements(differences, page, null, elements);
+		Iterator<Map.Entry<Integer, List<E>>> eldest = pages.entrySet().iterator();
+		while (pages.size() > cachedPages) {
+			Map.Entry<Integer, List<E>> evicted = eldest.next();
+			eldest.remove();
+			addReplacements(differences, evicted.getKey().intValue(), evicted.getValue(), null);
+		}
+		fireListChange(Diffs.createListDiff(differences));
+	}
+
+	/*
+	 * Adds the entries which replace the old elements of the given page with
+	 * the new ones. Missing elements are replaced by or with the placeholder.
+	 */
+	private void addReplacements(List<ListDiffEntry<E>> differences, int page, List<E> oldElements,
+			List<E> newElements) {
+		int offset = page * pageSize;
+		int length = Math.min(pageSize, size - offset);
+		for (int i = 0; i < length; i++) {
+			differences.add(Diffs.createListDiffEntry(offset + i, false,
+					oldElements == null ? placeholder : oldElements.get(i)));
+			differences.add(Diffs.createListDiffEntry(offset + i, true,
+					newElements == null ? placeholder : newElements.get(i)));
+		}
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return !pendingPages.isEmpty();
+	}
+
+	@Override
+	public Object getElementType() {
+		return elementType;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		pages.clear();
+		pendingPages.clear();
+		super.dispose();
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.ChangeEvent;
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Abstract base class for observable <code>int</code> values. Subclasses
+ * implement {@link #doGetIntValue()} and, if the value can be set,
+ * {@link #doSetIntValue(int)}, and report changes through
+ * {@link #fireIntValueChange(int, int)}. The object based methods of
+ * {@link IObservableValue} are implemented on top of these and box the value
+ * only when they are used.
+ *
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public abstract class AbstractObservableIntValue extends AbstractObservableValue<Integer>
+		implements IIntObservableValue {
+	/**
+	 * Constructs a new instance with the default realm.
+	 */
+	public AbstractObservableIntValue() {
+		this(Realm.getDefault());
+	}
+
+	/**
+	 * @param realm the realm to use; not <code>null</code>
+	 */
+	public AbstractObservableIntValue(Realm realm) {
+		super(realm);
+	}
+
+	@Override
+	public synchronized void addIntValueChangeListener(IIntValueChangeListener listener) {
+		addListener(IntValueChangeEvent.TYPE, listener);
+	}
+
+	@Override
+	public synchronized void removeIntValueChangeListener(IIntValueChangeListener listener) {
+		removeListener(IntValueChangeEvent.TYPE, listener);
+	}
+
+	@Override
+	public final int getIntValue() {
+		ObservableTracker.getterCalled(this);
+		return doGetIntValue();
+	}
+
+	@Override
+	public final void setIntValue(int value) {
+		checkRealm();
+		doSetIntValue(value);
+	}
+
+	/**
+	 * Template method for getting the value of the observable.
+	 *
+	 * @return the current value
+	 */
+	protected abstract int doGetIntValue();
+
+	/**
+	 * Template method for setting the value of the observable. By default the
+	 * method throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param value the value to set
+	 */
+	protected void doSetIntValue(int value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected final Integer doGetValue() {
+		return doGetIntValue();
+	}
+
+	/**
+	 * Unboxes the value and delegates to {@link #doSetIntValue(int)}.
+	 *
+	 * @throws IllegalArgumentException if the value is <code>null</code>
+	 */
+	@Override
+	protected final void doSetValue(Integer value) {
+		if (value == null) {
+			throw new IllegalArgumentException("An int value cannot be set to null"); //$NON-NLS-1$
+		}
+		doSetIntValue(value.intValue());
+	}
+
+	/**
+	 * Notifies the listeners about a change of the value. The change event is
+	 * always fired, the primitive {@link IntValueChangeEvent} and the boxed
+	 * {@link ValueChangeEvent} only if listeners for them are registered.
+	 *
+	 * @param oldValue the value before the change
+	 * @param newValue the value after the change
+	 */
+	protected void fireIntValueChange(int oldValue, int newValue) {
+		if (hasListeners(ValueChangeEvent.TYPE)) {
+			fireValueChange(Diffs.createValueDiff(oldValue, newValue));
+		} else {
+			checkRealm();
+			fireEvent(new ChangeEvent(this));
+		}
+		if (hasListeners(IntValueChangeEvent.TYPE)) {
+			fireEvent(new IntValueChangeEvent(this, oldValue, newValue));
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Integer.TYPE;
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.ChangeEvent;
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Abstract base class for observable <code>long</code> values. Subclasses
+ * implement {@link #doGetLongValue()} and, if the value can be set,
+ * {@link #doSetLongValue(long)}, and report changes through
+ * {@link #fireLongValueChange(long, long)}. The object based methods of
+ * {@link IObservableValue} are implemented on top of these and box the value
+ * only when they are used.
+ *
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public abstract class AbstractObservableLongValue extends AbstractObservableValue<Long>
+		implements ILongObservableValue {
+	/**
+	 * Constructs a new instance with the default realm.
+	 */
+	public AbstractObservableLongValue() {
+		this(Realm.getDefault());
+	}
+
+	/**
+	 * @param realm the realm to use; not <code>null</code>
+	 */
+	public AbstractObservableLongValue(Realm realm) {
+		super(realm);
+	}
+
+	@Override
+	public synchronized void addLongValueChangeListener(ILongValueChangeListener listener) {
+		addListener(LongValueChangeEvent.TYPE, listener);
+	}
+
+	@Override
+	public synchronized void removeLongValueChangeListener(ILongValueChangeListener listener) {
+		removeListener(LongValueChangeEvent.TYPE, listener);
+	}
+
+	@Override
+	public final long getLongValue() {
+		ObservableTracker.getterCalled(this);
+		return doGetLongValue();
+	}
+
+	@Override
+	public final void setLongValue(long value) {
+		checkRealm();
+		doSetLongValue(value);
+	}
+
+	/**
+	 * Template method for getting the value of the observable.
+	 *
+	 * @return the current value
+	 */
+	protected abstract long doGetLongValue();
+
+	/**
+	 * Template method for setting the value of the observable. By default the
+	 * method throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param value the value to set
+	 */
+	protected void doSetLongValue(long value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	protected final Long doGetValue() {
+		return doGetLongValue();
+	}
+
+	/**
+	 * Unboxes the value and delegates to {@link #doSetLongValue(long)}.
+	 *
+	 * @throws IllegalArgumentException if the value is <code>null</code>
+	 */
+	@Override
+	protected final void doSetValue(Long value) {
+		if (value == null) {
+			throw new IllegalArgumentException("A long value cannot be set to null"); //$NON-NLS-1$
+		}
+		doSetLongValue(value.longValue());
+	}
+
+	/**
+	 * Notifies the listeners about a change of the value. The change event is
+	 * always fired, the primitive {@link LongValueChangeEvent} and the boxed
+	 * {@link ValueChangeEvent} only if listeners for them are registered.
+	 *
+	 * @param oldValue the value before the change
+	 * @param newValue the value after the change
+	 */
+	protected void fireLongValueChange(long oldValue, long newValue) {
+		if (hasListeners(ValueChangeEvent.TYPE)) {
+			fireValueChange(Diffs.createValueDiff(oldValue, newValue));
+		} else {
+			checkRealm();
+			fireEvent(new ChangeEvent(this));
+		}
+		if (hasListeners(LongValueChangeEvent.TYPE)) {
+			fireEvent(new LongValueChangeEvent(this, oldValue, newValue));
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return Long.TYPE;
+	}
+}
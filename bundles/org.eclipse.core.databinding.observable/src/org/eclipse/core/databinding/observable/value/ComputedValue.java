@@ -86,6 +86,27 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 */
 	private IObservable[] dependencies = null;
 
+	/**
+	 * Incremented whenever the value is recomputed, unless
+	 * {@link #isEqualValue(Object, Object)} reports that the new value equals
+	 * the previous one.
+	 */
+	private int valueVersion;
+
+	/**
+	 * The {@link #valueVersion} of each dependency that is a computed value at
+	 * the time of the last recomputation, or -1 for other dependencies.
+	 */
+	private int[] dependencyVersions;
+
+	/**
+	 * Whether a dependency other than a computed value changed since the last
+	 * recomputation. If only computed values changed, the value is only
+	 * recomputed if one of them was recomputed and did not report an equal
+	 * value.
+	 */
+	private boolean recomputeRequired = true;
+
 	/**
 	 * Factory method to create {@link ComputedValue} objects in an easy manner.
 	 * <p>
@@ -178,7 +199,12 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 
 		@Override
 		public void handleChange(ChangeEvent event) {
-			makeDirty();
+			if (event.getSource() instanceof ComputedValue) {
+				// recompute only if the dependency ends up with a new value
+				markDirty();
+			} else {
+				makeDirty();
+			}
 		}
 	}
 
@@ -189,24 +215,48 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	@Override
 	protected final T doGetValue() {
 		if (dirty) {
+			if (!recomputeRequired && dependencies != null && !computedDependenciesChanged()) {
+				// only computed values changed, and they ended up with the
+				// same values as before
+				dirty = false;
+				return cachedValue;
+			}
+
+			T oldValue = cachedValue;
+			boolean computed = dependencyVersions != null;
 			// This line will do the following:
 			// - Run the calculate method
 			// - While doing so, add any observable that is touched to the
-			// dependencies list
+			// dependencies list, keeping the listeners of dependencies that
+			// were already used by the previous calculation
 			IObservable[] newDependencies = ObservableTracker.runAndMonitor(
-					privateInterface, privateInterface, null);
+					privateInterface, dependencies, privateInterface, privateInterface);
+			if (!computed || !isEqualValue(oldValue, cachedValue)) {
+				valueVersion++;
+			}
 
 			stale = false;
-			for (IObservable observable : newDependencies) {
-				// Add a change listener to the new dependency.
-				if (observable.isStale()) {
-					stale = true;
-				} else {
-					observable.addStaleListener(privateInterface);
+			int[] newDependencyVersions = new int[newDependencies.length];
+			// isStale() is a tracked getter, don't report our dependencies as
+			// dependencies of a computation that reads this value
+			ObservableTracker.setIgnore(true);
+			try {
+				for (int i = 0; i < newDependencies.length; i++) {
+					IObservable observable = newDependencies[i];
+					if (observable.isStale()) {
+						stale = true;
+					}
+					newDependencyVersions[i] = observable instanceof ComputedValue<?> computedValue
+							? computedValue.valueVersion
+							: -1;
 				}
+			} finally {
+				ObservableTracker.setIgnore(false);
 			}
 
 			dependencies = newDependencies;
+			dependencyVersions = newDependencyVersions;
+			recomputeRequired = false;
 
 			dirty = false;
 		}
@@ -214,6 +264,33 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		return cachedValue;
 	}
 
+	/**
+	 * Brings the computed values among the dependencies up to date and
+	 * returns whether any of them has a different value than at the time of
+	 * the last recomputation.
+	 */
+	private boolean computedDependenciesChanged() {
+		for (int i = 0; i < dependencies.length; i++) {
+			if (dependencyVersions[i] == -1) {
+				continue;
+			}
+			ComputedValue<?> dependency = (ComputedValue<?>) dependencies[i];
+			if (dependency.isDisposed()) {
+				return true;
+			}
+			ObservableTracker.setIgnore(true);
+			try {
+				dependency.getValue();
+			} finally {
+				ObservableTracker.setIgnore(false);
+			}
+			if (dependency.valueVersion != dependencyVersions[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Subclasses must override this method to provide the object's value. Any
 	 * dependencies used to calculate the value must be {@link IObservable}, and
@@ -224,11 +301,43 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 */
 	protected abstract T calculate();
 
+	/**
+	 * Returns whether a recomputed value equals the previous value, so that
+	 * computed values which depend on this one do not need to be recomputed.
+	 * <p>
+	 * The default implementation returns <code>false</code>, because the
+	 * previous value may be the same object as the new one after it has been
+	 * mutated. Subclasses which compute immutable values may override this
+	 * method, e.g. to compare the values with {@link Objects#equals(Object,
+	 * Object)}.
+	 * </p>
+	 *
+	 * @param oldValue the value before the recomputation
+	 * @param newValue the recomputed value
+	 * @return <code>true</code> if dependent computed values may keep the
+	 *         values they computed from the old value
+	 * @since 1.14
+	 */
+	protected boolean isEqualValue(T oldValue, T newValue) {
+		return false;
+	}
+
 	protected final void makeDirty() {
+		recomputeRequired = true;
+		markDirty();
+	}
+
+	private void markDirty() {
 		if (!dirty) {
 			dirty = true;
 
-			stopListening();
+			if (!hasListeners()) {
+				// Nobody is interested in further changes, release the
+				// dependencies until the value is requested again. Otherwise
+				// keep listening, so that the next recomputation only needs
+				// to update the listeners of dependencies that changed.
+				stopListening();
+			}
 
 			// copy the old value
 			final T oldValue = cachedValue;
@@ -257,6 +366,8 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 				observable.removeStaleListener(privateInterface);
 			}
 			dependencies = null;
+			dependencyVersions = null;
+			recomputeRequired = true;
 		}
 	}
 
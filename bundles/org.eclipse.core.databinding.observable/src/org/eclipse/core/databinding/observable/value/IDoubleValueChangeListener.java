@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.IObservablesListener;
+
+/**
+ * Listener for changes to observable <code>double</code> values.
+ *
+ * @since 1.14
+ */
+@FunctionalInterface
+public interface IDoubleValueChangeListener extends IObservablesListener {
+
+	/**
+	 * Handles a change to an observable <code>double</code> value. The given
+	 * event object must only be used locally in this method because it may be
+	 * reused for other change notifications.
+	 *
+	 * @param event
+	 *            the event
+	 */
+	void handleDoubleValueChange(DoubleValueChangeEvent event);
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * An observable value holding a primitive <code>long</code>. The value can be
+ * read, written and observed without boxing, while the object based methods
+ * inherited from {@link IObservableValue} keep working with {@link Long}
+ * values, so instances can be used wherever an <code>IObservableValue</code>
+ * is expected.
+ *
+ * @noimplement This interface is not intended to be implemented by clients.
+ *              Clients should instead subclass
+ *              {@link AbstractObservableLongValue}.
+ *
+ * @see WritableLongValue
+ *
+ * @since 1.14
+ */
+public interface ILongObservableValue extends IObservableValue<Long> {
+
+	/**
+	 * Returns the value. Must be invoked in the {@link Realm} of the
+	 * observable.
+	 *
+	 * @return the current value
+	 * @TrackedGetter
+	 */
+	public long getLongValue();
+
+	/**
+	 * Sets the value. Must be invoked in the {@link Realm} of the observable.
+	 *
+	 * @param value
+	 *            the value to set
+	 * @throws UnsupportedOperationException
+	 *             if this observable value cannot be set.
+	 */
+	public void setLongValue(long value);
+
+	/**
+	 * Adds a listener which is notified with the old and new
+	 * <code>long</code> value whenever the value changes.
+	 *
+	 * @param listener the change listener to add; not <code>null</code>
+	 */
+	public void addLongValueChangeListener(ILongValueChangeListener listener);
+
+	/**
+	 * @param listener the change listener to remove; not <code>null</code>
+	 */
+	public void removeLongValueChangeListener(ILongValueChangeListener listener);
+}
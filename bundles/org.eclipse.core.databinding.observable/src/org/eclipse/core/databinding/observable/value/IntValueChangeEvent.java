@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.IObservablesListener;
+import org.eclipse.core.databinding.observable.ObservableEvent;
+
+/**
+ * Value change event describing a change of an {@link IIntObservableValue}
+ * object's current value. Unlike {@link ValueChangeEvent}, the old and new
+ * values are carried as primitives.
+ *
+ * @since 1.14
+ */
+public class IntValueChangeEvent extends ObservableEvent {
+
+	private static final long serialVersionUID = 670108283358404580L;
+
+	static final Object TYPE = new Object();
+
+	/**
+	 * The value before the change.
+	 */
+	public final int oldValue;
+
+	/**
+	 * The value after the change.
+	 */
+	public final int newValue;
+
+	/**
+	 * Creates a new value change event.
+	 *
+	 * @param source
+	 *            the source observable value
+	 * @param oldValue
+	 *            the value before the change
+	 * @param newValue
+	 *            the value after the change
+	 */
+	public IntValueChangeEvent(IIntObservableValue source, int oldValue, int newValue) {
+		super(source);
+		this.oldValue = oldValue;
+		this.newValue = newValue;
+	}
+
+	/**
+	 * Returns the observable value from which this event originated.
+	 *
+	 * @return returns the observable value from which this event originated
+	 */
+	public IIntObservableValue getObservableValue() {
+		return (IIntObservableValue) getSource();
+	}
+
+	@Override
+	protected void dispatch(IObservablesListener listener) {
+		((IIntValueChangeListener) listener).handleIntValueChange(this);
+	}
+
+	@Override
+	protected Object getListenerType() {
+		return TYPE;
+	}
+
+}
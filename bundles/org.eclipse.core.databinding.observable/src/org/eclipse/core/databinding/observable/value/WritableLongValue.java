@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable (writable) implementation of {@link ILongObservableValue} that stores
+ * its value as a primitive <code>long</code> and fires value change events only
+ * when the value actually changes.
+ *
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class WritableLongValue extends AbstractObservableLongValue {
+
+	private long value;
+
+	/**
+	 * Constructs a new instance with the default realm and an initial value
+	 * of <code>0L</code>.
+	 */
+	public WritableLongValue() {
+		this(Realm.getDefault(), 0L);
+	}
+
+	/**
+	 * Constructs a new instance with the default realm.
+	 *
+	 * @param initialValue the initial value
+	 */
+	public WritableLongValue(long initialValue) {
+		this(Realm.getDefault(), initialValue);
+	}
+
+	/**
+	 * Constructs a new instance.
+	 *
+	 * @param realm        the realm to use; not <code>null</code>
+	 * @param initialValue the initial value
+	 */
+	public WritableLongValue(Realm realm, long initialValue) {
+		super(realm);
+		this.value = initialValue;
+	}
+
+	@Override
+	protected long doGetLongValue() {
+		return value;
+	}
+
+	@Override
+	protected void doSetLongValue(long value) {
+		long oldValue = this.value;
+		if (oldValue != value) {
+			this.value = value;
+			fireLongValueChange(oldValue, value);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ObservableList;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+
+/**
+ * Unmodifiable {@link IObservableList} which collects the values a source
+ * value takes on. The collected values are published as the contents of the
+ * list at the end of each time span which started with a change of the
+ * source. Until the next such time span has ended, the list keeps the values
+ * of the previous one.
+ *
+ * @param <T> the type of the value
+ *
+ * @since 1.14
+ */
+public class BufferedValuesObservableList<T> extends ObservableList<T> {
+	private IObservableValue<T> source;
+
+	private final RateLimiter limiter;
+
+	private List<T> buffer = new ArrayList<>();
+
+	private IValueChangeListener<T> valueChangeListener = this::handleValueChange;
+
+	/**
+	 * @param source   the observable value whose values are collected
+	 * @param timeSpan the time span in milliseconds
+	 */
+	public BufferedValuesObservableList(IObservableValue<T> source, int timeSpan) {
+		super(source.getRealm(), new ArrayList<>(), source.getValueType());
+		this.source = source;
+		this.limiter = new RateLimiter(source.getRealm(), RateLimiter.Mode.SAMPLE, timeSpan, this::flush);
+		source.addValueChangeListener(valueChangeListener);
+	}
+
+	private void handleValueChange(ValueChangeEvent<? extends T> event) {
+		buffer.add(event.diff.getNewValue());
+		boolean wasPending = limiter.isPending();
+		limiter.changed();
+		if (!wasPending) {
+			fireStale();
+		}
+	}
+
+	private void flush() {
+		List<T> oldList = wrappedList;
+		wrappedList = buffer;
+		buffer = new ArrayList<>();
+		// The list went stale with the first change of the time span, so the
+		// change event is fired even if the buffered values are the same
+		fireListChange(Diffs.computeListDiff(oldList, wrappedList));
+	}
+
+	@Override
+	public boolean isStale() {
+		getterCalled();
+		return limiter.isPending() || source.isStale();
+	}
+
+	@Override
+	public synchronized void dispose() {
+		limiter.cancel();
+		buffer = null;
+		if (source != null) {
+			source.removeValueChangeListener(valueChangeListener);
+			source = null;
+		}
+		valueChangeListener = null;
+		super.dispose();
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import org.eclipse.core.databinding.observable.IDisposeListener;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.value.AbstractObservableDoubleValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+
+/**
+ * Exposes an observable value of {@link Double} objects as an
+ * {@link org.eclipse.core.databinding.observable.value.IDoubleObservableValue}.
+ * A <code>null</code> value of the adapted observable is reported as
+ * <code>0.0</code>.
+ */
+public class DoubleObservableValueAdapter extends AbstractObservableDoubleValue {
+
+	private final IObservableValue<Double> wrappedValue;
+
+	private double cachedValue;
+
+	private IValueChangeListener<Double> valueChangeListener;
+
+	private IStaleListener staleListener;
+
+	private final IDisposeListener disposeListener = event -> dispose();
+
+	/**
+	 * @param wrappedValue the observable value to adapt
+	 */
+	public DoubleObservableValueAdapter(IObservableValue<Double> wrappedValue) {
+		super(wrappedValue.getRealm());
+		this.wrappedValue = wrappedValue;
+		wrappedValue.addDisposeListener(disposeListener);
+	}
+
+	@Override
+	protected void firstListenerAdded() {
+		if (valueChangeListener == null) {
+			valueChangeListener = event -> {
+				double oldValue = cachedValue;
+				cachedValue = unbox(event.diff.getNewValue());
+				if (Double.doubleToLongBits(oldValue) != Double.doubleToLongBits(cachedValue)) {
+					fireDoubleValueChange(oldValue, cachedValue);
+				}
+			};
+			staleListener = event -> fireStale();
+		}
+		wrappedValue.addValueChangeListener(valueChangeListener);
+		wrappedValue.addStaleListener(staleListener);
+		ObservableTracker.setIgnore(true);
+		try {
+			cachedValue = unbox(wrappedValue.getValue());
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		wrappedValue.removeValueChangeListener(valueChangeListener);
+		wrappedValue.removeStaleListener(staleListener);
+	}
+
+	@Override
+	protected double doGetDoubleValue() {
+		return unbox(wrappedValue.getValue());
+	}
+
+	@Override
+	protected void doSetDoubleValue(double value) {
+		wrappedValue.setValue(value);
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return wrappedValue.isStale();
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!wrappedValue.isDisposed()) {
+			wrappedValue.removeDisposeListener(disposeListener);
+			if (valueChangeListener != null) {
+				wrappedValue.removeValueChangeListener(valueChangeListener);
+				wrappedValue.removeStaleListener(staleListener);
+			}
+		}
+		valueChangeListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+
+	private static double unbox(Double value) {
+		return value == null ? 0.0 : value.doubleValue();
+	}
+}
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An array based list with a hash index from its elements to their number of
+ * occurrences and their first position.
+ * <p>
+ * The occurrence counts are always exact, so {@link #contains(Object)} takes
+ * constant time. The first positions are only known to be correct for the
+ * elements in a prefix of the list: a modification at some index shortens the
+ * prefix to that index, and {@link #indexOf(Object)} extends it again as far
+ * as needed. Appending elements does not invalidate anything, and each position
+ * is re-indexed at most once per modification, so interleaving lookups with
+ * modifications costs no more than the linear scans of a plain list, while
+ * repeated lookups between modifications take constant time.
+ * <p>
+ * Elements must implement {@link Object#hashCode()} consistently with
+ * {@link Object#equals(Object)} and must not change their hash code while
+ * they are contained in the list.
+ *
+ * @param <E>
+ *            the type of the elements in this list
+ */
+public class IndexedArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+	private static final class Entry {
+		int count;
+
+		/**
+		 * The first position of the element, only valid if it is within the
+		 * indexed prefix and still holds an equal element
+		 */
+		int firstIndex = -1;
+	}
+
+	private final ArrayList<E> elements;
+
+	private final HashMap<Object, Entry> index;
+
+	/**
+	 * The size of the prefix of the list for which the index holds the first
+	 * position of every element
+	 */
+	private int indexedSize;
+
+	/**
+	 * Creates an empty list.
+	 */
+	public IndexedArrayList() {
+		elements = new ArrayList<>();
+		index = new HashMap<>();
+	}
+
+	/**
+	 * Creates a list containing the elements of the given collection.
+	 *
+	 * @param collection
+	 *            the elements to copy
+	 */
+	public IndexedArrayList(Collection<? extends E> collection) {
+		elements = new ArrayList<>(collection);
+		index = new HashMap<>();
+		for (E element : elements) {
+			addOccurrence(element);
+		}
+	}
+
+	@Override
+	public E get(int i) {
+		return elements.get(i);
+	}
+
+	@Override
+	public int size() {
+		return elements.size();
+	}
+
+	@Override
+	public E set(int i, E element) {
+		E oldElement = elements.set(i, element);
+		if (!Objects.equals(oldElement, element)) {
+			removeOccurrence(oldElement);
+			addOccurrence(element);
+			invalidateFrom(i);
+		}
+		return oldElement;
+	}
+
+	@Override
+	public void add(int i, E element) {
+		elements.add(i, element);
+		modCount++;
+		addOccurrence(element);
+		invalidateFrom(i);
+	}
+
+	@Override
+	public E remove(int i) {
+		E oldElement = elements.remove(i);
+		modCount++;
+		removeOccurrence(oldElement);
+		invalidateFrom(i);
+		return oldElement;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		return addAll(elements.size(), c);
+	}
+
+	@Override
+	public boolean addAll(int i, Collection<? extends E> c) {
+		if (!elements.addAll(i, c)) {
+			return false;
+		}
+		modCount++;
+		for (E element : c) {
+			addOccurrence(element);
+		}
+		invalidateFrom(i);
+		return true;
+	}
+
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		for (int i = fromIndex; i < toIndex; i++) {
+			removeOccurrence(elements.get(i));
+		}
+		elements.subList(fromIndex, toIndex).clear();
+		modCount++;
+		invalidateFrom(fromIndex);
+	}
+
+	@Override
+	public void clear() {
+		elements.clear();
+		index.clear();
+		indexedSize = 0;
+		modCount++;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return index.containsKey(o);
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		Entry entry = index.get(o);
+		if (entry == null) {
+			return -1;
+		}
+		if (isFirstIndex(entry, o, indexedSize)) {
+			return entry.firstIndex;
+		}
+		// the element does not occur in the indexed prefix, so index the
+		// following positions until we find it
+		int size = elements.size();
+		while (indexedSize < size) {
+			int i = indexedSize++;
+			E element = elements.get(i);
+			Entry elementEntry = index.get(element);
+			if (!isFirstIndex(elementEntry, element, i)) {
+				elementEntry.firstIndex = i;
+			}
+			if (elementEntry == entry) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Index out of sync, element was modified while in the list: " + o); //$NON-NLS-1$
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		return index.containsKey(o) ? elements.lastIndexOf(o) : -1;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		int i = indexOf(o);
+		if (i == -1) {
+			return false;
+		}
+		remove(i);
+		return true;
+	}
+
+	@Override
+	public Object[] toArray() {
+		return elements.toArray();
+	}
+
+	@Override
+	public <T> T[] toArray(T[] a) {
+		return elements.toArray(a);
+	}
+
+	/**
+	 * Returns whether the recorded first position of an element is correct,
+	 * given that all positions below <code>limit</code> are indexed.
+	 */
+	private boolean isFirstIndex(Entry entry, Object element, int limit) {
+		int firstIndex = entry.firstIndex;
+		return firstIndex >= 0 && firstIndex < limit && Objects.equals(elements.get(firstIndex), element);
+	}
+
+	private void invalidateFrom(int i) {
+		if (i < indexedSize) {
+			indexedSize = i;
+		}
+	}
+
+	private void addOccurrence(E element) {
+		Entry entry = index.get(element);
+		if (entry == null) {
+			entry = new Entry();
+			index.put(element, entry);
+		}
+		entry.count++;
+	}
+
+	private void removeOccurrence(E element) {
+		Entry entry = index.get(element);
+		if (--entry.count == 0) {
+			index.remove(element);
+		}
+	}
+}
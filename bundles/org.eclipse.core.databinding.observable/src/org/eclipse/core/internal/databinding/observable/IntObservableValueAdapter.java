@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import org.eclipse.core.databinding.observable.IDisposeListener;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.value.AbstractObservableIntValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+
+/**
+ * Exposes an observable value of {@link Integer} objects as an
+ * {@link org.eclipse.core.databinding.observable.value.IIntObservableValue}.
+ * A <code>null</code> value of the adapted observable is reported as
+ * <code>0</code>.
+ */
+public class IntObservableValueAdapter extends AbstractObservableIntValue {
+
+	private final IObservableValue<Integer> wrappedValue;
+
+	private int cachedValue;
+
+	private IValueChangeListener<Integer> valueChangeListener;
+
+	private IStaleListener staleListener;
+
+	private final IDisposeListener disposeListener = event -> dispose();
+
+	/**
+	 * @param wrappedValue the observable value to adapt
+	 */
+	public IntObservableValueAdapter(IObservableValue<Integer> wrappedValue) {
+		super(wrappedValue.getRealm());
+		this.wrappedValue = wrappedValue;
+		wrappedValue.addDisposeListener(disposeListener);
+	}
+
+	@Override
+	protected void firstListenerAdded() {
+		if (valueChangeListener == null) {
+			valueChangeListener = event -> {
+				int oldValue = cachedValue;
+				cachedValue = unbox(event.diff.getNewValue());
+				if (oldValue != cachedValue) {
+					fireIntValueChange(oldValue, cachedValue);
+				}
+			};
+			staleListener = event -> fireStale();
+		}
+		wrappedValue.addValueChangeListener(valueChangeListener);
+		wrappedValue.addStaleListener(staleListener);
+		ObservableTracker.setIgnore(true);
+		try {
+			cachedValue = unbox(wrappedValue.getValue());
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		wrappedValue.removeValueChangeListener(valueChangeListener);
+		wrappedValue.removeStaleListener(staleListener);
+	}
+
+	@Override
+	protected int doGetIntValue() {
+		return unbox(wrappedValue.getValue());
+	}
+
+	@Override
+	protected void doSetIntValue(int value) {
+		wrappedValue.setValue(value);
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return wrappedValue.isStale();
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!wrappedValue.isDisposed()) {
+			wrappedValue.removeDisposeListener(disposeListener);
+			if (valueChangeListener != null) {
+				wrappedValue.removeValueChangeListener(valueChangeListener);
+				wrappedValue.removeStaleListener(staleListener);
+			}
+		}
+		valueChangeListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+
+	private static int unbox(Integer value) {
+		return value == null ? 0 : value.intValue();
+	}
+}
@@ -0,0 +1,352 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+
+/**
+ * Computes list differences with the linear space variant of Myers' O((N+M)D)
+ * algorithm ("An O(ND) Difference Algorithm and Its Variations", 1986).
+ * <p>
+ * Elements are mapped to integer ids through a hash map first, so that the
+ * algorithm itself only compares <code>int</code>s. A removal and an addition
+ * of equal elements are emitted as adjacent entries, which
+ * {@link org.eclipse.core.databinding.observable.list.ListDiff#accept} reports
+ * as a move.
+ */
+public final class MyersListDiff {
+
+	private static final byte KEEP = 0;
+	private static final byte REMOVE = 1;
+	private static final byte ADD = 2;
+
+	/**
+	 * Minimum number of edit steps searched before the search for the middle
+	 * snake falls back to the furthest reaching path. Bounds the running time
+	 * for very different lists at the cost of a possibly non-minimal diff.
+	 */
+	private static final int MIN_COST_LIMIT = 256;
+
+	private final int[] a;
+	private final int[] b;
+	private final boolean[] removed;
+	private final boolean[] added;
+	private final int[] forward;
+	private final int[] backward;
+	private final int costLimit;
+
+	private MyersListDiff(int[] a, int[] b) {
+		this.a = a;
+		this.b = b;
+		this.removed = new boolean[a.length];
+		this.added = new boolean[b.length];
+		int size = a.length + b.length + 3;
+		this.forward = new int[size];
+		this.backward = new int[size];
+		this.costLimit = Math.max(MIN_COST_LIMIT, (int) Math.sqrt(size));
+	}
+
+	/**
+	 * Appends the entries that transform the range
+	 * <code>[start, oldEnd)</code> of the old list into the range
+	 * <code>[start, newEnd)</code> of the new list to the given list. Positions
+	 * of the entries are relative to the start of the lists, each entry is
+	 * relative to the list state after applying the preceding entries.
+	 *
+	 * @param <E>       the list element type
+	 * @param oldList   the old list state
+	 * @param newList   the new list state
+	 * @param start     the start of the range to compare in both lists
+	 * @param oldEnd    the end (exclusive) of the range in the old list
+	 * @param newEnd    the end (exclusive) of the range in the new list
+	 * @param listDiffs the list to add the entries to
+	 */
+	public static <E> void createListDiffs(List<? extends E> oldList, List<? extends E> newList, int start,
+			int oldEnd, int newEnd, List<ListDiffEntry<E>> listDiffs) {
+		Map<Object, Integer> ids = new HashMap<>();
+		int[] a = new int[oldEnd - start];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = ids.computeIfAbsent(oldList.get(start + i), k -> ids.size());
+		}
+		int oldIds = ids.size();
+		int[] b = new int[newEnd - start];
+		boolean common = false;
+		for (int i = 0; i < b.length; i++) {
+			b[i] = ids.computeIfAbsent(newList.get(start + i), k -> ids.size());
+			common |= b[i] < oldIds;
+		}
+
+		MyersListDiff diff = new MyersListDiff(a, b);
+		if (common) {
+			diff.compare(0, a.length, 0, b.length);
+		} else {
+			Arrays.fill(diff.removed, true);
+			Arrays.fill(diff.added, true);
+		}
+		diff.emit(oldList, newList, start, ids.size(), listDiffs);
+	}
+
+	private void compare(int aStart, int aEnd, int bStart, int bEnd) {
+		while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+			aStart++;
+			bStart++;
+		}
+		while (aStart < aEnd && bStart < bEnd && a[aEnd - 1] == b[bEnd - 1]) {
+			aEnd--;
+			bEnd--;
+		}
+		if (aStart == aEnd) {
+			Arrays.fill(added, bStart, bEnd, true);
+		} else if (bStart == bEnd) {
+			Arrays.fill(removed, aStart, aEnd, true);
+		} else {
+			long split = middleSnake(aStart, aEnd, bStart, bEnd);
+			int x = (int) (split >>> 32);
+			int y = (int) split;
+			if (split < 0 || (x == aStart && y == bStart) || (x == aEnd && y == bEnd)) {
+				Arrays.fill(removed, aStart, aEnd, true);
+				Arrays.fill(added, bStart, bEnd, true);
+				return;
+			}
+			compare(aStart, x, bStart, y);
+			compare(x, aEnd, y, bEnd);
+		}
+	}
+
+	/**
+	 * Searches from both ends of the given ranges for the point where a
+	 * shortest edit path crosses the middle diagonal. The first and the last
+	 * elements of the ranges must differ.
+	 *
+	 * @return the split point, encoded as <code>(x &lt;&lt; 32) | y</code> in
+	 *         absolute indices, or <code>-1</code> if there is none
+	 */
+	private long middleSnake(int aStart, int aEnd, int bStart, int bEnd) {
+		int n = aEnd - aStart;
+		int m = bEnd - bStart;
+		int maxD = (n + m + 1) / 2;
+		int offset = maxD;
+		int length = 2 * maxD + 2;
+		Arrays.fill(forward, 0, length, -1);
+		Arrays.fill(backward, 0, length, -1);
+		forward[offset + 1] = 0;
+		backward[offset + 1] = 0;
+		int delta = n - m;
+		boolean odd = (delta & 1) != 0;
+		// diagonals which left the box on the right or at the bottom
+		int fStartTrim = 0;
+		int fEndTrim = 0;
+		int bStartTrim = 0;
+		int bEndTrim = 0;
+		int bestX = 0;
+		int bestY = 0;
+		for (int d = 0; d < maxD; d++) {
+			for (int k = -d + fStartTrim; k <= d - fEndTrim; k += 2) {
+				int kOffset = offset + k;
+				int x;
+				if (k == -d || (k != d && forward[kOffset - 1] < forward[kOffset + 1])) {
+					x = forward[kOffset + 1];
+				} else {
+					x = forward[kOffset - 1] + 1;
+				}
+				int y = x - k;
+				while (x < n && y < m && a[aStart + x] == b[bStart + y]) {
+					x++;
+					y++;
+				}
+				forward[kOffset] = x;
+				if (x > n) {
+					fEndTrim += 2;
+				} else if (y > m) {
+					fStartTrim += 2;
+				} else {
+					if (x + y > bestX + bestY) {
+						bestX = x;
+						bestY = y;
+					}
+					if (odd) {
+						int reverseOffset = offset + delta - k;
+						if (reverseOffset >= 0 && reverseOffset < length && backward[reverseOffset] != -1
+								&& x >= n - backward[reverseOffset]) {
+							return encode(aStart + x, bStart + y);
+						}
+					}
+				}
+			}
+			for (int k = -d + bStartTrim; k <= d - bEndTrim; k += 2) {
+				int kOffset = offset + k;
+				int x;
+				if (k == -d || (k != d && backward[kOffset - 1] < backward[kOffset + 1])) {
+					x = backward[kOffset + 1];
+				} else {
+					x = backward[kOffset - 1] + 1;
+				}
+				int y = x - k;
+				while (x < n && y < m && a[aEnd - 1 - x] == b[bEnd - 1 - y]) {
+					x++;
+					y++;
+				}
+				backward[kOffset] = x;
+				if (x > n) {
+					bEndTrim += 2;
+				} else if (y > m) {
+					bStartTrim += 2;
+				} else if (!odd) {
+					int forwardOffset = offset + delta - k;
+					if (forwardOffset >= 0 && forwardOffset < length && forward[forwardOffset] != -1) {
+						int forwardX = forward[forwardOffset];
+						int forwardY = forwardX - (forwardOffset - offset);
+						if (forwardX >= n - x && forwardX <= n && forwardY >= 0 && forwardY <= m) {
+							return encode(aStart + forwardX, bStart + forwardY);
+						}
+					}
+				}
+			}
+			if (d >= costLimit && bestX + bestY > 0 && (bestX < n || bestY < m)) {
+				// give up on a minimal diff, the furthest reaching forward
+				// path is still on a valid edit path
+				return encode(aStart + bestX, bStart + bestY);
+			}
+		}
+		return -1;
+	}
+
+	private static long encode(int x, int y) {
+		return ((long) x << 32) | y;
+	}
+
+	/**
+	 * Turns the removed and added flags into list diff entries. The edit
+	 * script is laid out as a sequence of slots, one for each kept, removed
+	 * and added element, and a Fenwick tree over the slots counts the elements
+	 * currently in the list, which gives the position of an entry in the list
+	 * state it is applied to. A removal and an addition of equal elements are
+	 * paired up and emitted next to each other.
+	 */
+	private <E> void emit(List<? extends E> oldList, List<? extends E> newList, int start, int idCount,
+			List<ListDiffEntry<E>> listDiffs) {
+		int slotCount = a.length;
+		for (boolean isAdded : added) {
+			if (isAdded) {
+				slotCount++;
+			}
+		}
+		byte[] kinds = new byte[slotCount];
+		int[] indices = new int[slotCount];
+		int i = 0;
+		int j = 0;
+		for (int slot = 0; slot < slotCount; slot++) {
+			if (i < a.length && removed[i]) {
+				kinds[slot] = REMOVE;
+				indices[slot] = i++;
+			} else if (j < b.length && added[j]) {
+				kinds[slot] = ADD;
+				indices[slot] = j++;
+			} else {
+				kinds[slot] = KEEP;
+				indices[slot] = i++;
+				j++;
+			}
+		}
+
+		// pair the n-th removal of an element with its n-th addition
+		int[] partners = new int[slotCount];
+		Arrays.fill(partners, -1);
+		int[] removalHeads = new int[idCount];
+		int[] removalTails = new int[idCount];
+		Arrays.fill(removalHeads, -1);
+		int[] nextRemovals = new int[slotCount];
+		for (int slot = 0; slot < slotCount; slot++) {
+			if (kinds[slot] == REMOVE) {
+				int id = a[indices[slot]];
+				nextRemovals[slot] = -1;
+				if (removalHeads[id] == -1) {
+					removalHeads[id] = slot;
+				} else {
+					nextRemovals[removalTails[id]] = slot;
+				}
+				removalTails[id] = slot;
+			}
+		}
+		for (int slot = 0; slot < slotCount; slot++) {
+			if (kinds[slot] == ADD) {
+				int id = b[indices[slot]];
+				int removal = removalHeads[id];
+				if (removal != -1) {
+					removalHeads[id] = nextRemovals[removal];
+					partners[slot] = removal;
+					partners[removal] = slot;
+				}
+			}
+		}
+
+		// Fenwick tree over the slots, initially holding the old list
+		int[] tree = new int[slotCount + 1];
+		for (int index = 1; index <= slotCount; index++) {
+			if (kinds[index - 1] != ADD) {
+				tree[index]++;
+			}
+			int parent = index + (index & -index);
+			if (parent <= slotCount) {
+				tree[parent] += tree[index];
+			}
+		}
+
+		for (int slot = 0; slot < slotCount; slot++) {
+			switch (kinds[slot]) {
+			case REMOVE:
+				// a paired removal is emitted together with its addition
+				if (partners[slot] == -1) {
+					listDiffs.add(Diffs.createListDiffEntry(start + countBefore(tree, slot), false,
+							oldList.get(start + indices[slot])));
+					update(tree, slot, -1);
+				}
+				break;
+			case ADD:
+				int removal = partners[slot];
+				if (removal != -1) {
+					listDiffs.add(Diffs.createListDiffEntry(start + countBefore(tree, removal), false,
+							oldList.get(start + indices[removal])));
+					update(tree, removal, -1);
+				}
+				listDiffs.add(Diffs.createListDiffEntry(start + countBefore(tree, slot), true,
+						newList.get(start + indices[slot])));
+				update(tree, slot, 1);
+				break;
+			default:
+				break;
+			}
+		}
+	}
+
+	private static int countBefore(int[] tree, int slot) {
+		int count = 0;
+		for (int index = slot; index > 0; index -= index & -index) {
+			count += tree[index];
+		}
+		return count;
+	}
+
+	private static void update(int[] tree, int slot, int delta) {
+		for (int index = slot + 1; index < tree.length; index += index & -index) {
+			tree[index] += delta;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.ObservableList;
+
+/**
+ * Unmodifiable {@link IObservableList} which follows a source list, but passes
+ * changes of the source on to its listeners no more often than its
+ * {@link RateLimiter} allows. The changes in between are merged and fired as a
+ * single diff. While changes are pending, the list is stale and still holds
+ * the previous contents of the source.
+ *
+ * @param <E> the type of the elements in this list
+ *
+ * @since 1.14
+ */
+public class RateLimitedObservableList<E> extends ObservableList<E> {
+	private IObservableList<E> source;
+
+	private final RateLimiter limiter;
+
+	private ListDiff<E> pendingDiff;
+
+	private IListChangeListener<E> listChangeListener = this::handleListChange;
+
+	private IStaleListener staleListener = this::handleStale;
+
+	/**
+	 * Whether listeners have been told that this observable is stale, but not
+	 * yet that it is fresh again.
+	 */
+	private boolean stale;
+
+	/**
+	 * @param source   the observable list to follow
+	 * @param mode     the rate limiting policy
+	 * @param interval the interval of the policy in milliseconds
+	 */
+	public RateLimitedObservableList(IObservableList<E> source, RateLimiter.Mode mode, int interval) {
+		super(source.getRealm(), new ArrayList<>(), source.getElementType());
+		this.source = source;
+		this.limiter = new RateLimiter(source.getRealm(), mode, interval, this::flush);
+		ObservableTracker.setIgnore(true);
+		try {
+			wrappedList.addAll(source);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+		source.addListChangeListener(listChangeListener);
+		source.addStaleListener(staleListener);
+	}
+
+	private void handleListChange(ListChangeEvent<? extends E> event) {
+		pendingDiff = pendingDiff == null ? Diffs.unmodifiableDiff(event.diff)
+				: Diffs.mergeDiffs(pendingDiff, event.diff);
+		boolean wasPending = limiter.isPending();
+		limiter.changed();
+		if (!wasPending && limiter.isPending() && !source.isStale()) {
+			stale = true;
+			fireStale();
+		}
+	}
+
+	private void handleStale(StaleEvent event) {
+		if (!limiter.isPending()) {
+			stale = true;
+			fireStale();
+		}
+	}
+
+	private void flush() {
+		ListDiff<E> diff = pendingDiff;
+		pendingDiff = null;
+		boolean oldStale = stale;
+		stale = false;
+		if (diff != null && !diff.isEmpty()) {
+			diff.applyTo(wrappedList);
+			fireListChange(diff);
+		} else if (diff != null && oldStale) {
+			// A change event also ends the stale state, so an empty diff is fired
+			// if the burst of changes has cancelled itself out
+			fireListChange(diff);
+		}
+	}
+
+	@Override
+	public boolean isStale() {
+		getterCalled();
+		return limiter.isPending() || source.isStale();
+	}
+
+	@Override
+	public synchronized void dispose() {
+		limiter.cancel();
+		pendingDiff = null;
+		if (source != null) {
+			source.removeListChangeListener(listChangeListener);
+			source.removeStaleListener(staleListener);
+			source = null;
+		}
+		listChangeListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.HashSet;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.set.ISetChangeListener;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.observable.set.SetDiff;
+import org.eclipse.core.databinding.observable.set.ObservableSet;
+
+/**
+ * Unmodifiable {@link IObservableSet} which follows a source set, but passes
+ * changes of the source on to its listeners no more often than its
+ * {@link RateLimiter} allows. The changes in between are merged and fired as a
+ * single diff. While changes are pending, the set is stale and still holds
+ * the previous contents of the source.
+ *
+ * @param <E> the type of the elements in this set
+ *
+ * @since 1.14
+ */
+public class RateLimitedObservableSet<E> extends ObservableSet<E> {
+	private IObservableSet<E> source;
+
+	private final RateLimiter limiter;
+
+	private SetDiff<E> pendingDiff;
+
+	private ISetChangeListener<E> setChangeListener = this::handleSetChange;
+
+	private IStaleListener staleListener = this::handleStale;
+
+	/**
+	 * Whether listeners have been told that this observable is stale, but not
+	 * yet that it is fresh again.
+	 */
+	private boolean stale;
+
+	/**
+	 * @param source   the observable set to follow
+	 * @param mode     the rate limiting policy
+	 * @param interval the interval of the policy in milliseconds
+	 */
+	public RateLimitedObservableSet(IObservableSet<E> source, RateLimiter.Mode mode, int interval) {
+		super(source.getRealm(), new HashSet<>(), source.getElementType());
+		this.source = source;
+		this.limiter = new RateLimiter(source.getRealm(), mode, interval, this::flush);
+		ObservableTracker.setIgnore(true);
+		try {
+			wrappedSet.addAll(source);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+		source.addSetChangeListener(setChangeListener);
+		source.addStaleListener(staleListener);
+	}
+
+	private void handleSetChange(SetChangeEvent<? extends E> event) {
+		pendingDiff = pendingDiff == null ? Diffs.unmodifiableDiff(event.diff)
+				: Diffs.mergeDiffs(pendingDiff, event.diff);
+		boolean wasPending = limiter.isPending();
+		limiter.changed();
+		if (!wasPending && limiter.isPending() && !source.isStale()) {
+			stale = true;
+			fireStale();
+		}
+	}
+
+	private void handleStale(StaleEvent event) {
+		if (!limiter.isPending()) {
+			stale = true;
+			fireStale();
+		}
+	}
+
+	private void flush() {
+		SetDiff<E> diff = pendingDiff;
+		pendingDiff = null;
+		boolean oldStale = stale;
+		stale = false;
+		if (diff != null && !diff.isEmpty()) {
+			diff.applyTo(wrappedSet);
+			fireSetChange(diff);
+		} else if (diff != null && oldStale) {
+			// A change event also ends the stale state, so an empty diff is fired
+			// if the burst of changes has cancelled itself out
+			fireSetChange(diff);
+		}
+	}
+
+	@Override
+	public boolean isStale() {
+		getterCalled();
+		return limiter.isPending() || source.isStale();
+	}
+
+	@Override
+	public synchronized void dispose() {
+		limiter.cancel();
+		pendingDiff = null;
+		if (source != null) {
+			source.removeSetChangeListener(setChangeListener);
+			source.removeStaleListener(staleListener);
+			source = null;
+		}
+		setChangeListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+
+/**
+ * Unmodifiable {@link IObservableValue} which follows a source value, but
+ * passes changes of the source on to its listeners no more often than its
+ * {@link RateLimiter} allows. While a change is pending, the value is stale
+ * and still reports the previous value of the source.
+ *
+ * @param <T> the type of the value
+ *
+ * @since 1.14
+ */
+public class RateLimitedObservableValue<T> extends AbstractObservableValue<T> {
+	private IObservableValue<T> source;
+
+	private final RateLimiter limiter;
+
+	private T value;
+
+	private IValueChangeListener<T> valueChangeListener = this::handleValueChange;
+
+	private IStaleListener staleListener = this::handleStale;
+
+	/**
+	 * Whether listeners have been told that this observable is stale, but not
+	 * yet that it is fresh again.
+	 */
+	private boolean stale;
+
+	/**
+	 * @param source   the observable value to follow
+	 * @param mode     the rate limiting policy
+	 * @param interval the interval of the policy in milliseconds
+	 */
+	public RateLimitedObservableValue(IObservableValue<T> source, RateLimiter.Mode mode, int interval) {
+		super(source.getRealm());
+		this.source = source;
+		this.limiter = new RateLimiter(source.getRealm(), mode, interval, this::flush);
+		this.value = internalGetValue();
+		source.addValueChangeListener(valueChangeListener);
+		source.addStaleListener(staleListener);
+	}
+
+	private void handleValueChange(ValueChangeEvent<? extends T> event) {
+		boolean wasPending = limiter.isPending();
+		limiter.changed();
+		if (!wasPending && limiter.isPending() && !source.isStale()) {
+			stale = true;
+			fireStale();
+		}
+	}
+
+	private void handleStale(StaleEvent event) {
+		if (!limiter.isPending()) {
+			stale = true;
+			fireStale();
+		}
+	}
+
+	private void flush() {
+		T oldValue = value;
+		value = internalGetValue();
+		boolean oldStale = stale;
+		stale = false;
+		// A change event also ends the stale state, so it is fired even if the
+		// burst of changes has returned to the original value
+		if (oldStale || !Objects.equals(oldValue, value)) {
+			fireValueChange(Diffs.createValueDiff(oldValue, value));
+		}
+	}
+
+	private T internalGetValue() {
+		ObservableTracker.setIgnore(true);
+		try {
+			return source.getValue();
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+	}
+
+	@Override
+	protected T doGetValue() {
+		return value;
+	}
+
+	@Override
+	public Object getValueType() {
+		return source.getValueType();
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return limiter.isPending() || source.isStale();
+	}
+
+	@Override
+	public synchronized void dispose() {
+		limiter.cancel();
+		if (source != null) {
+			source.removeValueChangeListener(valueChangeListener);
+			source.removeStaleListener(staleListener);
+			source = null;
+		}
+		valueChangeListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
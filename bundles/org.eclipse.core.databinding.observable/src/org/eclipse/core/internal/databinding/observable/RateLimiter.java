@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Decides when the changes of a rate limited observable are passed on to its
+ * listeners. All rate limiters share a single scheduler thread, which only
+ * hands elapsed timers over to the realm of the observable.
+ * <p>
+ * Except for the construction, all methods must be called from the realm.
+ * </p>
+ */
+public final class RateLimiter {
+
+	/**
+	 * The policy of a rate limiter.
+	 */
+	public enum Mode {
+		/**
+		 * The first change is passed on immediately, further changes at most
+		 * once per interval.
+		 */
+		THROTTLE,
+
+		/**
+		 * Changes are passed on once no further change has occurred for the
+		 * interval.
+		 */
+		DEBOUNCE,
+
+		/**
+		 * Changes are passed on at the end of the interval which started with
+		 * the first change.
+		 */
+		SAMPLE
+	}
+
+	private static final class SchedulerHolder {
+		static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+		private static ScheduledThreadPoolExecutor createScheduler() {
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "Data Binding Rate Limiter"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			scheduler.setRemoveOnCancelPolicy(true);
+			return scheduler;
+		}
+	}
+
+	private final Realm realm;
+	private final Mode mode;
+	private final int interval;
+	private final Runnable flush;
+
+	private ScheduledFuture<?> timer;
+
+	/**
+	 * Incremented whenever the timer is replaced or cancelled, so that timers
+	 * which elapse while being cancelled are ignored.
+	 */
+	private int generation;
+
+	private boolean pending;
+
+	/**
+	 * @param realm    the realm in which <code>flush</code> is run
+	 * @param mode     the policy
+	 * @param interval the interval in milliseconds; must be positive
+	 * @param flush    passes the changes collected so far on to the listeners
+	 */
+	public RateLimiter(Realm realm, Mode mode, int interval, Runnable flush) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("Interval must be positive"); //$NON-NLS-1$
+		}
+		this.realm = realm;
+		this.mode = mode;
+		this.interval = interval;
+		this.flush = flush;
+	}
+
+	/**
+	 * Notifies the rate limiter of a change. Depending on the mode, the change
+	 * is either flushed immediately or later from a timer.
+	 */
+	public void changed() {
+		switch (mode) {
+		case THROTTLE:
+			if (timer == null) {
+				flush.run();
+				schedule();
+			} else {
+				pending = true;
+			}
+			break;
+		case DEBOUNCE:
+			pending = true;
+			schedule();
+			break;
+		case SAMPLE:
+			pending = true;
+			if (timer == null) {
+				schedule();
+			}
+			break;
+		}
+	}
+
+	/**
+	 * @return whether there are changes which have not been flushed yet
+	 */
+	public boolean isPending() {
+		return pending;
+	}
+
+	/**
+	 * Discards pending changes and stops the timer.
+	 */
+	public void cancel() {
+		generation++;
+		pending = false;
+		if (timer != null) {
+			timer.cancel(false);
+			timer = null;
+		}
+	}
+
+	private void schedule() {
+		if (timer != null) {
+			timer.cancel(false);
+		}
+		final int scheduled = ++generation;
+		timer = SchedulerHolder.SCHEDULER.schedule(() -> realm.asyncExec(() -> elapsed(scheduled)), interval,
+				TimeUnit.MILLISECONDS);
+	}
+
+	private void elapsed(int scheduled) {
+		if (scheduled != generation) {
+			return;
+		}
+		timer = null;
+		if (pending) {
+			pending = false;
+			flush.run();
+			if (mode == Mode.THROTTLE) {
+				// keep the rate below one flush per interval
+				schedule();
+			}
+		}
+	}
+}
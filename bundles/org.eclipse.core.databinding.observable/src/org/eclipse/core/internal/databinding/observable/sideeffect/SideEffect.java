@@ -89,6 +89,11 @@ public final class SideEffect implements ISideEffect {
 	 */
 	private boolean asyncScheduled;
 	private int pauseDepth;
+	/**
+	 * True while the runnable is running. Changes to dependencies made by the
+	 * runnable itself do not dirty the side-effect.
+	 */
+	private boolean updating;
 	private Runnable runnable;
 	/**
 	 * Dependencies which we are currently listening for change events from
@@ -184,30 +189,38 @@ public final class SideEffect implements ISideEffect {
 	private void update() {
 		if (dirty && pauseDepth <= 0) {
 			dirty = false;
-			// Hold a reference to the old dependencies to prevent them from
-			// being garbage collected until we've computed the new set. In the
-			// event that a dependency is lazily created, this prevents it from
-			// being destroyed and immediately recreated.
-
-			// Stop listening for dependency changes.
-			stopListening();
+			// Keep listening to the old dependencies while running. This
+			// prevents them from being garbage collected until we've computed
+			// the new set, and dependencies which are used again keep their
+			// listeners, so that only the listeners of dependencies that were
+			// added or dropped need to be updated.
 
 			// This line will do the following:
 			// - Run the calculate method
 			// - While doing so, add any observable that is touched to the
 			// dependencies list
-			IObservable[] newDependencies = ObservableTracker.runAndMonitor(runnable, null, null);
+			IObservable[] oldDependencies = dependencies;
+			IObservable[] newDependencies;
+			updating = true;
+			try {
+				newDependencies = ObservableTracker.runAndMonitor(runnable, dependencies, privateInterface,
+						null);
+			} finally {
+				updating = false;
+			}
 
-			// If the side-effect disposed itself, exit without attaching any
-			// listeners.
+			// If the side-effect disposed itself, remove the listeners that
+			// were attached while running. Disposing already removed the
+			// listeners of the old dependencies.
 			if (isDisposed()) {
+				for (IObservable next : newDependencies) {
+					if (!contains(oldDependencies, next)) {
+						next.removeChangeListener(privateInterface);
+					}
+				}
 				return;
 			}
 
-			for (IObservable next : newDependencies) {
-				next.addChangeListener(privateInterface);
-			}
-
 			dependencies = newDependencies;
 		}
 	}
@@ -283,8 +296,19 @@ public final class SideEffect implements ISideEffect {
 		}
 	}
 
+	private static boolean contains(IObservable[] observables, IObservable observable) {
+		if (observables != null) {
+			for (IObservable next : observables) {
+				if (next == observable) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	private void markDirtyInternal() {
-		if (!dirty) {
+		if (!dirty && !updating) {
 			dirty = true;
 
 			if (pauseDepth <= 0) {
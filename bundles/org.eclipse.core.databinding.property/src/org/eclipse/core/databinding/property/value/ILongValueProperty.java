@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.ILongObservableValue;
+
+/**
+ * Interface for properties holding a primitive <code>long</code> value. The
+ * value can be read and written without boxing, and the observables created by
+ * this property are {@link ILongObservableValue}s.
+ *
+ * @param <S> type of the source object
+ *
+ * @since 1.11
+ * @noimplement This interface is not intended to be implemented by clients.
+ *              Clients should instead subclass
+ *              {@link SimpleLongValueProperty}.
+ * @see SimpleLongValueProperty
+ */
+public interface ILongValueProperty<S> extends IValueProperty<S, Long> {
+	/**
+	 * Returns the current value of this property on the specified property
+	 * source.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @return the current value of this property on the specified property
+	 *         source, or <code>0L</code> if the source is <code>null</code>
+	 */
+	long getLongValue(S source);
+
+	/**
+	 * Sets this property on the specified property source to the specified
+	 * value. Does nothing if the source is <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @param value
+	 *            the new property value
+	 */
+	void setLongValue(S source, long value);
+
+	@Override
+	ILongObservableValue observe(S source);
+
+	@Override
+	ILongObservableValue observe(Realm realm, S source);
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IDoubleObservableValue;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableDoubleValue;
+
+/**
+ * Simplified abstract implementation of {@link IDoubleValueProperty}. Values are
+ * read and written as primitives; the object based methods inherited from
+ * {@link SimpleValueProperty} box and unbox them.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetDoubleValue(Object)}
+ * <li>{@link #doSetDoubleValue(Object, double)}
+ * <li>{@link #adaptListener(ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * Since the observables created by this property re-read the primitive value
+ * whenever the native listener reports a change, listeners returned by
+ * {@link #adaptListener} may report changes without a diff.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleDoubleValueProperty<S> extends SimpleValueProperty<S, Double>
+		implements IDoubleValueProperty<S> {
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source (not null)
+	 * @return the current value of the source's value property
+	 */
+	protected abstract double doGetDoubleValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value.
+	 *
+	 * @param source
+	 *            the property source (not null)
+	 * @param value
+	 *            the new value
+	 */
+	protected abstract void doSetDoubleValue(S source, double value);
+
+	@Override
+	public Object getValueType() {
+		return Double.TYPE;
+	}
+
+	@Override
+	public final double getDoubleValue(S source) {
+		if (source == null) {
+			return 0.0;
+		}
+		return doGetDoubleValue(source);
+	}
+
+	@Override
+	public final void setDoubleValue(S source, double value) {
+		if (source != null) {
+			doSetDoubleValue(source, value);
+		}
+	}
+
+	@Override
+	protected final Double doGetValue(S source) {
+		return doGetDoubleValue(source);
+	}
+
+	/**
+	 * Unboxes the value and delegates to {@link #doSetDoubleValue(Object, double)}.
+	 *
+	 * @throws IllegalArgumentException if the value is <code>null</code>
+	 */
+	@Override
+	protected final void doSetValue(S source, Double value) {
+		if (value == null) {
+			throw new IllegalArgumentException("A double property cannot be set to null"); //$NON-NLS-1$
+		}
+		doSetDoubleValue(source, value.doubleValue());
+	}
+
+	@Override
+	public IDoubleObservableValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public IDoubleObservableValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableDoubleValue<>(realm, source, this);
+	}
+}
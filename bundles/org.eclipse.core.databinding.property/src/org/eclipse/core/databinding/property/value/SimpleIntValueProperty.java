@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IIntObservableValue;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableIntValue;
+
+/**
+ * Simplified abstract implementation of {@link IIntValueProperty}. Values are
+ * read and written as primitives; the object based methods inherited from
+ * {@link SimpleValueProperty} box and unbox them.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetIntValue(Object)}
+ * <li>{@link #doSetIntValue(Object, int)}
+ * <li>{@link #adaptListener(ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * Since the observables created by this property re-read the primitive value
+ * whenever the native listener reports a change, listeners returned by
+ * {@link #adaptListener} may report changes without a diff.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleIntValueProperty<S> extends SimpleValueProperty<S, Integer>
+		implements IIntValueProperty<S> {
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source (not null)
+	 * @return the current value of the source's value property
+	 */
+	protected abstract int doGetIntValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value.
+	 *
+	 * @param source
+	 *            the property source (not null)
+	 * @param value
+	 *            the new value
+	 */
+	protected abstract void doSetIntValue(S source, int value);
+
+	@Override
+	public Object getValueType() {
+		return Integer.TYPE;
+	}
+
+	@Override
+	public final int getIntValue(S source) {
+		if (source == null) {
+			return 0;
+		}
+		return doGetIntValue(source);
+	}
+
+	@Override
+	public final void setIntValue(S source, int value) {
+		if (source != null) {
+			doSetIntValue(source, value);
+		}
+	}
+
+	@Override
+	protected final Integer doGetValue(S source) {
+		return doGetIntValue(source);
+	}
+
+	/**
+	 * Unboxes the value and delegates to {@link #doSetIntValue(Object, int)}.
+	 *
+	 * @throws IllegalArgumentException if the value is <code>null</code>
+	 */
+	@Override
+	protected final void doSetValue(S source, Integer value) {
+		if (value == null) {
+			throw new IllegalArgumentException("An int property cannot be set to null"); //$NON-NLS-1$
+		}
+		doSetIntValue(source, value.intValue());
+	}
+
+	@Override
+	public IIntObservableValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public IIntObservableValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableIntValue<>(realm, source, this);
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.ILongObservableValue;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableLongValue;
+
+/**
+ * Simplified abstract implementation of {@link ILongValueProperty}. Values are
+ * read and written as primitives; the object based methods inherited from
+ * {@link SimpleValueProperty} box and unbox them.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetLongValue(Object)}
+ * <li>{@link #doSetLongValue(Object, long)}
+ * <li>{@link #adaptListener(ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * Since the observables created by this property re-read the primitive value
+ * whenever the native listener reports a change, listeners returned by
+ * {@link #adaptListener} may report changes without a diff.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleLongValueProperty<S> extends SimpleValueProperty<S, Long>
+		implements ILongValueProperty<S> {
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source (not null)
+	 * @return the current value of the source's value property
+	 */
+	protected abstract long doGetLongValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value.
+	 *
+	 * @param source
+	 *            the property source (not null)
+	 * @param value
+	 *            the new value
+	 */
+	protected abstract void doSetLongValue(S source, long value);
+
+	@Override
+	public Object getValueType() {
+		return Long.TYPE;
+	}
+
+	@Override
+	public final long getLongValue(S source) {
+		if (source == null) {
+			return 0L;
+		}
+		return doGetLongValue(source);
+	}
+
+	@Override
+	public final void setLongValue(S source, long value) {
+		if (source != null) {
+			doSetLongValue(source, value);
+		}
+	}
+
+	@Override
+	protected final Long doGetValue(S source) {
+		return doGetLongValue(source);
+	}
+
+	/**
+	 * Unboxes the value and delegates to {@link #doSetLongValue(Object, long)}.
+	 *
+	 * @throws IllegalArgumentException if the value is <code>null</code>
+	 */
+	@Override
+	protected final void doSetValue(S source, Long value) {
+		if (value == null) {
+			throw new IllegalArgumentException("A long property cannot be set to null"); //$NON-NLS-1$
+		}
+		doSetLongValue(source, value.longValue());
+	}
+
+	@Override
+	public ILongObservableValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public ILongObservableValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableLongValue<>(realm, source, this);
+	}
+}
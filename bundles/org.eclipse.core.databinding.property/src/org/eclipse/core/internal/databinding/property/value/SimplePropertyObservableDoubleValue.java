@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableDoubleValue;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+import org.eclipse.core.databinding.property.value.SimpleDoubleValueProperty;
+
+/**
+ * Observable <code>double</code> value for a {@link SimpleDoubleValueProperty}. The
+ * value is cached as a primitive and re-read from the source on every native
+ * change notification, the diffs of those notifications are ignored.
+ *
+ * @param <S>
+ *            type of the source object
+ */
+public class SimplePropertyObservableDoubleValue<S> extends AbstractObservableDoubleValue
+		implements IPropertyObservable<SimpleDoubleValueProperty<S>> {
+	private S source;
+	private SimpleDoubleValueProperty<S> property;
+
+	private boolean updating = false;
+	private double cachedValue;
+	private boolean stale;
+
+	private INativePropertyListener<S> listener;
+
+	public SimplePropertyObservableDoubleValue(Realm realm, S source, SimpleDoubleValueProperty<S> property) {
+		super(realm);
+		this.source = source;
+		this.property = property;
+	}
+
+	@Override
+	protected void firstListenerAdded() {
+		if (!isDisposed() && listener == null) {
+			listener = property.adaptListener(event -> {
+				if (!isDisposed() && !updating) {
+					getRealm().exec(() -> {
+						if (event.type == SimplePropertyEvent.CHANGE) {
+							notifyIfChanged();
+						} else if (event.type == SimplePropertyEvent.STALE && !stale) {
+							stale = true;
+							fireStale();
+						}
+					});
+				}
+			});
+		}
+		getRealm().exec(() -> {
+			cachedValue = property.getDoubleValue(source);
+			stale = false;
+			if (listener != null)
+				listener.addTo(source);
+		});
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		if (listener != null)
+			listener.removeFrom(source);
+		cachedValue = 0.0;
+		stale = false;
+	}
+
+	@Override
+	protected double doGetDoubleValue() {
+		notifyIfChanged();
+		return property.getDoubleValue(source);
+	}
+
+	@Override
+	protected void doSetDoubleValue(double value) {
+		updating = true;
+		try {
+			property.setDoubleValue(source, value);
+		} finally {
+			updating = false;
+		}
+
+		notifyIfChanged();
+	}
+
+	private void notifyIfChanged() {
+		if (hasListeners()) {
+			double oldValue = cachedValue;
+			double newValue = cachedValue = property.getDoubleValue(source);
+			if (Double.doubleToLongBits(oldValue) != Double.doubleToLongBits(newValue) || stale) {
+				stale = false;
+				fireDoubleValueChange(oldValue, newValue);
+			}
+		}
+	}
+
+	@Override
+	public Object getObserved() {
+		return source;
+	}
+
+	@Override
+	public SimpleDoubleValueProperty<S> getProperty() {
+		return property;
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!isDisposed()) {
+			if (listener != null)
+				listener.removeFrom(source);
+			source = null;
+			property = null;
+			listener = null;
+			stale = false;
+		}
+		super.dispose();
+	}
+}
@@ -13,6 +13,7 @@
  *     Matt Carter - Character support completed (bug 197679)
  *     Tom Schindl <tom.schindl@bestsolution.at> - bugfix for 217940
  *     Matthew Hall <matthall@woodcraftmill.com> - bug 270461
+ *     Contributors to the Eclipse Foundation - unboxed int bindings
  *******************************************************************************/
 
 package org.eclipse.core.databinding;
@@ -164,6 +165,12 @@ public class UpdateValueStrategy<S, D> extends UpdateStrategy<S, D> {
 
 	private int updatePolicy;
 
+	/**
+	 * The default validator of values which need no validation. Shared so
+	 * that bindings can tell it apart from validators set by clients.
+	 */
+	static final IValidator<Object> OK_VALIDATOR = value -> Status.OK_STATUS;
+
 	private static ValidatorRegistry validatorRegistry = new ValidatorRegistry();
 	private static ConcurrentMap<IConverter<?, ?>, IValidator<?>> validatorsByConverter = new ConcurrentHashMap<>();
 
@@ -226,9 +233,10 @@ public class UpdateValueStrategy<S, D> extends UpdateStrategy<S, D> {
 	 * @param toType   the desired target type
 	 * @return an IValidator, or <code>null</code> if unsuccessful
 	 */
+	@SuppressWarnings("unchecked")
 	protected IValidator<S> createValidator(Object fromType, Object toType) {
 		if (fromType == null || toType == null) {
-			return value -> Status.OK_STATUS;
+			return (IValidator<S>) OK_VALIDATOR;
 		}
 
 		return findValidator(fromType, toType);
@@ -556,9 +564,9 @@ public class UpdateValueStrategy<S, D> extends UpdateStrategy<S, D> {
 			if (result != null)
 				return result;
 			if (fromClass != null && toClass != null && fromClass == toClass) {
-				return value -> Status.OK_STATUS;
+				return OK_VALIDATOR;
 			}
-			return value -> Status.OK_STATUS;
+			return OK_VALIDATOR;
 		}
 	}
 
@@ -11,11 +11,19 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *     Matthew Hall - bugs 220700, 271148, 278550
+ *     Contributors to the Eclipse Foundation - unboxed primitive bindings
  *******************************************************************************/
 
 package org.eclipse.core.databinding;
 
+import org.eclipse.core.databinding.observable.IObservablesListener;
 import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.value.IDoubleObservableValue;
+import org.eclipse.core.databinding.observable.value.IDoubleValueChangeListener;
+import org.eclipse.core.databinding.observable.value.IIntObservableValue;
+import org.eclipse.core.databinding.observable.value.IIntValueChangeListener;
+import org.eclipse.core.databinding.observable.value.ILongObservableValue;
+import org.eclipse.core.databinding.observable.value.ILongValueChangeListener;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.IValueChangeListener;
 import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
@@ -23,6 +31,8 @@ import org.eclipse.core.databinding.observable.value.WritableValue;
 import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.internal.databinding.BindingStatus;
 import org.eclipse.core.internal.databinding.Util;
+import org.eclipse.core.internal.databinding.conversion.IdentityConverter;
+import org.eclipse.core.internal.databinding.validation.ObjectToPrimitiveValidator;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Status;
@@ -57,6 +67,11 @@ class ValueBinding<M, T> extends Binding {
 		}
 	};
 
+	// only used when primitive values are copied without conversion and
+	// validation
+	private IObservablesListener targetPrimitiveChangeListener;
+	private IObservablesListener modelPrimitiveChangeListener;
+
 	/**
 	 * @param targetObservableValue the target side value
 	 * @param modelObservableValue  the model side value
@@ -87,7 +102,12 @@ class ValueBinding<M, T> extends Binding {
 	@Override
 	protected void postInit() {
 		if (modelToTarget.getUpdatePolicy() == UpdateValueStrategy.POLICY_UPDATE) {
-			model.addValueChangeListener(modelChangeListener);
+			modelPrimitiveChangeListener = addPrimitiveChangeListener(model, target, modelToTarget);
+			if (modelPrimitiveChangeListener != null) {
+				modelChangeListener = null;
+			} else {
+				model.addValueChangeListener(modelChangeListener);
+			}
 			updateModelToTarget();
 		} else if (modelToTarget.getUpdatePolicy() == UpdateValueStrategy.POLICY_CONVERT) {
 			model.addValueChangeListener(modelChangeListener);
@@ -97,7 +117,12 @@ class ValueBinding<M, T> extends Binding {
 		}
 
 		if (targetToModel.getUpdatePolicy() == UpdateValueStrategy.POLICY_UPDATE) {
-			target.addValueChangeListener(targetChangeListener);
+			targetPrimitiveChangeListener = addPrimitiveChangeListener(target, model, targetToModel);
+			if (targetPrimitiveChangeListener != null) {
+				targetChangeListener = null;
+			} else {
+				target.addValueChangeListener(targetChangeListener);
+			}
 			if (modelToTarget.getUpdatePolicy() == UpdateValueStrategy.POLICY_NEVER) {
 				updateTargetToModel();
 			} else {
@@ -230,6 +255,116 @@ class ValueBinding<M, T> extends Binding {
 		});
 	}
 
+	/*
+	 * Whether the strategy copies values as they are, i.e. it neither converts,
+	 * validates nor customizes setting the value. The default validators accept
+	 * every primitive value.
+	 */
+	private static boolean isPlainCopy(UpdateValueStrategy<?, ?> updateValueStrategy) {
+		return updateValueStrategy.getClass() == UpdateValueStrategy.class
+				&& (updateValueStrategy.converter == null || updateValueStrategy.converter instanceof IdentityConverter)
+				&& (updateValueStrategy.afterGetValidator == null
+						|| updateValueStrategy.afterGetValidator == UpdateValueStrategy.OK_VALIDATOR
+						|| updateValueStrategy.afterGetValidator instanceof ObjectToPrimitiveValidator)
+				&& updateValueStrategy.afterConvertValidator == null && updateValueStrategy.beforeSetValidator == null;
+	}
+
+	/*
+	 * If both sides hold the same primitive type and the strategy copies values
+	 * as they are, listens for primitive changes of the source and copies them
+	 * without boxing. Returns the added listener, or null if changes have to go
+	 * through the generic update.
+	 */
+	private IObservablesListener addPrimitiveChangeListener(IObservableValue<?> source,
+			IObservableValue<?> destination, UpdateValueStrategy<?, ?> updateValueStrategy) {
+		if (!isPlainCopy(updateValueStrategy)) {
+			return null;
+		}
+		if (source instanceof IIntObservableValue intSource
+				&& destination instanceof IIntObservableValue intDestination) {
+			IIntValueChangeListener listener = event -> {
+				if (!isUpdating(source) && event.oldValue != event.newValue) {
+					execAfterDisposalCheck(intSource, () -> {
+						int value = intSource.getIntValue();
+						setPrimitive(intDestination, () -> intDestination.setIntValue(value));
+					});
+				}
+			};
+			intSource.addIntValueChangeListener(listener);
+			return listener;
+		}
+		if (source instanceof ILongObservableValue longSource
+				&& destination instanceof ILongObservableValue longDestination) {
+			ILongValueChangeListener listener = event -> {
+				if (!isUpdating(source) && event.oldValue != event.newValue) {
+					execAfterDisposalCheck(longSource, () -> {
+						long value = longSource.getLongValue();
+						setPrimitive(longDestination, () -> longDestination.setLongValue(value));
+					});
+				}
+			};
+			longSource.addLongValueChangeListener(listener);
+			return listener;
+		}
+		if (source instanceof IDoubleObservableValue doubleSource
+				&& destination instanceof IDoubleObservableValue doubleDestination) {
+			IDoubleValueChangeListener listener = event -> {
+				if (!isUpdating(source)
+						&& Double.doubleToLongBits(event.oldValue) != Double.doubleToLongBits(event.newValue)) {
+					execAfterDisposalCheck(doubleSource, () -> {
+						double value = doubleSource.getDoubleValue();
+						setPrimitive(doubleDestination, () -> doubleDestination.setDoubleValue(value));
+					});
+				}
+			};
+			doubleSource.addDoubleValueChangeListener(listener);
+			return listener;
+		}
+		return null;
+	}
+
+	private static void removePrimitiveChangeListener(IObservableValue<?> source, IObservablesListener listener) {
+		if (listener instanceof IIntValueChangeListener intListener) {
+			((IIntObservableValue) source).removeIntValueChangeListener(intListener);
+		} else if (listener instanceof ILongValueChangeListener longListener) {
+			((ILongObservableValue) source).removeLongValueChangeListener(longListener);
+		} else if (listener instanceof IDoubleValueChangeListener doubleListener) {
+			((IDoubleObservableValue) source).removeDoubleValueChangeListener(doubleListener);
+		}
+	}
+
+	private boolean isUpdating(IObservableValue<?> observable) {
+		return observable == target ? updatingTarget : updatingModel;
+	}
+
+	/*
+	 * Sets a primitive value read from the other side, which is captured by the
+	 * given setter so that it is not boxed.
+	 */
+	private void setPrimitive(final IObservableValue<?> destination, final Runnable setter) {
+		execAfterDisposalCheck(destination, () -> {
+			IStatus status = Status.OK_STATUS;
+			if (destination == target) {
+				updatingTarget = true;
+			} else {
+				updatingModel = true;
+			}
+			try {
+				setter.run();
+			} catch (Exception ex) {
+				String message = (ex.getMessage() != null) ? ex.getMessage() : ""; //$NON-NLS-1$
+				status = new Status(IStatus.ERROR, Policy.JFACE_DATABINDING, IStatus.ERROR, message, ex);
+			} finally {
+				if (destination == target) {
+					updatingTarget = false;
+				} else {
+					updatingModel = false;
+				}
+			}
+			setValidationStatus(status);
+		});
+	}
+
 	@Override
 	public void validateModelToTarget() {
 		doUpdate(model, target, modelToTarget, true, true);
@@ -254,6 +389,14 @@ class ValueBinding<M, T> extends Binding {
 			model.removeValueChangeListener(modelChangeListener);
 			modelChangeListener = null;
 		}
+		if (targetPrimitiveChangeListener != null) {
+			removePrimitiveChangeListener(target, targetPrimitiveChangeListener);
+			targetPrimitiveChangeListener = null;
+		}
+		if (modelPrimitiveChangeListener != null) {
+			removePrimitiveChangeListener(model, modelPrimitiveChangeListener);
+			modelPrimitiveChangeListener = null;
+		}
 		target = null;
 		model = null;
 		super.dispose();
@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.validation;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.core.databinding.ValidationStatusProvider;
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Observables;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+import org.eclipse.core.internal.databinding.Util;
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IStatus;
+
+/**
+ * A validation status provider which validates the value of an observable in
+ * the background. Use it for expensive validations, e.g. uniqueness checks
+ * against a large model, which would block the user interface if they ran as
+ * part of an {@link org.eclipse.core.databinding.UpdateValueStrategy
+ * UpdateValueStrategy}.
+ * <p>
+ * When the observed value changes, validation is scheduled after the given
+ * delay, so that a burst of changes (e.g. typing) results in a single
+ * validation of the last value. The value is read in the realm and passed to
+ * the validator on the given executor. The result is reported back in the
+ * realm through {@link Realm#asyncExec(Runnable)}. Every validation request
+ * gets a sequence number, and results of requests which have been superseded
+ * by a later change are dropped. A validation which is still waiting for or
+ * running on the executor when the value changes again is cancelled.
+ * <p>
+ * While a validation is pending, the {@link #getValidationStatus() validation
+ * status} keeps its last value but is stale.
+ * <p>
+ * Example: check that a name is not used yet without blocking while typing.
+ *
+ * <pre>
+ * DataBindingContext dbc = new DataBindingContext();
+ * Binding binding = dbc.bindValue(nameText, nameModel);
+ *
+ * AsyncValidator&lt;String&gt; uniqueName = new AsyncValidator&lt;&gt;(nameModel,
+ * 		name -&gt; repository.exists(name) ? ValidationStatus.error("Name is already used")
+ * 				: ValidationStatus.ok(),
+ * 		executor, 300);
+ * dbc.addValidationStatusProvider(uniqueName);
+ * </pre>
+ * <p>
+ * Note: the validator is called on a thread of the executor. It must not
+ * access any observables, and it should react to interruption if it can take
+ * long.
+ *
+ * @param <T>
+ *            the type of the validated value
+ *
+ * @since 1.14
+ */
+public class AsyncValidator<T> extends ValidationStatusProvider {
+	private final IObservableValue<T> target;
+	private final IValidator<? super T> validator;
+	private final ExecutorService executor;
+	private final int delay;
+
+	private final Realm realm;
+	private ValidationStatusObservableValue validationStatus;
+	private IObservableValue<IStatus> unmodifiableValidationStatus;
+	private IObservableList<IObservable> targets;
+	private IObservableList<IObservable> models;
+
+	/**
+	 * The number of the latest validation request, only accessed in the realm
+	 */
+	private long sequence;
+
+	private Future<?> pendingValidation;
+
+	private final IValueChangeListener<T> targetChangeListener = event -> revalidate();
+
+	/**
+	 * Constructs a validator which validates every change of the target
+	 * immediately.
+	 *
+	 * @param target
+	 *            the observable value to validate
+	 * @param validator
+	 *            the validator which is run on the executor
+	 * @param executor
+	 *            the executor running the validations
+	 */
+	public AsyncValidator(IObservableValue<T> target, IValidator<? super T> validator, ExecutorService executor) {
+		this(target, validator, executor, 0);
+	}
+
+	/**
+	 * Constructs a validator which validates the target once it has not
+	 * changed for the given delay.
+	 *
+	 * @param target
+	 *            the observable value to validate
+	 * @param validator
+	 *            the validator which is run on the executor
+	 * @param executor
+	 *            the executor running the validations
+	 * @param delay
+	 *            the delay in milliseconds between the last change of the
+	 *            target and the start of the validation
+	 */
+	public AsyncValidator(IObservableValue<T> target, IValidator<? super T> validator, ExecutorService executor,
+			int delay) {
+		Assert.isNotNull(target, "Target observable cannot be null"); //$NON-NLS-1$
+		Assert.isNotNull(validator, "Validator cannot be null"); //$NON-NLS-1$
+		Assert.isNotNull(executor, "Executor cannot be null"); //$NON-NLS-1$
+		Assert.isTrue(delay >= 0, "Delay cannot be negative"); //$NON-NLS-1$
+		this.target = target;
+		this.validator = validator;
+		this.executor = executor;
+		this.delay = delay;
+		this.realm = target.getRealm();
+
+		ObservableTracker.setIgnore(true);
+		try {
+			validationStatus = new ValidationStatusObservableValue(realm);
+			unmodifiableValidationStatus = Observables.unmodifiableObservableValue(validationStatus);
+			targets = Observables.staticObservableList(realm, List.<IObservable>of(target), IObservable.class);
+			models = Observables.emptyObservableList(realm);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		target.addValueChangeListener(targetChangeListener);
+		validationStatus.makeStale();
+		schedule(sequence);
+	}
+
+	/**
+	 * Requests a validation of the current value of the target, e.g. because
+	 * some state has changed which the validator depends on. Must be invoked
+	 * in the realm of the target.
+	 */
+	public void revalidate() {
+		if (isDisposed()) {
+			return;
+		}
+		long request = ++sequence;
+		cancelPendingValidation();
+		validationStatus.makeStale();
+		schedule(request);
+	}
+
+	/**
+	 * Starts the validation for the given request once the delay has passed,
+	 * unless it has been superseded by then.
+	 */
+	private void schedule(long request) {
+		if (delay == 0) {
+			validate(request);
+		} else {
+			realm.timerExec(delay, () -> {
+				if (request == sequence && !isDisposed()) {
+					validate(request);
+				}
+			});
+		}
+	}
+
+	private void validate(long request) {
+		T value;
+		ObservableTracker.setIgnore(true);
+		try {
+			value = target.getValue();
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+		try {
+			pendingValidation = executor.submit(() -> {
+				IStatus status;
+				try {
+					status = validator.validate(value);
+					if (status == null) {
+						status = ValidationStatus.ok();
+					}
+				} catch (Throwable e) {
+					// also report errors, so that the status does not stay stale
+					status = ValidationStatus.error(e.getMessage(), e);
+				}
+				IStatus result = status;
+				realm.asyncExec(() -> {
+					if (request == sequence && !isDisposed()) {
+						pendingValidation = null;
+						validationStatus.setStatus(result);
+					}
+				});
+			});
+		} catch (RejectedExecutionException e) {
+			validationStatus.setStatus(ValidationStatus.error(e.getMessage(), e));
+		}
+	}
+
+	private void cancelPendingValidation() {
+		if (pendingValidation != null) {
+			pendingValidation.cancel(true);
+			pendingValidation = null;
+		}
+	}
+
+	/**
+	 * Returns an {@link IObservableValue} whose value is the result of the
+	 * latest completed validation. It is stale while a validation is pending.
+	 * The returned observable is in the same realm as the target.
+	 */
+	@Override
+	public IObservableValue<IStatus> getValidationStatus() {
+		return unmodifiableValidationStatus;
+	}
+
+	@Override
+	public IObservableList<IObservable> getTargets() {
+		return targets;
+	}
+
+	@Override
+	public IObservableList<IObservable> getModels() {
+		return models;
+	}
+
+	@Override
+	public void dispose() {
+		if (!isDisposed()) {
+			target.removeValueChangeListener(targetChangeListener);
+			cancelPendingValidation();
+			unmodifiableValidationStatus.dispose();
+			validationStatus.dispose();
+			targets.dispose();
+			models.dispose();
+		}
+		super.dispose();
+	}
+
+	private static class ValidationStatusObservableValue extends AbstractObservableValue<IStatus> {
+		private IStatus value = ValidationStatus.ok();
+
+		private boolean stale = false;
+
+		ValidationStatusObservableValue(Realm realm) {
+			super(realm);
+		}
+
+		@Override
+		protected IStatus doGetValue() {
+			return value;
+		}
+
+		void setStatus(IStatus value) {
+			boolean oldStale = stale;
+			stale = false;
+
+			IStatus oldValue = this.value;
+			this.value = value;
+
+			// If either becoming non-stale or setting a new value, we must fire
+			// a value change event.
+			if (oldStale || !Util.equals(oldValue, value)) {
+				fireValueChange(Diffs.createValueDiff(oldValue, value));
+			}
+		}
+
+		void makeStale() {
+			if (!stale) {
+				stale = true;
+				fireStale();
+			}
+		}
+
+		@Override
+		public boolean isStale() {
+			ObservableTracker.getterCalled(this);
+			return stale;
+		}
+
+		@Override
+		public Object getValueType() {
+			return IStatus.class;
+		}
+	}
+}
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.e4.emf.internal.xpath;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * An XPath expression compiled into an evaluator which walks the
+ * {@link EStructuralFeature}s of the model directly instead of going through
+ * the JXPath pointer machinery.
+ * <p>
+ * Only absolute location paths whose steps all select elements by the value of
+ * a string attribute are compiled, for example
+ * <code>//*[@elementId='x']</code>,
+ * <code>//*[@elementId='x' or @elementId='y']</code> or
+ * <code>//children[@elementId='x']/children[@elementId='y']</code>. Descendant
+ * steps follow the containment tree only and report every element once, in
+ * document order. A descendant step starting at the root is answered from an
+ * {@link EObjectAttributeIndex}.
+ * </p>
+ */
+final class CompiledEObjectPath {
+
+	/**
+	 * Thrown if the model does not match the assumptions of the compiled
+	 * evaluator, e.g. if a predicate refers to a feature which is not a single
+	 * valued string attribute.
+	 */
+	static final class NotCompilableException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		NotCompilableException() {
+			super(null, null, false, false);
+		}
+	}
+
+	private static final NotCompilableException NOT_COMPILABLE = new NotCompilableException();
+
+	private static final int MAX_CACHE_SIZE = 500;
+
+	private static final CompiledEObjectPath UNSUPPORTED = new CompiledEObjectPath(new Step[0]);
+
+	private static final Map<String, CompiledEObjectPath> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * One step of the path, e.g. <code>//*[@elementId='x']</code>
+	 */
+	private static final class Step {
+		final boolean descendant;
+
+		// null for '*'
+		final String name;
+
+		final String[] attributes;
+
+		final String[] values;
+
+		Step(boolean descendant, String name, List<String> attributes, List<String> values) {
+			this.descendant = descendant;
+			this.name = name;
+			this.attributes = attributes.toArray(new String[0]);
+			this.values = values.toArray(new String[0]);
+		}
+
+		boolean matches(EObject object, String featureName) {
+			return (name == null || name.equals(featureName)) && matchesPredicate(object);
+		}
+
+		boolean matchesPredicate(EObject object) {
+			for (int i = 0; i < attributes.length; i++) {
+				if (values[i].equals(getStringValue(object, attributes[i]))) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private final Step[] steps;
+
+	private CompiledEObjectPath(Step[] steps) {
+		this.steps = steps;
+	}
+
+	/**
+	 * Returns the compiled form of the given expression. Compiled expressions
+	 * are cached.
+	 *
+	 * @param xpath the expression
+	 * @return the compiled expression or <code>null</code> if the expression
+	 *         can't be compiled and has to be evaluated by JXPath
+	 */
+	static CompiledEObjectPath compile(String xpath) {
+		CompiledEObjectPath path = CACHE.get(xpath);
+		if (path == null) {
+			path = parse(xpath);
+			if (CACHE.size() >= MAX_CACHE_SIZE) {
+				CACHE.clear();
+			}
+			CACHE.put(xpath, path);
+		}
+		return path == UNSUPPORTED ? null : path;
+	}
+
+	/**
+	 * Marks the given expression as not compilable, e.g. because the model did
+	 * not match its compiled form, so it is evaluated by JXPath from now on.
+	 *
+	 * @param xpath the expression
+	 */
+	static void markNotCompilable(String xpath) {
+		if (CACHE.size() >= MAX_CACHE_SIZE) {
+			CACHE.clear();
+		}
+		CACHE.put(xpath, UNSUPPORTED);
+	}
+
+	/**
+	 * Evaluates the expression.
+	 *
+	 * @param root the root of the expression
+	 * @return the matching elements in document order
+	 * @throws NotCompilableException if the model does not match the
+	 *                                assumptions of the compiled evaluator
+	 */
+	List<EObject> evaluate(EObject root) {
+		Collection<EObject> current = List.of(root);
+		for (int i = 0; i < steps.length; i++) {
+			Step step = steps[i];
+			Set<EObject> next = new LinkedHashSet<>();
+			if (i == 0 && step.descendant) {
+				for (EObject candidate : EObjectAttributeIndex.getIndex(root).find(step.attributes, step.values)) {
+					if (step.matches(candidate, candidate.eContainingFeature().getName())) {
+						next.add(candidate);
+					}
+				}
+			} else {
+				for (EObject object : current) {
+					if (step.descendant) {
+						collectDescendants(object, step, next);
+					} else {
+						collectChildren(object, step, next);
+					}
+				}
+			}
+			if (next.isEmpty()) {
+				return List.of();
+			}
+			current = next;
+		}
+		return new ArrayList<>(current);
+	}
+
+	private static void collectDescendants(EObject object, Step step, Set<EObject> result) {
+		for (TreeIterator<EObject> it = object.eAllContents(); it.hasNext();) {
+			EObject child = it.next();
+			if (step.matches(child, child.eContainingFeature().getName())) {
+				result.add(child);
+			}
+		}
+	}
+
+	private static void collectChildren(EObject object, Step step, Set<EObject> result) {
+		for (EStructuralFeature feature : object.eClass().getEAllStructuralFeatures()) {
+			if (!(feature instanceof EReference) || (step.name != null && !step.name.equals(feature.getName()))) {
+				continue;
+			}
+			Object value = object.eGet(feature);
+			if (feature.isMany()) {
+				for (Object element : (List<?>) value) {
+					if (element instanceof EObject child && step.matchesPredicate(child)) {
+						result.add(child);
+					}
+				}
+			} else if (value instanceof EObject child && step.matchesPredicate(child)) {
+				result.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Returns the value of a single valued string attribute.
+	 *
+	 * @param object    the element
+	 * @param attribute the attribute name
+	 * @return the value or <code>null</code> if the element has no such
+	 *         attribute or the attribute is not set
+	 * @throws NotCompilableException if the feature is not a single valued
+	 *                                string attribute
+	 */
+	static String getStringValue(EObject object, String attribute) {
+		EStructuralFeature feature = object.eClass().getEStructuralFeature(attribute);
+		if (feature == null) {
+			return null;
+		}
+		if (!(feature instanceof EAttribute) || feature.isMany()
+				|| feature.getEType().getInstanceClass() != String.class) {
+			throw NOT_COMPILABLE;
+		}
+		return (String) object.eGet(feature);
+	}
+
+	/**
+	 * Sorts the elements, which all have to be contained in the given root,
+	 * into document order.
+	 *
+	 * @param root     the root
+	 * @param elements the elements to sort
+	 */
+	static void sortInDocumentOrder(EObject root, List<EObject> elements) {
+		if (elements.size() < 2) {
+			return;
+		}
+		Map<EObject, int[]> paths = new IdentityHashMap<>();
+		for (EObject element : elements) {
+			paths.put(element, getPath(root, element));
+		}
+		elements.sort((e1, e2) -> compare(paths.get(e1), paths.get(e2)));
+	}
+
+	private static int[] getPath(EObject root, EObject element) {
+		List<Integer> path = new ArrayList<>();
+		for (EObject child = element; child != root; child = child.eContainer()) {
+			path.add(child.eContainer().eContents().indexOf(child));
+		}
+		int[] result = new int[path.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = path.get(result.length - 1 - i);
+		}
+		return result;
+	}
+
+	private static int compare(int[] path1, int[] path2) {
+		int length = Math.min(path1.length, path2.length);
+		for (int i = 0; i < length; i++) {
+			if (path1[i] != path2[i]) {
+				return Integer.compare(path1[i], path2[i]);
+			}
+		}
+		return Integer.compare(path1.length, path2.length);
+	}
+
+	static boolean isDescendant(EObject root, EObject element) {
+		return element != root && EcoreUtil.isAncestor(root, element);
+	}
+
+	private static CompiledEObjectPath parse(String xpath) {
+		Parser parser = new Parser(xpath);
+		List<Step> steps = new ArrayList<>();
+		while (!parser.atEnd()) {
+			Step step = parser.step();
+			if (step == null) {
+				return UNSUPPORTED;
+			}
+			steps.add(step);
+		}
+		return steps.isEmpty() ? UNSUPPORTED : new CompiledEObjectPath(steps.toArray(new Step[0]));
+	}
+
+	/**
+	 * Parses the supported subset of XPath:
+	 *
+	 * <pre>
+	 * path      := step+
+	 * step      := ('/' | '//') ('*' | name) predicate
+	 * predicate := '[' '@' name '=' literal ('or' '@' name '=' literal)* ']'
+	 * </pre>
+	 */
+	private static final class Parser {
+		private final String xpath;
+
+		private int pos;
+
+		Parser(String xpath) {
+			this.xpath = xpath;
+		}
+
+		boolean atEnd() {
+			skipWhitespace();
+			return pos >= xpath.length();
+		}
+
+		Step step() {
+			if (!consume('/')) {
+				return null;
+			}
+			boolean descendant = consume('/');
+			String name = null;
+			if (!consume('*')) {
+				name = name();
+				if (name == null) {
+					return null;
+				}
+			}
+			if (!consume('[')) {
+				return null;
+			}
+			List<String> attributes = new ArrayList<>();
+			List<String> values = new ArrayList<>();
+			do {
+				if (!consume('@')) {
+					return null;
+				}
+				String attribute = name();
+				if (attribute == null || !consume('=')) {
+					return null;
+				}
+				String value = literal();
+				if (value == null || value.isEmpty()) {
+					return null;
+				}
+				attributes.add(attribute);
+				values.add(value);
+			} while (consumeKeyword("or"));
+			if (!consume(']')) {
+				return null;
+			}
+			return new Step(descendant, name, attributes, values);
+		}
+
+		private String name() {
+			skipWhitespace();
+			int start = pos;
+			if (pos < xpath.length() && Character.isJavaIdentifierStart(xpath.charAt(pos))) {
+				pos++;
+				while (pos < xpath.length() && Character.isJavaIdentifierPart(xpath.charAt(pos))) {
+					pos++;
+				}
+			}
+			return pos > start ? xpath.substring(start, pos) : null;
+		}
+
+		private String literal() {
+			skipWhitespace();
+			if (pos >= xpath.length()) {
+				return null;
+			}
+			char quote = xpath.charAt(pos);
+			if (quote != '\'' && quote != '"') {
+				return null;
+			}
+			int end = xpath.indexOf(quote, pos + 1);
+			if (end == -1) {
+				return null;
+			}
+			String value = xpath.substring(pos + 1, end);
+			pos = end + 1;
+			return value;
+		}
+
+		private boolean consume(char c) {
+			if (c != '/') {
+				skipWhitespace();
+			}
+			if (pos < xpath.length() && xpath.charAt(pos) == c) {
+				pos++;
+				return true;
+			}
+			return false;
+		}
+
+		private boolean consumeKeyword(String keyword) {
+			skipWhitespace();
+			if (xpath.startsWith(keyword, pos) && pos + keyword.length() < xpath.length()
+					&& Character.isWhitespace(xpath.charAt(pos + keyword.length()))) {
+				pos += keyword.length();
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (pos < xpath.length() && Character.isWhitespace(xpath.charAt(pos))) {
+				pos++;
+			}
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.e4.emf.internal.xpath;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.e4.emf.internal.xpath.CompiledEObjectPath.NotCompilableException;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Index of the elements contained in a root element by the values of their
+ * string attributes, e.g. by <code>elementId</code>. The index for an
+ * attribute is built on first use and kept up to date while the model
+ * changes.
+ */
+final class EObjectAttributeIndex extends EContentAdapter {
+
+	private final EObject root;
+
+	// attribute name -> attribute value -> elements
+	private final Map<String, Map<String, List<EObject>>> indices = new HashMap<>();
+
+	private EObjectAttributeIndex(EObject root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns the index of the given root, attaching a new one if necessary.
+	 *
+	 * @param root the root element
+	 * @return the index
+	 */
+	static EObjectAttributeIndex getIndex(EObject root) {
+		for (Adapter adapter : root.eAdapters()) {
+			if (adapter instanceof EObjectAttributeIndex index && index.root == root) {
+				return index;
+			}
+		}
+		EObjectAttributeIndex index = new EObjectAttributeIndex(root);
+		root.eAdapters().add(index);
+		return index;
+	}
+
+	/**
+	 * Detaches the index of the given root, if any.
+	 *
+	 * @param root the root element
+	 */
+	static void release(EObject root) {
+		root.eAdapters().removeIf(adapter -> adapter instanceof EObjectAttributeIndex index && index.root == root);
+	}
+
+	/**
+	 * Returns the elements below the root whose attribute <code>attributes[i]</code>
+	 * has the value <code>values[i]</code> for any <code>i</code>.
+	 *
+	 * @param attributes the attribute names
+	 * @param values     the attribute values
+	 * @return the matching elements in document order
+	 * @throws NotCompilableException if one of the attributes is not a single
+	 *                                valued string attribute in all elements
+	 */
+	List<EObject> find(String[] attributes, String[] values) {
+		Set<EObject> result = new LinkedHashSet<>();
+		for (int i = 0; i < attributes.length; i++) {
+			Map<String, List<EObject>> index = indices.get(attributes[i]);
+			if (index == null) {
+				index = build(attributes[i]);
+				indices.put(attributes[i], index);
+			}
+			for (EObject candidate : index.getOrDefault(values[i], List.of())) {
+				if (CompiledEObjectPath.isDescendant(root, candidate)) {
+					result.add(candidate);
+				}
+			}
+		}
+		List<EObject> sorted = new ArrayList<>(result);
+		CompiledEObjectPath.sortInDocumentOrder(root, sorted);
+		return sorted;
+	}
+
+	private Map<String, List<EObject>> build(String attribute) {
+		Map<String, List<EObject>> index = new HashMap<>();
+		for (TreeIterator<EObject> it = root.eAllContents(); it.hasNext();) {
+			EObject object = it.next();
+			String value = CompiledEObjectPath.getStringValue(object, attribute);
+			if (value != null) {
+				index.computeIfAbsent(value, v -> new ArrayList<>(1)).add(object);
+			}
+		}
+		return index;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || indices.isEmpty()) {
+			return;
+		}
+		Object feature = notification.getFeature();
+		if (feature instanceof EReference reference && reference.isContainment()) {
+			switch (notification.getEventType()) {
+			case Notification.ADD:
+				addTree(notification.getNewValue());
+				break;
+			case Notification.ADD_MANY:
+				for (Object value : (Collection<?>) notification.getNewValue()) {
+					addTree(value);
+				}
+				break;
+			case Notification.REMOVE:
+				removeTree(notification.getOldValue());
+				break;
+			case Notification.REMOVE_MANY:
+				for (Object value : (Collection<?>) notification.getOldValue()) {
+					removeTree(value);
+				}
+				break;
+			case Notification.SET:
+			case Notification.UNSET:
+				removeTree(notification.getOldValue());
+				addTree(notification.getNewValue());
+				break;
+			default:
+				break;
+			}
+		} else if (feature instanceof EAttribute attribute && notification.getNotifier() instanceof EObject object) {
+			Map<String, List<EObject>> index = indices.get(attribute.getName());
+			if (index == null) {
+				return;
+			}
+			int eventType = notification.getEventType();
+			if (attribute.isMany() || attribute.getEType().getInstanceClass() != String.class) {
+				indices.remove(attribute.getName());
+			} else if (eventType == Notification.SET || eventType == Notification.UNSET) {
+				removeEntry(index, notification.getOldValue(), object);
+				addEntry(index, notification.getNewValue(), object);
+			}
+		}
+	}
+
+	private void addTree(Object value) {
+		if (value instanceof EObject object) {
+			updateIndices(object, true);
+			for (TreeIterator<EObject> it = object.eAllContents(); it.hasNext();) {
+				updateIndices(it.next(), true);
+			}
+		}
+	}
+
+	private void removeTree(Object value) {
+		if (value instanceof EObject object) {
+			updateIndices(object, false);
+			for (TreeIterator<EObject> it = object.eAllContents(); it.hasNext();) {
+				updateIndices(it.next(), false);
+			}
+		}
+	}
+
+	private void updateIndices(EObject object, boolean add) {
+		for (Iterator<Entry<String, Map<String, List<EObject>>>> it = indices.entrySet().iterator(); it.hasNext();) {
+			Entry<String, Map<String, List<EObject>>> entry = it.next();
+			String value;
+			try {
+				value = CompiledEObjectPath.getStringValue(object, entry.getKey());
+			} catch (NotCompilableException e) {
+				// rebuilt on next use, which falls back to JXPath
+				it.remove();
+				continue;
+			}
+			if (add) {
+				addEntry(entry.getValue(), value, object);
+			} else {
+				removeEntry(entry.getValue(), value, object);
+			}
+		}
+	}
+
+	private static void addEntry(Map<String, List<EObject>> index, Object value, EObject object) {
+		if (value instanceof String key) {
+			index.computeIfAbsent(key, v -> new ArrayList<>(1)).add(object);
+		}
+	}
+
+	private static void removeEntry(Map<String, List<EObject>> index, Object value, EObject object) {
+		if (value instanceof String key) {
+			List<EObject> objects = index.get(key);
+			if (objects != null) {
+				objects.remove(object);
+				if (objects.isEmpty()) {
+					index.remove(key);
+				}
+			}
+		}
+	}
+}
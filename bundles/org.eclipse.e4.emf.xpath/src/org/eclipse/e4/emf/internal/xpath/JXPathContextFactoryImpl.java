@@ -10,11 +10,13 @@
  *
  * Contributors:
  *     Tom Schindl <tom.schindl@bestsolution.at> - adjustment to EObject
+ *     Contributors to the Eclipse Foundation - compiled evaluation of common expressions
  ******************************************************************************/
 package org.eclipse.e4.emf.internal.xpath;
 
 import org.eclipse.e4.emf.xpath.XPathContext;
 import org.eclipse.e4.emf.xpath.XPathContextFactory;
+import org.eclipse.emf.ecore.EObject;
 
 
 /**
@@ -24,14 +26,43 @@ import org.eclipse.e4.emf.xpath.XPathContextFactory;
  */
 public class JXPathContextFactoryImpl<T> extends XPathContextFactory<T> {
 
+	private final boolean compiled;
+
+	/**
+	 * Create a factory whose contexts evaluate all expressions using JXPath
+	 */
+	public JXPathContextFactoryImpl() {
+		this(false);
+	}
+
+	/**
+	 * Create a factory
+	 *
+	 * @param compiled whether the contexts evaluate the expressions supported
+	 *                 by {@link CompiledEObjectPath} without JXPath
+	 */
+	public JXPathContextFactoryImpl(boolean compiled) {
+		this.compiled = compiled;
+	}
+
 	@Override
 	public XPathContext newContext(XPathContext parentContext, Object contextBean) {
-		return new JXPathContextImpl(parentContext, contextBean);
+		return new JXPathContextImpl(parentContext, contextBean, compiled);
 	}
 
 	@Override
 	public XPathContext newContext(T contextBean) {
-		return new JXPathContextImpl(contextBean);
+		return new JXPathContextImpl(contextBean, compiled);
+	}
+
+	/**
+	 * Detaches the attribute index which compiled contexts attached to the
+	 * given root, if any.
+	 *
+	 * @param root the root element
+	 */
+	public static void releaseIndex(EObject root) {
+		EObjectAttributeIndex.release(root);
 	}
 
 }
@@ -10,6 +10,7 @@
  *
  * Contributors:
  *     Tom Schindl <tom.schindl@bestsolution.at> - adjustment to EObject
+ *     Contributors to the Eclipse Foundation - compiled evaluation of common expressions
  ******************************************************************************/
 package org.eclipse.e4.emf.internal.xpath;
 
@@ -19,9 +20,11 @@ import java.util.List;
 
 import org.apache.commons.jxpath.ClassFunctions;
 import org.apache.commons.jxpath.JXPathContext;
+import org.apache.commons.jxpath.JXPathNotFoundException;
 import org.apache.commons.jxpath.NodeSet;
 import org.apache.commons.jxpath.Pointer;
 import org.apache.commons.jxpath.util.TypeUtils;
+import org.eclipse.e4.emf.internal.xpath.CompiledEObjectPath.NotCompilableException;
 import org.eclipse.e4.emf.xpath.XPathContext;
 import org.eclipse.emf.ecore.EObject;
 
@@ -32,6 +35,10 @@ public final class JXPathContextImpl implements XPathContext {
 
 	private JXPathContext context;
 
+	// the root for compiled evaluation or null if all expressions are
+	// evaluated by JXPath
+	private final EObject compiledRoot;
+
 	public static class EMFFunctions {
 		public static String eClassName(Object o) {
 			if( o instanceof Collection<?> ) {
@@ -62,8 +69,22 @@ public final class JXPathContextImpl implements XPathContext {
 	 *            the context bean (=root of the xpath expression)
 	 */
 	JXPathContextImpl(Object contextBean) {
+		this(contextBean, false);
+	}
+
+	/**
+	 * Create a new context
+	 *
+	 * @param contextBean
+	 *            the context bean (=root of the xpath expression)
+	 * @param compiled
+	 *            whether to evaluate the expressions supported by
+	 *            {@link CompiledEObjectPath} without JXPath
+	 */
+	JXPathContextImpl(Object contextBean, boolean compiled) {
 		this.context = JXPathContext.newContext(contextBean);
 		this.context.setFunctions(new ClassFunctions(EMFFunctions.class, "ecore"));
+		this.compiledRoot = compiled && contextBean instanceof EObject eObject ? eObject : null;
 	}
 
 	/**
@@ -75,18 +96,39 @@ public final class JXPathContextImpl implements XPathContext {
 	 *            the context bean (=root of the xpath expression)
 	 */
 	JXPathContextImpl(XPathContext parentContext, Object contextBean) {
+		this(parentContext, contextBean, false);
+	}
+
+	/**
+	 * Create a new child context
+	 *
+	 * @param parentContext
+	 *            the parent
+	 * @param contextBean
+	 *            the context bean (=root of the xpath expression)
+	 * @param compiled
+	 *            whether to evaluate the expressions supported by
+	 *            {@link CompiledEObjectPath} without JXPath
+	 */
+	JXPathContextImpl(XPathContext parentContext, Object contextBean, boolean compiled) {
 		JXPathContext jContext = ((JXPathContextImpl) parentContext).getJXPathContext();
 		this.context = JXPathContext.newContext(jContext, contextBean);
+		this.compiledRoot = compiled && contextBean instanceof EObject eObject ? eObject : null;
 	}
 
 	@Override
 	public Object getValue(String xpath) {
+		List<EObject> result = evaluateCompiled(xpath);
+		if (result != null) {
+			return getFirst(xpath, result);
+		}
 		return context.getValue(xpath);
 	}
 
 	@Override
 	public <T> T getValue(String xpath, Class<T> requiredType) {
-		Object value = context.getValue(xpath, requiredType);
+		List<EObject> result = evaluateCompiled(xpath);
+		Object value = result != null ? getFirst(xpath, result) : context.getValue(xpath, requiredType);
 		@SuppressWarnings("unchecked")
 		T typedValue = (T) TypeUtils.convert(value, requiredType);
 		return typedValue;
@@ -94,9 +136,49 @@ public final class JXPathContextImpl implements XPathContext {
 
 	@Override
 	public <T> Iterator<T> iterate(String xpath) {
+		List<EObject> result = evaluateCompiled(xpath);
+		if (result != null) {
+			@SuppressWarnings("unchecked")
+			Iterator<T> iterator = (Iterator<T>) result.iterator();
+			return iterator;
+		}
 		return context.iterate(xpath);
 	}
 
+	/**
+	 * Evaluates the expression without JXPath if possible.
+	 *
+	 * @param xpath
+	 *            the expression
+	 * @return the matching elements or <code>null</code> if the expression
+	 *         has to be evaluated by JXPath
+	 */
+	private List<EObject> evaluateCompiled(String xpath) {
+		if (compiledRoot == null) {
+			return null;
+		}
+		CompiledEObjectPath path = CompiledEObjectPath.compile(xpath);
+		if (path == null) {
+			return null;
+		}
+		try {
+			return path.evaluate(compiledRoot);
+		} catch (NotCompilableException e) {
+			CompiledEObjectPath.markNotCompilable(xpath);
+			return null;
+		}
+	}
+
+	private Object getFirst(String xpath, List<EObject> result) {
+		if (!result.isEmpty()) {
+			return result.get(0);
+		}
+		if (context.isLenient()) {
+			return null;
+		}
+		throw new JXPathNotFoundException("No value for xpath: " + xpath);
+	}
+
 	private JXPathContext getJXPathContext() {
 		return context;
 	}
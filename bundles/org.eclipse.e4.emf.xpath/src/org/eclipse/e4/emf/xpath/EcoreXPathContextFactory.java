@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -10,6 +10,7 @@
  *
  * Contributors:
  *     Tom Schindl <tom.schindl@bestsolution.at> - initial API and implementation
+ *     Contributors to the Eclipse Foundation - compiled evaluation of common expressions
  ******************************************************************************/
 package org.eclipse.e4.emf.xpath;
 
@@ -38,4 +39,39 @@ public class EcoreXPathContextFactory{
 		return new JXPathContextFactoryImpl<>();
 	}
 
+	/**
+	 * Create a new factory whose contexts navigate descendant steps along the
+	 * containment tree only.
+	 * <p>
+	 * Absolute paths whose steps all select elements by the value of string
+	 * attributes, like <code>//*[@elementId='x' or @elementId='y']</code>, are
+	 * evaluated on the {@link org.eclipse.emf.ecore.EStructuralFeature
+	 * EStructuralFeature}s directly. Elements found by a descendant step are
+	 * reported once and in document order, even if they are also reachable
+	 * through non-containment references. The first descendant step is looked
+	 * up in an index which is attached to the context element and maintained
+	 * while the model changes, until it is released by
+	 * {@link #releaseIndex(EObject)}. All other expressions are evaluated like
+	 * in the contexts of {@link #newInstance()}.
+	 * </p>
+	 *
+	 * @return the factory
+	 * @since 0.6
+	 */
+	public static XPathContextFactory<EObject> newContainmentInstance() {
+		return new JXPathContextFactoryImpl<>(true);
+	}
+
+	/**
+	 * Detaches the index which contexts of {@link #newContainmentInstance()}
+	 * attached to the given context element. The index is no longer maintained
+	 * while the model changes and is rebuilt when a new context needs it.
+	 *
+	 * @param root the context element
+	 * @since 0.6
+	 */
+	public static void releaseIndex(EObject root) {
+		JXPathContextFactoryImpl.releaseIndex(root);
+	}
+
 }
@@ -12,6 +12,7 @@
  *      Tom Schindl <tom.schindl@bestsolution.at> - initial API and implementation
  *      IBM Corporation - initial API and implementation
  *      Steven Spungin <steven@spungin.tv> - Bug 437958
+ *      Contributors to the Eclipse Foundation - indexed xpath targets
  */
 package org.eclipse.e4.ui.model.fragment.impl;
 
@@ -328,6 +329,17 @@ public class StringModelFragmentImpl extends ModelFragmentImpl implements MStrin
 		return ret;
 	}
 
+	/**
+	 * Whether xpath targets are searched in the containment tree only, see
+	 * {@link EcoreXPathContextFactory#newContainmentInstance()}. This is the
+	 * default, setting the system property to <code>false</code> evaluates all
+	 * xpath targets with JXPath. The index such searches attach to the
+	 * application is released by
+	 * {@link ModelUtils#releaseXPathIndex(MApplication)}.
+	 */
+	private static final boolean CONTAINMENT_XPATH = Boolean
+			.parseBoolean(System.getProperty("org.eclipse.e4.ui.model.fragment.containmentXPath", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	private void mergeIdList(MApplication application, List<MApplicationElement> ret, String ids) {
 		String[] parentIds = patternCSV.split(ids);
 		for (String parentId : parentIds) {
@@ -355,7 +367,10 @@ public class StringModelFragmentImpl extends ModelFragmentImpl implements MStrin
 		if ("/".equals(xPath)) {
 			targetElements = List.of(application);
 		} else {
-			XPathContextFactory<EObject> f = EcoreXPathContextFactory.newInstance();
+			// targets are searched in the containment tree, common expressions
+			// like //*[@elementId='x'] are answered from an index
+			XPathContextFactory<EObject> f = CONTAINMENT_XPATH ? EcoreXPathContextFactory.newContainmentInstance()
+					: EcoreXPathContextFactory.newInstance();
 			XPathContext xpathContext = f.newContext((EObject) application);
 			try {
 				targetElements = xpathContext.stream(xPath, MApplicationElement.class).toList();
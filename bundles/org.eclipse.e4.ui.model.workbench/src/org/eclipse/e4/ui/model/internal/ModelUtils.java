@@ -13,6 +13,7 @@
  *     René Brandstetter - Bug 411821 - [QuickAccess] Contribute SearchField
  *                                      through a fragment or other means
  *     Patrik Suzzi <psuzzi@gmail.com> - Bug 474865
+ *     Contributors to the Eclipse Foundation - indexed xpath targets
  *******************************************************************************/
 package org.eclipse.e4.ui.model.internal;
 
@@ -24,6 +25,8 @@ import java.util.Collections;
 import java.util.List;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.emf.xpath.EcoreXPathContextFactory;
+import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.ui.MContext;
 import org.eclipse.e4.ui.model.application.ui.MUIElement;
@@ -60,6 +63,16 @@ public class ModelUtils {
 		}
 	}
 
+	/**
+	 * Detaches the index which xpath targets of string model fragments may have
+	 * attached to the application while fragments were merged.
+	 *
+	 * @param application the application
+	 */
+	public static void releaseXPathIndex(MApplication application) {
+		EcoreXPathContextFactory.releaseIndex((EObject) application);
+	}
+
 	public static MApplicationElement findElementById(MApplicationElement element, String id) {
 		if (id == null || id.isEmpty()) {
 			return null;
@@ -20,6 +20,7 @@
  *     Simon Scholz <simon.scholz@vogella.com> - Bug 506306
  *     Axel Richard <axel.richard@oebo.fr> - Bug 354538
  *     Rolf Theunissen <rolf.theunissen@gmail.com> - Bug 378495
+ *     Contributors to the Eclipse Foundation - coalesced enablement updates
  *******************************************************************************/
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
@@ -179,6 +180,13 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 	@Inject
 	@Optional
 	private void subscribeUIElementTopicVisible(@UIEventTopic(UIEvents.UIElement.TOPIC_VISIBLE) Event event) {
+		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+		if ((element instanceof MToolBar || element instanceof MTrimBar) && ((MUIElement) element).isVisible()) {
+			// update the items skipped while the toolbar was hidden
+			enablementUpdater.updateDeferredItems();
+			return;
+		}
+
 		// Ensure that this event is for a MToolBarElement
 		if (!(event.getProperty(UIEvents.EventTags.ELEMENT) instanceof MToolBarElement)) {
 			return;
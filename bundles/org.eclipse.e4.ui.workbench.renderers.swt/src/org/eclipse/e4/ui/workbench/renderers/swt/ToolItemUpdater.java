@@ -10,24 +10,38 @@
  *
  * Contributors:
  *     IBM Corporation - initial API and implementation
+ *     Contributors to the Eclipse Foundation - coalesced enablement updates
  ******************************************************************************/
 
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimBar;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.workbench.Selector;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.ToolItem;
 
+/**
+ * Collects the tool items whose enablement has to be recomputed and updates
+ * them in one batch. Items shown on screen are updated first, and items of
+ * hidden toolbars are deferred until their toolbar is shown again.
+ */
 public class ToolItemUpdater implements Runnable {
 
 	private static int DELAY = 100;
 	private long timestampOfEarliestQueuedUpdate = 0;
+	private boolean scheduled;
 	private List<AbstractContributionItem> itemsToCheck = new ArrayList<>();
 	private final List<AbstractContributionItem> orphanedToolItems = new ArrayList<>();
 	private final Set<AbstractContributionItem> itemsToUpdateLater = new LinkedHashSet<>();
+	private final Set<AbstractContributionItem> itemsOfHiddenToolBars = new LinkedHashSet<>();
 
 	public ToolItemUpdater() {
 		String delayProperty = System.getProperty("ToolItemUpdaterDelayInMs"); //$NON-NLS-1$
@@ -44,6 +58,8 @@ public class ToolItemUpdater implements Runnable {
 
 	void removeItem(AbstractContributionItem item) {
 		itemsToCheck.remove(item);
+		itemsToUpdateLater.remove(item);
+		itemsOfHiddenToolBars.remove(item);
 	}
 
 	public void updateContributionItems(Selector selector) {
@@ -61,7 +77,8 @@ public class ToolItemUpdater implements Runnable {
 						// again and again in less than given DELAY frequency. TimerExec would then
 						// never be executed.
 						doRunNow = true;
-					} else {
+					} else if (!scheduled) {
+						scheduled = true;
 						Display.getDefault().timerExec(DELAY, this);
 					}
 				}
@@ -78,13 +95,61 @@ public class ToolItemUpdater implements Runnable {
 		}
 	}
 
+	/**
+	 * Queues the items which were skipped while their toolbar was hidden. Called
+	 * when a toolbar or trim bar becomes visible.
+	 */
+	void updateDeferredItems() {
+		if (itemsOfHiddenToolBars.isEmpty()) {
+			return;
+		}
+		Set<MApplicationElement> deferred = new HashSet<>();
+		for (AbstractContributionItem item : itemsOfHiddenToolBars) {
+			deferred.add(item.getModel());
+		}
+		itemsOfHiddenToolBars.clear();
+		updateContributionItems(deferred::contains);
+	}
+
 	@Override
 	public void run() {
+		scheduled = false;
 		timestampOfEarliestQueuedUpdate = 0;
 		AbstractContributionItem[] copy = itemsToUpdateLater.toArray(new AbstractContributionItem[] {});
 		itemsToUpdateLater.clear();
+		List<AbstractContributionItem> notShowing = new ArrayList<>();
 		for (AbstractContributionItem it : copy) {
+			if (isInHiddenToolBar(it.getModel())) {
+				itemsOfHiddenToolBars.add(it);
+			} else if (isShowing(it.getModel())) {
+				it.updateItemEnablement();
+			} else {
+				notShowing.add(it);
+			}
+		}
+		for (AbstractContributionItem it : notShowing) {
 			it.updateItemEnablement();
 		}
 	}
+
+	/*
+	 * Only hidden toolbars and trim bars are checked, as showing them again
+	 * queues the deferred items, see updateDeferredItems().
+	 */
+	private static boolean isInHiddenToolBar(MUIElement element) {
+		if (element == null) {
+			return false;
+		}
+		for (MUIElement parent = element.getParent(); parent != null; parent = parent.getParent()) {
+			if ((parent instanceof MToolBar || parent instanceof MTrimBar) && !parent.isVisible()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isShowing(MUIElement element) {
+		return element != null && element.getWidget() instanceof ToolItem toolItem && !toolItem.isDisposed()
+				&& toolItem.getParent().isVisible();
+	}
 }
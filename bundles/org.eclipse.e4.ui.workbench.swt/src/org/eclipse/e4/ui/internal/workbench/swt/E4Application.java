@@ -46,6 +46,7 @@ import org.eclipse.e4.core.contexts.RunAndTrack;
 import org.eclipse.e4.core.internal.services.EclipseAdapter;
 import org.eclipse.e4.core.services.adapter.Adapter;
 import org.eclipse.e4.core.services.contributions.IContributionFactory;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.core.services.log.ILoggerProvider;
 import org.eclipse.e4.core.services.log.Logger;
 import org.eclipse.e4.core.services.translation.TranslationProviderFactory;
@@ -62,6 +63,7 @@ import org.eclipse.e4.ui.internal.workbench.ReflectionContributionFactory;
 import org.eclipse.e4.ui.internal.workbench.ResourceHandler;
 import org.eclipse.e4.ui.internal.workbench.SelectionAggregator;
 import org.eclipse.e4.ui.internal.workbench.SelectionServiceImpl;
+import org.eclipse.e4.ui.internal.workbench.StartupProfiler;
 import org.eclipse.e4.ui.internal.workbench.URIHelper;
 import org.eclipse.e4.ui.internal.workbench.WorkbenchLogger;
 import org.eclipse.e4.ui.model.application.MAddon;
@@ -74,6 +76,7 @@ import org.eclipse.e4.ui.services.IStylingEngine;
 import org.eclipse.e4.ui.workbench.IExceptionHandler;
 import org.eclipse.e4.ui.workbench.IModelResourceHandler;
 import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.e4.ui.workbench.lifecycle.PostContextCreate;
 import org.eclipse.e4.ui.workbench.lifecycle.PostWorkbenchClose;
 import org.eclipse.e4.ui.workbench.lifecycle.PreSave;
@@ -101,6 +104,8 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.MessageBox;
 import org.eclipse.swt.widgets.Shell;
 import org.osgi.framework.Bundle;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
 import org.w3c.dom.css.CSSStyleDeclaration;
 
 public class E4Application implements IApplication {
@@ -176,6 +181,8 @@ public class E4Application implements IApplication {
 
 			return EXIT_OK;
 		} finally {
+			// no-op unless startup did not complete, e.g. without a UI
+			StartupProfiler.complete();
 			if (display != null)
 				display.dispose();
 			if (instanceLocation != null)
@@ -207,6 +214,13 @@ public class E4Application implements IApplication {
 	public E4Workbench createE4Workbench(IApplicationContext applicationContext, final Display display) {
 		args = (String[]) applicationContext.getArguments().get(IApplicationContext.APPLICATION_ARGS);
 
+		// Record a timeline of the startup, either to the given file or to the
+		// default location
+		Optional<String> startupProfile = getArgValue(E4Workbench.STARTUP_PROFILE, applicationContext, false)
+				.filter(value -> !"false".equalsIgnoreCase(value));
+		boolean profiling = startupProfile.isPresent() && StartupProfiler
+				.start("true".equalsIgnoreCase(startupProfile.get()) ? null : new File(startupProfile.get()));
+
 		IEclipseContext appContext = createDefaultContext();
 		appContext.set(Display.class, display);
 		appContext.set(Realm.class, DisplayRealm.getRealm(display));
@@ -240,8 +254,15 @@ public class E4Application implements IApplication {
 			appContext.set(E4Workbench.FORCED_SHOW_LOCATION, showLocation);
 		}
 
+		if (profiling) {
+			completeProfileOnStartup(appContext);
+		}
+
 		// Create the app model and its context
-		MApplication appModel = loadApplicationModel(applicationContext, appContext);
+		MApplication appModel;
+		try (StartupProfiler.Span span = StartupProfiler.begin("model", "Load application model")) {
+			appModel = loadApplicationModel(applicationContext, appContext);
+		}
 		appModel.setContext(appContext);
 
 		boolean isRtl = ((Window.getDefaultOrientation() & SWT.RIGHT_TO_LEFT) != 0);
@@ -258,7 +279,9 @@ public class E4Application implements IApplication {
 		appContext.set(MApplication.class, appModel);
 
 		// adds basic services to the contexts
-		initializeServices(appModel);
+		try (StartupProfiler.Span span = StartupProfiler.begin("workbench", "Initialize services")) {
+			initializeServices(appModel);
+		}
 
 		// let the life cycle manager add to the model
 		if (lcManager != null) {
@@ -270,8 +293,10 @@ public class E4Application implements IApplication {
 		IEclipseContext addonStaticContext = EclipseContextFactory.create();
 		for (MAddon addon : appModel.getAddons()) {
 			addonStaticContext.set(MAddon.class, addon);
-			Object obj = factory.create(addon.getContributionURI(), appContext, addonStaticContext);
-			addon.setObject(obj);
+			try (StartupProfiler.Span span = StartupProfiler.begin("addon", addon.getElementId())) {
+				Object obj = factory.create(addon.getContributionURI(), appContext, addonStaticContext);
+				addon.setObject(obj);
+			}
 		}
 
 		// Parse out parameters from both the command line and/or the product
@@ -298,6 +323,27 @@ public class E4Application implements IApplication {
 		return workbench = new E4Workbench(appModel, appContext);
 	}
 
+	/**
+	 * Writes the startup profile once the UI is up. The compatibility layer
+	 * sets an early startup hook and completes the profile itself once the
+	 * early startup extensions ran.
+	 */
+	private static void completeProfileOnStartup(IEclipseContext appContext) {
+		IEventBroker eventBroker = appContext.get(IEventBroker.class);
+		if (eventBroker == null) {
+			return;
+		}
+		eventBroker.subscribe(UIEvents.UILifeCycle.APP_STARTUP_COMPLETE, new EventHandler() {
+			@Override
+			public void handleEvent(Event event) {
+				eventBroker.unsubscribe(this);
+				if (!appContext.containsKey(PartRenderingEngine.EARLY_STARTUP_HOOK)) {
+					StartupProfiler.complete();
+				}
+			}
+		});
+	}
+
 	private void setCSSContextVariables(IApplicationContext applicationContext, IEclipseContext context) {
 		boolean highContrastMode = getApplicationDisplay().getHighContrast();
 
@@ -357,6 +403,21 @@ public class E4Application implements IApplication {
 				.map(Boolean::parseBoolean).orElse(Boolean.FALSE);
 		eclipseContext.set(IWorkbench.CLEAR_PERSISTED_STATE, clearPersistedState);
 
+		// Binary copy of the persisted model
+		Boolean modelFastRestore = getArgValue(E4Workbench.MODEL_FAST_RESTORE, appContext, true)
+				.map(Boolean::parseBoolean).orElse(Boolean.FALSE);
+		eclipseContext.set(E4Workbench.MODEL_FAST_RESTORE, modelFastRestore);
+
+		// Only merge the fragments of added or changed bundles into a restored model
+		Boolean incrementalFragmentMerge = getArgValue(E4Workbench.INCREMENTAL_FRAGMENT_MERGE, appContext, true)
+				.map(Boolean::parseBoolean).orElse(Boolean.FALSE);
+		eclipseContext.set(E4Workbench.INCREMENTAL_FRAGMENT_MERGE, incrementalFragmentMerge);
+
+		// Only create the widgets of hidden layout elements once they are shown
+		Boolean deferHiddenRendering = getArgValue(E4Workbench.DEFER_HIDDEN_RENDERING, appContext, true)
+				.map(Boolean::parseBoolean).orElse(Boolean.FALSE);
+		eclipseContext.set(E4Workbench.DEFER_HIDDEN_RENDERING, deferHiddenRendering);
+
 		String resourceHandler = getArgValue(IWorkbench.MODEL_RESOURCE_HANDLER, appContext, false)
 				.orElse("bundleclass://org.eclipse.e4.ui.workbench/" + ResourceHandler.class.getName());
 
@@ -15,6 +15,7 @@
  *     Alexander Baranov <achilles-86@mail.ru> - Bug 458460
  *     Lars Vogel <Lars.Vogel@vogella.com> - Bug 483842
  *     Patrik Suzzi <psuzzi@gmail.com> - Bug 487621
+ *     Contributors to the Eclipse Foundation - deferred rendering of hidden elements, startup profiling
  *******************************************************************************/
 package org.eclipse.e4.ui.internal.workbench.swt;
 
@@ -64,6 +65,7 @@ import org.eclipse.e4.ui.css.swt.theme.IThemeManager;
 import org.eclipse.e4.ui.di.Focus;
 import org.eclipse.e4.ui.di.PersistState;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
+import org.eclipse.e4.ui.internal.workbench.StartupProfiler;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.MContribution;
@@ -74,6 +76,7 @@ import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainerElement;
 import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
@@ -206,6 +209,17 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 		// Re-parent the control based on the visible state
 		if (changedElement.isVisible()) {
+			if (changedElement.isToBeRendered() && changedElement.getWidget() == null && isDeferrable(changedElement)
+					&& changedElement.getParent() == parent && !(parent instanceof MGenericStack<?>)
+					&& parent.getWidget() != null) {
+				// The rendering was deferred while the element was hidden, note
+				// that the 'createGui' protocol calls 'childRendered'
+				Object w = createGui(changedElement);
+				if (w instanceof Control && !(w instanceof Shell)) {
+					fixZOrder(changedElement);
+				}
+				return;
+			}
 			if (changedElement.isToBeRendered()) {
 				if (changedElement.getWidget() instanceof Control && //
 						renderer.getUIContainer(changedElement) instanceof Composite) {
@@ -400,6 +414,11 @@ public class PartRenderingEngine implements IPresentationEngine {
 	@Optional
 	IEventBroker eventBroker;
 
+	@Inject
+	@Optional
+	@Named(E4Workbench.DEFER_HIDDEN_RENDERING)
+	private boolean deferHiddenRendering;
+
 	private StylingPreferencesHandler cssThemeChangedHandler;
 
 	@Inject
@@ -540,7 +559,9 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 			@Override
 			public void run() throws Exception {
-				gui[0] = safeCreateGui(element, parentWidget, parentContext);
+				try (StartupProfiler.Span span = beginRendering(element)) {
+					gui[0] = safeCreateGui(element, parentWidget, parentContext);
+				}
 			}
 		});
 		return gui[0];
@@ -724,12 +745,19 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 			@Override
 			public void run() throws Exception {
-				gui[0] = safeCreateGui(element);
+				try (StartupProfiler.Span span = beginRendering(element)) {
+					gui[0] = safeCreateGui(element);
+				}
 			}
 		});
 		return gui[0];
 	}
 
+	private static StartupProfiler.Span beginRendering(MUIElement element) {
+		String name = element.getElementId() != null ? element.getElementId() : element.getClass().getSimpleName();
+		return StartupProfiler.begin(element instanceof MPart ? "part" : "render", name); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	private Object safeCreateGui(MUIElement element) {
 		// Obtain the necessary parent widget
 		Object parent = null;
@@ -740,6 +768,10 @@ public class PartRenderingEngine implements IPresentationEngine {
 			AbstractPartRenderer renderer = getRendererFor(parentME);
 			if (renderer != null) {
 				if (!element.isVisible()) {
+					if (element.getWidget() == null && isDeferrable(element)) {
+						// rendered once the element becomes visible
+						return null;
+					}
 					parent = getLimboShell();
 				} else {
 					parent = renderer.getUIContainer(element);
@@ -762,6 +794,20 @@ public class PartRenderingEngine implements IPresentationEngine {
 		return safeCreateGui(element, parent, parentContext);
 	}
 
+	/**
+	 * Returns whether the rendering of the given element is deferred while it is
+	 * hidden. Minimized elements are still rendered since the minimized trim
+	 * stacks show their widgets.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the element is only rendered once it becomes
+	 *         visible
+	 */
+	private boolean isDeferrable(MUIElement element) {
+		return deferHiddenRendering && element instanceof MPartSashContainerElement
+				&& !element.getTags().contains(MINIMIZED);
+	}
+
 	@Override
 	public void focusGui(MUIElement element) {
 		AbstractPartRenderer renderer = (AbstractPartRenderer) element
@@ -1043,7 +1089,9 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 			@Override
 			public void run() {
-				initializeStyling(display, runContext);
+				try (StartupProfiler.Span span = StartupProfiler.begin("css", "Initialize styling")) { //$NON-NLS-1$ //$NON-NLS-2$
+					initializeStyling(display, runContext);
+				}
 
 				// Register an SWT resource handler
 				runContext.set(IResourceUtilities.class, new ResourceUtility());
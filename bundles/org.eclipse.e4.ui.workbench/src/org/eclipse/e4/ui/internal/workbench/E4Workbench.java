@@ -88,6 +88,43 @@ public class E4Workbench implements IWorkbench {
 	 */
 	public static final String FORCED_SHOW_LOCATION = "forcedShowLocation"; //$NON-NLS-1$
 
+	/**
+	 * The argument for whether to also persist the application model in a
+	 * binary format, which is loaded instead of the XMI file on restore (set on
+	 * the command line)<br>
+	 * <br>
+	 * Value is: <code>modelFastRestore</code>
+	 */
+	public static final String MODEL_FAST_RESTORE = "modelFastRestore"; //$NON-NLS-1$
+
+	/**
+	 * The argument for whether to merge only the model fragments of bundles that
+	 * were added or changed since the persisted model was saved, instead of the
+	 * fragments of all bundles (set on the command line)<br>
+	 * <br>
+	 * Value is: <code>incrementalFragmentMerge</code>
+	 */
+	public static final String INCREMENTAL_FRAGMENT_MERGE = "incrementalFragmentMerge"; //$NON-NLS-1$
+
+	/**
+	 * The argument for whether the widgets of hidden layout elements, e.g. a
+	 * part sash container that is not visible, are only created when the
+	 * element becomes visible, instead of being created in the limbo shell (set
+	 * on the command line)<br>
+	 * <br>
+	 * Value is: <code>deferHiddenRendering</code>
+	 */
+	public static final String DEFER_HIDDEN_RENDERING = "deferHiddenRendering"; //$NON-NLS-1$
+
+	/**
+	 * The argument for recording a timeline of the startup with the
+	 * {@link StartupProfiler}, either <code>true</code> or the file to write the
+	 * timeline to (set on the command line)<br>
+	 * <br>
+	 * Value is: <code>startupProfile</code>
+	 */
+	public static final String STARTUP_PROFILE = "startupProfile"; //$NON-NLS-1$
+
 	private final String id;
 	private ServiceRegistration<?> osgiRegistration;
 
@@ -15,6 +15,7 @@
  *     Brian de Alwis (MTI) - Bug 433053
  *     Alexandra Buzila - Refactoring, Bug 475934
  *     Gerhard Kreuzer - Bug 561324
+ *     Contributors to the Eclipse Foundation - incremental fragment merging, startup profiling, xpath index release, batched publication
  ******************************************************************************/
 
 package org.eclipse.e4.ui.internal.workbench;
@@ -28,8 +29,11 @@ import jakarta.annotation.PreDestroy;
 import java.io.PrintStream;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -40,9 +44,11 @@ import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.spi.RegistryContributor;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.EclipseContextFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -110,6 +116,16 @@ public class ModelAssembler {
 		public List<FragmentWrapperElementMapping> addingBundle(Bundle bundle, BundleEvent event) {
 			// only react on bundles with Model-Fragment header
 			if (bundle.getHeaders(Util.ZERO_LENGTH_STRING).get(MODEL_FRAGMENT_HEADER) != null) {
+				String signature = getBundleSignature(bundle);
+				if (!processModelExecuted) {
+					if (mergedBundles.contains(signature)) {
+						// already part of the restored model
+						contributingBundles.add(signature);
+						return Collections.emptyList();
+					}
+					pendingBundles.put(bundle.getSymbolicName(), signature);
+				}
+
 				// add the fragment to the application model
 				List<ModelFragmentWrapper> wrappers = getModelFragmentWrapperFromBundle(bundle,
 						ModelAssembler.this.initial);
@@ -121,7 +137,15 @@ public class ModelAssembler {
 				// we skip direct processing in case the startup model processing is not done
 				// yet
 				if (processModelExecuted) {
-					uiSync.asyncExec(() -> processFragmentWrappers(wrappers));
+					uiSync.asyncExec(() -> {
+						processFragmentWrappers(wrappers);
+						if (failedContributors.remove(bundle.getSymbolicName())) {
+							contributingBundles.remove(signature);
+						} else {
+							contributingBundles.add(signature);
+						}
+						recordMergedBundles();
+					});
 				}
 
 				return mappings;
@@ -138,6 +162,9 @@ public class ModelAssembler {
 		public void removedBundle(Bundle bundle, BundleEvent event, List<FragmentWrapperElementMapping> mappings) {
 			// remove fragment elements from application model
 			uiSync.asyncExec(() -> {
+				if (contributingBundles.remove(getBundleSignature(bundle))) {
+					recordMergedBundles();
+				}
 				if (mappings != null) {
 					mappings.stream().flatMap(m -> m.elements.stream()).forEach(appElement -> {
 						// TODO implement removal of contributions, e.g. MenuContributions
@@ -202,6 +229,16 @@ public class ModelAssembler {
 	private static final String INITIAL = "initial"; //$NON-NLS-1$
 	private static final String NOTEXISTS = "notexists"; //$NON-NLS-1$
 
+	/**
+	 * Key of the persisted state of the application recording the bundles
+	 * (symbolic name, version and last modification) whose fragments are merged
+	 * into the persisted model. Only maintained if
+	 * {@link E4Workbench#INCREMENTAL_FRAGMENT_MERGE} is enabled.
+	 */
+	public static final String MERGED_FRAGMENT_BUNDLES = "org.eclipse.e4.ui.workbench.mergedFragmentBundles"; //$NON-NLS-1$
+
+	private static final String BUNDLE_SEPARATOR = ","; //$NON-NLS-1$
+
 	private LoggerFactory factory;
 	private Logger logger;
 
@@ -215,6 +252,30 @@ public class ModelAssembler {
 
 	private boolean processModelExecuted = false;
 
+	/**
+	 * The bundles whose fragments are already merged into the restored model and
+	 * are skipped while processing the model.
+	 */
+	private Set<String> mergedBundles = Collections.emptySet();
+
+	/**
+	 * The bundles contributing fragments to the model.
+	 */
+	private final Set<String> contributingBundles = Collections.synchronizedSet(new LinkedHashSet<>());
+
+	/**
+	 * The bundles whose fragments are being merged while processing the model,
+	 * by contributor name. They become contributing bundles once their fragments
+	 * have been applied.
+	 */
+	private final Map<String, String> pendingBundles = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	/**
+	 * The contributors whose fragments could not be loaded or validated, so that
+	 * their bundles are not recorded as merged.
+	 */
+	private final Set<String> failedContributors = Collections.synchronizedSet(new HashSet<>());
+
 	@Activate
 	void activate(BundleContext bundleContext) {
 		this.bundleContext = bundleContext;
@@ -303,26 +364,81 @@ public class ModelAssembler {
 	@Execute
 	public void processModel(boolean initial) {
 		this.initial = initial;
+		if (!initial && isIncrementalMerge()) {
+			String merged = application.getPersistedState().get(MERGED_FRAGMENT_BUNDLES);
+			if (merged != null) {
+				mergedBundles = new HashSet<>(Arrays.asList(merged.split(BUNDLE_SEPARATOR)));
+			}
+		}
 
 		IExtensionRegistry extReg = this.registry.get();
 		if (extReg != null) {
-			IExtensionPoint extPoint = extReg.getExtensionPoint(EXTENSION_POINT_ID);
-			IExtension[] extensions = new ExtensionsSort().sort(extPoint.getExtensions());
+			IExtension[] extensions;
+			try (StartupProfiler.Span span = StartupProfiler.begin("registry", EXTENSION_POINT_ID)) { //$NON-NLS-1$
+				IExtensionPoint extPoint = extReg.getExtensionPoint(EXTENSION_POINT_ID);
+				extensions = new ExtensionsSort().sort(extPoint.getExtensions());
+			}
 
 			// run processors which are marked to run before fragments
-			runProcessors(extensions, initial, false);
+			try (StartupProfiler.Span span = StartupProfiler.begin("model", "Run pre-processors")) { //$NON-NLS-1$ //$NON-NLS-2$
+				runProcessors(extensions, initial, false);
+			}
 			// process fragments (and resolve imports)
-			processFragments(extensions, initial);
+			try (StartupProfiler.Span span = StartupProfiler.begin("model", "Merge fragments")) { //$NON-NLS-1$ //$NON-NLS-2$
+				processFragments(extensions, initial);
+			}
 			// run processors which are marked to run after fragments
-			runProcessors(extensions, initial, true);
+			try (StartupProfiler.Span span = StartupProfiler.begin("model", "Run post-processors")) { //$NON-NLS-1$ //$NON-NLS-2$
+				runProcessors(extensions, initial, true);
+			}
 		}
 
+		recordMergedBundles();
+		mergedBundles = Collections.emptySet();
+
 		// once we are done, any further handling in the tracker can't be initial
 		// anymore
 		this.initial = false;
 		this.processModelExecuted = true;
 	}
 
+	private boolean isIncrementalMerge() {
+		return context != null && Boolean.TRUE.equals(context.get(E4Workbench.INCREMENTAL_FRAGMENT_MERGE));
+	}
+
+	/**
+	 * Records the bundles contributing fragments in the persisted state of the
+	 * application, so that their fragments are not merged again on restore
+	 * unless the bundles change.
+	 */
+	private void recordMergedBundles() {
+		if (isIncrementalMerge()) {
+			String merged;
+			synchronized (contributingBundles) {
+				merged = String.join(BUNDLE_SEPARATOR, new TreeSet<>(contributingBundles));
+			}
+			// do not dirty the model if nothing changed
+			if (!merged.equals(application.getPersistedState().get(MERGED_FRAGMENT_BUNDLES))) {
+				application.getPersistedState().put(MERGED_FRAGMENT_BUNDLES, merged);
+			}
+		} else if (application.getPersistedState().containsKey(MERGED_FRAGMENT_BUNDLES)) {
+			application.getPersistedState().remove(MERGED_FRAGMENT_BUNDLES);
+		}
+	}
+
+	private static String getBundleSignature(Bundle bundle) {
+		return bundle.getSymbolicName() + '_' + bundle.getVersion() + '@' + bundle.getLastModified();
+	}
+
+	private static String getBundleSignature(IContributor contributor) {
+		String bundleName = contributor instanceof RegistryContributor registryContributor
+				? registryContributor.getActualName()
+				: contributor.getName();
+		Activator activator = Activator.getDefault();
+		Bundle bundle = activator == null ? null : activator.getBundleForName(bundleName);
+		return bundle == null ? null : getBundleSignature(bundle);
+	}
+
 	/**
 	 * Adds the {@link MApplicationElement model elements} contributed by the
 	 * {@link IExtension extensions} to the {@link MApplication application model}.
@@ -337,9 +453,19 @@ public class ModelAssembler {
 			for (IConfigurationElement ce : ces) {
 				if ("fragment".equals(ce.getName()) //$NON-NLS-1$
 						&& (initial || !INITIAL.equals(ce.getAttribute(APPLY_PROPERTY_KEY)))) {
+					String signature = getBundleSignature(ce.getContributor());
+					if (signature != null) {
+						if (mergedBundles.contains(signature)) {
+							// already part of the restored model
+							contributingBundles.add(signature);
+							continue;
+						}
+						pendingBundles.put(ce.getContributor().getName(), signature);
+					}
 					MModelFragments fragmentsContainer = getFragmentsContainer(ce.getAttribute("uri"), //$NON-NLS-1$
 							ce.getContributor().getName());
 					if (fragmentsContainer == null) {
+						failedContributors.add(ce.getContributor().getName());
 						continue;
 					}
 					for (MModelFragment fragment : fragmentsContainer.getFragments()) {
@@ -366,7 +492,22 @@ public class ModelAssembler {
 					.map(FragmentWrapperElementMapping::wrapper).forEach(wrappers::add);
 		}
 
-		processFragmentWrappers(wrappers);
+		try {
+			processFragmentWrappers(wrappers);
+			// only bundles whose fragments were applied are merged
+			synchronized (pendingBundles) {
+				pendingBundles.forEach((contributorName, signature) -> {
+					if (failedContributors.contains(contributorName)) {
+						contributingBundles.remove(signature);
+					} else {
+						contributingBundles.add(signature);
+					}
+				});
+			}
+		} finally {
+			pendingBundles.clear();
+			failedContributors.clear();
+		}
 	}
 
 	private List<ModelFragmentWrapper> getModelFragmentWrapperFromBundle(Bundle bundle, boolean initial) {
@@ -385,7 +526,9 @@ public class ModelAssembler {
 
 			if (initial || !INITIAL.equals(apply)) {
 				MModelFragments fragmentsContainer = getFragmentsContainer(uri, bundle.getSymbolicName());
-				if (fragmentsContainer != null) {
+				if (fragmentsContainer == null) {
+					failedContributors.add(bundle.getSymbolicName());
+				} else {
 					for (MModelFragment fragment : fragmentsContainer.getFragments()) {
 						boolean checkExist = !initial && NOTEXISTS.equals(apply);
 						wrappers.add(new ModelFragmentWrapper(fragmentsContainer, fragment, bundle.getSymbolicName(),
@@ -462,10 +605,27 @@ public class ModelAssembler {
 	}
 
 	public void processFragments(Collection<ModelFragmentWrapper> fragmentList) {
-		for (ModelFragmentWrapper fragmentWrapper : fragmentList) {
-			processFragment(fragmentWrapper.getFragmentContainer(), fragmentWrapper.getModelFragment(),
-					fragmentWrapper.getContributorName(), fragmentWrapper.getContributorURI(),
-					fragmentWrapper.isCheckExists());
+		Runnable merge = () -> {
+			for (ModelFragmentWrapper fragmentWrapper : fragmentList) {
+				processFragment(fragmentWrapper.getFragmentContainer(), fragmentWrapper.getModelFragment(),
+						fragmentWrapper.getContributorName(), fragmentWrapper.getContributorURI(),
+						fragmentWrapper.isCheckExists());
+			}
+		};
+		try {
+			// publish the merged fragments as one batch, if the model is already
+			// being published
+			UIEventPublisher publisher = context == null ? null : context.get(UIEventPublisher.class);
+			if (publisher != null) {
+				publisher.runBatched(merge);
+			} else {
+				merge.run();
+			}
+		} finally {
+			// don't keep maintaining the xpath index while the model changes
+			if (application != null) {
+				ModelUtils.releaseXPathIndex(application);
+			}
 		}
 	}
 
@@ -498,6 +658,7 @@ public class ModelAssembler {
 		Diagnostic validationResult = Diagnostician.INSTANCE.validate((EObject) fragment);
 		int severity = validationResult.getSeverity();
 		if (severity == Diagnostic.ERROR) {
+			failedContributors.add(contributorName);
 			error("Fragment from {} of {} could not be validated and was not merged:  -> Validation result: {}" //$NON-NLS-1$
 					+ fragment, contributorURI, contributorName, validationResult);
 		}
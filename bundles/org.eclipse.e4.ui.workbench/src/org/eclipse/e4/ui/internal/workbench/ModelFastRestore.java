@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+
+/**
+ * Reads and writes the application model in the EMF binary format, which is
+ * much faster to load than the persisted XMI.
+ * <p>
+ * A fast restore file starts with a table of the XMI ids of all model objects,
+ * followed by the {@link BinaryResourceImpl binary resource}. The ids are
+ * restored when loading, so that the loaded model behaves exactly like one
+ * loaded from XMI. Elements that are not persisted in XMI (see
+ * {@link E4XMISave}) are not written either.
+ * </p>
+ * <p>
+ * The XMI file stays the reference: the fast restore file is written next to
+ * it and is only meant to be used as long as it is not older than the XMI
+ * file.
+ * </p>
+ */
+public final class ModelFastRestore {
+
+	private static final int MAGIC = 0xE4B10DE1;
+
+	private static final int VERSION = 1;
+
+	private ModelFastRestore() {
+	}
+
+	/**
+	 * Returns the fast restore file belonging to the given XMI file.
+	 *
+	 * @param xmiFile the persisted XMI file
+	 * @return the fast restore file, which may not exist
+	 */
+	public static File getLocation(File xmiFile) {
+		String name = xmiFile.getName();
+		int extension = name.lastIndexOf('.');
+		if (extension > 0) {
+			name = name.substring(0, extension);
+		}
+		return new File(xmiFile.getParentFile(), name + ".bin"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Writes the persisted contents of the given resource to the given file. The
+	 * file is replaced only once it has been written completely.
+	 *
+	 * @param resource the application model resource, providing the XMI ids
+	 * @param file     the fast restore file
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void save(XMLResource resource, File file) throws IOException {
+		PersistedContentsCopier copier = new PersistedContentsCopier();
+		Collection<EObject> contents = copier.copyAll(resource.getContents());
+		copier.copyReferences();
+
+		Map<EObject, EObject> originals = new IdentityHashMap<>(copier.size());
+		for (Map.Entry<EObject, EObject> entry : copier.entrySet()) {
+			originals.put(entry.getValue(), entry.getKey());
+		}
+
+		Resource binary = new BinaryResourceImpl(URI.createFileURI(file.getAbsolutePath()));
+		binary.getContents().addAll(contents);
+		List<String> ids = new ArrayList<>(originals.size());
+		for (TreeIterator<EObject> it = binary.getAllContents(); it.hasNext();) {
+			ids.add(resource.getID(originals.get(it.next())));
+		}
+
+		File tempFile = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(ids.size());
+			for (String id : ids) {
+				out.writeUTF(id == null ? "" : id); //$NON-NLS-1$
+			}
+			binary.save(out, null);
+		}
+		Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Loads the model from the given fast restore file into a new resource of
+	 * the given resource set.
+	 *
+	 * @param resourceSet the resource set creating the resource
+	 * @param file        the fast restore file
+	 * @param uri         the URI of the resource to create, usually the one of
+	 *                    the XMI file
+	 * @return the resource, or <code>null</code> if the file was written by an
+	 *         incompatible version
+	 * @throws IOException if the file cannot be read
+	 */
+	public static Resource load(ResourceSet resourceSet, File file, URI uri) throws IOException {
+		Resource binary = new BinaryResourceImpl(URI.createFileURI(file.getAbsolutePath()));
+		resourceSet.getResources().add(binary);
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			String[] ids = new String[in.readInt()];
+			for (int i = 0; i < ids.length; i++) {
+				String id = in.readUTF();
+				ids[i] = id.isEmpty() ? null : id;
+			}
+			binary.load(in, null);
+
+			Resource resource = resourceSet.createResource(uri);
+			resource.getContents().addAll(binary.getContents());
+			int index = 0;
+			for (TreeIterator<EObject> it = resource.getAllContents(); it.hasNext(); index++) {
+				EObject eObject = it.next();
+				if (index < ids.length && ids[index] != null) {
+					((XMLResource) resource).setID(eObject, ids[index]);
+				}
+			}
+			if (index != ids.length) {
+				// the id table does not belong to the model
+				resourceSet.getResources().remove(resource);
+				return null;
+			}
+			return resource;
+		} finally {
+			resourceSet.getResources().remove(binary);
+		}
+	}
+
+	/**
+	 * Copies the persisted contents of the model, leaving out transient
+	 * features and elements that are not persisted.
+	 */
+	private static final class PersistedContentsCopier extends EcoreUtil.Copier {
+
+		private static final long serialVersionUID = 1L;
+
+		PersistedContentsCopier() {
+			// references to elements which are not copied are dropped, as in XMI
+			super(true, false);
+		}
+
+		@Override
+		protected void copyAttribute(EAttribute eAttribute, EObject eObject, EObject copyEObject) {
+			if (!eAttribute.isTransient()) {
+				super.copyAttribute(eAttribute, eObject, copyEObject);
+			}
+		}
+
+		@Override
+		protected void copyReference(EReference eReference, EObject eObject, EObject copyEObject) {
+			if (!eReference.isTransient()) {
+				super.copyReference(eReference, eObject, copyEObject);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		protected void copyContainment(EReference eReference, EObject eObject, EObject copyEObject) {
+			if (eReference.isTransient() || !eObject.eIsSet(eReference)) {
+				return;
+			}
+			if (eReference.isMany()) {
+				Collection<EObject> copies = (Collection<EObject>) copyEObject.eGet(getTarget(eReference));
+				for (EObject child : (List<EObject>) eObject.eGet(eReference)) {
+					if (E4XMISave.isPersisted(child)) {
+						copies.add(copy(child));
+					}
+				}
+			} else {
+				EObject child = (EObject) eObject.eGet(eReference);
+				if (child != null && E4XMISave.isPersisted(child)) {
+					copyEObject.eSet(getTarget(eReference), copy(child));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Index of the elements of an application model by element id, tag and type.
+ * The index is kept up to date from the model's change notifications.
+ *
+ * It is used to narrow down the part of the model a search in
+ * {@link ModelServiceImpl} has to visit: only the containers of elements which
+ * can possibly match, and placeholders referencing such containers, need to be
+ * searched. The search itself, and therefore its result and order, stays the
+ * same.
+ */
+final class ModelIndex extends EContentAdapter {
+
+	/**
+	 * Narrowing down a search is only worth it if the candidates are a small
+	 * part of the model.
+	 */
+	private static final int MAX_CANDIDATE_RATIO = 8;
+
+	private final MApplication application;
+
+	private final Set<MApplicationElement> elements = newIdentitySet();
+	private final Map<String, Set<MApplicationElement>> elementsById = new HashMap<>();
+	private final Map<String, Set<MApplicationElement>> elementsByTag = new HashMap<>();
+	/**
+	 * The elements by their implementation class, so that a type query matches
+	 * exactly the elements for which {@link Class#isInstance(Object)} holds, as
+	 * in the search itself, also for implementation classes like PartImpl.
+	 */
+	private final Map<Class<?>, Set<MApplicationElement>> elementsByClass = new HashMap<>();
+
+	ModelIndex(MApplication application) {
+		this.application = application;
+		((EObject) application).eAdapters().add(this);
+	}
+
+	MApplication getApplication() {
+		return application;
+	}
+
+	void dispose() {
+		((EObject) application).eAdapters().remove(this);
+		elements.clear();
+		elementsById.clear();
+		elementsByTag.clear();
+		elementsByClass.clear();
+	}
+
+	/**
+	 * @return whether the given element is part of the indexed model
+	 */
+	boolean contains(MApplicationElement element) {
+		return elements.contains(element);
+	}
+
+	/**
+	 * Returns the elements a search for elements with the given properties has
+	 * to visit: all candidates, their containers, and the placeholders (and
+	 * their containers) which reference any of them.
+	 *
+	 * @param clazz
+	 *            the type of the elements searched for, or <code>null</code>
+	 * @param id
+	 *            the id of the elements searched for, or <code>null</code>
+	 * @param tags
+	 *            the tags of the elements searched for, or <code>null</code>
+	 * @return the elements to visit, or <code>null</code> if the whole model
+	 *         has to be searched
+	 */
+	Set<Object> getSearchScope(Class<?> clazz, String id, List<String> tags) {
+		int limit = elements.size() / MAX_CANDIDATE_RATIO;
+		Collection<MApplicationElement> candidates = null;
+		if (id != null) {
+			candidates = elementsById.getOrDefault(id, Collections.emptySet());
+		}
+		if (tags != null) {
+			for (String tag : tags) {
+				Set<MApplicationElement> tagged = elementsByTag.getOrDefault(tag, Collections.emptySet());
+				if (candidates == null || tagged.size() < candidates.size()) {
+					candidates = tagged;
+				}
+			}
+		}
+		if (clazz != null && (candidates == null || candidates.size() > limit)) {
+			Collection<MApplicationElement> typed = getElementsOfType(clazz, limit);
+			if (typed != null) {
+				candidates = typed;
+			}
+		}
+		if (candidates == null || candidates.size() > limit) {
+			return null;
+		}
+
+		Set<Object> scope = newIdentitySet();
+		for (MApplicationElement candidate : candidates) {
+			addWithContainers(scope, candidate);
+		}
+
+		// shared elements are reached through the placeholders referencing them
+		Collection<MApplicationElement> placeholders = getElementsOfType(MPlaceholder.class, Integer.MAX_VALUE);
+		boolean changed = !placeholders.isEmpty();
+		while (changed) {
+			changed = false;
+			for (MApplicationElement element : placeholders) {
+				MUIElement ref = ((MPlaceholder) element).getRef();
+				if (ref != null && !elements.contains(ref)) {
+					// the referenced element is not part of the model, and so
+					// not indexed
+					return null;
+				}
+				if (ref != null && !scope.contains(element) && scope.contains(ref)) {
+					addWithContainers(scope, element);
+					changed = true;
+				}
+			}
+		}
+		return scope;
+	}
+
+	private static void addWithContainers(Set<Object> scope, MApplicationElement element) {
+		EObject current = (EObject) element;
+		while (current != null && scope.add(current)) {
+			current = current.eContainer();
+		}
+	}
+
+	/**
+	 * @return the elements which are instances of the given type, or
+	 *         <code>null</code> if there are more than <code>limit</code>
+	 */
+	private Collection<MApplicationElement> getElementsOfType(Class<?> clazz, int limit) {
+		int size = 0;
+		for (Map.Entry<Class<?>, Set<MApplicationElement>> entry : elementsByClass.entrySet()) {
+			if (clazz.isAssignableFrom(entry.getKey())) {
+				size += entry.getValue().size();
+			}
+		}
+		if (size > limit) {
+			return null;
+		}
+		Set<MApplicationElement> result = newIdentitySet();
+		for (Map.Entry<Class<?>, Set<MApplicationElement>> entry : elementsByClass.entrySet()) {
+			if (clazz.isAssignableFrom(entry.getKey())) {
+				result.addAll(entry.getValue());
+			}
+		}
+		return result;
+	}
+
+	@Override
+	protected void setTarget(EObject target) {
+		super.setTarget(target);
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			if (elements.add(element)) {
+				add(elementsById, element.getElementId(), element);
+				for (String tag : element.getTags()) {
+					add(elementsByTag, tag, element);
+				}
+				add(elementsByClass, element.getClass(), element);
+			}
+		}
+	}
+
+	@Override
+	protected void unsetTarget(EObject target) {
+		super.unsetTarget(target);
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			if (elements.remove(element)) {
+				remove(elementsById, element.getElementId(), element);
+				for (String tag : element.getTags()) {
+					remove(elementsByTag, tag, element);
+				}
+				remove(elementsByClass, element.getClass(), element);
+			}
+		}
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		Object notifier = notification.getNotifier();
+		if (!(notifier instanceof MApplicationElement) || !elements.contains(notifier)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) notifier;
+		Object feature = notification.getFeature();
+		if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__ELEMENT_ID) {
+			remove(elementsById, notification.getOldStringValue(), element);
+			add(elementsById, notification.getNewStringValue(), element);
+		} else if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__TAGS) {
+			updateTags(notification, element);
+		}
+	}
+
+	private void updateTags(Notification notification, MApplicationElement element) {
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+		case Notification.SET:
+		case Notification.REMOVE:
+			removeTag((String) notification.getOldValue(), element);
+			addTag((String) notification.getNewValue(), element);
+			break;
+		case Notification.ADD_MANY:
+			for (Object tag : (Collection<?>) notification.getNewValue()) {
+				addTag((String) tag, element);
+			}
+			break;
+		case Notification.REMOVE_MANY:
+			for (Object tag : (Collection<?>) notification.getOldValue()) {
+				removeTag((String) tag, element);
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void addTag(String tag, MApplicationElement element) {
+		add(elementsByTag, tag, element);
+	}
+
+	private void removeTag(String tag, MApplicationElement element) {
+		// a tag may occur more than once
+		if (tag != null && !element.getTags().contains(tag)) {
+			remove(elementsByTag, tag, element);
+		}
+	}
+
+	private static <K> void add(Map<K, Set<MApplicationElement>> index, K key, MApplicationElement element) {
+		if (key != null) {
+			index.computeIfAbsent(key, k -> newIdentitySet()).add(element);
+		}
+	}
+
+	private static <K> void remove(Map<K, Set<MApplicationElement>> index, K key, MApplicationElement element) {
+		if (key == null) {
+			return;
+		}
+		Set<MApplicationElement> indexed = index.get(key);
+		if (indexed != null && indexed.remove(element) && indexed.isEmpty()) {
+			index.remove(key);
+		}
+	}
+
+	private static <T> Set<T> newIdentitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+}
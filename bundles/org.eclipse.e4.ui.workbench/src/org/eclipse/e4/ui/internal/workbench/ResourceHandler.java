@@ -15,6 +15,7 @@
  *     		Implemented workbench auto-save to correctly restore state in case of crash.
  *     Terry Parker <tparker@google.com> - Bug 416673
  *     Lars Vogel <Lars.Vogel@vogella.com> - Bug 393171
+ *     Contributors to the Eclipse Foundation - binary fast restore, startup profiling
  ******************************************************************************/
 
 package org.eclipse.e4.ui.internal.workbench;
@@ -46,14 +47,19 @@ import org.eclipse.e4.ui.model.application.ui.impl.UiPackageImpl;
 import org.eclipse.e4.ui.model.application.ui.menu.impl.MenuPackageImpl;
 import org.eclipse.e4.ui.workbench.IModelResourceHandler;
 import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.osgi.framework.Bundle;
 
@@ -62,8 +68,41 @@ import org.osgi.framework.Bundle;
  */
 public class ResourceHandler implements IModelResourceHandler {
 
+	/**
+	 * Tracks whether the persisted parts of the model changed since the last
+	 * save. Only used with {@link E4Workbench#MODEL_FAST_RESTORE}, where saving
+	 * an unchanged model would also rewrite the fast restore file.
+	 */
+	private static final class ModelChangeTracker extends EContentAdapter {
+
+		// the first save after loading always writes the model
+		private boolean changed = true;
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+			if (!changed && !notification.isTouch() && isPersisted(notification)) {
+				changed = true;
+			}
+		}
+
+		private static boolean isPersisted(Notification notification) {
+			Object feature = notification.getFeature();
+			if (feature instanceof EStructuralFeature && ((EStructuralFeature) feature).isTransient()) {
+				return false;
+			}
+			// values of map entries are persisted along with their map
+			if (notification.getNotifier() instanceof EObject notifier && notifier instanceof Map.Entry<?, ?>) {
+				EReference containment = notifier.eContainmentFeature();
+				return containment == null || !containment.isTransient();
+			}
+			return true;
+		}
+	}
+
 	private ResourceSet resourceSet;
 	private Resource resource;
+	private ModelChangeTracker changeTracker;
 
 	@Inject
 	private Logger logger;
@@ -90,6 +129,11 @@ public class ResourceHandler implements IModelResourceHandler {
 	@Named(IWorkbench.CLEAR_PERSISTED_STATE)
 	private boolean clearPersistedState;
 
+	@Inject
+	@Optional
+	@Named(E4Workbench.MODEL_FAST_RESTORE)
+	private boolean fastRestore;
+
 	/**
 	 * Constructor.
 	 */
@@ -150,6 +194,9 @@ public class ResourceHandler implements IModelResourceHandler {
 		if (clearPersistedState && workbenchData != null && workbenchData.exists()) {
 			workbenchData.delete();
 		}
+		if (clearPersistedState && workbenchData != null) {
+			ModelFastRestore.getLocation(workbenchData).delete();
+		}
 
 		// last stored time-stamp
 		long restoreLastModified = restoreLocation == null ? 0L : new File(
@@ -163,7 +210,14 @@ public class ResourceHandler implements IModelResourceHandler {
 
 		resource = null;
 		if (restore && saveAndRestore) {
-			resource = loadResource(restoreLocation);
+			try (StartupProfiler.Span span = StartupProfiler.begin("model", "Load persisted model")) { //$NON-NLS-1$ //$NON-NLS-2$
+				if (fastRestore) {
+					resource = loadFastRestoreResource(workbenchData, restoreLocation);
+				}
+				if (resource == null) {
+					resource = loadResource(restoreLocation);
+				}
+			}
 			// If the saved model does not have any top-level windows, Eclipse will exit
 			// immediately, so throw out the persisted state and reinitialize with the defaults.
 			if (!hasTopLevelWindows(resource)) {
@@ -192,8 +246,10 @@ public class ResourceHandler implements IModelResourceHandler {
 
 		ModelAssembler mac = context.get(ModelAssembler.class);
 		if (mac != null) {
-			ContextInjectionFactory.invoke(mac, PostConstruct.class, context);
-			mac.processModel(initialModel);
+			try (StartupProfiler.Span span = StartupProfiler.begin("model", "Assemble model")) { //$NON-NLS-1$ //$NON-NLS-2$
+				ContextInjectionFactory.invoke(mac, PostConstruct.class, context);
+				mac.processModel(initialModel);
+			}
 		}
 
 		if (!hasTopLevelWindows(resource) && logger != null) {
@@ -206,15 +262,72 @@ public class ResourceHandler implements IModelResourceHandler {
 		CommandLineOptionModelProcessor processor = ContextInjectionFactory.make(CommandLineOptionModelProcessor.class, context);
 		processor.process();
 
+		if (fastRestore) {
+			changeTracker = new ModelChangeTracker();
+			resource.eAdapters().add(changeTracker);
+		}
+
 		return resource;
 	}
 
+	/**
+	 * Loads the model from the fast restore file belonging to the given XMI
+	 * file, if it is up to date.
+	 *
+	 * @return the resource, or <code>null</code> if the XMI file has to be
+	 *         loaded instead
+	 */
+	private Resource loadFastRestoreResource(File workbenchData, URI restoreLocation) {
+		File fastRestoreData = ModelFastRestore.getLocation(workbenchData);
+		// the XMI file is the reference, it may have been written without the
+		// fast restore file
+		if (fastRestoreData.lastModified() < workbenchData.lastModified()) {
+			return null;
+		}
+		try {
+			return ModelFastRestore.load(resourceSet, fastRestoreData, restoreLocation);
+		} catch (Exception e) {
+			if (logger != null) {
+				logger.warn(e, "Unable to load " + fastRestoreData + ", loading " + restoreLocation + " instead"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			return null;
+		}
+	}
+
 	@Override
 	public void save() throws IOException {
 		if (saveAndRestore) {
+			URI uri = resource.getURI();
+			File workbenchData = uri.isFile() ? new File(uri.toFileString()) : null;
+			File fastRestoreData = workbenchData == null ? null : ModelFastRestore.getLocation(workbenchData);
+			if (changeTracker != null && !changeTracker.changed && workbenchData != null && workbenchData.exists()
+					&& fastRestoreData.exists()) {
+				// nothing persisted changed since the last save
+				return;
+			}
+
 			Map<String, Object> options = new HashMap<>();
 			options.put(E4XMIResource.OPTION_FILTER_PERSIST_STATE, Boolean.TRUE);
 			resource.save(options);
+			if (changeTracker != null) {
+				changeTracker.changed = false;
+			}
+
+			if (fastRestoreData != null) {
+				if (fastRestore && resource instanceof XMLResource) {
+					try {
+						ModelFastRestore.save((XMLResource) resource, fastRestoreData);
+					} catch (IOException e) {
+						fastRestoreData.delete();
+						if (logger != null) {
+							logger.warn(e, "Unable to save " + fastRestoreData); //$NON-NLS-1$
+						}
+					}
+				} else {
+					// do not leave an outdated copy behind
+					fastRestoreData.delete();
+				}
+			}
 		}
 	}
 
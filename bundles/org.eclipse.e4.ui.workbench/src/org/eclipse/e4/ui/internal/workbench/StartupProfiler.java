@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.SynchronousBundleListener;
+
+/**
+ * Records a timeline of nested spans while the workbench starts, e.g. bundle
+ * activation, extension registry reads, model assembly, CSS styling and part
+ * creation, and writes it in the Chrome trace event format once startup is
+ * complete. The file can be opened in <code>chrome://tracing</code> or
+ * <a href="https://ui.perfetto.dev">Perfetto</a>.
+ * <p>
+ * Spans are nested by time on each thread, so a span opened while another one
+ * is open on the same thread shows up as its child. Recording does not need a
+ * display and works in headless applications as well. When the profiler is not
+ * recording, {@link #begin(String, String)} returns a shared no-op span.
+ * </p>
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <pre>
+ * try (StartupProfiler.Span span = StartupProfiler.begin("model", "Load model")) {
+ * 	...
+ * }
+ * </pre>
+ */
+public final class StartupProfiler {
+
+	/**
+	 * The name of the file written to the state location of this bundle if no
+	 * file is given when starting the profiler.
+	 */
+	public static final String DEFAULT_FILE_NAME = "startup-trace.json"; //$NON-NLS-1$
+
+	/**
+	 * A span of the timeline, which ends when it is closed.
+	 */
+	public interface Span extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	private static final Span NO_SPAN = () -> {
+	};
+
+	private static volatile StartupProfiler current;
+
+	private final class Event implements Span {
+		final String category;
+		final String name;
+		final Thread thread;
+		final long start;
+		long end;
+
+		Event(String category, String name, Thread thread, long start) {
+			this.category = category;
+			this.name = name;
+			this.thread = thread;
+			this.start = start;
+		}
+
+		@Override
+		public void close() {
+			if (end == 0) {
+				end = System.nanoTime();
+				if (current == StartupProfiler.this) {
+					events.add(this);
+				}
+			}
+		}
+	}
+
+	private final File output;
+
+	private final long startNanos = System.nanoTime();
+
+	private final long startMillis = System.currentTimeMillis();
+
+	private final Queue<Event> events = new ConcurrentLinkedQueue<>();
+
+	private final Map<Bundle, Span> activations = new ConcurrentHashMap<>();
+
+	private final SynchronousBundleListener bundleListener = event -> {
+		switch (event.getType()) {
+		case BundleEvent.STARTING:
+			activations.put(event.getBundle(), begin("bundle", event.getBundle().getSymbolicName())); //$NON-NLS-1$
+			break;
+		case BundleEvent.STARTED:
+		case BundleEvent.STOPPED:
+			Span span = activations.remove(event.getBundle());
+			if (span != null) {
+				span.close();
+			}
+			break;
+		default:
+			break;
+		}
+	};
+
+	private BundleContext context;
+
+	private StartupProfiler(File output) {
+		this.output = output;
+	}
+
+	/**
+	 * Starts recording, unless the profiler is already recording.
+	 *
+	 * @param output the file to write the timeline to, or <code>null</code> to
+	 *               write it to {@value #DEFAULT_FILE_NAME} in the state location
+	 *               of this bundle
+	 * @return <code>true</code> if recording was started by this call
+	 */
+	public static synchronized boolean start(File output) {
+		if (current != null) {
+			return false;
+		}
+		StartupProfiler profiler = new StartupProfiler(output);
+		current = profiler;
+		Activator activator = Activator.getDefault();
+		if (activator != null && activator.getContext() != null) {
+			profiler.context = activator.getContext();
+			profiler.context.addBundleListener(profiler.bundleListener);
+		}
+		profiler.recordLaunch();
+		return true;
+	}
+
+	/**
+	 * @return whether the profiler is recording
+	 */
+	public static boolean isRecording() {
+		return current != null;
+	}
+
+	/**
+	 * Opens a span on the current thread.
+	 *
+	 * @param category the category of the span, e.g. <code>css</code>
+	 * @param name     the name of the span
+	 * @return the span to close once the work is done, never <code>null</code>
+	 */
+	public static Span begin(String category, String name) {
+		StartupProfiler profiler = current;
+		if (profiler == null) {
+			return NO_SPAN;
+		}
+		return profiler.new Event(category, name, Thread.currentThread(), System.nanoTime());
+	}
+
+	/**
+	 * Stops recording and writes the timeline. Spans which are still open are
+	 * not written. Does nothing if the profiler is not recording.
+	 */
+	public static void complete() {
+		StartupProfiler profiler;
+		synchronized (StartupProfiler.class) {
+			profiler = current;
+			if (profiler == null) {
+				return;
+			}
+			current = null;
+		}
+		if (profiler.context != null) {
+			profiler.context.removeBundleListener(profiler.bundleListener);
+		}
+		File file = profiler.output != null ? profiler.output : getDefaultOutput();
+		try {
+			File parent = file.getParentFile();
+			if (parent != null) {
+				parent.mkdirs();
+			}
+			try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+				profiler.write(writer);
+			}
+		} catch (IOException e) {
+			ILog.of(StartupProfiler.class).error("Unable to write the startup profile to " + file, e); //$NON-NLS-1$
+		}
+	}
+
+	private static File getDefaultOutput() {
+		Activator activator = Activator.getDefault();
+		if (activator != null && activator.getContext() != null) {
+			try {
+				return Platform.getStateLocation(activator.getContext().getBundle()).append(DEFAULT_FILE_NAME)
+						.toFile();
+			} catch (IllegalStateException e) {
+				// no instance location, e.g. -data @none
+			}
+		}
+		return new File(System.getProperty("java.io.tmpdir"), DEFAULT_FILE_NAME); //$NON-NLS-1$
+	}
+
+	/*
+	 * Records the time spent launching the platform before the profiler was
+	 * started, if the launcher reported its start time.
+	 */
+	private void recordLaunch() {
+		String startTime = System.getProperty("eclipse.startTime"); //$NON-NLS-1$
+		if (startTime == null) {
+			return;
+		}
+		try {
+			long launchMillis = startMillis - Long.parseLong(startTime);
+			if (launchMillis > 0) {
+				Event launch = new Event("platform", "Launch", Thread.currentThread(), //$NON-NLS-1$ //$NON-NLS-2$
+						startNanos - launchMillis * 1_000_000L);
+				launch.end = startNanos;
+				events.add(launch);
+			}
+		} catch (NumberFormatException e) {
+			// no launch span then
+		}
+	}
+
+	/**
+	 * Writes the recorded spans as a JSON object in the Chrome trace event
+	 * format.
+	 */
+	void write(Writer writer) throws IOException {
+		List<Event> recorded = new ArrayList<>(events);
+		recorded.sort(Comparator.comparingLong((Event event) -> event.start));
+		long origin = recorded.isEmpty() ? startNanos : Math.min(startNanos, recorded.get(0).start);
+		Map<Thread, Long> threads = new LinkedHashMap<>();
+		writer.write("{\"displayTimeUnit\":\"ms\",\"otherData\":{\"startTime\":"); //$NON-NLS-1$
+		writer.write(Long.toString(startMillis - (startNanos - origin) / 1_000_000L));
+		writer.write("},\"traceEvents\":["); //$NON-NLS-1$
+		boolean first = true;
+		for (Event event : recorded) {
+			Long tid = threads.computeIfAbsent(event.thread, thread -> Long.valueOf(threads.size() + 1));
+			if (!first) {
+				writer.write(',');
+			}
+			first = false;
+			writer.write("\n{\"ph\":\"X\",\"pid\":1,\"tid\":"); //$NON-NLS-1$
+			writer.write(tid.toString());
+			writer.write(",\"ts\":"); //$NON-NLS-1$
+			writer.write(Long.toString((event.start - origin) / 1000L));
+			writer.write(",\"dur\":"); //$NON-NLS-1$
+			writer.write(Long.toString((event.end - event.start) / 1000L));
+			writer.write(",\"cat\":"); //$NON-NLS-1$
+			writeString(writer, event.category);
+			writer.write(",\"name\":"); //$NON-NLS-1$
+			writeString(writer, event.name);
+			writer.write('}');
+		}
+		for (Map.Entry<Thread, Long> thread : threads.entrySet()) {
+			if (!first) {
+				writer.write(',');
+			}
+			first = false;
+			writer.write("\n{\"ph\":\"M\",\"pid\":1,\"tid\":"); //$NON-NLS-1$
+			writer.write(thread.getValue().toString());
+			writer.write(",\"name\":\"thread_name\",\"args\":{\"name\":"); //$NON-NLS-1$
+			writeString(writer, thread.getKey().getName());
+			writer.write("}}"); //$NON-NLS-1$
+		}
+		writer.write("\n]}\n"); //$NON-NLS-1$
+	}
+
+	private static void writeString(Writer writer, String value) throws IOException {
+		writer.write('"');
+		if (value != null) {
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				switch (c) {
+				case '"':
+					writer.write("\\\""); //$NON-NLS-1$
+					break;
+				case '\\':
+					writer.write("\\\\"); //$NON-NLS-1$
+					break;
+				case '\n':
+					writer.write("\\n"); //$NON-NLS-1$
+					break;
+				case '\r':
+					writer.write("\\r"); //$NON-NLS-1$
+					break;
+				case '\t':
+					writer.write("\\t"); //$NON-NLS-1$
+					break;
+				default:
+					if (c < 0x20) {
+						writer.write(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+					} else {
+						writer.write(c);
+					}
+				}
+			}
+		}
+		writer.write('"');
+	}
+}
@@ -11,11 +11,18 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *     Lars Vogel <Lars.Vogel@vogella.com> - Bug 472654
+ *     Contributors to the Eclipse Foundation - cached topics, batched publication
  *******************************************************************************/
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -30,18 +37,110 @@ import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
 
 /**
  * Transforms E4 MPart events into 3.x legacy events.
+ * <p>
+ * Every model change is sent as its own event. Model changes made through
+ * {@link #runBatched(Runnable)} are additionally coalesced per element and
+ * attribute and sent as a single event on {@link #BATCH_TOPIC} once the batch
+ * completes. Subscribers that only need to know the net result of a bulk
+ * model operation can subscribe to that topic instead of the individual model
+ * topics.
+ * </p>
+ * <p>
+ * Batching is opt-in: the changes of a batch are only recorded if an event
+ * handler is subscribed to exactly {@link #BATCH_TOPIC} when the batch starts,
+ * so bulk model operations cost nothing extra otherwise.
+ * </p>
  */
 public class UIEventPublisher extends EContentAdapter {
 
+	/**
+	 * Topic of the compound event sent at the end of a
+	 * {@link #runBatched(Runnable) batch}. The {@link #BATCH_EVENTS} property of
+	 * the event holds the coalesced model events.
+	 */
+	public static final String BATCH_TOPIC = UIEvents.UITopicBase + UIEvents.TOPIC_SEP + "modelBatch"; //$NON-NLS-1$
+
+	/**
+	 * Property of a {@link #BATCH_TOPIC} event holding the unmodifiable
+	 * {@link List} of coalesced {@link Event}s, in the order the elements and
+	 * attributes were first changed. Each event has the topic and properties of
+	 * a regular model event:
+	 * <ul>
+	 * <li>changes of a single valued attribute are reported as one
+	 * {@link EventTypes#SET} event carrying the first old and the last new
+	 * value, changes which cancel each other out are dropped</li>
+	 * <li>changes of a multi valued attribute are reported as a
+	 * {@link EventTypes#REMOVE_MANY} event with the removed values and an
+	 * {@link EventTypes#ADD_MANY} event with the added values, or as a
+	 * {@link EventTypes#MOVE} event without values if the attribute was only
+	 * reordered</li>
+	 * </ul>
+	 */
+	public static final String BATCH_EVENTS = "BatchEvents"; //$NON-NLS-1$
+
 	private IEclipseContext context;
 
+	/**
+	 * The topics of the model features, indexed by the EMF notification type.
+	 */
+	private final Map<EStructuralFeature, String[]> topics = new HashMap<>();
+
+	private static final String BATCH_FILTER = "(" + EventConstants.EVENT_TOPIC + "=" + BATCH_TOPIC + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private int batchDepth;
+
+	private boolean recordBatch;
+
+	private final Map<BatchKey, BatchedChange> batchedChanges = new LinkedHashMap<>();
+
 	public UIEventPublisher(IEclipseContext e4Context) {
 		this.context = e4Context;
 	}
 
+	/**
+	 * Runs the given runnable, coalescing the model changes it makes into a
+	 * single {@link #BATCH_TOPIC} event sent when it completes. The individual
+	 * model events are still sent as the changes happen. Nested calls are
+	 * merged into the outermost batch. If no handler is subscribed to
+	 * {@link #BATCH_TOPIC}, the runnable is just run.
+	 *
+	 * @param runnable the model changes to make
+	 */
+	public void runBatched(Runnable runnable) {
+		if (batchDepth++ == 0) {
+			recordBatch = hasBatchSubscribers();
+		}
+		try {
+			runnable.run();
+		} finally {
+			if (--batchDepth == 0 && recordBatch) {
+				recordBatch = false;
+				sendBatch();
+			}
+		}
+	}
+
+	private static boolean hasBatchSubscribers() {
+		Activator activator = Activator.getDefault();
+		BundleContext bundleContext = activator == null ? null : activator.getContext();
+		if (bundleContext == null) {
+			return false;
+		}
+		try {
+			return !bundleContext.getServiceReferences(EventHandler.class, BATCH_FILTER).isEmpty();
+		} catch (InvalidSyntaxException | IllegalStateException e) {
+			return false;
+		}
+	}
+
 	@Override
 	public void notifyChanged(Notification notification) {
 		super.notifyChanged(notification);
@@ -58,6 +157,187 @@ public class UIEventPublisher extends EContentAdapter {
 		if (topic != null) {
 			IEventBroker eventManager = context.get(IEventBroker.class);
 			eventManager.send(topic, argMap);
+			if (recordBatch) {
+				addToBatch(notification, topic, argMap);
+			}
+		}
+	}
+
+	private void addToBatch(Notification notification, String topic, Map<String, Object> argMap) {
+		MApplicationElement element = (MApplicationElement) argMap.get(EventTags.ELEMENT);
+		String topicBase = topic.substring(0, topic.lastIndexOf(UIEvents.TOPIC_SEP));
+		Object oldValue = argMap.get(EventTags.OLD_VALUE);
+		Object newValue = argMap.get(EventTags.NEW_VALUE);
+		boolean many = notification.getFeature() instanceof EStructuralFeature feature && feature.isMany();
+		// SET events of map values are coalesced per key
+		Object mapKey = !many && newValue instanceof Map.Entry<?, ?> entry ? entry.getKey() : null;
+		BatchKey key = new BatchKey(element, topicBase, mapKey);
+		BatchedChange change = batchedChanges.get(key);
+		if (change == null) {
+			change = new BatchedChange(element, (String) argMap.get(EventTags.ATTNAME), topicBase);
+			batchedChanges.put(key, change);
+		}
+
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			change.added(notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			for (Object value : (Collection<?>) notification.getNewValue()) {
+				change.added(value);
+			}
+			break;
+		case Notification.REMOVE:
+			change.removed(notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			for (Object value : (Collection<?>) notification.getOldValue()) {
+				change.removed(value);
+			}
+			break;
+		case Notification.MOVE:
+			change.moved = true;
+			break;
+		default:
+			if (many) {
+				// replacement of a list entry
+				change.removed(notification.getOldValue());
+				change.added(notification.getNewValue());
+			} else {
+				change.set(oldValue, newValue);
+			}
+		}
+	}
+
+	private void sendBatch() {
+		if (batchedChanges.isEmpty()) {
+			return;
+		}
+		List<Event> events = new ArrayList<>(batchedChanges.size());
+		for (BatchedChange change : batchedChanges.values()) {
+			change.createEvents(events);
+		}
+		batchedChanges.clear();
+		if (!events.isEmpty()) {
+			IEventBroker eventManager = context.get(IEventBroker.class);
+			eventManager.send(BATCH_TOPIC,
+					Collections.singletonMap(BATCH_EVENTS, Collections.unmodifiableList(events)));
+		}
+	}
+
+	private static final class BatchKey {
+		final MApplicationElement element;
+		final String topicBase;
+		final Object mapKey;
+
+		BatchKey(MApplicationElement element, String topicBase, Object mapKey) {
+			this.element = element;
+			this.topicBase = topicBase;
+			this.mapKey = mapKey;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			// model elements are compared by identity
+			return obj instanceof BatchKey other && element == other.element && topicBase.equals(other.topicBase)
+					&& Objects.equals(mapKey, other.mapKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(element) * 31 + topicBase.hashCode() * 17 + Objects.hashCode(mapKey);
+		}
+	}
+
+	/**
+	 * The coalesced changes of one attribute of one element.
+	 */
+	private static final class BatchedChange {
+		final MApplicationElement element;
+		final String attributeName;
+		final String topicBase;
+
+		boolean set;
+		Object oldValue;
+		Object newValue;
+
+		// net number of additions per value of a multi valued attribute
+		Map<Object, Integer> counts;
+		boolean moved;
+
+		BatchedChange(MApplicationElement element, String attributeName, String topicBase) {
+			this.element = element;
+			this.attributeName = attributeName;
+			this.topicBase = topicBase;
+		}
+
+		void set(Object oldValue, Object newValue) {
+			if (!set) {
+				set = true;
+				this.oldValue = oldValue;
+			}
+			this.newValue = newValue;
+		}
+
+		void added(Object value) {
+			if (counts == null) {
+				counts = new LinkedHashMap<>();
+			}
+			counts.merge(value, 1, Integer::sum);
+		}
+
+		void removed(Object value) {
+			if (counts == null) {
+				counts = new LinkedHashMap<>();
+			}
+			counts.merge(value, -1, Integer::sum);
+		}
+
+		void createEvents(List<Event> events) {
+			if (set && !Objects.equals(oldValue, newValue)) {
+				events.add(createEvent(EventTypes.SET, oldValue, newValue));
+			}
+			if (counts != null) {
+				List<Object> removed = new ArrayList<>();
+				List<Object> added = new ArrayList<>();
+				for (Map.Entry<Object, Integer> entry : counts.entrySet()) {
+					int count = entry.getValue().intValue();
+					for (int i = count; i < 0; i++) {
+						removed.add(entry.getKey());
+					}
+					for (int i = 0; i < count; i++) {
+						added.add(entry.getKey());
+					}
+				}
+				if (!removed.isEmpty()) {
+					events.add(createEvent(EventTypes.REMOVE_MANY, removed, null));
+				}
+				if (!added.isEmpty()) {
+					events.add(createEvent(EventTypes.ADD_MANY, null, added));
+				}
+				if (removed.isEmpty() && added.isEmpty() && moved) {
+					events.add(createEvent(EventTypes.MOVE, null, null));
+				}
+			} else if (moved) {
+				events.add(createEvent(EventTypes.MOVE, null, null));
+			}
+		}
+
+		private Event createEvent(String type, Object oldValue, Object newValue) {
+			Map<String, Object> properties = new HashMap<>();
+			properties.put(EventTags.TYPE, type);
+			properties.put(EventTags.ELEMENT, element);
+			properties.put(EventTags.ATTNAME, attributeName);
+			if (newValue != null) {
+				properties.put(EventTags.NEW_VALUE, newValue);
+			}
+			if (oldValue != null) {
+				properties.put(EventTags.OLD_VALUE, oldValue);
+			}
+			if (element instanceof MUIElement) {
+				properties.put(EventTags.WIDGET, ((MUIElement) element).getWidget());
+			}
+			return new Event(topicBase + UIEvents.TOPIC_SEP + type, properties);
 		}
 	}
 
@@ -115,7 +395,7 @@ public class UIEventPublisher extends EContentAdapter {
 			appElement = (MApplicationElement) notifier;
 			feature = (EStructuralFeature) notification.getFeature();
 			attributeName = feature.getName();
-			topic = getTopic(feature, getEventType(notification));
+			topic = getTopic(feature, notification.getEventType());
 			switch (notification.getEventType()) {
 			case Notification.MOVE:
 				// for MOVE, oldValue is actually the source position
@@ -226,7 +506,11 @@ public class UIEventPublisher extends EContentAdapter {
 	}
 
 	private String getEventType(Notification notification) {
-		switch (notification.getEventType()) {
+		return getEventType(notification.getEventType());
+	}
+
+	private String getEventType(int eventType) {
+		switch (eventType) {
 		case Notification.ADD:
 			return EventTypes.ADD;
 
@@ -269,6 +553,22 @@ public class UIEventPublisher extends EContentAdapter {
 		};
 	}
 
+	private String getTopic(EStructuralFeature eFeature, int eventType) {
+		// the topics are built once per feature and event type, as this runs for
+		// every model change
+		String[] featureTopics = topics.computeIfAbsent(eFeature,
+				f -> new String[Notification.EVENT_TYPE_COUNT]);
+		if (eventType < 0 || eventType >= featureTopics.length) {
+			return getTopic(eFeature, getEventType(eventType));
+		}
+		String topic = featureTopics[eventType];
+		if (topic == null) {
+			topic = getTopic(eFeature, getEventType(eventType));
+			featureTopics[eventType] = topic;
+		}
+		return topic;
+	}
+
 	private String getTopic(EStructuralFeature eFeature, String type) {
 		EClass eContainingClass = eFeature.getEContainingClass();
 		return UIEvents.UIModelTopicBase + UIEvents.TOPIC_SEP
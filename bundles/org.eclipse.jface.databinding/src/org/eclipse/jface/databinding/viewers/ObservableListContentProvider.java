@@ -17,12 +17,15 @@
 
 package org.eclipse.jface.databinding.viewers;
 
+import java.util.Collection;
 import java.util.Set;
 
+import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.IObservableCollection;
 import org.eclipse.core.databinding.observable.list.IListChangeListener;
 import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiff;
 import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.runtime.Assert;
@@ -47,11 +50,23 @@ import org.eclipse.jface.viewers.Viewer;
  * @since 1.1
  */
 public class ObservableListContentProvider<E> implements IStructuredContentProvider {
-	private ObservableCollectionContentProvider<E> impl;
+	private Impl<E> impl;
 
 	private static class Impl<E> extends ObservableCollectionContentProvider<E> implements IListChangeListener<E> {
 		private Viewer viewer;
 
+		int bulkUpdateThreshold = Integer.MAX_VALUE;
+
+		boolean coalesceUpdates;
+
+		/**
+		 * The merged diff of all changes which have not been applied to the
+		 * viewer yet, or <code>null</code>.
+		 */
+		private ListDiff<? extends E> pendingDiff;
+
+		private IObservableList<? extends E> pendingList;
+
 		Impl(IViewerUpdater<E> explicitViewerUpdater) {
 			super(explicitViewerUpdater);
 		}
@@ -59,9 +74,23 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 		@Override
 		public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
 			this.viewer = viewer;
+			pendingDiff = null;
+			pendingList = null;
 			super.inputChanged(viewer, oldInput, newInput);
 		}
 
+		@Override
+		public Object[] getElements(Object inputElement) {
+			// the viewer is about to show the current contents of the list, so
+			// pending changes must not be applied to it a second time
+			if (pendingDiff != null) {
+				ListDiff<? extends E> diff = pendingDiff;
+				pendingDiff = null;
+				applyDiff(diff, pendingList, false);
+			}
+			return super.getElements(inputElement);
+		}
+
 		@Override
 		protected void checkInput(Object input) {
 			Assert.isTrue(input instanceof IObservableList,
@@ -83,11 +112,46 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 			if (isViewerDisposed())
 				return;
 
+			if (coalesceUpdates) {
+				if (pendingDiff == null) {
+					pendingDiff = event.diff;
+					viewer.getControl().getDisplay().asyncExec(this::flushPendingDiff);
+				} else {
+					pendingDiff = Diffs.mergeDiffs(pendingDiff, event.diff);
+				}
+				pendingList = event.getObservableList();
+				return;
+			}
+
+			applyDiff(event.diff, event.getObservableList(), true);
+		}
+
+		void flushPendingDiff() {
+			ListDiff<? extends E> diff = pendingDiff;
+			pendingDiff = null;
+			if (diff == null || knownElements == null || isViewerDisposed())
+				return;
+			applyDiff(diff, pendingList, true);
+		}
+
+		/**
+		 * Applies the given diff to the known and realized elements and,
+		 * optionally, to the viewer.
+		 *
+		 * @param diff
+		 *            the diff to apply
+		 * @param list
+		 *            the contents of the input list after the change
+		 * @param updateViewer
+		 *            whether the viewer has to be updated, <code>false</code>
+		 *            if the viewer is about to be refreshed anyway
+		 */
+		private void applyDiff(ListDiff<? extends E> diff, Collection<? extends E> list, boolean updateViewer) {
 			// Determine which elements were added and removed
 			final Set<E> knownElementAdditions = ViewerElementSet.withComparer(comparer);
 			final Set<E> knownElementRemovals = ViewerElementSet.withComparer(comparer);
 			final boolean[] suspendRedraw = new boolean[] { false };
-			event.diff.accept(new ListDiffVisitor<E>() {
+			diff.accept(new ListDiffVisitor<E>() {
 				@Override
 				public void handleAdd(int index, E element) {
 					knownElementAdditions.add(element);
@@ -111,17 +175,34 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 				}
 			});
 			knownElementAdditions.removeAll(knownElements);
-			knownElementRemovals.removeAll(event.getObservableList());
+			knownElementRemovals.removeAll(list);
 
 			knownElements.addAll(knownElementAdditions);
 			if (realizedElements != null) {
 				realizedElements.removeAll(knownElementRemovals);
 			}
 
-			if (suspendRedraw[0])
+			if (updateViewer)
+				updateViewer(diff, suspendRedraw[0]);
+
+			if (realizedElements != null) {
+				realizedElements.addAll(knownElementAdditions);
+			}
+			knownElements.removeAll(knownElementRemovals);
+		}
+
+		private void updateViewer(ListDiff<? extends E> diff, boolean suspendRedraw) {
+			// above the threshold a single refresh is cheaper than updating
+			// the viewer entry by entry
+			boolean bulkUpdate = diff.getDifferences().length >= bulkUpdateThreshold;
+			if (suspendRedraw || bulkUpdate)
 				viewer.getControl().setRedraw(false);
 			try {
-				event.diff.accept(new ListDiffVisitor<E>() {
+				if (bulkUpdate) {
+					viewer.refresh();
+					return;
+				}
+				diff.accept(new ListDiffVisitor<E>() {
 					@Override
 					public void handleAdd(int index, E element) {
 						viewerUpdater.insert(element, index);
@@ -143,14 +224,9 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 					}
 				});
 			} finally {
-				if (suspendRedraw[0])
+				if (suspendRedraw || bulkUpdate)
 					viewer.getControl().setRedraw(true);
 			}
-
-			if (realizedElements != null) {
-				realizedElements.addAll(knownElementAdditions);
-			}
-			knownElements.removeAll(knownElementRemovals);
 		}
 	}
 
@@ -202,6 +278,44 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 		impl.dispose();
 	}
 
+	/**
+	 * Sets the number of changes from which on a change of the input list is
+	 * applied by refreshing the whole viewer with redraw turned off, instead
+	 * of inserting, removing and moving the affected viewer items one by one.
+	 * By default, changes are always applied entry by entry.
+	 *
+	 * @param threshold
+	 *            the minimum number of {@link ListDiff#getDifferences()
+	 *            difference entries} of a change for which the viewer is
+	 *            refreshed; must be positive. Pass {@link Integer#MAX_VALUE}
+	 *            to disable bulk updates.
+	 * @since 1.16
+	 */
+	public void setBulkUpdateThreshold(int threshold) {
+		Assert.isTrue(threshold > 0, "Threshold must be positive"); //$NON-NLS-1$
+		impl.bulkUpdateThreshold = threshold;
+	}
+
+	/**
+	 * Sets whether changes of the input list are coalesced. If enabled, all
+	 * changes arriving within the same turn of the event loop are merged and
+	 * applied to the viewer together, asynchronously on the display thread.
+	 * Combined with {@link #setBulkUpdateThreshold(int)}, this turns a burst
+	 * of small changes into a single refresh of the viewer. Until the merged
+	 * change has been applied, the viewer and the
+	 * {@link #getKnownElements() known elements} do not reflect the latest
+	 * contents of the input list. Disabled by default.
+	 *
+	 * @param coalesce
+	 *            whether changes are coalesced
+	 * @since 1.16
+	 */
+	public void setCoalesceUpdates(boolean coalesce) {
+		impl.coalesceUpdates = coalesce;
+		if (!coalesce)
+			impl.flushPendingDiff();
+	}
+
 	/**
 	 * Returns the set of elements known to this content provider. Label
 	 * providers may track this set if they need to be notified about additions
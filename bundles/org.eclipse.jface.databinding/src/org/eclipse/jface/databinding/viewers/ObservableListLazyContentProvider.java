@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.jface.databinding.viewers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
+import org.eclipse.core.databinding.observable.list.PagedObservableList;
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.viewers.AbstractTableViewer;
+import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.Viewer;
+
+/**
+ * An {@link ILazyContentProvider lazy content provider} for an
+ * {@link AbstractTableViewer} created with the <code>SWT.VIRTUAL</code> style,
+ * which provides the elements of an {@link IObservableList} set as the
+ * viewer's input. Only the elements of the rows the table actually shows are
+ * requested from the list, which makes this content provider suitable for a
+ * {@link PagedObservableList} holding a very large number of elements.
+ * <p>
+ * Elements which are <code>null</code>, e.g. because their page has not been
+ * loaded yet, are left empty in the table until the list fires a change
+ * replacing them. Changes which only replace elements update the affected
+ * rows; all other changes update the item count and refresh the table, which
+ * for a virtual table only clears the rows.
+ * </p>
+ *
+ * @param <E> type of the elements in the input list
+ *
+ * @noextend This class is not intended to be subclassed by clients.
+ * @since 1.16
+ */
+public class ObservableListLazyContentProvider<E> implements ILazyContentProvider {
+	private AbstractTableViewer viewer;
+
+	private IObservableList<E> list;
+
+	private final IListChangeListener<E> listener = this::handleListChange;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		Assert.isTrue(viewer instanceof AbstractTableViewer,
+				"This content provider only works with AbstractTableViewer"); //$NON-NLS-1$
+		Assert.isTrue(newInput == null || newInput instanceof IObservableList,
+				"This content provider only works with input of type IObservableList"); //$NON-NLS-1$
+
+		if (list != null) {
+			list.removeListChangeListener(listener);
+		}
+		this.viewer = (AbstractTableViewer) viewer;
+		this.list = (IObservableList<E>) newInput;
+		if (list != null) {
+			list.addListChangeListener(listener);
+			this.viewer.setItemCount(list.size());
+		}
+	}
+
+	@Override
+	public void updateElement(int index) {
+		if (list == null || index >= list.size()) {
+			return;
+		}
+		E element = list.get(index);
+		if (element != null) {
+			viewer.replace(element, index);
+		}
+	}
+
+	private void handleListChange(ListChangeEvent<? extends E> event) {
+		if (viewer == null || viewer.getControl() == null || viewer.getControl().isDisposed()) {
+			return;
+		}
+
+		final boolean[] structuralChange = { false };
+		final Map<Integer, E> replacements = new LinkedHashMap<>();
+		event.diff.accept(new ListDiffVisitor<E>() {
+			@Override
+			public void handleAdd(int index, E element) {
+				structuralChange[0] = true;
+			}
+
+			@Override
+			public void handleRemove(int index, E element) {
+				structuralChange[0] = true;
+			}
+
+			@Override
+			public void handleMove(int oldIndex, int newIndex, E element) {
+				structuralChange[0] = true;
+			}
+
+			@Override
+			public void handleReplace(int index, E oldElement, E newElement) {
+				replacements.put(index, newElement);
+			}
+		});
+
+		if (structuralChange[0]) {
+			viewer.setItemCount(list.size());
+			viewer.refresh();
+			return;
+		}
+		replacements.forEach((index, element) -> {
+			if (element != null) {
+				viewer.replace(element, index);
+			} else {
+				viewer.clear(index);
+			}
+		});
+	}
+
+	/**
+	 * Disposes of this content provider. This is called by the viewer when a
+	 * content provider is replaced, or when the viewer itself is disposed.
+	 */
+	@Override
+	public void dispose() {
+		if (list != null) {
+			list.removeListChangeListener(listener);
+			list = null;
+		}
+		viewer = null;
+	}
+}
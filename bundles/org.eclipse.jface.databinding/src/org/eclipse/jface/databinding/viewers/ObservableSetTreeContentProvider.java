@@ -23,6 +23,7 @@ import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.ISetChangeListener;
 import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.internal.databinding.viewers.ObservableCollectionTreeContentProvider;
 import org.eclipse.jface.internal.databinding.viewers.ViewerElementSet;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
@@ -42,9 +43,11 @@ import org.eclipse.jface.viewers.Viewer;
  * @since 1.2
  */
 public class ObservableSetTreeContentProvider<E> implements ITreeContentProvider {
-	private final ObservableCollectionTreeContentProvider<E> impl;
+	private final Impl<E> impl;
 
 	private static class Impl<E> extends ObservableCollectionTreeContentProvider<E> {
+		int bulkUpdateThreshold = Integer.MAX_VALUE;
+
 		Impl(IObservableFactory<? super E, ? extends IObservableSet<E>> setFactory,
 				TreeStructureAdvisor<? super E> structureAdvisor) {
 			super(setFactory, structureAdvisor);
@@ -81,8 +84,12 @@ public class ObservableSetTreeContentProvider<E> implements ITreeContentProvider
 					getOrCreateNode(element).addParent(parentElement);
 				}
 
-				viewerUpdater.add(parentElement, localAdditions.toArray());
-				viewerUpdater.remove(parentElement, localRemovals.toArray());
+				if (localAdditions.size() + localRemovals.size() >= bulkUpdateThreshold) {
+					viewerUpdater.refresh(parentElement);
+				} else {
+					viewerUpdater.add(parentElement, localAdditions.toArray());
+					viewerUpdater.remove(parentElement, localRemovals.toArray());
+				}
 
 				for (E element : localRemovals) {
 					TreeNode childNode = getExistingNode(element);
@@ -183,6 +190,23 @@ public class ObservableSetTreeContentProvider<E> implements ITreeContentProvider
 		impl.dispose();
 	}
 
+	/**
+	 * Sets the number of added and removed children from which on a change of
+	 * a child set is applied by refreshing the parent element with redraw
+	 * turned off, instead of adding and removing the affected tree items one
+	 * by one. By default, changes are always applied element by element.
+	 *
+	 * @param threshold
+	 *            the minimum number of added and removed elements of a change
+	 *            for which the parent element is refreshed; must be positive.
+	 *            Pass {@link Integer#MAX_VALUE} to disable bulk updates.
+	 * @since 1.16
+	 */
+	public void setBulkUpdateThreshold(int threshold) {
+		Assert.isTrue(threshold > 0, "Threshold must be positive"); //$NON-NLS-1$
+		impl.bulkUpdateThreshold = threshold;
+	}
+
 	/**
 	 * Returns the set of elements known to this content provider. Label
 	 * providers may track this set if they need to be notified about additions
@@ -23,6 +23,7 @@ import org.eclipse.jface.viewers.ITreeSelection;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.TreeSelection;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.widgets.Control;
 
 /**
  * NON-API - An interface for sending updates to an {@link AbstractTreeViewer}.
@@ -62,6 +63,25 @@ public class TreeViewerUpdater {
 		viewer.insert(parent, element, position);
 	}
 
+	/**
+	 * Refreshes the children of the specified parent element with redraw
+	 * turned off. Used instead of {@link #add(Object, Object[])} and
+	 * {@link #remove(Object, Object[])} when a large number of children
+	 * changed at once.
+	 *
+	 * @param parent
+	 *            the parent element whose children changed
+	 */
+	public void refresh(Object parent) {
+		Control control = viewer.getControl();
+		control.setRedraw(false);
+		try {
+			viewer.refresh(parent, false);
+		} finally {
+			control.setRedraw(true);
+		}
+	}
+
 	/**
 	 * Replaces the specified element whenever it appears as a child of the
 	 * specified parent element, at the given position with the new element.
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageDataProvider;
+
+/**
+ * An LRU cache of image data decoded ahead of time on worker threads, bounded
+ * by the number of bytes of the decoded pixels. Entries are keyed by image
+ * descriptor and zoom level, so only descriptors with stable
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} (see
+ * {@link DeviceResourceDescriptor#shouldBeCached()}) are cached.
+ * <p>
+ * The decoded data stays in the cache after it has been handed over to SWT,
+ * see {@link ImageDescriptor#createResource(org.eclipse.swt.graphics.Device)},
+ * so images created again from the same descriptor are not decoded again.
+ * </p>
+ *
+ * @see ResourceManager#createAsync(ImageDescriptor)
+ */
+final class ImageDataCache {
+
+	/**
+	 * Maximum number of bytes of decoded image data kept, 16 MB by default.
+	 */
+	private static final long CACHE_BYTES = Long.getLong("org.eclipse.jface.resource.imageDataCacheBytes", 16L << 20) //$NON-NLS-1$
+			.longValue();
+
+	private static final ImageDataCache INSTANCE = new ImageDataCache(CACHE_BYTES);
+
+	private record Key(ImageDescriptor descriptor, int zoom) {
+	}
+
+	/**
+	 * Hands out a copy of the preloaded data and decodes any other zoom level
+	 * on demand. A fresh instance is used for every image to preserve the
+	 * Image#equals invariant.
+	 */
+	private static final class PreloadedImageDataProvider implements ImageDataProvider {
+
+		private final ImageDescriptor descriptor;
+
+		PreloadedImageDataProvider(ImageDescriptor descriptor) {
+			this.descriptor = descriptor;
+		}
+
+		@Override
+		public ImageData getImageData(int zoom) {
+			ImageData data = INSTANCE.get(descriptor, zoom);
+			return data != null ? data : descriptor.getImageData(zoom);
+		}
+	}
+
+	private static ThreadPoolExecutor decoder;
+
+	/**
+	 * The decoded data in access order, guarded by itself together with
+	 * {@link #cachedBytes}.
+	 */
+	private final LinkedHashMap<Key, ImageData> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final long maxBytes;
+
+	private long cachedBytes;
+
+	ImageDataCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	static ImageDataCache getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns whether image data can be decoded ahead of time for the given
+	 * descriptor.
+	 */
+	boolean isCacheable(ImageDescriptor descriptor) {
+		return maxBytes > 0 && descriptor.shouldBeCached();
+	}
+
+	/**
+	 * Decodes the image data of the given descriptor for the given zoom levels on
+	 * a worker thread.
+	 *
+	 * @param descriptor the descriptor, must be cacheable
+	 * @param zooms      the zoom levels to decode
+	 * @return a future completing on the worker thread once the data is decoded;
+	 *         decoding errors are ignored here and reported again when the image
+	 *         is created
+	 */
+	CompletableFuture<Void> decodeAsync(ImageDescriptor descriptor, int... zooms) {
+		return CompletableFuture.runAsync(() -> {
+			for (int zoom : zooms) {
+				decode(descriptor, zoom);
+			}
+		}, getDecoder());
+	}
+
+	private void decode(ImageDescriptor descriptor, int zoom) {
+		Key key = new Key(descriptor, zoom);
+		synchronized (cache) {
+			if (cache.containsKey(key)) {
+				return;
+			}
+		}
+		ImageData data;
+		try {
+			data = descriptor.getImageData(zoom);
+		} catch (SWTException | IllegalArgumentException e) {
+			return;
+		}
+		if (data == null) {
+			return;
+		}
+		long bytes = sizeOf(data);
+		if (bytes > maxBytes) {
+			return;
+		}
+		synchronized (cache) {
+			ImageData previous = cache.put(key, data);
+			if (previous != null) {
+				cachedBytes -= sizeOf(previous);
+			}
+			cachedBytes += bytes;
+			Iterator<Map.Entry<Key, ImageData>> eldest = cache.entrySet().iterator();
+			while (cachedBytes > maxBytes) {
+				cachedBytes -= sizeOf(eldest.next().getValue());
+				eldest.remove();
+			}
+		}
+	}
+
+	private static long sizeOf(ImageData data) {
+		long bytes = data.data.length;
+		if (data.alphaData != null) {
+			bytes += data.alphaData.length;
+		}
+		if (data.maskData != null) {
+			bytes += data.maskData.length;
+		}
+		return bytes;
+	}
+
+	/**
+	 * Returns whether decoded data is available for the given descriptor and
+	 * zoom.
+	 */
+	boolean contains(ImageDescriptor descriptor, int zoom) {
+		synchronized (cache) {
+			return cache.containsKey(new Key(descriptor, zoom));
+		}
+	}
+
+	/**
+	 * Returns a copy of the decoded data for the given descriptor and zoom, and
+	 * marks it as most recently used. The cached data itself is never handed
+	 * out, since SWT may modify the data it is given.
+	 *
+	 * @return the data, or <code>null</code> if none was decoded
+	 */
+	ImageData get(ImageDescriptor descriptor, int zoom) {
+		ImageData data;
+		synchronized (cache) {
+			data = cache.get(new Key(descriptor, zoom));
+		}
+		return data != null ? (ImageData) data.clone() : null;
+	}
+
+	/**
+	 * Returns an image data provider that uses the preloaded data of the given
+	 * descriptor.
+	 */
+	ImageDataProvider createProvider(ImageDescriptor descriptor) {
+		return new PreloadedImageDataProvider(descriptor);
+	}
+
+	private static synchronized ThreadPoolExecutor getDecoder() {
+		if (decoder == null) {
+			int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+			AtomicInteger count = new AtomicInteger();
+			decoder = new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+					r -> {
+						Thread thread = new Thread(r, "JFace Image Decoder " + count.incrementAndGet()); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			decoder.allowCoreThreadTimeOut(true);
+		}
+		return decoder;
+	}
+}
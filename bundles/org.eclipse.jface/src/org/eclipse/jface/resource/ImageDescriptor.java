@@ -248,13 +248,34 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor<Image> {
 
 	@Override
 	public Object createResource(Device device) throws DeviceResourceException {
-		Image result = createImage(false, device);
+		Image result = createPreloadedImage(device);
+		if (result == null) {
+			result = createImage(false, device);
+		}
 		if (result == null) {
 			throw new DeviceResourceException(this);
 		}
 		return result;
 	}
 
+	/**
+	 * Creates the image from data decoded ahead of time by
+	 * {@link ResourceManager#createAsync(ImageDescriptor)}, if there is any.
+	 *
+	 * @return the image or <code>null</code>
+	 */
+	private Image createPreloadedImage(Device device) {
+		ImageDataCache cache = ImageDataCache.getDefault();
+		if (!cache.isCacheable(this) || !cache.contains(this, 100)) {
+			return null;
+		}
+		try {
+			return new Image(device, cache.createProvider(this));
+		} catch (IllegalArgumentException | SWTException e) {
+			return null;
+		}
+	}
+
 	@Override
 	public void destroyResource(Object previouslyCreatedObject) {
 		((Image)previouslyCreatedObject).dispose();
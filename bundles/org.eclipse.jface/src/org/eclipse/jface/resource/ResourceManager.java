@@ -16,6 +16,7 @@ package org.eclipse.jface.resource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.Status;
@@ -26,6 +27,7 @@ import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * This class manages SWT resources. It manages reference-counted instances of resources
@@ -50,6 +52,12 @@ public abstract class ResourceManager {
 	 */
 	private List<Runnable> disposeExecs = null;
 
+	/**
+	 * Whether {@link #dispose()} was called, checked before creating images
+	 * asynchronously.
+	 */
+	private volatile boolean disposed;
+
 	/**
 	 * Returns the Device for which this ResourceManager will create resources
 	 *
@@ -196,6 +204,67 @@ public abstract class ResourceManager {
 		}
 	}
 
+	/**
+	 * Creates the image described by the given descriptor without decoding it in
+	 * the display thread. The image data is decoded on a worker thread and kept in
+	 * a bounded cache, for the standard resolution and for the zoom level of the
+	 * primary monitor. The image is then created in the display thread and
+	 * allocated in this resource manager as if by
+	 * {@link #create(DeviceResourceDescriptor)}, so it must be released by
+	 * {@link #destroy(DeviceResourceDescriptor)} unless it is intended to live as
+	 * long as this resource manager.
+	 * <p>
+	 * If the image is already allocated, or if its data can not be decoded ahead
+	 * of time, the image is created right away and the returned future is already
+	 * completed. Otherwise the future completes in the display thread. It is
+	 * canceled if this resource manager or the display is disposed before the
+	 * image is created, and completes exceptionally if the image can not be
+	 * created.
+	 * </p>
+	 * <p>
+	 * This method must be called from the display thread.
+	 * </p>
+	 *
+	 * @param descriptor descriptor for the image to create
+	 * @return a future providing the image
+	 * @since 3.36
+	 */
+	public final CompletableFuture<Image> createAsync(ImageDescriptor descriptor) {
+		Assert.isNotNull(descriptor);
+		ImageDataCache cache = ImageDataCache.getDefault();
+		if (!(getDevice() instanceof Display display) || !cache.isCacheable(descriptor) || find(descriptor) != null) {
+			CompletableFuture<Image> result = new CompletableFuture<>();
+			completeCreate(result, descriptor);
+			return result;
+		}
+		int zoom = display.getPrimaryMonitor().getZoom();
+		int[] zooms = zoom == 100 ? new int[] { 100 } : new int[] { 100, zoom };
+		CompletableFuture<Image> result = new CompletableFuture<>();
+		cache.decodeAsync(descriptor, zooms).whenComplete((v, e) -> {
+			try {
+				display.asyncExec(() -> {
+					if (disposed) {
+						result.cancel(false);
+					} else {
+						completeCreate(result, descriptor);
+					}
+				});
+			} catch (SWTException ex) {
+				// display already disposed
+				result.cancel(false);
+			}
+		});
+		return result;
+	}
+
+	private void completeCreate(CompletableFuture<Image> result, ImageDescriptor descriptor) {
+		try {
+			result.complete(create(descriptor));
+		} catch (DeviceResourceException | SWTException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
 	/**
 	 * Returns the default image that will be returned in the event that the intended
 	 * image is missing.
@@ -314,6 +383,7 @@ public abstract class ResourceManager {
 	 * Disposes any remaining resources allocated by this manager.
 	 */
 	public void dispose() {
+		disposed = true;
 		if (disposeExecs == null) {
 			return;
 		}
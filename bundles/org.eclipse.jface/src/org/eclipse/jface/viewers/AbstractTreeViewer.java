@@ -28,6 +28,8 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 
 import org.eclipse.core.runtime.Assert;
@@ -40,6 +42,7 @@ import org.eclipse.jface.util.SafeRunnable;
 import org.eclipse.jface.viewers.internal.ExpandableNode;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.BusyIndicator;
+import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.events.TreeEvent;
@@ -140,6 +143,15 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	private boolean isTreePathContentProvider = false;
 
+	/**
+	 * The tree paths last computed for items. Paths of sibling items share the
+	 * path of their parent item, see {@link #getTreePathFromItem(Item)}. Entries
+	 * are removed when their item is disassociated, and the map is cleared when
+	 * the input changes, all elements are unmapped or the viewer is disposed, so
+	 * the paths do not keep model elements reachable.
+	 */
+	private final Map<Item, TreePath> itemPaths = new WeakHashMap<>();
+
 	/**
 	 * Safe runnable used to update an item.
 	 */
@@ -902,6 +914,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	@Override
 	protected void disassociate(Item item) {
 		super.disassociate(item);
+		itemPaths.remove(item);
 		// recursively unmapping the items is only required when
 		// the hash map is used. In the other case disposing
 		// an item will recursively dispose its children.
@@ -1629,6 +1642,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			tree.setRedraw(false);
 			try {
 				removeAll(tree);
+				itemPaths.clear();
 				tree.setData(getRoot());
 				internalInitializeTree(tree);
 			} finally {
@@ -1637,6 +1651,18 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		});
 	}
 
+	@Override
+	protected void unmapAllElements() {
+		super.unmapAllElements();
+		itemPaths.clear();
+	}
+
+	@Override
+	protected void handleDispose(DisposeEvent event) {
+		super.handleDispose(event);
+		itemPaths.clear();
+	}
+
 	/**
 	 * Initializes the tree with root items, expanding to the appropriate
 	 * level if necessary.
@@ -3183,14 +3209,32 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 * @since 3.2
 	 */
 	protected TreePath getTreePathFromItem(Item item) {
-		LinkedList<Object> segments = new LinkedList<>();
+		TreePath path = itemPaths.get(item);
+		if (path != null && isCurrentTreePath(item, path)) {
+			return path;
+		}
+		Item parentItem = getParentItem(item);
+		TreePath parentPath = parentItem == null ? TreePath.EMPTY : getTreePathFromItem(parentItem);
+		Object segment = item.getData();
+		Assert.isNotNull(segment);
+		path = parentPath.createChildPath(segment);
+		itemPaths.put(item, path);
+		return path;
+	}
+
+	/**
+	 * Returns whether the given path still denotes the data of the given item and
+	 * of its parent items.
+	 */
+	private boolean isCurrentTreePath(Item item, TreePath path) {
 		while (item != null) {
-			Object segment = item.getData();
-			Assert.isNotNull(segment);
-			segments.addFirst(segment);
+			if (path.getSegmentCount() == 0 || item.getData() != path.getLastSegment()) {
+				return false;
+			}
 			item = getParentItem(item);
+			path = path.getParentPath();
 		}
-		return new TreePath(segments.toArray());
+		return path.getSegmentCount() == 0;
 	}
 
 	/**
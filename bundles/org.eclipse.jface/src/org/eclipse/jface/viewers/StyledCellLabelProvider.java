@@ -84,6 +84,14 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 
 	private final HashMap<Font, Map<Integer /* style */, Font>> styledFonts = new HashMap<>();
 
+	/*
+	 * Style ranges with a font style, mapped to copies that have the styled font
+	 * set. Avoids cloning the same style range on every paint.
+	 */
+	private final HashMap<StyleRange, StyleRange> fontStyleRanges = new HashMap<>();
+
+	private static final int MAX_FONT_STYLE_RANGES = 1000;
+
 	/**
 	 * Creates a new StyledCellLabelProvider. By default, owner draw is enabled, focus is drawn and no
 	 * colors are painted on selected elements.
@@ -191,6 +199,7 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 			styledFonts.clear();
 		});
 		this.styledFonts.clear();
+		this.fontStyleRanges.clear();
 
 		super.dispose();
 	}
@@ -241,11 +250,6 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 		return styleRange;
 	}
 
-	private ViewerCell getViewerCell(Event event, Object element) {
-		ViewerRow row= viewer.getViewerRowFromItem(event.item);
-		return new ViewerCell(row, event.index, element);
-	}
-
 	/**
 	 * Handle the erase event. The default implementation does nothing to ensure
 	 * keep native selection highlighting working.
@@ -270,12 +274,13 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 		if (!isOwnerDrawEnabled())
 			return;
 
-		ViewerCell cell= getViewerCell(event, element);
+		// the viewer reuses its row, so no cell is created for each measure
+		ViewerRow row = viewer.getViewerRowFromItem(event.item);
 		boolean applyColors = useColors(event);
 
 		TextLayout layout = getSharedTextLayout(event.display);
 
-		int textWidthDelta = deltaOfLastMeasure = updateTextLayout(layout, cell, applyColors);
+		int textWidthDelta = deltaOfLastMeasure = updateTextLayout(layout, row, event.index, applyColors);
 
 		event.width += textWidthDelta;
 	}
@@ -283,21 +288,22 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 	/**
 	 * @return the text width delta (0 if the text layout contains no other font)
 	 */
-	private int updateTextLayout(TextLayout layout, ViewerCell cell,
+	private int updateTextLayout(TextLayout layout, ViewerRow row, int columnIndex,
 			boolean applyColors) {
 		layout.setStyle(null, 0, Integer.MAX_VALUE); // clear old styles
 
-		layout.setText(cell.getText());
-		layout.setFont(cell.getFont()); // set also if null to clear previous usages
+		Font font = row.getFont(columnIndex);
+		layout.setText(row.getText(columnIndex));
+		layout.setFont(font); // set also if null to clear previous usages
 
 		int originalTextWidth = layout.getBounds().width; // text width without any styles
 		boolean containsOtherFont= false;
 
-		StyleRange[] styleRanges = cell.getStyleRanges();
+		StyleRange[] styleRanges = row.getStyleRanges(columnIndex);
 		if (styleRanges != null) { // user didn't fill styled ranges
 			for (StyleRange styleRange : styleRanges) {
 				StyleRange curr = prepareStyleRange(styleRange, applyColors);
-				curr = transformFontStyleToFont(layout.getDevice(), cell.getFont(), curr);
+				curr = transformFontStyleToFont(layout.getDevice(), font, curr);
 				layout.setStyle(curr, curr.start, curr.start + curr.length - 1);
 				if (curr.font != null) {
 					containsOtherFont= true;
@@ -316,26 +322,44 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 		// already set
 		if (styleRange.font == null && styleRange.fontStyle > 0) {
 			Font baseFont = cellFont != null ? cellFont : layoutDevice.getSystemFont();
-			StyleRange newRange = (StyleRange) styleRange.clone();
-			newRange.font = styledFonts.computeIfAbsent(baseFont, f -> new HashMap<>())
-					.computeIfAbsent(Integer.valueOf(styleRange.fontStyle), s -> {
-						FontData[] fontDatas = baseFont.getFontData();
-						for (FontData fontData : fontDatas) {
-							fontData.setStyle(styleRange.fontStyle);
-						}
-						return new Font(baseFont.getDevice(), fontDatas);
-					});
+			// style ranges are value objects, a cached copy with the same values
+			// and the same base font can be reused
+			StyleRange newRange = fontStyleRanges.get(styleRange);
+			if (newRange != null && newRange.font == getStyledFont(baseFont, styleRange.fontStyle)) {
+				return newRange;
+			}
+			if (fontStyleRanges.size() >= MAX_FONT_STYLE_RANGES) {
+				fontStyleRanges.clear();
+			}
+			newRange = (StyleRange) styleRange.clone();
+			newRange.font = getStyledFont(baseFont, styleRange.fontStyle);
+			fontStyleRanges.put((StyleRange) styleRange.clone(), newRange);
 			return newRange;
 		}
 		return styleRange;
 	}
 
+	private Font getStyledFont(Font baseFont, int fontStyle) {
+		Map<Integer, Font> fonts = styledFonts.get(baseFont);
+		Font styledFont = fonts == null ? null : fonts.get(Integer.valueOf(fontStyle));
+		if (styledFont == null) {
+			FontData[] fontDatas = baseFont.getFontData();
+			for (FontData fontData : fontDatas) {
+				fontData.setStyle(fontStyle);
+			}
+			styledFont = new Font(baseFont.getDevice(), fontDatas);
+			styledFonts.computeIfAbsent(baseFont, f -> new HashMap<>()).put(Integer.valueOf(fontStyle), styledFont);
+		}
+		return styledFont;
+	}
+
 	@Override
 	protected void paint(Event event, Object element) {
 		if (!isOwnerDrawEnabled())
 			return;
 
-		ViewerCell cell= getViewerCell(event, element);
+		ViewerRow row = viewer.getViewerRowFromItem(event.item);
+		int columnIndex = event.index;
 
 		boolean applyColors= useColors(event);
 
@@ -345,19 +369,19 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 		Color oldBackground = gc.getBackground();
 
 		if (applyColors) {
-			Color foreground= cell.getForeground();
+			Color foreground= row.getForeground(columnIndex);
 			if (foreground != null) {
 				gc.setForeground(foreground);
 			}
 
-			Color background= cell.getBackground();
+			Color background= row.getBackground(columnIndex);
 			if (background != null) {
 				gc.setBackground(background);
 			}
 		}
-		Image image = cell.getImage();
+		Image image = row.getImage(columnIndex);
 		if (image != null) {
-			Rectangle imageBounds = cell.getImageBounds();
+			Rectangle imageBounds = row.getImageBounds(columnIndex);
 			if (imageBounds != null) {
 				Rectangle bounds = image.getBounds();
 
@@ -370,19 +394,19 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 			}
 		}
 
-		Rectangle textBounds = cell.getTextBounds();
+		Rectangle textBounds = row.getTextBounds(columnIndex);
 		if (textBounds != null) {
 			TextLayout textLayout= getSharedTextLayout(event.display);
 			// text layout already configured in measure(Event, Object)
 
 			Rectangle layoutBounds = textLayout.getBounds();
 
-			int style = viewer.getColumnViewerOwner(cell.getColumnIndex()).getStyle();
+			int style = viewer.getColumnViewerOwner(columnIndex).getStyle();
 			int x = textBounds.x;
 			if ((style & SWT.RIGHT) != 0) {
-				x = textBounds.x + textBounds.width - textLayout.getBounds().width;
+				x = textBounds.x + textBounds.width - layoutBounds.width;
 			} else if ((style & SWT.CENTER) != 0) {
-				x = textBounds.x + (textBounds.width - textLayout.getBounds().width)/2;
+				x = textBounds.x + (textBounds.width - layoutBounds.width)/2;
 			}
 			int y = textBounds.y
 					+ Math.max(0, (textBounds.height - layoutBounds.height) / 2);
@@ -404,7 +428,7 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 		}
 
 		if (drawFocus(event)) {
-			Rectangle focusBounds = cell.getViewerRow().getBounds();
+			Rectangle focusBounds = row.getBounds();
 			gc.drawFocus(focusBounds.x, focusBounds.y, focusBounds.width + deltaOfLastMeasure,
 					focusBounds.height);
 		}
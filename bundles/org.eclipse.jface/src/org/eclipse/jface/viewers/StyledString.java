@@ -13,8 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jface.viewers;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.resource.ColorRegistry;
@@ -98,14 +97,21 @@ public class StyledString implements CharSequence {
 
 	private static final StyleRange[] EMPTY = new StyleRange[0];
 	private StringBuilder fBuffer;
-	private StyleRunList fStyleRuns;
+
+	/*
+	 * The style runs, kept in two parallel arrays sorted by offset: a run starts
+	 * at fRunOffsets[i] and uses fRunStylers[i] up to the start of the next run
+	 * or the end of the string. Only the first fRunCount entries are used.
+	 */
+	private int[] fRunOffsets;
+	private Styler[] fRunStylers;
+	private int fRunCount;
 
 	/**
 	 * Creates an empty {@link StyledString}.
 	 */
 	public StyledString() {
 		fBuffer = new StringBuilder();
-		fStyleRuns = null;
 	}
 
 	/**
@@ -232,16 +238,18 @@ public class StyledString implements CharSequence {
 		int offset = fBuffer.length();
 		fBuffer.append(string.toString());
 
-		List<StyleRun> otherRuns = string.fStyleRuns;
-		if (otherRuns != null && !otherRuns.isEmpty()) {
-			for (int i = 0; i < otherRuns.size(); i++) {
-				StyleRun curr = otherRuns.get(i);
-				if (i == 0 && curr.offset != 0) {
+		// read the runs of the other string up front, it may be this string
+		int otherCount = string.fRunCount;
+		int[] otherOffsets = string.fRunOffsets;
+		Styler[] otherStylers = string.fRunStylers;
+		if (otherCount > 0) {
+			for (int i = 0; i < otherCount; i++) {
+				if (i == 0 && otherOffsets[i] != 0) {
 					appendStyleRun(null, offset); // appended string will
 					// start with the default
 					// color
 				}
-				appendStyleRun(curr.style, offset + curr.offset);
+				appendStyleRun(otherStylers[i], offset + otherOffsets[i]);
 			}
 		} else {
 			appendStyleRun(null, offset); // appended string will start with
@@ -338,11 +346,8 @@ public class StyledString implements CharSequence {
 			} else {
 				runIndex = runIndex + 1;
 			}
-			List<StyleRun> styleRuns = getStyleRuns();
-			final int size = styleRuns.size();
-			for (int i = runIndex; i < size; i++) {
-				StyleRun run = styleRuns.get(i);
-				run.offset++;
+			for (int i = runIndex; i < fRunCount; i++) {
+				fRunOffsets[i]++;
 			}
 		}
 		fBuffer.insert(offset, ch);
@@ -373,9 +378,9 @@ public class StyledString implements CharSequence {
 		if (length == 0) {
 			return;
 		}
-		final StyleRun lastRun= getLastRun();
-		if (lastRun == null || lastRun.offset <= offset) {
-			Styler lastStyler = lastRun == null ? null : lastRun.style;
+		final int lastRun = fRunCount - 1;
+		if (lastRun < 0 || fRunOffsets[lastRun] <= offset) {
+			Styler lastStyler = lastRun < 0 ? null : fRunStylers[lastRun];
 			appendStyleRun(styler, offset);
 			if (offset + length != fBuffer.length()) {
 				appendStyleRun(lastStyler, offset + length);
@@ -389,33 +394,29 @@ public class StyledString implements CharSequence {
 		} else {
 			endRun = -(endRun + 1);
 			if (offset + length < fBuffer.length()) {
-				Styler prevStyle = endRun > 0 ? fStyleRuns.get(endRun - 1).style
-						: null;
-				fStyleRuns
-						.add(endRun, new StyleRun(offset + length, prevStyle));
+				Styler prevStyle = endRun > 0 ? fRunStylers[endRun - 1] : null;
+				insertStyleRun(endRun, offset + length, prevStyle);
 			}
 		}
 
 		int startRun = findRun(offset);
 		if (startRun >= 0) {
 			// run with the same start index
-			StyleRun styleRun = fStyleRuns.get(startRun);
-			styleRun.style = styler;
+			fRunStylers[startRun] = styler;
 		} else {
 			startRun = -(startRun + 1);
 
-			Styler prevStyle = startRun > 0 ? fStyleRuns.get(startRun - 1).style
-					: null;
+			Styler prevStyle = startRun > 0 ? fRunStylers[startRun - 1] : null;
 			if (isDifferentStyle(prevStyle, styler)
 					|| (startRun == 0 && styler != null)) {
-				fStyleRuns.add(startRun, new StyleRun(offset, styler));
+				insertStyleRun(startRun, offset, styler);
 				endRun++; // endrun is moved one back
 			} else {
 				startRun--; // we use the previous
 			}
 		}
 		if (startRun + 1 < endRun) {
-			fStyleRuns.removeRange(startRun + 1, endRun);
+			removeStyleRuns(startRun + 1, endRun);
 		}
 	}
 
@@ -428,37 +429,58 @@ public class StyledString implements CharSequence {
 	 */
 	public StyleRange[] getStyleRanges() {
 		if (hasRuns()) {
-			ArrayList<StyleRange> res = new ArrayList<>();
-
-			int offset = 0;
-			Styler style = null;
-			for (StyleRun curr : getStyleRuns()) {
-				if (isDifferentStyle(curr.style, style)) {
-					if (curr.offset > offset && style != null) {
-						res.add(createStyleRange(offset, curr.offset, style));
+			// count first so that the result can be filled in directly
+			StyleRange[] res = new StyleRange[collectStyleRanges(null)];
+			collectStyleRanges(res);
+			return res;
+		}
+		return EMPTY;
+	}
+
+	/**
+	 * Walks the style runs and creates the style ranges for all runs that have a
+	 * styler.
+	 *
+	 * @param result the array to fill or <code>null</code> to only count the
+	 *               ranges
+	 * @return the number of style ranges
+	 */
+	private int collectStyleRanges(StyleRange[] result) {
+		int count = 0;
+		int offset = 0;
+		Styler style = null;
+		for (int i = 0; i < fRunCount; i++) {
+			Styler currStyle = fRunStylers[i];
+			if (isDifferentStyle(currStyle, style)) {
+				int currOffset = fRunOffsets[i];
+				if (currOffset > offset && style != null) {
+					if (result != null) {
+						result[count] = createStyleRange(offset, currOffset, style);
 					}
-					offset = curr.offset;
-					style = curr.style;
+					count++;
 				}
+				offset = currOffset;
+				style = currStyle;
 			}
-			if (fBuffer.length() > offset && style != null) {
-				res.add(createStyleRange(offset, fBuffer.length(), style));
+		}
+		if (fBuffer.length() > offset && style != null) {
+			if (result != null) {
+				result[count] = createStyleRange(offset, fBuffer.length(), style);
 			}
-			return res.toArray(new StyleRange[res.size()]);
+			count++;
 		}
-		return EMPTY;
+		return count;
 	}
 
 	private int findRun(int offset) {
-		// method assumes that fStyleRuns is not null
 		int low = 0;
-		int high = fStyleRuns.size() - 1;
+		int high = fRunCount - 1;
 		while (low <= high) {
 			int mid = (low + high) / 2;
-			StyleRun styleRun = fStyleRuns.get(mid);
-			if (styleRun.offset < offset) {
+			int runOffset = fRunOffsets[mid];
+			if (runOffset < offset) {
 				low = mid + 1;
-			} else if (styleRun.offset > offset) {
+			} else if (runOffset > offset) {
 				high = mid - 1;
 			} else {
 				return mid; // key found
@@ -476,68 +498,50 @@ public class StyledString implements CharSequence {
 	}
 
 	private boolean hasRuns() {
-		return fStyleRuns != null && !fStyleRuns.isEmpty();
+		return fRunCount > 0;
 	}
 
 	private void appendStyleRun(Styler style, int offset) {
-		StyleRun lastRun = getLastRun();
-		if (lastRun != null && lastRun.offset == offset) {
-			lastRun.style = style;
+		int lastRun = fRunCount - 1;
+		if (lastRun >= 0 && fRunOffsets[lastRun] == offset) {
+			fRunStylers[lastRun] = style;
 			return;
 		}
 
-		if (lastRun == null && style != null || lastRun != null
-				&& isDifferentStyle(style, lastRun.style)) {
-			getStyleRuns().add(new StyleRun(offset, style));
+		if (lastRun < 0 && style != null || lastRun >= 0
+				&& isDifferentStyle(style, fRunStylers[lastRun])) {
+			insertStyleRun(fRunCount, offset, style);
 		}
 	}
 
-	private boolean isDifferentStyle(Styler style1, Styler style2) {
-		if (style1 == null) {
-			return style2 != null;
+	private void insertStyleRun(int index, int offset, Styler style) {
+		if (fRunOffsets == null) {
+			fRunOffsets = new int[3];
+			fRunStylers = new Styler[3];
+		} else if (fRunCount == fRunOffsets.length) {
+			fRunOffsets = Arrays.copyOf(fRunOffsets, fRunCount * 2);
+			fRunStylers = Arrays.copyOf(fRunStylers, fRunCount * 2);
 		}
-		return !style1.equals(style2);
+		System.arraycopy(fRunOffsets, index, fRunOffsets, index + 1, fRunCount - index);
+		System.arraycopy(fRunStylers, index, fRunStylers, index + 1, fRunCount - index);
+		fRunOffsets[index] = offset;
+		fRunStylers[index] = style;
+		fRunCount++;
 	}
 
-	private StyleRun getLastRun() {
-		if (fStyleRuns == null || fStyleRuns.isEmpty()) {
-			return null;
-		}
-		return fStyleRuns.get(fStyleRuns.size() - 1);
+	private void removeStyleRuns(int fromIndex, int toIndex) {
+		System.arraycopy(fRunOffsets, toIndex, fRunOffsets, fromIndex, fRunCount - toIndex);
+		System.arraycopy(fRunStylers, toIndex, fRunStylers, fromIndex, fRunCount - toIndex);
+		int newCount = fRunCount - (toIndex - fromIndex);
+		Arrays.fill(fRunStylers, newCount, fRunCount, null);
+		fRunCount = newCount;
 	}
 
-	private List<StyleRun> getStyleRuns() {
-		if (fStyleRuns == null)
-			fStyleRuns = new StyleRunList();
-		return fStyleRuns;
-	}
-
-	private static class StyleRun {
-		public int offset;
-		public Styler style;
-
-		public StyleRun(int offset, Styler style) {
-			this.offset = offset;
-			this.style = style;
-		}
-
-		@Override
-		public String toString() {
-			return "Offset " + offset + ", style: " + style; //$NON-NLS-1$//$NON-NLS-2$
-		}
-	}
-
-	private static class StyleRunList extends ArrayList<StyleRun> {
-		private static final long serialVersionUID = 123L;
-
-		public StyleRunList() {
-			super(3);
-		}
-
-		@Override
-		public void removeRange(int fromIndex, int toIndex) {
-			super.removeRange(fromIndex, toIndex);
+	private boolean isDifferentStyle(Styler style1, Styler style2) {
+		if (style1 == null) {
+			return style2 != null;
 		}
+		return !style1.equals(style2);
 	}
 
 	private static class DefaultStyler extends Styler {
@@ -33,7 +33,25 @@ public final class TreePath {
 	 */
 	public static final TreePath EMPTY = new TreePath(new Object[0]);
 
-	private Object[] segments;
+	/*
+	 * A tree path either holds its segments in an array, or it holds its last
+	 * segment and a link to its parent path. Paths created with
+	 * createChildPath() are linked, so all children of a path share it instead of
+	 * copying its segments. Paths returned by getParentPath() share the array of
+	 * their child, which is why only the first segmentCount entries of the array
+	 * belong to this path. Linked paths copy their segments into an array the
+	 * first time getSegment() is asked for a segment other than the last one, so
+	 * iterating over the segments does not walk the parent links each time.
+	 */
+	private final Object[] segments;
+
+	private volatile Object[] materialized;
+
+	private final TreePath parent;
+
+	private final Object lastSegment;
+
+	private final int segmentCount;
 
 	private int hash;
 
@@ -50,6 +68,24 @@ public final class TreePath {
 			Assert.isNotNull(segment);
 		}
 		this.segments = segments;
+		this.segmentCount = segments.length;
+		this.parent = null;
+		this.lastSegment = null;
+	}
+
+	private TreePath(Object[] segments, int segmentCount) {
+		this.segments = segments;
+		this.segmentCount = segmentCount;
+		this.parent = null;
+		this.lastSegment = null;
+	}
+
+	private TreePath(TreePath parent, Object lastSegment) {
+		Assert.isNotNull(lastSegment);
+		this.segments = null;
+		this.segmentCount = parent.segmentCount + 1;
+		this.parent = parent;
+		this.lastSegment = lastSegment;
 	}
 
 	/**
@@ -60,7 +96,45 @@ public final class TreePath {
 	 * @return element at the specified index
 	 */
 	public Object getSegment(int index) {
-		return segments[index];
+		if (index < 0 || index >= segmentCount) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+		if (parent == null) {
+			return segments[index];
+		}
+		if (index == segmentCount - 1) {
+			return lastSegment;
+		}
+		return getSegments()[index];
+	}
+
+	/**
+	 * Returns an array which holds the segments of this path in its first
+	 * segmentCount entries.
+	 */
+	private Object[] getSegments() {
+		if (parent == null) {
+			return segments;
+		}
+		Object[] result = materialized;
+		if (result == null) {
+			result = new Object[segmentCount];
+			TreePath path = this;
+			while (path.parent != null) {
+				Object[] known = path.materialized;
+				if (known != null) {
+					System.arraycopy(known, 0, result, 0, path.segmentCount);
+					break;
+				}
+				result[path.segmentCount - 1] = path.lastSegment;
+				path = path.parent;
+			}
+			if (path.parent == null) {
+				System.arraycopy(path.segments, 0, result, 0, path.segmentCount);
+			}
+			materialized = result;
+		}
+		return result;
 	}
 
 	/**
@@ -69,7 +143,7 @@ public final class TreePath {
 	 * @return the number of elements in this path
 	 */
 	public int getSegmentCount() {
-		return segments.length;
+		return segmentCount;
 	}
 
 	/**
@@ -79,10 +153,10 @@ public final class TreePath {
 	 * @return the first element in this path
 	 */
 	public Object getFirstSegment() {
-		if (segments.length == 0) {
+		if (segmentCount == 0) {
 			return null;
 		}
-		return segments[0];
+		return getSegment(0);
 	}
 
 	/**
@@ -92,10 +166,13 @@ public final class TreePath {
 	 * @return the last element in this path
 	 */
 	public Object getLastSegment() {
-		if (segments.length == 0) {
+		if (segmentCount == 0) {
 			return null;
 		}
-		return segments[segments.length - 1];
+		if (parent != null) {
+			return lastSegment;
+		}
+		return segments[segmentCount - 1];
 	}
 
 	@Override
@@ -109,7 +186,7 @@ public final class TreePath {
 	@Override
 	public int hashCode() {
 		if (hash == 0) {
-			hash = hashCode(null);
+			hash = parent != null ? parent.hashCode() + lastSegment.hashCode() : hashCode(null);
 		}
 		return hash;
 	}
@@ -125,16 +202,21 @@ public final class TreePath {
 	 */
 	public int hashCode(IElementComparer comparer) {
 		int result = 0;
-		for (Object segment : segments) {
-			if (comparer == null) {
-				result += segment.hashCode();
-			} else {
-				result += comparer.hashCode(segment);
-			}
+		TreePath path = this;
+		while (path.parent != null) {
+			result += hashCode(path.lastSegment, comparer);
+			path = path.parent;
+		}
+		for (int i = 0; i < path.segmentCount; i++) {
+			result += hashCode(path.segments[i], comparer);
 		}
 		return result;
 	}
 
+	private static int hashCode(Object segment, IElementComparer comparer) {
+		return comparer == null ? segment.hashCode() : comparer.hashCode(segment);
+	}
+
 	/**
 	 * Returns whether this path is equivalent to the given path using the
 	 * specified comparer to compare individual elements.
@@ -150,21 +232,39 @@ public final class TreePath {
 		if (otherPath == null) {
 			return false;
 		}
-		if (segments.length != otherPath.segments.length) {
+		if (segmentCount != otherPath.segmentCount) {
 			return false;
 		}
-		for (int i = 0; i < segments.length; i++) {
-			if (comparer == null) {
-				if (!segments[i].equals(otherPath.segments[i])) {
-					return false;
-				}
-			} else if (!comparer.equals(segments[i], otherPath.segments[i])) {
+		// Compare from the end, so that a shared parent path ends the comparison
+		TreePath path = this;
+		while (path.parent != null || otherPath.parent != null) {
+			if (path == otherPath) {
+				return true;
+			}
+			if (!segmentEquals(path.getLastSegment(), otherPath.getLastSegment(), comparer)) {
+				return false;
+			}
+			path = path.getParentPath();
+			otherPath = otherPath.getParentPath();
+		}
+		if (path.segments == otherPath.segments) {
+			return true;
+		}
+		for (int i = 0; i < path.segmentCount; i++) {
+			if (!segmentEquals(path.segments[i], otherPath.segments[i], comparer)) {
 				return false;
 			}
 		}
 		return true;
 	}
 
+	private static boolean segmentEquals(Object segment, Object otherSegment, IElementComparer comparer) {
+		if (comparer == null) {
+			return segment.equals(otherSegment);
+		}
+		return comparer.equals(segment, otherSegment);
+	}
+
 	/**
 	 * Returns whether this path starts with the same segments as the given
 	 * path, using the given comparer to compare segments.
@@ -178,25 +278,15 @@ public final class TreePath {
 	 *         this path
 	 */
 	public boolean startsWith(TreePath treePath, IElementComparer comparer) {
-		int thisSegmentCount = getSegmentCount();
 		int otherSegmentCount = treePath.getSegmentCount();
-		if (otherSegmentCount == thisSegmentCount) {
-			return equals(treePath, comparer);
-		}
-		if (otherSegmentCount > thisSegmentCount) {
+		if (otherSegmentCount > segmentCount) {
 			return false;
 		}
-		for (int i = 0; i < otherSegmentCount; i++) {
-			Object otherSegment = treePath.getSegment(i);
-			if (comparer == null) {
-				if (!otherSegment.equals(segments[i])) {
-					return false;
-				}
-			} else if (!comparer.equals(otherSegment, segments[i])) {
-				return false;
-			}
+		TreePath prefix = this;
+		while (prefix.segmentCount > otherSegmentCount) {
+			prefix = prefix.getParentPath();
 		}
-		return true;
+		return prefix.equals(treePath, comparer);
 	}
 
 	/**
@@ -205,30 +295,24 @@ public final class TreePath {
 	 * @return a tree path
 	 */
 	public TreePath getParentPath() {
-		int segmentCount = getSegmentCount();
 		if (segmentCount < 1) {
 			return null;
 		} else if (segmentCount == 1) {
 			return EMPTY;
+		} else if (parent != null) {
+			return parent;
 		}
-		Object[] parentSegments = new Object[segmentCount - 1];
-		System.arraycopy(segments, 0, parentSegments, 0, segmentCount - 1);
-		return new TreePath(parentSegments);
+		return new TreePath(segments, segmentCount - 1);
 	}
 
 	/**
 	 * Returns a copy of this tree path with the given segment added at the end.
+	 * The returned path shares the segments of this path.
 	 *
 	 * @param newSegment the segment to be added
 	 * @return a tree path
 	 */
 	public TreePath createChildPath(Object newSegment) {
-		int segmentCount = getSegmentCount();
-		Object[] childSegments = new Object[segmentCount + 1];
-		if(segmentCount>0) {
-			System.arraycopy(segments, 0, childSegments, 0, segmentCount);
-		}
-		childSegments[segmentCount] = newSegment;
-		return new TreePath(childSegments);
+		return new TreePath(this, newSegment);
 	}
 }
@@ -39,7 +39,12 @@ public class TreeSelection extends StructuredSelection implements ITreeSelection
 	 */
 
 	private TreePath[] paths = null;
+	/*
+	 * Not created for selections of a single path, which are by far the most
+	 * common ones
+	 */
 	private CustomHashtable element2TreePaths = null;
+	private IElementComparer comparer = null;
 
 	/**
 	 * The canonical empty selection. This selection should be used instead of
@@ -60,8 +65,13 @@ public class TreeSelection extends StructuredSelection implements ITreeSelection
 			this.paths= new TreePath[paths.length];
 			this.comparer = comparer;
 			System.arraycopy(paths, 0, this.paths, 0, paths.length);
-			element2TreePaths = new CustomHashtable(comparer);
 			int size = paths.length;
+			if (size == 1) {
+				Object lastSegment = paths[0].getLastSegment();
+				selection = lastSegment != null ? List.of(lastSegment) : List.of();
+				return;
+			}
+			element2TreePaths = new CustomHashtable(comparer);
 			selection = new ArrayList(size);
 			for (int i = 0; i < size; i++) {
 				Object lastSegment= paths[i].getLastSegment();
@@ -142,6 +152,7 @@ public class TreeSelection extends StructuredSelection implements ITreeSelection
 		super(data.selection, data.comparer);
 		paths= data.paths;
 		element2TreePaths= data.element2TreePaths;
+		comparer = data.comparer;
 	}
 
 	/**
@@ -164,9 +175,7 @@ public class TreeSelection extends StructuredSelection implements ITreeSelection
 	 * @since 3.2
 	 */
 	public IElementComparer getElementComparer() {
-		if (element2TreePaths == null)
-			return null;
-		return element2TreePaths.getComparer();
+		return comparer;
 	}
 
 	@Override
@@ -199,7 +208,12 @@ public class TreeSelection extends StructuredSelection implements ITreeSelection
 
 	@Override
 	public TreePath[] getPathsFor(Object element) {
-		Object value= element2TreePaths==null ? null : element2TreePaths.get(element);
+		if (element2TreePaths == null) {
+			return paths != null && paths.length == 1 && isLastSegment(paths[0], element)
+					? new TreePath[] { paths[0] }
+					: EMPTY_TREE_PATHS;
+		}
+		Object value= element2TreePaths.get(element);
 		if (value == null) {
 			return EMPTY_TREE_PATHS;
 		} else if (value instanceof TreePath) {
@@ -213,4 +227,12 @@ public class TreeSelection extends StructuredSelection implements ITreeSelection
 			return null;
 		}
 	}
+
+	private boolean isLastSegment(TreePath path, Object element) {
+		Object lastSegment = path.getLastSegment();
+		if (lastSegment == null || element == null) {
+			return false;
+		}
+		return comparer == null ? lastSegment.equals(element) : comparer.equals(lastSegment, element);
+	}
 }
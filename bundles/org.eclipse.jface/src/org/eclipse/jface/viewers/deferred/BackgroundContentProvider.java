@@ -128,6 +128,12 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 
 	private volatile Range range = new Range(0,0);
 
+	/**
+	 * True iff the size has been sent to the updator at least once. Only
+	 * accessed in the sort thread.
+	 */
+	private boolean totalItemsSent = false;
+
 	/**
 	 * Creates a new background content provider
 	 *
@@ -300,7 +306,12 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 				// cause our sort range to change and cause this job to get cancelled.
 				updator.setTotalItems(totalElements);
 				dirty = true;
+			} else if (!totalItemsSent) {
+				// The size did not change, but the table may still show a
+				// different one (e.g. a placeholder child in a tree)
+				updator.syncTotalItems();
 			}
+			totalItemsSent = true;
 
 			// Terminate loop
 			if (!dirty) {
@@ -426,6 +437,17 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 		}
 	}
 
+	/**
+	 * Returns the index of the given element in the sorted and filtered content,
+	 * as far as it has been computed by the background thread.
+	 *
+	 * @param element the element to look up
+	 * @return the index of the element or -1 if it is not known
+	 */
+	public int indexOf(Object element) {
+		return updator.indexOf(element);
+	}
+
 	/**
 	 * This lock protects the two boolean variables sortThreadStarted and resortScheduled.
 	 */
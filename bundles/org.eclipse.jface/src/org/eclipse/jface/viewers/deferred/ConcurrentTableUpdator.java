@@ -71,6 +71,12 @@ package org.eclipse.jface.viewers.deferred;
 	 */
 	private volatile Range lastRange = new Range(0,0);
 
+	/**
+	 * True iff the item count must be sent to the table even if it did not
+	 * change
+	 */
+	private boolean resizePending = false;
+
 	/**
 	 * True iff a UI update has been scheduled
 	 */
@@ -101,7 +107,7 @@ package org.eclipse.jface.viewers.deferred;
 	 */
 	Runnable uiRunnable = () -> {
 		updateScheduled = false;
-		if(!table.getControl().isDisposed()) {
+		if(!disposed && !table.getControl().isDisposed()) {
 			updateTable();
 		}
 	};
@@ -186,6 +192,19 @@ package org.eclipse.jface.viewers.deferred;
 		}
 	}
 
+	/**
+	 * Sends the current size to the table even if it did not change. Needed for
+	 * tables that do not start out empty, like a tree item that shows a
+	 * placeholder child until its real children are known. Called from a
+	 * background thread.
+	 */
+	public void syncTotalItems() {
+		synchronized (this) {
+			resizePending = true;
+			scheduleUIUpdate();
+		}
+	}
+
 	/**
 	 * Pushes an index onto the clear stack
 	 *
@@ -294,7 +313,8 @@ package org.eclipse.jface.viewers.deferred;
 		synchronized(this) {
 
 			// Resize the table if necessary
-			if (sentObjects.length != knownObjects.length) {
+			if (resizePending || sentObjects.length != knownObjects.length) {
+				resizePending = false;
 				Object[] newSentObjects = new Object[knownObjects.length];
 				System.arraycopy(newSentObjects, 0, sentObjects, 0,
 						Math.min(newSentObjects.length, sentObjects.length));
@@ -363,6 +383,19 @@ package org.eclipse.jface.viewers.deferred;
 		}
 	}
 
+	/**
+	 * Returns the index of the given object as last sent here from the background
+	 * thread. The index may not have been sent to the table yet.
+	 *
+	 * @param element the object to look up
+	 * @return the index of the object or -1 if it is not known
+	 */
+	public int indexOf(Object element) {
+		synchronized (this) {
+			return knownIndices.get(element, -1);
+		}
+	}
+
 	/**
 	 * Return the array of all known objects that have been sent here from the background
 	 * thread.
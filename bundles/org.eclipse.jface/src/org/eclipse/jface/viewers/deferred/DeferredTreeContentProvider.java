@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.jface.viewers.deferred;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.viewers.AcceptAllFilter;
+import org.eclipse.jface.viewers.IFilter;
+import org.eclipse.jface.viewers.ILazyTreePathContentProvider;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Content provider that performs sorting and filtering of the children of each
+ * tree element in a background thread. Requires a <code>TreeViewer</code>
+ * created with the <code>SWT.VIRTUAL</code> flag and an
+ * <code>IConcurrentTreeModel</code> as input.
+ * <p>
+ * The sorter and filter must be set directly on the content provider. They are
+ * applied to the children of every element. Any sorter or filter on the
+ * TreeViewer will be ignored.
+ * </p>
+ *
+ * <p>
+ * The children of every expanded element are handled by their own
+ * <code>BackgroundContentProvider</code>, the algorithm behind
+ * <code>DeferredContentProvider</code>. Only the children in the visible part
+ * of the tree are sorted eagerly and sent to the widget, so elements with a
+ * very large number of children can be shown without blocking the UI thread.
+ * The children of an element are requested from the model when the element is
+ * expanded for the first time and are kept until the input changes.
+ * </p>
+ *
+ * @see IConcurrentTreeModel
+ * @since 3.36
+ */
+public class DeferredTreeContentProvider implements ILazyTreePathContentProvider {
+
+	private int limit = -1;
+	private Comparator sortOrder;
+	private IFilter filter = AcceptAllFilter.getInstance();
+	private TreeViewer viewer;
+	private IConcurrentTreeModel model;
+
+	/**
+	 * Providers for the children of the expanded elements, by path of the parent.
+	 * Only accessed in the UI thread.
+	 */
+	private final Map<TreePath, BackgroundContentProvider> providers = new HashMap<>();
+
+	/**
+	 * Adapts the children of one tree element to the table-like interface used by
+	 * the background sorting algorithm.
+	 */
+	private final class TreeNodeAdapter extends AbstractVirtualTable {
+
+		private final TreePath parentPath;
+
+		public TreeNodeAdapter(TreePath parentPath) {
+			this.parentPath = parentPath;
+		}
+
+		@Override
+		public void clear(int index) {
+			Widget parent = findParent();
+			if (parent instanceof TreeItem parentItem) {
+				if (index < parentItem.getItemCount()) {
+					parentItem.clear(index, false);
+				}
+			} else if (parent instanceof Tree tree) {
+				if (index < tree.getItemCount()) {
+					tree.clear(index, false);
+				}
+			}
+		}
+
+		@Override
+		public void replace(Object element, int itemIndex) {
+			viewer.replace(parentPath, itemIndex, element);
+		}
+
+		@Override
+		public void setItemCount(int total) {
+			viewer.setChildCount(parentPath, total);
+		}
+
+		@Override
+		public int getItemCount() {
+			Widget parent = findParent();
+			if (parent instanceof TreeItem parentItem) {
+				return parentItem.getItemCount();
+			} else if (parent instanceof Tree tree) {
+				return tree.getItemCount();
+			}
+			return 0;
+		}
+
+		@Override
+		public int getTopIndex() {
+			Widget parent = findParent();
+			Tree tree = viewer.getTree();
+			// Find the child of the parent that is (or contains) the top item
+			TreeItem item = tree.getTopItem();
+			while (item != null) {
+				TreeItem parentItem = item.getParentItem();
+				if (parentItem == null && parent == tree) {
+					return Math.max(tree.indexOf(item), 0);
+				}
+				if (parentItem != null && parentItem == parent) {
+					return Math.max(parentItem.indexOf(item), 0);
+				}
+				item = parentItem;
+			}
+			// The top item is not below the parent, so if any of the children are
+			// visible, they start with the first one
+			return 0;
+		}
+
+		@Override
+		public int getVisibleItemCount() {
+			Widget parent = findParent();
+			if (parent == null || (parent instanceof TreeItem parentItem && !parentItem.getExpanded())) {
+				return 0;
+			}
+			// Upper bound, expanded children of the visible items take up rows too
+			Tree tree = viewer.getTree();
+			return tree.getClientArea().height / Math.max(tree.getItemHeight(), 1) + 1;
+		}
+
+		@Override
+		public Control getControl() {
+			return viewer.getTree();
+		}
+
+		/**
+		 * Returns the widget that shows the parent element, looked up through the
+		 * indices computed for its ancestors.
+		 *
+		 * @return the tree, a tree item or <code>null</code> if the parent is not
+		 *         shown in the tree at the moment
+		 */
+		private Widget findParent() {
+			Widget widget = viewer.getTree();
+			TreePath path = TreePath.EMPTY;
+			for (int i = 0; i < parentPath.getSegmentCount(); i++) {
+				Object segment = parentPath.getSegment(i);
+				BackgroundContentProvider provider = providers.get(path);
+				int index = provider == null ? -1 : provider.indexOf(segment);
+				if (index == -1) {
+					return null;
+				}
+				TreeItem item;
+				if (widget instanceof TreeItem parentItem) {
+					if (index >= parentItem.getItemCount()) {
+						return null;
+					}
+					item = parentItem.getItem(index);
+				} else {
+					Tree tree = (Tree) widget;
+					if (index >= tree.getItemCount()) {
+						return null;
+					}
+					item = tree.getItem(index);
+				}
+				if (!segment.equals(item.getData())) {
+					return null;
+				}
+				widget = item;
+				path = path.createChildPath(segment);
+			}
+			return widget;
+		}
+	}
+
+	/**
+	 * Create a DeferredTreeContentProvider with the given sort order.
+	 *
+	 * @param sortOrder a comparator that sorts the children of each element.
+	 */
+	public DeferredTreeContentProvider(Comparator sortOrder) {
+		this.sortOrder = sortOrder;
+	}
+
+	@Override
+	public void dispose() {
+		disposeProviders();
+	}
+
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		disposeProviders();
+		if (newInput == null) {
+			model = null;
+			return;
+		}
+
+		Assert.isTrue(newInput instanceof IConcurrentTreeModel);
+		Assert.isTrue(viewer instanceof TreeViewer);
+		this.viewer = (TreeViewer) viewer;
+		this.model = (IConcurrentTreeModel) newInput;
+	}
+
+	/**
+	 * Sets the sort order for the children of all elements. This sort order takes
+	 * priority over anything that was supplied to the <code>TreeViewer</code>.
+	 *
+	 * @param sortOrder new sort order. The comparator must be able to support being
+	 * used in a background thread.
+	 */
+	public void setSortOrder(Comparator sortOrder) {
+		Assert.isNotNull(sortOrder);
+		this.sortOrder = sortOrder;
+		for (BackgroundContentProvider provider : providers.values()) {
+			provider.setSortOrder(sortOrder);
+		}
+	}
+
+	/**
+	 * Sets the filter for the children of all elements. This filter takes priority
+	 * over anything that was supplied to the <code>TreeViewer</code>. The filter
+	 * must be capable of being used in a background thread.
+	 *
+	 * @param toSet filter to set
+	 */
+	public void setFilter(IFilter toSet) {
+		this.filter = toSet;
+		for (BackgroundContentProvider provider : providers.values()) {
+			provider.setFilter(toSet);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of children shown for each element. If an element
+	 * has more children, only the top ones will be shown based on the current
+	 * sort order.
+	 *
+	 * @param limit maximum number of children to show or -1 if unbounded
+	 */
+	public void setLimit(int limit) {
+		this.limit = limit;
+		for (BackgroundContentProvider provider : providers.values()) {
+			provider.setLimit(limit);
+		}
+	}
+
+	/**
+	 * Returns the current maximum number of children or -1 if unbounded
+	 *
+	 * @return the current maximum number of children or -1 if unbounded
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	@Override
+	public void updateElement(TreePath parentPath, int index) {
+		BackgroundContentProvider provider = providers.get(parentPath);
+		if (provider != null) {
+			provider.checkVisibleRange(index);
+		}
+	}
+
+	@Override
+	public void updateChildCount(TreePath treePath, int currentChildCount) {
+		if (model == null || providers.containsKey(treePath)) {
+			// The child count is sent once the provider knows it
+			return;
+		}
+		IConcurrentModel children = model.getChildren(treePath);
+		if (children == null) {
+			if (currentChildCount != 0) {
+				viewer.setChildCount(treePath, 0);
+			}
+			return;
+		}
+
+		BackgroundContentProvider newProvider = new BackgroundContentProvider(new TreeNodeAdapter(treePath),
+				children, sortOrder);
+		providers.put(treePath, newProvider);
+
+		newProvider.setLimit(limit);
+		newProvider.setFilter(filter);
+	}
+
+	@Override
+	public void updateHasChildren(TreePath path) {
+		if (model == null || providers.containsKey(path)) {
+			return;
+		}
+		viewer.setHasChildren(path, model.hasChildren(path));
+	}
+
+	@Override
+	public TreePath[] getParents(Object element) {
+		List<TreePath> parents = new ArrayList<>();
+		providers.forEach((path, provider) -> {
+			if (provider.indexOf(element) != -1) {
+				parents.add(path);
+			}
+		});
+		return parents.toArray(new TreePath[parents.size()]);
+	}
+
+	private void disposeProviders() {
+		for (BackgroundContentProvider provider : providers.values()) {
+			provider.dispose();
+		}
+		providers.clear();
+	}
+}
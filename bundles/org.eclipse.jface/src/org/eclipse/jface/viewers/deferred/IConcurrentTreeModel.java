@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.jface.viewers.deferred;
+
+import org.eclipse.jface.viewers.TreePath;
+
+/**
+ * A hierarchy of elements whose children are provided as
+ * <code>IConcurrentModel</code>s. Used as input for a
+ * <code>DeferredTreeContentProvider</code>, which sorts and filters the
+ * children of each expanded element in a background thread.
+ *
+ * @see DeferredTreeContentProvider
+ * @since 3.36
+ */
+public interface IConcurrentTreeModel {
+
+	/**
+	 * Returns the model for the children of the element at the given path. The
+	 * returned model may compute and send its contents in any thread. It is
+	 * requested when the path is expanded in the tree for the first time.
+	 * <p>
+	 * Called in the UI thread.
+	 * </p>
+	 *
+	 * @param parentPath path of the parent element, or an empty tree path for
+	 *                   the top-level elements
+	 * @return the model for the children, or <code>null</code> if the element
+	 *         does not have children
+	 */
+	public IConcurrentModel getChildren(TreePath parentPath);
+
+	/**
+	 * Returns whether the element at the given path may have children. This is
+	 * used to decide whether an expansion indicator is shown for an element
+	 * whose children have not been requested yet, so it should answer without
+	 * computing the children.
+	 * <p>
+	 * Called in the UI thread.
+	 * </p>
+	 *
+	 * @param path path of the element
+	 * @return <code>true</code> if the element may have children
+	 */
+	public boolean hasChildren(TreePath path);
+}
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.ui.dialogs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.ui.internal.misc.TextMatcher;
+
+/**
+ * A flattened copy of the structure of a filtered tree together with the texts
+ * its pattern filter matches against. The snapshot is taken in the UI thread
+ * and can then be matched against filter patterns in a background thread.
+ *
+ * @see FilteredTree#setBackgroundFiltering(boolean)
+ */
+/* package */ final class FilterSnapshot {
+
+	private static final String[] NO_TEXTS = new String[0];
+
+	/*
+	 * The elements of the tree in pre-order, an element occurring at several
+	 * places in the tree is contained once per occurrence
+	 */
+	private final Object[] elements;
+
+	/*
+	 * Index of the parent of each element, -1 for the top level elements
+	 */
+	private final int[] parents;
+
+	/*
+	 * The texts of each element that are matched against the pattern
+	 */
+	private final String[][] texts;
+
+	private final int contentGeneration;
+
+	private FilterSnapshot(Object[] elements, int[] parents, String[][] texts, int contentGeneration) {
+		this.elements = elements;
+		this.parents = parents;
+		this.texts = texts;
+		this.contentGeneration = contentGeneration;
+	}
+
+	/**
+	 * Takes a snapshot of the full content of the given viewer. Must be called in
+	 * the UI thread.
+	 *
+	 * @param viewer the tree viewer
+	 * @param filter the pattern filter of the viewer
+	 * @return the snapshot, or <code>null</code> if the viewer does not have a
+	 *         tree content provider
+	 */
+	static FilterSnapshot create(AbstractTreeViewer viewer, PatternFilter filter) {
+		if (!(viewer.getContentProvider() instanceof ITreeContentProvider)) {
+			return null;
+		}
+		ITreeContentProvider contentProvider = (ITreeContentProvider) viewer.getContentProvider();
+		List<Object> elements = new ArrayList<>();
+		List<String[]> texts = new ArrayList<>();
+		int[] parents = new int[16];
+
+		// iterative pre-order walk, each stack entry holds the element and the
+		// index of its parent
+		Deque<Object[]> stack = new ArrayDeque<>();
+		push(stack, contentProvider.getElements(viewer.getInput()), -1);
+		while (!stack.isEmpty()) {
+			Object[] entry = stack.pop();
+			Object element = entry[0];
+			int index = elements.size();
+			if (index == parents.length) {
+				parents = Arrays.copyOf(parents, index * 2);
+			}
+			parents[index] = ((Integer) entry[1]).intValue();
+			elements.add(element);
+			String[] elementTexts = filter.getLeafMatchTexts(viewer, element);
+			texts.add(elementTexts != null ? elementTexts : NO_TEXTS);
+			// a cyclic content provider would make the walk endless, so an
+			// element is not descended into below itself
+			if (!isAncestor(viewer, elements, parents, parents[index], element)) {
+				push(stack, contentProvider.getChildren(element), index);
+			}
+		}
+		return new FilterSnapshot(elements.toArray(), Arrays.copyOf(parents, elements.size()),
+				texts.toArray(new String[texts.size()][]), filter.getContentGeneration());
+	}
+
+	private static boolean isAncestor(AbstractTreeViewer viewer, List<Object> elements, int[] parents, int parent,
+			Object element) {
+		IElementComparer comparer = viewer.getComparer();
+		for (int i = parent; i >= 0; i = parents[i]) {
+			Object ancestor = elements.get(i);
+			if (comparer != null ? comparer.equals(ancestor, element) : ancestor.equals(element)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void push(Deque<Object[]> stack, Object[] children, int parent) {
+		if (children == null) {
+			return;
+		}
+		Integer parentIndex = Integer.valueOf(parent);
+		// push in reverse order so that the children are visited in order
+		for (int i = children.length - 1; i >= 0; i--) {
+			if (children[i] != null) {
+				stack.push(new Object[] { children[i], parentIndex });
+			}
+		}
+	}
+
+	/**
+	 * Returns whether this snapshot still reflects the content of the tree.
+	 *
+	 * @param filter the pattern filter of the tree
+	 * @return <code>true</code> if the content did not change since the snapshot
+	 *         was taken
+	 */
+	boolean isValid(PatternFilter filter) {
+		return contentGeneration == filter.getContentGeneration();
+	}
+
+	/**
+	 * Matches the snapshot against the given pattern. Does not access any state
+	 * of the tree or of the pattern filter, and may therefore be called from any
+	 * thread.
+	 *
+	 * @param pattern    the pattern string
+	 * @param matcher    the matcher created for the pattern string
+	 * @param candidates the result of matching a pattern that the given one
+	 *                   refines, or <code>null</code> to test all elements
+	 * @param monitor    the progress monitor, used for cancellation
+	 * @return the result, or <code>null</code> if canceled
+	 */
+	Match match(String pattern, TextMatcher matcher, Match candidates, IProgressMonitor monitor) {
+		int size = elements.length;
+		BitSet leaves = new BitSet(size);
+		BitSet visible = new BitSet(size);
+		// children come after their parent in pre-order, so walking backwards
+		// decides all children of an element before the element itself
+		for (int i = size - 1; i >= 0; i--) {
+			if ((i & 0xff) == 0 && monitor.isCanceled()) {
+				return null;
+			}
+			if ((candidates == null || candidates.visible.get(i)) && isLeafMatch(matcher, texts[i])) {
+				leaves.set(i);
+				visible.set(i);
+			}
+			if (visible.get(i) && parents[i] >= 0) {
+				visible.set(parents[i]);
+			}
+		}
+		Set<Object> matched = new HashSet<>();
+		for (int i = visible.nextSetBit(0); i >= 0; i = visible.nextSetBit(i + 1)) {
+			matched.add(elements[i]);
+		}
+		return new Match(this, pattern, visible, leaves, matched);
+	}
+
+	private static boolean isLeafMatch(TextMatcher matcher, String[] elementTexts) {
+		for (String text : elementTexts) {
+			if (PatternFilter.wordMatches(matcher, text)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The result of matching a snapshot against a pattern.
+	 */
+	static final class Match {
+
+		private final FilterSnapshot snapshot;
+
+		private final String pattern;
+
+		private final BitSet visible;
+
+		private final BitSet leaves;
+
+		private final Set<Object> matchedElements;
+
+		Match(FilterSnapshot snapshot, String pattern, BitSet visible, BitSet leaves, Set<Object> matchedElements) {
+			this.snapshot = snapshot;
+			this.pattern = pattern;
+			this.visible = visible;
+			this.leaves = leaves;
+			this.matchedElements = matchedElements;
+		}
+
+		FilterSnapshot getSnapshot() {
+			return snapshot;
+		}
+
+		String getPattern() {
+			return pattern;
+		}
+
+		/**
+		 * @return the elements that are visible, either because their texts match
+		 *         or because one of their descendants matches
+		 */
+		Set<Object> getMatchedElements() {
+			return matchedElements;
+		}
+
+		/**
+		 * Returns the elements that were visible in the given previous result but
+		 * are no longer visible in this one. Descendants of such elements are
+		 * omitted since removing an element from the tree removes its subtree.
+		 *
+		 * @param previous an earlier result on the same snapshot
+		 * @return the elements to remove from the tree
+		 */
+		Object[] getHiddenElements(Match previous) {
+			BitSet hidden = (BitSet) previous.visible.clone();
+			hidden.andNot(visible);
+			Set<Object> result = new HashSet<>();
+			for (int i = hidden.nextSetBit(0); i >= 0; i = hidden.nextSetBit(i + 1)) {
+				int parent = snapshot.parents[i];
+				if (parent < 0 || !hidden.get(parent)) {
+					result.add(snapshot.elements[i]);
+				}
+			}
+			return result.toArray();
+		}
+
+		/**
+		 * Returns the elements that are visible in both results but matched
+		 * differently, so their labels (e.g. a bold font for matches) need to be
+		 * updated.
+		 *
+		 * @param previous an earlier result on the same snapshot
+		 * @return the elements to update in the tree
+		 */
+		Object[] getChangedElements(Match previous) {
+			BitSet changed = (BitSet) previous.leaves.clone();
+			changed.xor(leaves);
+			changed.and(visible);
+			Set<Object> result = new HashSet<>();
+			for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+				result.add(snapshot.elements[i]);
+			}
+			return result.toArray();
+		}
+	}
+}
@@ -24,7 +24,9 @@ import org.eclipse.jface.action.ToolBarManager;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.accessibility.AccessibleAdapter;
@@ -48,6 +50,7 @@ import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.ui.IWorkbenchPreferenceConstants;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.WorkbenchMessages;
+import org.eclipse.ui.internal.misc.TextMatcher;
 import org.eclipse.ui.progress.WorkbenchJob;
 
 /**
@@ -157,6 +160,31 @@ public class FilteredTree extends Composite {
 	 */
 	private static final long DEFAULT_REFRESH_TIME = 200;
 
+	/**
+	 * Whether the filter pattern is matched in a background job.
+	 */
+	private boolean backgroundFiltering;
+
+	/**
+	 * Snapshot of the tree content used for background filtering.
+	 */
+	private FilterSnapshot snapshot;
+
+	/**
+	 * The match currently shown in the tree, used to filter incrementally.
+	 */
+	private FilterSnapshot.Match appliedMatch;
+
+	/**
+	 * The match computed by the last background job, not yet applied.
+	 */
+	private volatile FilterSnapshot.Match completedMatch;
+
+	/**
+	 * The job matching the filter pattern in the background.
+	 */
+	private Job matchJob;
+
 	/**
 	 * Create a new instance of the receiver. Subclasses that wish to override the
 	 * default creation behavior may use this constructor, but must ensure that the
@@ -421,7 +449,10 @@ public class FilteredTree extends Composite {
 		treeViewer = doCreateTreeViewer(parent, style);
 		GridData data = new GridData(SWT.FILL, SWT.FILL, true, true);
 		treeViewer.getControl().setLayoutData(data);
-		treeViewer.getControl().addDisposeListener(e -> refreshJob.cancel());
+		treeViewer.getControl().addDisposeListener(e -> {
+			refreshJob.cancel();
+			cancelMatchJob();
+		});
 		if (treeViewer instanceof NotifyingTreeViewer) {
 			patternFilter.setUseCache(true);
 		}
@@ -491,11 +522,35 @@ public class FilteredTree extends Composite {
 				}
 
 				boolean initial = initialText != null && initialText.equals(text);
+				boolean background = isBackgroundFilteringActive();
+				FilterSnapshot.Match match = null;
+				if (background && !initial && text.length() > 0) {
+					match = takeCompletedMatch(text);
+					if (match == null) {
+						// match in the background, the job is scheduled again
+						// once the result is available
+						if (scheduleMatchJob(text)) {
+							return Status.OK_STATUS;
+						}
+						// the content can not be matched in the background,
+						// filter in the UI thread this time
+						background = false;
+					}
+				}
+				FilterSnapshot.Match previousMatch = appliedMatch;
+				appliedMatch = match;
+
 				if (initial) {
 					patternFilter.setPattern(null);
 				} else if (text != null) {
 					patternFilter.setPattern(text);
 				}
+				if (match != null) {
+					patternFilter.setMatchedElements(match.getMatchedElements());
+				}
+				boolean incremental = match != null && previousMatch != null
+						&& previousMatch.getSnapshot() == match.getSnapshot()
+						&& PatternFilter.isRefinement(previousMatch.getPattern(), text);
 
 				Control redrawFalseControl = treeComposite != null ? treeComposite : treeViewer.getControl();
 				try {
@@ -504,7 +559,7 @@ public class FilteredTree extends Composite {
 					// we are setting redraw(false) on the composite to avoid
 					// dancing scrollbar
 					redrawFalseControl.setRedraw(false);
-					if (!narrowingDown) {
+					if (!narrowingDown && !incremental) {
 						// collapse all
 						TreeItem[] is = treeViewer.getTree().getItems();
 						for (TreeItem item : is) {
@@ -513,7 +568,15 @@ public class FilteredTree extends Composite {
 							}
 						}
 					}
-					treeViewer.refresh(true);
+					if (incremental) {
+						// only apply what changed since the previous match
+						((NotifyingTreeViewer) treeViewer).applyFilter(match.getHiddenElements(previousMatch),
+								match.getChangedElements(previousMatch));
+					} else if (background) {
+						((NotifyingTreeViewer) treeViewer).applyFilter();
+					} else {
+						treeViewer.refresh(true);
+					}
 
 					if (text.length() > 0 && !initial) {
 						/*
@@ -578,6 +641,103 @@ public class FilteredTree extends Composite {
 		};
 	}
 
+	/**
+	 * Returns whether background filtering is enabled and supported by the tree
+	 * viewer.
+	 */
+	private boolean isBackgroundFilteringActive() {
+		return backgroundFiltering && treeViewer instanceof NotifyingTreeViewer;
+	}
+
+	/**
+	 * Returns the match computed in the background for the given pattern, if it
+	 * is still valid.
+	 */
+	private FilterSnapshot.Match takeCompletedMatch(String text) {
+		FilterSnapshot.Match match = completedMatch;
+		if (match != null && match.getSnapshot() == snapshot && snapshot.isValid(patternFilter)
+				&& text.equals(match.getPattern())) {
+			completedMatch = null;
+			return match;
+		}
+		return null;
+	}
+
+	/**
+	 * Schedules a job matching the given pattern against a snapshot of the tree
+	 * content. Once done, the job schedules the refresh job to apply the result.
+	 *
+	 * @return <code>false</code> if no snapshot of the content can be taken
+	 */
+	private boolean scheduleMatchJob(String text) {
+		cancelMatchJob();
+		if (snapshot == null || !snapshot.isValid(patternFilter)) {
+			snapshot = FilterSnapshot.create(treeViewer, patternFilter);
+			appliedMatch = null;
+			if (snapshot == null) {
+				return false;
+			}
+		}
+		final FilterSnapshot currentSnapshot = snapshot;
+		final FilterSnapshot.Match candidates = appliedMatch != null
+				&& PatternFilter.isRefinement(appliedMatch.getPattern(), text) ? appliedMatch : null;
+		final TextMatcher matcher = patternFilter.createMatcher(text);
+		matchJob = Job.create("Match Filter", monitor -> { //$NON-NLS-1$
+			FilterSnapshot.Match match = currentSnapshot.match(text, matcher, candidates, monitor);
+			if (match == null || monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			completedMatch = match;
+			refreshJob.schedule();
+			return Status.OK_STATUS;
+		});
+		matchJob.setSystem(true);
+		matchJob.schedule();
+		return true;
+	}
+
+	private void cancelMatchJob() {
+		if (matchJob != null) {
+			matchJob.cancel();
+			matchJob = null;
+		}
+		completedMatch = null;
+	}
+
+	/**
+	 * Sets whether the filter pattern is matched against the content of the tree
+	 * in a background job. In this mode, a snapshot of the tree structure and of
+	 * the texts returned by {@link PatternFilter#getLeafMatchTexts(Viewer, Object)}
+	 * is taken in the UI thread once per content change. Each pattern is then
+	 * matched against the snapshot in the background, and only the resulting
+	 * changes in visibility are applied to the tree. If the pattern refines the
+	 * previous one, only the elements that matched the previous pattern are
+	 * tested again.
+	 * <p>
+	 * Background filtering must only be enabled if the pattern filter decides
+	 * leaf matches solely on the texts returned by
+	 * {@link PatternFilter#getLeafMatchTexts(Viewer, Object)} and does not
+	 * override {@link PatternFilter#isElementVisible(Viewer, Object)}. It has no
+	 * effect if {@link #doCreateTreeViewer(Composite, int)} was overridden, or if
+	 * the content provider is not an {@link ITreeContentProvider}.
+	 * </p>
+	 * <p>
+	 * By default, this is set to <code>false</code>.
+	 * </p>
+	 *
+	 * @param enabled <code>true</code> to match the filter pattern in the
+	 *                background, <code>false</code> to match in the UI thread
+	 * @since 3.135
+	 */
+	public void setBackgroundFiltering(boolean enabled) {
+		if (backgroundFiltering != enabled) {
+			backgroundFiltering = enabled;
+			cancelMatchJob();
+			snapshot = null;
+			appliedMatch = null;
+		}
+	}
+
 	/**
 	 * Updates the toolbar. The default implementation does nothing. Subclasses may
 	 * override.
@@ -767,6 +927,7 @@ public class FilteredTree extends Composite {
 		previousFilterText = getFilterString();
 		// cancel currently running job first, to prevent unnecessary redraw
 		refreshJob.cancel();
+		cancelMatchJob();
 		refreshJob.schedule(getRefreshJobDelay());
 	}
 
@@ -1050,6 +1211,31 @@ public class FilteredTree extends Composite {
 			super.setHasChildren(elementOrTreePath, hasChildren);
 		}
 
+		/**
+		 * Refreshes the tree after the filter pattern changed. Unlike
+		 * {@link #refresh(boolean)}, this keeps the matches the pattern filter
+		 * computed in the background, as the content did not change.
+		 */
+		void applyFilter() {
+			super.refresh(getRoot(), true);
+		}
+
+		/**
+		 * Applies the changes of an incremental match to the tree.
+		 *
+		 * @param hidden  the elements that no longer match
+		 * @param changed the elements that still match but whose labels need to be
+		 *                updated
+		 */
+		void applyFilter(Object[] hidden, Object[] changed) {
+			if (hidden.length > 0) {
+				super.remove(hidden);
+			}
+			if (changed.length > 0) {
+				update(changed, null);
+			}
+		}
+
 	}
 
 }
@@ -17,6 +17,7 @@ package org.eclipse.ui.dialogs;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ContentViewer;
 import org.eclipse.jface.viewers.ILabelProvider;
@@ -48,6 +49,17 @@ public class PatternFilter extends ViewerFilter {
 
 	private boolean useCache = false;
 
+	/*
+	 * Elements known to match the current pattern, computed in advance by the
+	 * filtered tree, or null if visibility is determined on demand
+	 */
+	private Set<Object> matchedElements;
+
+	/*
+	 * Incremented whenever the content of the tree changes
+	 */
+	private int contentGeneration;
+
 	/**
 	 * Whether to include a leading wildcard for all provided patterns. A trailing
 	 * wildcard is always included.
@@ -128,13 +140,25 @@ public class PatternFilter extends ViewerFilter {
 		boolean elementFound = false;
 		for (int i = 0; i < elements.length && !elementFound; i++) {
 			Object element = elements[i];
-			elementFound = isElementVisible(viewer, element);
+			elementFound = isVisible(viewer, element);
 		}
 		return elementFound;
 	}
 
 	@Override
 	public final boolean select(Viewer viewer, Object parentElement, Object element) {
+		return isVisible(viewer, element);
+	}
+
+	/**
+	 * Answers whether the given element is visible, using the matches computed
+	 * in advance if there are any.
+	 */
+	private boolean isVisible(Viewer viewer, Object element) {
+		Set<Object> matched = matchedElements;
+		if (matched != null) {
+			return matched.contains(element);
+		}
 		return isElementVisible(viewer, element);
 	}
 
@@ -163,18 +187,52 @@ public class PatternFilter extends ViewerFilter {
 			useEarlyReturnIfMatcherIsNull = false;
 			return;
 		}
-		clearCaches();
+		cache.clear();
+		foundAnyCache.clear();
+		matchedElements = null;
+		matcher = createMatcher(patternString);
+	}
+
+	/**
+	 * Creates the matcher for the given pattern string, taking the leading
+	 * wildcard setting into account.
+	 *
+	 * @param patternString the pattern string, may be <code>null</code>
+	 * @return the matcher, or <code>null</code> if everything matches
+	 */
+	/* package */ TextMatcher createMatcher(String patternString) {
 		if (patternString == null || patternString.isEmpty()) {
-			matcher = null;
-		} else {
-			String pattern = patternString;
-			if (!patternString.endsWith(" ")) //$NON-NLS-1$
-				pattern += "*"; //$NON-NLS-1$
-			if (includeLeadingWildcard) {
-				pattern = "*" + pattern; //$NON-NLS-1$
-			}
-			matcher = new TextMatcher(pattern, true, false);
+			return null;
+		}
+		String pattern = patternString;
+		if (!patternString.endsWith(" ")) //$NON-NLS-1$
+			pattern += "*"; //$NON-NLS-1$
+		if (includeLeadingWildcard) {
+			pattern = "*" + pattern; //$NON-NLS-1$
+		}
+		return new TextMatcher(pattern, true, false);
+	}
+
+	/**
+	 * Answers whether every text matching <code>newPattern</code> is guaranteed
+	 * to also match <code>oldPattern</code>, so that only the elements matching
+	 * the old pattern need to be tested against the new one. This is the case if
+	 * the new pattern only appends characters to an old pattern that contains no
+	 * wildcards and does not end with whitespace.
+	 *
+	 * @param oldPattern the previous pattern string, may be <code>null</code>
+	 * @param newPattern the new pattern string, may be <code>null</code>
+	 * @return <code>true</code> if the new pattern refines the old one
+	 */
+	/* package */ static boolean isRefinement(String oldPattern, String newPattern) {
+		if (oldPattern == null || oldPattern.isEmpty() || newPattern == null
+				|| !newPattern.startsWith(oldPattern)) {
+			return false;
+		}
+		if (Character.isWhitespace(oldPattern.charAt(oldPattern.length() - 1))) {
+			return false;
 		}
+		return oldPattern.indexOf('*') < 0 && oldPattern.indexOf('?') < 0 && oldPattern.indexOf('\\') < 0;
 	}
 
 	/**
@@ -184,20 +242,33 @@ public class PatternFilter extends ViewerFilter {
 	/* package */ void clearCaches() {
 		cache.clear();
 		foundAnyCache.clear();
+		matchedElements = null;
+		contentGeneration++;
 	}
 
 	/**
-	 * Answers whether the given String matches the pattern.
+	 * Returns a counter that changes whenever the tree content changes, i.e.
+	 * whenever {@link #clearCaches()} is called.
 	 *
-	 * @param string the String to test
+	 * @return the content generation
+	 */
+	/* package */ int getContentGeneration() {
+		return contentGeneration;
+	}
+
+	/**
+	 * Sets the elements that match the current pattern, as computed in advance by
+	 * the filtered tree. Until the pattern or the content changes, the filter
+	 * answers visibility by looking up these elements instead of calling
+	 * {@link #isElementVisible(Viewer, Object)}.
 	 *
-	 * @return whether the string matches the pattern
+	 * @param elements the matching elements, or <code>null</code> to determine
+	 *                 visibility on demand
 	 */
-	private boolean match(String string) {
-		if (matcher == null) {
-			return true;
-		}
-		return matcher.match(string);
+	/* package */ void setMatchedElements(Set<Object> elements) {
+		cache.clear();
+		foundAnyCache.clear();
+		matchedElements = elements;
 	}
 
 	/**
@@ -271,6 +342,30 @@ public class PatternFilter extends ViewerFilter {
 		return wordMatches(labelText);
 	}
 
+	/**
+	 * Returns the texts of the given element that
+	 * {@link #isLeafMatch(Viewer, Object)} matches against the filter pattern.
+	 * When background filtering is enabled on the filtered tree, these texts are
+	 * collected for all elements in the UI thread, and are then matched against
+	 * the pattern in a background job using {@link #wordMatches(String)}
+	 * semantics. The default implementation returns the label of the element.
+	 * <p>
+	 * Subclasses that override {@link #isLeafMatch(Viewer, Object)} to match
+	 * other texts should override this method accordingly.
+	 * </p>
+	 *
+	 * @param viewer  the viewer that contains the element
+	 * @param element the tree element
+	 * @return the texts to match, or <code>null</code> if the element never
+	 *         matches by itself
+	 * @see FilteredTree#setBackgroundFiltering(boolean)
+	 * @since 3.135
+	 */
+	protected String[] getLeafMatchTexts(Viewer viewer, Object element) {
+		String labelText = ((ILabelProvider) ((ContentViewer) viewer).getLabelProvider()).getText(element);
+		return labelText == null ? null : new String[] { labelText };
+	}
+
 	/**
 	 * Return whether or not if any of the words in text satisfy the match critera.
 	 *
@@ -279,19 +374,32 @@ public class PatternFilter extends ViewerFilter {
 	 *         match criteria.
 	 */
 	protected boolean wordMatches(String text) {
+		return wordMatches(matcher, text);
+	}
+
+	/**
+	 * Return whether or not if any of the words in text satisfy the given matcher.
+	 * Does not access any state of the filter and may therefore be called from
+	 * any thread.
+	 *
+	 * @param textMatcher the matcher, or <code>null</code> to match everything
+	 * @param text        the text to match
+	 * @return <code>true</code> if one of the words in text satisfies the matcher
+	 */
+	/* package */ static boolean wordMatches(TextMatcher textMatcher, String text) {
 		if (text == null) {
 			return false;
 		}
 
 		// If the whole text matches we are all set
-		if (match(text)) {
+		if (textMatcher == null || textMatcher.match(text)) {
 			return true;
 		}
 
 		// Otherwise check if any of the words of the text matches
 		String[] words = TextMatcher.getWords(text);
 		for (String word : words) {
-			if (!match(word)) {
+			if (!textMatcher.match(word)) {
 				return false;
 			}
 		}
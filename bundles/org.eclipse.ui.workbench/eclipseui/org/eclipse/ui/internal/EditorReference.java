@@ -13,6 +13,7 @@
  *     Nikolay Botev - bug 240651
  *     Andrey Loskutov <loskutov@gmx.de> - Bug 459964
  *     Lars Vogel <Lars.Vogel@vogella.com> - Bug 472654
+ *     Contributors to the Eclipse Foundation - startup profiling
  *******************************************************************************/
 package org.eclipse.ui.internal;
 
@@ -51,6 +52,7 @@ import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.WorkbenchException;
 import org.eclipse.ui.XMLMemento;
 import org.eclipse.ui.internal.editorsupport.ComponentSupport;
+import org.eclipse.ui.internal.misc.UIStats;
 import org.eclipse.ui.internal.part.NullEditorInput;
 import org.eclipse.ui.internal.registry.EditorDescriptor;
 import org.eclipse.ui.internal.registry.EditorRegistry;
@@ -295,11 +297,14 @@ public class EditorReference extends WorkbenchPartReference implements IEditorRe
 			if (memento == null) {
 				input = new NullEditorInput();
 			} else {
+				UIStats.start(UIStats.CREATE_PART_INPUT, descriptorId);
 				try {
 					XMLMemento createReadRoot = XMLMemento.createReadRoot(new StringReader(memento));
 					input = restoreInput(createReadRoot);
 				} catch (WorkbenchException e) {
 					throw new PartInitException(e.getStatus());
+				} finally {
+					UIStats.end(UIStats.CREATE_PART_INPUT, this, descriptorId);
 				}
 			}
 		}
@@ -17,6 +17,7 @@
  *     Denis Zygann <d.zygann@web.de> - Bug 330453
  *     Axel Richard <axel.richard@obeo.fr> - Bug 486644
  *     Christian Georgi (SAP SE) - Bug 540440
+ *     Contributors to the Eclipse Foundation - startup profiling
  *******************************************************************************/
 
 package org.eclipse.ui.internal;
@@ -327,4 +328,18 @@ public interface IPreferenceConstants {
 	 */
 	String SHOW_KEYS_TIME_TO_CLOSE = "showCommandKeys_timeToClose"; //$NON-NLS-1$
 
+	/**
+	 * Preference for whether a timeline of the workbench startup is recorded.
+	 * The timeline is written in the Chrome trace event format to
+	 * <code>startup-trace.json</code> in the state location of the
+	 * <code>org.eclipse.e4.ui.workbench</code> plug-in once the early startup
+	 * extensions ran.
+	 * <p>
+	 * The boolean default value for this preference is: <code>false</code>.
+	 * </p>
+	 *
+	 * @since 3.135
+	 */
+	String STARTUP_PROFILE = "STARTUP_PROFILE"; //$NON-NLS-1$
+
 }
@@ -22,6 +22,7 @@
  *     Daniel Kruegler <daniel.kruegler@gmail.com> - Bug 520926
  *     Christian Georgi (SAP SE) - Bug 540440
  *     Paul Pazderski <paul-eclipse@ppazderski.de> - Bug 550950
+ *     Contributors to the Eclipse Foundation - startup profiling, startup timeline
  *******************************************************************************/
 
 package org.eclipse.ui.internal;
@@ -59,6 +60,7 @@ import org.eclipse.core.commands.NotHandledException;
 import org.eclipse.core.commands.common.EventManager;
 import org.eclipse.core.commands.common.NotDefinedException;
 import org.eclipse.core.commands.contexts.ContextManager;
+import org.eclipse.core.commands.internal.util.Tracing;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -88,6 +90,7 @@ import org.eclipse.e4.core.di.InjectionException;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
+import org.eclipse.e4.ui.internal.workbench.StartupProfiler;
 import org.eclipse.e4.ui.internal.workbench.renderers.swt.IUpdateService;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.internal.workbench.swt.IEventLoopAdvisor;
@@ -587,6 +590,12 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 				Window.setDefaultOrientation(orientation);
 			}
 			setRescaleAtRuntimePropertyFromPreference(display);
+			if (store.getBoolean(IPreferenceConstants.STARTUP_PROFILE)) {
+				StartupProfiler.start(null);
+			}
+			if (Policy.DEBUG_STARTUP) {
+				UIStats.recordTimeline();
+			}
 			if (obj instanceof E4Application) {
 				E4Application e4app = (E4Application) obj;
 				E4Workbench e4Workbench = e4app.createE4Workbench(getApplicationContext(), display);
@@ -677,6 +686,9 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 				}
 			}
 		});
+		// no-op unless the workbench was closed before startup completed
+		StartupProfiler.complete();
+		traceStartupTimeline();
 		return returnCode[0];
 	}
 
@@ -1743,9 +1755,9 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 				introDescriptor = (IntroDescriptor) introRegistry.getIntroForProduct(product.getId());
 			}
 		}
-		initializeDefaultServices();
-		initializeFonts();
-		initializeApplicationColors();
+		runInitPhase("Default services", this::initializeDefaultServices); //$NON-NLS-1$
+		runInitPhase("Fonts", this::initializeFonts); //$NON-NLS-1$
+		runInitPhase("Colors", this::initializeApplicationColors); //$NON-NLS-1$
 
 		// now that the workbench is sufficiently initialized, let the advisor
 		// have a turn.
@@ -1767,7 +1779,7 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 		initializeGlobalization();
 		initializeNLExtensions();
 
-		initializeWorkbenchImages();
+		runInitPhase("Workbench images", this::initializeWorkbenchImages); //$NON-NLS-1$
 
 		// hook shortcut visualizer
 		StartupThreading.runWithoutExceptions(new StartupRunnable() {
@@ -2214,7 +2226,7 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 		CommandService service = new CommandService(commandManager, appContext);
 		appContext.set(ICommandService.class, service);
 		appContext.set(IUpdateService.class, service);
-		service.readRegistry();
+		runInitPhase("Commands", service::readRegistry); //$NON-NLS-1$
 
 		return service;
 	}
@@ -2375,7 +2387,7 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 
 		final CommandImageManager commandImageManager = new CommandImageManager();
 		final CommandImageService commandImageService = new CommandImageService(commandImageManager, commandService[0]);
-		commandImageService.readRegistry();
+		runInitPhase("Command images", commandImageService::readRegistry); //$NON-NLS-1$
 		serviceLocator.registerService(ICommandImageService.class, commandImageService);
 
 		final WorkbenchMenuService menuService = new WorkbenchMenuService(serviceLocator, e4Context);
@@ -2388,7 +2400,7 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 
 			@Override
 			public void runWithException() {
-				menuService.readRegistry();
+				runInitPhase("Menus", menuService::readRegistry); //$NON-NLS-1$
 			}
 		});
 
@@ -2405,7 +2417,7 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 			@Override
 			public void runWithException() {
 				// this currently instantiates all players ... sigh
-				sourceProviderService.readRegistry();
+				runInitPhase("Source providers", sourceProviderService::readRegistry); //$NON-NLS-1$
 				ISourceProvider[] sourceproviders = sourceProviderService.getSourceProviders();
 				for (ISourceProvider sp : sourceproviders) {
 					evaluationService.addSourceProvider(sp);
@@ -2444,7 +2456,7 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 			public void runWithException() {
 				handlerService[0] = new LegacyHandlerService(e4Context);
 				e4Context.set(IHandlerService.class, handlerService[0]);
-				handlerService[0].readRegistry();
+				runInitPhase("Handlers", handlerService[0]::readRegistry); //$NON-NLS-1$
 			}
 		});
 		workbenchContextSupport = new WorkbenchContextSupport(this, contextManager);
@@ -2778,6 +2790,51 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 		job.schedule();
 	}
 
+	/*
+	 * Runs a phase of the workbench initialization, reporting it to UIStats so
+	 * that it shows up in the startup timeline and profile.
+	 */
+	private void runInitPhase(String name, Runnable phase) {
+		UIStats.start(UIStats.INIT_WORKBENCH, name);
+		try {
+			phase.run();
+		} finally {
+			UIStats.end(UIStats.INIT_WORKBENCH, this, name);
+		}
+	}
+
+	/*
+	 * Prints the startup timeline recorded by UIStats, if any.
+	 */
+	private static void traceStartupTimeline() {
+		for (String line : UIStats.completeTimeline()) {
+			Tracing.printTrace("STARTUP", line); //$NON-NLS-1$
+		}
+	}
+
+	/*
+	 * Writes the startup profile and prints the startup timeline once the early
+	 * startup extensions ran.
+	 */
+	private void completeStartupProfile() {
+		Job job = new Job("Writing the startup profile") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					Job.getJobManager().join(EARLY_STARTUP_FAMILY, monitor);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					StartupProfiler.complete();
+					traceStartupTimeline();
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
 	/**
 	 * Disable the Workbench Auto-Save job on startup during tests.
 	 *
@@ -2873,6 +2930,9 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 					// start eager plug-ins
 					startPlugins();
 					addStartupRegistryListener();
+					if (StartupProfiler.isRecording() || Policy.DEBUG_STARTUP) {
+						completeStartupProfile();
+					}
 				};
 				e4Context.set(PartRenderingEngine.EARLY_STARTUP_HOOK, earlyStartup);
 				// start workspace auto-save
@@ -19,6 +19,7 @@
  *     Lars Vogel <Lars.Vogel@vogella.com> - Bug 146205
  *     Patrik Suzzi <psuzzi@itemis.com> - Bug 529885
  *     Christian Georgi (SAP SE) - Bug 540440
+ *     Contributors to the Eclipse Foundation - startup profiling
  *******************************************************************************/
 package org.eclipse.ui.internal;
 
@@ -53,6 +54,7 @@ public class WorkbenchPreferenceInitializer extends AbstractPreferenceInitialize
 
 		node.putBoolean(IPreferenceConstants.RUN_IN_BACKGROUND, true);
 		node.putBoolean(IPreferenceConstants.SHOULD_PROMPT_FOR_ENABLEMENT, true);
+		node.putBoolean(IPreferenceConstants.STARTUP_PROFILE, false);
 
 		node.putBoolean(IPreferenceConstants.EDITORLIST_PULLDOWN_ACTIVE, false);
 		node.putBoolean(IPreferenceConstants.EDITORLIST_DISPLAY_FULL_NAME, false);
@@ -204,6 +204,7 @@ public class ShowViewDialog extends Dialog implements ISelectionChangedListener,
 		int styleBits = SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | SWT.BORDER;
 		filteredTree = new FilteredTree(parent, styleBits, filter, true, true);
 		filteredTree.setQuickSelectionMode(true);
+		filteredTree.setBackgroundFiltering(true);
 		filteredTree.setBackground(parent.getDisplay().getSystemColor(SWT.COLOR_WIDGET_BACKGROUND));
 
 		TreeViewer treeViewer = filteredTree.getViewer();
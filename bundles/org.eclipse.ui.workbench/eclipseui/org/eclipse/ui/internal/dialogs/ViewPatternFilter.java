@@ -39,4 +39,14 @@ public class ViewPatternFilter extends PatternFilter {
 				.map(text -> LocalizationHelper.getLocalized(text, desc)) //
 				.anyMatch(this::wordMatches);
 	}
+
+	@Override
+	protected String[] getLeafMatchTexts(Viewer viewer, Object element) {
+		if (element instanceof MPartDescriptor desc) {
+			return Stream.of(desc.getLabel(), desc.getCategory()) //
+					.map(text -> LocalizationHelper.getLocalized(text, desc)) //
+					.toArray(String[]::new);
+		}
+		return null;
+	}
 }
@@ -14,6 +14,7 @@
  *     Andrey Loskutov <loskutov@gmx.de> - Bug 372799, 446864
  *     Snjezana Peco <snjezana.peco@redhat.com> - Bug 414888
  *     Lars Vogel <Lars.Vogel@vogella.com> - Bug 503379
+ *     Contributors to the Eclipse Foundation - startup profiling
  ******************************************************************************/
 
 package org.eclipse.ui.internal.e4.compatibility;
@@ -60,6 +61,7 @@ import org.eclipse.ui.internal.SaveableHelper;
 import org.eclipse.ui.internal.WorkbenchPage;
 import org.eclipse.ui.internal.WorkbenchPartReference;
 import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.misc.UIStats;
 import org.eclipse.ui.internal.util.Util;
 import org.eclipse.ui.part.IWorkbenchPartOrientation;
 import org.osgi.service.event.EventHandler;
@@ -337,11 +339,22 @@ public abstract class CompatibilityPart implements ISelectionChangedListener {
 		eventBroker.subscribe(UIEvents.Contribution.TOPIC_OBJECT, objectSetHandler);
 
 		WorkbenchPartReference reference = getReference();
+		String partId = reference.getId();
 
 		try {
-			wrapped = createPart(reference);
+			UIStats.start(UIStats.CREATE_PART, partId);
+			try {
+				wrapped = createPart(reference);
+			} finally {
+				UIStats.end(UIStats.CREATE_PART, reference, partId);
+			}
 			// invoke init methods
-			reference.initialize(wrapped);
+			UIStats.start(UIStats.INIT_PART, partId);
+			try {
+				reference.initialize(wrapped);
+			} finally {
+				UIStats.end(UIStats.INIT_PART, reference, partId);
+			}
 		} catch (PartInitException e) {
 			if (!handlePartInitException(e)) {
 				return;
@@ -362,8 +375,13 @@ public abstract class CompatibilityPart implements ISelectionChangedListener {
 
 		Composite parent = new Composite(composite, style);
 		parent.setLayout(new FillLayout());
-		if (!createPartControl(wrapped, parent)) {
-			return;
+		UIStats.start(UIStats.CREATE_PART_CONTROL, partId);
+		try {
+			if (!createPartControl(wrapped, parent)) {
+				return;
+			}
+		} finally {
+			UIStats.end(UIStats.CREATE_PART_CONTROL, wrapped, partId);
 		}
 
 		// Only update 'valid' parts
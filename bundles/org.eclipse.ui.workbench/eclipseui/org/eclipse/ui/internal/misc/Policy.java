@@ -10,6 +10,7 @@
  *
  * Contributors:
  *     IBM Corporation - initial API and implementation
+ *     Contributors to the Eclipse Foundation - evaluation performance and startup tracing
  *******************************************************************************/
 package org.eclipse.ui.internal.misc;
 
@@ -100,6 +101,17 @@ public class Policy {
 	 */
 	public static boolean DEBUG_HANDLERS_PERFORMANCE = DEFAULT;
 
+	/**
+	 * Whether to print debugging information about the performance of
+	 * expression evaluations in the evaluation service.
+	 */
+	public static boolean DEBUG_EVALUATIONS_PERFORMANCE = DEFAULT;
+
+	/**
+	 * Whether to print the timeline of the workbench startup phases.
+	 */
+	public static boolean DEBUG_STARTUP = DEFAULT;
+
 	/**
 	 * Whether to print out verbose information about changing handlers in the
 	 * workbench.
@@ -176,6 +188,8 @@ public class Policy {
 			DEBUG_CONTEXTS_VERBOSE = getDebugOption("/trace/contexts.verbose"); //$NON-NLS-1$
 			DEBUG_HANDLERS = getDebugOption("/trace/handlers"); //$NON-NLS-1$
 			DEBUG_HANDLERS_PERFORMANCE = getDebugOption("/trace/handlers.performance"); //$NON-NLS-1$
+			DEBUG_EVALUATIONS_PERFORMANCE = getDebugOption("/trace/evaluations.performance"); //$NON-NLS-1$
+			DEBUG_STARTUP = getDebugOption("/trace/startup"); //$NON-NLS-1$
 			DEBUG_HANDLERS_VERBOSE = getDebugOption("/trace/handlers.verbose"); //$NON-NLS-1$
 			DEBUG_OPERATIONS = getDebugOption("/trace/operations"); //$NON-NLS-1$
 			DEBUG_OPERATIONS_VERBOSE = getDebugOption("/trace/operations.verbose"); //$NON-NLS-1$
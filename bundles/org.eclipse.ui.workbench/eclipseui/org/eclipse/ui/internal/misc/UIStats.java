@@ -10,24 +10,62 @@
  *
  * Contributors:
  *     IBM Corporation - initial API and implementation
+ *     Contributors to the Eclipse Foundation - startup profiling, startup timeline
  *******************************************************************************/
 package org.eclipse.ui.internal.misc;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.e4.ui.internal.workbench.StartupProfiler;
 import org.eclipse.ui.PlatformUI;
 
 /**
  * This class is used for monitoring performance events. Each performance event
  * has an associated option in the org.eclipse.ui plugin's .options file that
  * specifies an maximum acceptable duration for that event.
+ * <p>
+ * While the {@link StartupProfiler} is recording, the events are also recorded
+ * as spans of the startup timeline, regardless of the options.
+ * </p>
+ * <p>
+ * While a timeline is recorded, see {@link #recordTimeline()}, the start and
+ * duration of each event is recorded as well, regardless of the options.
+ * </p>
  *
  * @see org.eclipse.core.runtime.PerformanceStats
  */
 public class UIStats {
 
-	private static HashMap operations = new HashMap();
+	// events are also reported by the early startup job
+	private static Map<String, Long> operations = new ConcurrentHashMap<>();
+
+	private static Map<String, StartupProfiler.Span> spans = new ConcurrentHashMap<>();
+
+	private static final class TimelineEntry {
+		final String name;
+		final String thread;
+		final long start;
+		long end;
+
+		TimelineEntry(String name, String thread, long start) {
+			this.name = name;
+			this.thread = thread;
+			this.start = start;
+		}
+	}
+
+	private static volatile Queue<TimelineEntry> timeline;
+
+	private static long timelineStart;
+
+	private static Map<String, TimelineEntry> timelineOperations = new ConcurrentHashMap<>();
 
 	public static final int CREATE_PART = 0;
 
@@ -61,10 +99,12 @@ public class UIStats {
 
 	public static final int EARLY_STARTUP = 15;
 
+	public static final int INIT_WORKBENCH = 16;
+
 	/**
 	 * Change this value when you add a new event constant.
 	 */
-	public static final int LAST_VALUE = EARLY_STARTUP;
+	public static final int LAST_VALUE = INIT_WORKBENCH;
 
 	private static boolean debug[] = new boolean[LAST_VALUE + 1];
 
@@ -87,6 +127,7 @@ public class UIStats {
 		events[UI_JOB] = PlatformUI.PLUGIN_ID + "/perf/uijob"; //$NON-NLS-1$
 		events[CONTENT_TYPE_LOOKUP] = PlatformUI.PLUGIN_ID + "/perf/contentTypes"; //$NON-NLS-1$
 		events[EARLY_STARTUP] = PlatformUI.PLUGIN_ID + "/perf/earlyStartup"; //$NON-NLS-1$
+		events[INIT_WORKBENCH] = PlatformUI.PLUGIN_ID + "/perf/workbench.init"; //$NON-NLS-1$
 
 		for (int i = 0; i <= LAST_VALUE; i++) {
 			// don't log any performance events if the general performance stats is disabled
@@ -117,6 +158,13 @@ public class UIStats {
 		if (debug[event]) {
 			operations.put(event + label, Long.valueOf(System.currentTimeMillis()));
 		}
+		if (StartupProfiler.isRecording()) {
+			spans.put(event + label, StartupProfiler.begin(getCategory(event), label));
+		}
+		if (timeline != null) {
+			timelineOperations.put(event + label,
+					new TimelineEntry(events[event] + ' ' + label, Thread.currentThread().getName(), System.nanoTime()));
+		}
 	}
 
 	/**
@@ -128,8 +176,22 @@ public class UIStats {
 	 * @param label The event label
 	 */
 	public static void end(int event, Object blame, String label) {
+		Queue<TimelineEntry> entries = timeline;
+		if (entries != null) {
+			TimelineEntry entry = timelineOperations.remove(event + label);
+			if (entry != null) {
+				entry.end = System.nanoTime();
+				entries.add(entry);
+			}
+		}
+		if (!spans.isEmpty()) {
+			StartupProfiler.Span span = spans.remove(event + label);
+			if (span != null) {
+				span.close();
+			}
+		}
 		if (debug[event]) {
-			Long startTime = (Long) operations.remove(event + label);
+			Long startTime = operations.remove(event + label);
 			if (startTime == null) {
 				return;
 			}
@@ -140,6 +202,50 @@ public class UIStats {
 		}
 	}
 
+	/*
+	 * Returns the name of the event without the plug-in id, e.g. part.create.
+	 */
+	private static String getCategory(int event) {
+		String name = events[event];
+		return name.substring(name.lastIndexOf('/') + 1);
+	}
+
+	/**
+	 * Starts recording a timeline of the events, e.g. to trace the phases of the
+	 * workbench startup. Does nothing if a timeline is already recorded.
+	 */
+	public static synchronized void recordTimeline() {
+		if (timeline == null) {
+			timelineStart = System.nanoTime();
+			timeline = new ConcurrentLinkedQueue<>();
+		}
+	}
+
+	/**
+	 * Stops recording the timeline and returns the events which ended since
+	 * recording started, ordered by their start. Each line contains the event,
+	 * its label, its start relative to the start of recording, its duration and
+	 * the thread it ran on.
+	 *
+	 * @return the lines of the timeline, empty if no timeline was recorded
+	 */
+	public static synchronized List<String> completeTimeline() {
+		List<String> lines = new ArrayList<>();
+		Queue<TimelineEntry> entries = timeline;
+		if (entries == null) {
+			return lines;
+		}
+		timeline = null;
+		timelineOperations.clear();
+		List<TimelineEntry> recorded = new ArrayList<>(entries);
+		recorded.sort(Comparator.comparingLong((TimelineEntry entry) -> entry.start));
+		for (TimelineEntry entry : recorded) {
+			lines.add(entry.name + ": started at +" + (entry.start - timelineStart) / 1_000_000 //$NON-NLS-1$
+					+ "ms, took " + (entry.end - entry.start) / 1_000_000 + "ms on " + entry.thread); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return lines;
+	}
+
 	/**
 	 * Special hook to signal that application startup is complete and the event
 	 * loop has started running.
@@ -10,6 +10,7 @@
  *
  * Contributors:
  *     IBM Corporation - initial API and implementation
+ *     Contributors to the Eclipse Foundation - shared evaluation results
  ******************************************************************************/
 
 package org.eclipse.ui.internal.services;
@@ -42,6 +43,11 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 	boolean participating = true;
 	boolean postingChanges = true;
 	boolean hasRun = false;
+	/**
+	 * The cache shared with the other references of the evaluation service,
+	 * <code>null</code> if evaluations are not cached
+	 */
+	SharedEvaluationResults sharedResults;
 	static LogThrottle logThrottle = new LogThrottle(THROTTLE_MAX, THROTTLE_VALUE);
 
 	public EvaluationReference(IEclipseContext context, Expression expression, IPropertyChangeListener listener,
@@ -69,11 +75,17 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 
 	@Override
 	public boolean evaluate(IEvaluationContext context) {
+		return evaluate(context, null);
+	}
+
+	private boolean evaluate(IEvaluationContext context, SharedEvaluationResults sharedResults) {
 		if (expression == null) {
 			cache = true;
 		} else {
 			try {
-				cache = expression.evaluate(context) != EvaluationResult.FALSE;
+				EvaluationResult result = sharedResults == null ? expression.evaluate(context)
+						: sharedResults.evaluate(expression, context);
+				cache = result != EvaluationResult.FALSE;
 			} catch (CoreException e) {
 				String message = "Failed to evaluate: " + expression; //$NON-NLS-1$
 				boolean logged = logThrottle.error(message, e);
@@ -103,7 +115,7 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 
 	public void evaluate() {
 		boolean value = cache;
-		evaluate(new ExpressionContext(context));
+		evaluate(new ExpressionContext(context), sharedResults);
 		if (!postingChanges) {
 			return;
 		}
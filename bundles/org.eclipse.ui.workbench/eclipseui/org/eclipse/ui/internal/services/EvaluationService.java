@@ -11,6 +11,7 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *     Lars Vogel <Lars.Vogel@vogella.com> - Bug 472654
+ *     Contributors to the Eclipse Foundation - shared evaluation results
  *******************************************************************************/
 
 package org.eclipse.ui.internal.services;
@@ -58,6 +59,7 @@ public final class EvaluationService implements IEvaluationService {
 	private IEclipseContext context;
 	private IEclipseContext ratContext;
 	private int notifying = 0;
+	private final SharedEvaluationResults sharedResults = new SharedEvaluationResults();
 
 	private ListenerList<IPropertyChangeListener> serviceListeners = new ListenerList<>(ListenerList.IDENTITY);
 	ArrayList<ISourceProvider> sourceProviders = new ArrayList<>();
@@ -69,6 +71,8 @@ public final class EvaluationService implements IEvaluationService {
 		@Override
 		public boolean changed(IEclipseContext context) {
 			context.get(RE_EVAL);
+			// the variables are about to change, start a new generation
+			sharedResults.invalidate();
 			String[] vars = ratVariables.toArray(new String[ratVariables.size()]);
 			for (String var : vars) {
 				Object value = context.getActive(var);
@@ -134,6 +138,7 @@ public final class EvaluationService implements IEvaluationService {
 	}
 
 	private void contextEvaluate() {
+		sharedResults.invalidate();
 		evaluate = !evaluate;
 		context.set(RE_EVAL, Boolean.valueOf(evaluate));
 	}
@@ -235,6 +240,7 @@ public final class EvaluationService implements IEvaluationService {
 			contextEvaluate();
 		}
 		eref.participating = true;
+		eref.sharedResults = sharedResults;
 		ratContext.runAndTrack(eref);
 	}
 
@@ -261,6 +267,9 @@ public final class EvaluationService implements IEvaluationService {
 
 	@Override
 	public void requestEvaluation(String propertyName) {
+		// the property may have changed, results of earlier evaluations are stale
+		sharedResults.invalidate();
+
 		// Trigger evaluation of properties via context
 		String pokeVar = propertyName + ".evaluationServiceLink"; //$NON-NLS-1$
 		context.remove(pokeVar);
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.ui.internal.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.core.commands.internal.util.Tracing;
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.IEvaluationContext;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.internal.misc.Policy;
+
+/**
+ * Caches the results of the expressions evaluated by the references of one
+ * {@link EvaluationService}. References whose expressions are equal share one
+ * evaluation as long as the variables read by the expression still have the
+ * same values. The cache only lives for one generation of the source state, it
+ * is cleared whenever the service starts a new round of evaluations.
+ *
+ * @since 3.135
+ */
+final class SharedEvaluationResults {
+
+	private static final String TRACING_COMPONENT = "EVALUATIONS"; //$NON-NLS-1$
+
+	private static final Object NOT_READ = new Object();
+
+	/**
+	 * The result of one evaluation and the variables it read.
+	 */
+	private static final class Entry {
+		final String[] names;
+		final Object[] values;
+		final Object defaultVariable;
+		final EvaluationResult result;
+
+		Entry(String[] names, Object[] values, Object defaultVariable, EvaluationResult result) {
+			this.names = names;
+			this.values = values;
+			this.defaultVariable = defaultVariable;
+			this.result = result;
+		}
+
+		/**
+		 * Reads all variables of this entry again, so that they are tracked by the
+		 * caller, and checks that they still have the same values.
+		 */
+		boolean matches(IEvaluationContext context) {
+			boolean matches = true;
+			for (int i = 0; i < names.length; i++) {
+				if (!isSame(values[i], context.getVariable(names[i]))) {
+					matches = false;
+				}
+			}
+			if (defaultVariable != NOT_READ && !isSame(defaultVariable, context.getDefaultVariable())) {
+				matches = false;
+			}
+			return matches;
+		}
+
+		private static boolean isSame(Object value, Object other) {
+			return value == other || Objects.equals(value, other);
+		}
+	}
+
+	/**
+	 * Records the variables read while an expression is evaluated.
+	 */
+	private static final class RecordingContext implements IEvaluationContext {
+		final IEvaluationContext delegate;
+		final List<String> names = new ArrayList<>();
+		final List<Object> values = new ArrayList<>();
+		Object defaultVariable = NOT_READ;
+
+		RecordingContext(IEvaluationContext delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public IEvaluationContext getParent() {
+			return delegate.getParent();
+		}
+
+		@Override
+		public IEvaluationContext getRoot() {
+			return delegate.getRoot();
+		}
+
+		@Override
+		public void setAllowPluginActivation(boolean value) {
+			delegate.setAllowPluginActivation(value);
+		}
+
+		@Override
+		public boolean getAllowPluginActivation() {
+			return delegate.getAllowPluginActivation();
+		}
+
+		@Override
+		public Object getDefaultVariable() {
+			Object value = delegate.getDefaultVariable();
+			defaultVariable = value;
+			return value;
+		}
+
+		@Override
+		public void addVariable(String name, Object value) {
+			delegate.addVariable(name, value);
+		}
+
+		@Override
+		public Object removeVariable(String name) {
+			return delegate.removeVariable(name);
+		}
+
+		@Override
+		public Object getVariable(String name) {
+			Object value = delegate.getVariable(name);
+			names.add(name);
+			values.add(value);
+			return value;
+		}
+
+		@Override
+		public Object resolveVariable(String name, Object[] args) throws CoreException {
+			return delegate.resolveVariable(name, args);
+		}
+
+		Entry createEntry(EvaluationResult result) {
+			return new Entry(names.toArray(new String[names.size()]), values.toArray(), defaultVariable, result);
+		}
+	}
+
+	private final Map<Expression, Entry> entries = new HashMap<>();
+
+	private long evaluationCount;
+	private long reuseCount;
+	private long evaluationTime;
+
+	// statistics of the current generation, for tracing
+	private int generationEvaluations;
+	private int generationReuses;
+	private long generationTime;
+
+	/**
+	 * Evaluates the given expression, or returns the result of an equal
+	 * expression evaluated in the current generation if the variables it read
+	 * still have the same values.
+	 *
+	 * @param expression the expression to evaluate, not <code>null</code>
+	 * @param context    the context to evaluate the expression in
+	 * @return the result of the evaluation
+	 * @throws CoreException if the evaluation failed
+	 */
+	EvaluationResult evaluate(Expression expression, IEvaluationContext context) throws CoreException {
+		Entry entry = entries.get(expression);
+		if (entry != null && entry.matches(context)) {
+			reuseCount++;
+			generationReuses++;
+			return entry.result;
+		}
+		RecordingContext recordingContext = new RecordingContext(context);
+		long start = System.nanoTime();
+		EvaluationResult result = expression.evaluate(recordingContext);
+		long time = System.nanoTime() - start;
+		evaluationCount++;
+		evaluationTime += time;
+		generationEvaluations++;
+		generationTime += time;
+		entries.put(expression, recordingContext.createEntry(result));
+		return result;
+	}
+
+	/**
+	 * Starts a new generation, results of earlier evaluations are no longer
+	 * reused.
+	 */
+	void invalidate() {
+		entries.clear();
+		if (Policy.DEBUG_EVALUATIONS_PERFORMANCE && (generationEvaluations > 0 || generationReuses > 0)) {
+			Tracing.printTrace(TRACING_COMPONENT, generationEvaluations + " expressions evaluated in " //$NON-NLS-1$
+					+ generationTime / 1_000_000 + "ms, " + generationReuses + " results reused"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		generationEvaluations = 0;
+		generationReuses = 0;
+		generationTime = 0;
+	}
+
+	/**
+	 * @return the number of expressions evaluated so far
+	 */
+	long getEvaluationCount() {
+		return evaluationCount;
+	}
+
+	/**
+	 * @return the number of evaluations answered from the cache so far
+	 */
+	long getReuseCount() {
+		return reuseCount;
+	}
+
+	/**
+	 * @return the time spent evaluating expressions so far, in nanoseconds
+	 */
+	long getEvaluationTime() {
+		return evaluationTime;
+	}
+}
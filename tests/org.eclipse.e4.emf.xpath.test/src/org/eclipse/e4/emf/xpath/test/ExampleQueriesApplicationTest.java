@@ -10,23 +10,36 @@
  *
  * Contributors:
  *     Lars Vogel <Lars.Vogel@vogella.com> - initial contribution
+ *     Contributors to the Eclipse Foundation - compiled evaluation of common expressions
  ******************************************************************************/
 package org.eclipse.e4.emf.xpath.test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+
+import org.apache.commons.jxpath.JXPathNotFoundException;
 import org.eclipse.e4.emf.xpath.EcoreXPathContextFactory;
 import org.eclipse.e4.emf.xpath.XPathContext;
 import org.eclipse.e4.emf.xpath.XPathContextFactory;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResourceFactory;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.commands.impl.CommandsPackageImpl;
 import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
 import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.impl.BasicPackageImpl;
 import org.eclipse.e4.ui.model.application.ui.impl.UiPackageImpl;
 import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuElement;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuFactory;
 import org.eclipse.e4.ui.model.application.ui.menu.impl.MenuPackageImpl;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
@@ -96,5 +109,82 @@ public class ExampleQueriesApplicationTest {
 		assertNotNull(menuEntries);
 	}
 
+	@Test
+	public void testContainmentContext_ElementIdQuery() {
+		XPathContext context = EcoreXPathContextFactory.newContainmentInstance()
+				.newContext(resource.getContents().get(0));
+		List<MPart> parts = context.stream("//*[@elementId='aaaa.part.sample']", MPart.class).toList();
+		assertEquals(8, parts.size());
+		MPartStack stack = (MPartStack) parts.get(0).getParent();
+		assertEquals(stack.getChildren(), parts);
+
+		assertSame(stack, context.getValue("//*[@elementId='aaaa.partstack.sample']"));
+		assertThrows(JXPathNotFoundException.class, () -> context.getValue("//*[@elementId='unknown']"));
+	}
+
+	@Test
+	public void testContainmentContext_OrQueryInDocumentOrder() {
+		XPathContext context = EcoreXPathContextFactory.newContainmentInstance()
+				.newContext(resource.getContents().get(0));
+		List<MMenu> menus = context.stream("//*[@elementId='help' or @elementId='file']", MMenu.class).toList();
+		assertEquals(2, menus.size());
+		assertEquals("file", menus.get(0).getElementId());
+		assertEquals("help", menus.get(1).getElementId());
+	}
+
+	@Test
+	public void testContainmentContext_NamedSteps() {
+		XPathContext context = EcoreXPathContextFactory.newContainmentInstance()
+				.newContext(resource.getContents().get(0));
+		MMenu menu = context.getValue("//mainMenu[@elementId='org.eclipse.ui.main.menu']/children[@elementId='help']",
+				MMenu.class);
+		assertNotNull(menu);
+		assertEquals("help", menu.getElementId());
+
+		// not supported by the compiled evaluation, evaluated by JXPath
+		assertTrue(context.getValue("//mainMenu") instanceof MMenu);
+	}
+
+	@Test
+	public void testContainmentContext_FollowsModelChanges() {
+		MApplication application = (MApplication) resource.getContents().get(0);
+		XPathContext context = EcoreXPathContextFactory.newContainmentInstance().newContext((EObject) application);
+		String query = "//*[@elementId='edit']";
+		assertEquals(0, context.stream(query, MApplicationElement.class).count());
+
+		MMenu mainMenu = ((MTrimmedWindow) application.getChildren().get(0)).getMainMenu();
+		MMenu edit = MMenuFactory.INSTANCE.createMenu();
+		edit.setElementId("edit");
+		MMenuElement item = MMenuFactory.INSTANCE.createDirectMenuItem();
+		item.setElementId("edit.item");
+		edit.getChildren().add(item);
+		mainMenu.getChildren().add(1, edit);
+		assertEquals(List.of(edit), context.stream(query, MApplicationElement.class).toList());
+		assertEquals(List.of(item),
+				context.stream("//*[@elementId='edit.item']", MApplicationElement.class).toList());
+
+		edit.setElementId("edit2");
+		assertEquals(0, context.stream(query, MApplicationElement.class).count());
+		assertEquals(List.of(edit), context.stream("//*[@elementId='edit2']", MApplicationElement.class).toList());
+
+		mainMenu.getChildren().remove(edit);
+		assertEquals(0, context.stream("//*[@elementId='edit2']", MApplicationElement.class).count());
+		assertEquals(0, context.stream("//*[@elementId='edit.item']", MApplicationElement.class).count());
+	}
+
+	@Test
+	public void testContainmentContext_ReleaseIndex() {
+		EObject application = resource.getContents().get(0);
+		int adapters = application.eAdapters().size();
+		XPathContext context = EcoreXPathContextFactory.newContainmentInstance().newContext(application);
+		assertEquals(2, context.stream("//*[@elementId='help' or @elementId='file']", MMenu.class).count());
+		assertEquals(adapters + 1, application.eAdapters().size());
+
+		EcoreXPathContextFactory.releaseIndex(application);
+		assertEquals(adapters, application.eAdapters().size());
+		assertEquals(2, context.stream("//*[@elementId='help' or @elementId='file']", MMenu.class).count());
+		EcoreXPathContextFactory.releaseIndex(application);
+		assertEquals(adapters, application.eAdapters().size());
+	}
 
 }
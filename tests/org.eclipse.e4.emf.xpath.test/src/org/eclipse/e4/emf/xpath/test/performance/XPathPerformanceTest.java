@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.e4.emf.xpath.test.performance;
+
+import java.util.List;
+
+import org.eclipse.e4.emf.xpath.EcoreXPathContextFactory;
+import org.eclipse.e4.emf.xpath.XPathContext;
+import org.eclipse.e4.emf.xpath.XPathContextFactory;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuFactory;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuItem;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the evaluation of the xpath expressions used as targets of model
+ * fragments on a large application model.
+ */
+public class XPathPerformanceTest extends PerformanceTestCase {
+
+	private static final int WINDOWS = 5;
+
+	private static final int STACKS = 10;
+
+	private static final int PARTS = 20;
+
+	private static final int MENUS = 20;
+
+	private static final int ITEMS = 20;
+
+	private static final int QUERIES = 50;
+
+	private MApplication application;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		application = createApplication();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		application = null;
+		super.tearDown();
+	}
+
+	public void testElementIdQueryJXPath() {
+		tagAsSummary("XPath elementId query (JXPath)", Dimension.ELAPSED_PROCESS);
+		measureQueries(EcoreXPathContextFactory.newInstance(), 5);
+	}
+
+	public void testElementIdQueryContainment() {
+		tagAsSummary("XPath elementId query (containment)", Dimension.ELAPSED_PROCESS);
+		measureQueries(EcoreXPathContextFactory.newContainmentInstance(), 20);
+	}
+
+	public void testFragmentMergeContainment() {
+		XPathContextFactory<EObject> factory = EcoreXPathContextFactory.newContainmentInstance();
+		// warm up
+		mergeFragments(factory, "warmup");
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			mergeFragments(factory, "run" + i);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void measureQueries(XPathContextFactory<EObject> factory, int runs) {
+		runQueries(factory);
+		for (int i = 0; i < runs; i++) {
+			startMeasuring();
+			runQueries(factory);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void runQueries(XPathContextFactory<EObject> factory) {
+		for (int i = 0; i < QUERIES; i++) {
+			// like a fragment, every query creates a new context
+			XPathContext context = factory.newContext((EObject) application);
+			String id = "menu." + (i % WINDOWS) + "." + (i % MENUS);
+			List<MMenu> menus = context
+					.stream("//*[@elementId='" + id + "' or @elementId='part.0.0." + i + "']",
+							MMenu.class)
+					.toList();
+			assertEquals(1, menus.size());
+		}
+	}
+
+	/**
+	 * Adds an item to a menu for every query, like the merge of string model
+	 * fragments does.
+	 */
+	private void mergeFragments(XPathContextFactory<EObject> factory, String prefix) {
+		for (int i = 0; i < QUERIES; i++) {
+			XPathContext context = factory.newContext((EObject) application);
+			String id = "menu." + (i % WINDOWS) + "." + (i % MENUS);
+			List<MApplicationElement> targets = context
+					.stream("//*[@elementId='" + id + "']", MApplicationElement.class).toList();
+			assertEquals(1, targets.size());
+			MMenuItem item = MMenuFactory.INSTANCE.createDirectMenuItem();
+			item.setElementId(prefix + ".item." + i);
+			((MMenu) targets.get(0)).getChildren().add(item);
+		}
+	}
+
+	private static MApplication createApplication() {
+		MApplication application = MApplicationFactory.INSTANCE.createApplication();
+		application.setElementId("application");
+		for (int w = 0; w < WINDOWS; w++) {
+			MTrimmedWindow window = MBasicFactory.INSTANCE.createTrimmedWindow();
+			window.setElementId("window." + w);
+			application.getChildren().add(window);
+			for (int s = 0; s < STACKS; s++) {
+				MPartStack stack = MBasicFactory.INSTANCE.createPartStack();
+				stack.setElementId("stack." + w + "." + s);
+				window.getChildren().add(stack);
+				for (int p = 0; p < PARTS; p++) {
+					MPart part = MBasicFactory.INSTANCE.createPart();
+					part.setElementId("part." + w + "." + s + "." + p);
+					part.setLabel("Part " + p);
+					stack.getChildren().add(part);
+				}
+				stack.setSelectedElement(stack.getChildren().get(0));
+			}
+			MMenu mainMenu = MMenuFactory.INSTANCE.createMenu();
+			mainMenu.setElementId("menu.main." + w);
+			window.setMainMenu(mainMenu);
+			for (int m = 0; m < MENUS; m++) {
+				MMenu menu = MMenuFactory.INSTANCE.createMenu();
+				menu.setElementId("menu." + w + "." + m);
+				mainMenu.getChildren().add(menu);
+				for (int i = 0; i < ITEMS; i++) {
+					MMenuItem item = MMenuFactory.INSTANCE.createDirectMenuItem();
+					item.setElementId("item." + w + "." + m + "." + i);
+					menu.getChildren().add(item);
+				}
+			}
+		}
+		return application;
+	}
+}
@@ -50,6 +50,7 @@ import org.eclipse.e4.ui.tests.workbench.PartOnTopManagerTest;
 import org.eclipse.e4.ui.tests.workbench.PartRenderingEngineTests;
 import org.eclipse.e4.ui.tests.workbench.SWTPartRendererTest;
 import org.eclipse.e4.ui.tests.workbench.SashRendererTest;
+import org.eclipse.e4.ui.tests.workbench.StartupProfilerTest;
 import org.eclipse.e4.ui.tests.workbench.TopoSortTests;
 import org.eclipse.e4.ui.workbench.renderers.swt.MenuManagerRendererTest;
 import org.eclipse.e4.ui.workbench.renderers.swt.StackRendererTest;
@@ -104,7 +105,8 @@ import org.junit.runners.Suite;
 		AreaRendererTest.class,
 		SWTPartRendererTest.class,
 		ModelServiceImplTest.class,
-		CompositePartClosingTest.class
+		CompositePartClosingTest.class,
+		StartupProfilerTest.class
 })
 public class UIAllTests {
 }
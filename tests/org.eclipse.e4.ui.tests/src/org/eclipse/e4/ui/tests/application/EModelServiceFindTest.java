@@ -431,4 +431,114 @@ public class EModelServiceFindTest {
 		assertEquals(1, elements.size());
 		assertEquals(part, elements.get(0));
 	}
+
+	@Test
+	public void testFindElements_FollowsModelChanges() {
+		MApplication application = createApplication();
+		applicationContext.set(MApplication.class, application);
+
+		EModelService modelService = application.getContext().get(EModelService.class);
+		assertNotNull(modelService);
+
+		List<MPart> parts = modelService.findElements(application, "twoValidIds", MPart.class);
+		assertEquals(1, parts.size());
+		MPart part1 = parts.get(0);
+
+		// add an element after the first query
+		MPart part4 = modelService.createModelElement(MPart.class);
+		part4.setElementId("twoValidIds");
+		part4.getTags().add("newTag");
+		((MPartStack) part1.getParent()).getChildren().add(part4);
+		assertEquals(2, modelService.findElements(application, "twoValidIds", MPart.class).size());
+
+		List<String> tags = new ArrayList<>();
+		tags.add("newTag");
+		assertEquals(1, modelService.findElements(application, null, null, tags).size());
+
+		// change the id
+		part1.setElementId("changedId");
+		assertEquals(1, modelService.findElements(application, "twoValidIds", MPart.class).size());
+		assertSame(part1, modelService.find("changedId", application));
+
+		// change the tags
+		part4.getTags().remove("newTag");
+		assertEquals(0, modelService.findElements(application, null, null, tags).size());
+		part1.getTags().add("newTag");
+		List<MUIElement> tagged = modelService.findElements(application, null, null, tags);
+		assertEquals(1, tagged.size());
+		assertSame(part1, tagged.get(0));
+
+		// remove an element
+		part1.getParent().getChildren().remove(part1);
+		assertNull(modelService.find("changedId", application));
+		assertEquals(0, modelService.findElements(application, null, null, tags).size());
+	}
+
+	@Test
+	public void testFindElements_SharedElementThroughPlaceholder() {
+		MApplication application = createApplication();
+		applicationContext.set(MApplication.class, application);
+
+		EModelService modelService = application.getContext().get(EModelService.class);
+		assertNotNull(modelService);
+
+		MWindow window = modelService.createModelElement(MWindow.class);
+		application.getChildren().add(window);
+
+		MPerspectiveStack perspectiveStack = modelService.createModelElement(MPerspectiveStack.class);
+		window.getChildren().add(perspectiveStack);
+
+		MPerspective perspective = modelService.createModelElement(MPerspective.class);
+		perspectiveStack.getChildren().add(perspective);
+
+		MPartStack sharedStack = modelService.createModelElement(MPartStack.class);
+		window.getSharedElements().add(sharedStack);
+
+		MPart sharedPart = modelService.createModelElement(MPart.class);
+		sharedPart.setElementId("sharedPartId");
+		sharedStack.getChildren().add(sharedPart);
+
+		MPlaceholder placeholder = modelService.createModelElement(MPlaceholder.class);
+		placeholder.setRef(sharedStack);
+		perspective.getChildren().add(placeholder);
+
+		List<MPart> elements = modelService.findElements(perspective, "sharedPartId", MPart.class);
+		assertEquals(1, elements.size());
+		assertSame(sharedPart, elements.get(0));
+
+		// a placeholder added after the first query is followed as well
+		MPerspective perspective2 = modelService.createModelElement(MPerspective.class);
+		perspectiveStack.getChildren().add(perspective2);
+		assertEquals(0, modelService.findElements(perspective2, "sharedPartId", MPart.class).size());
+
+		MPlaceholder placeholder2 = modelService.createModelElement(MPlaceholder.class);
+		placeholder2.setRef(sharedStack);
+		perspective2.getChildren().add(placeholder2);
+		elements = modelService.findElements(perspective2, "sharedPartId", MPart.class);
+		assertEquals(1, elements.size());
+		assertSame(sharedPart, elements.get(0));
+	}
+
+	@Test
+	public void testFindElements_ImplementationClass() {
+		MApplication application = createApplication();
+		applicationContext.set(MApplication.class, application);
+
+		EModelService modelService = application.getContext().get(EModelService.class);
+		assertNotNull(modelService);
+
+		// enough other elements for the parts to be a small part of the model
+		MWindow window = application.getChildren().get(0);
+		for (int i = 0; i < 20; i++) {
+			window.getMainMenu().getChildren().add(modelService.createModelElement(MMenu.class));
+		}
+
+		List<MPart> parts = modelService.findElements(application, null, MPart.class);
+		assertEquals(3, parts.size());
+
+		// query by the class implementing the model interface
+		Class<? extends MPart> implementationClass = parts.get(0).getClass();
+		List<? extends MPart> elements = modelService.findElements(application, null, implementationClass);
+		assertEquals(parts, elements);
+	}
 }
@@ -16,9 +16,11 @@
 package org.eclipse.e4.ui.tests.application;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -28,6 +30,8 @@ import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.di.UISynchronize;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
+import org.eclipse.e4.ui.internal.workbench.E4XMIResourceFactory;
+import org.eclipse.e4.ui.internal.workbench.ModelFastRestore;
 import org.eclipse.e4.ui.internal.workbench.ResourceHandler;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.model.application.MApplication;
@@ -43,6 +47,8 @@ import org.eclipse.e4.ui.workbench.swt.DisplayUISynchronize;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.eclipse.swt.widgets.Display;
 import org.junit.Before;
@@ -78,11 +84,16 @@ public class ResourceHandlerTest {
 	}
 
 	private ResourceHandler createHandler(URI uri) {
+		return createHandler(uri, false);
+	}
+
+	private ResourceHandler createHandler(URI uri, boolean fastRestore) {
 		IEclipseContext appContext = E4Application.createDefaultContext();
 		IEclipseContext localContext = appContext.createChild();
 		localContext.set(E4Workbench.INSTANCE_LOCATION, getInstanceLocation());
 		localContext.set(IWorkbench.PERSIST_STATE, Boolean.TRUE);
 		localContext.set(IWorkbench.CLEAR_PERSISTED_STATE, Boolean.TRUE);
+		localContext.set(E4Workbench.MODEL_FAST_RESTORE, Boolean.valueOf(fastRestore));
 
 		localContext.set(E4Workbench.INITIAL_WORKBENCH_MODEL_URI, uri);
 
@@ -233,4 +244,83 @@ public class ResourceHandlerTest {
 		MApplication unchangedApplication = (MApplication) verifyResource.getContents().get(0);
 		assertEquals(2, unchangedApplication.getChildren().size());
 	}
+
+	@Test
+	public void testFastRestoreRoundTrip() throws IOException {
+		MWindow dynamicWindow = MBasicFactory.INSTANCE.createWindow();
+		dynamicWindow.getPersistedState().put(IWorkbench.PERSIST_STATE, "false");
+		application.getChildren().add(dynamicWindow);
+
+		File xmiFile = Files.createTempFile(null, ".xmi").toFile();
+		xmiFile.deleteOnExit();
+		File binaryFile = ModelFastRestore.getLocation(xmiFile);
+		binaryFile.deleteOnExit();
+		ModelFastRestore.save((E4XMIResource) resource, binaryFile);
+		assertTrue(binaryFile.exists());
+
+		ResourceSet resourceSet = new ResourceSetImpl();
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+				.put(Resource.Factory.Registry.DEFAULT_EXTENSION, new E4XMIResourceFactory());
+		Resource restored = ModelFastRestore.load(resourceSet, binaryFile, URI.createFileURI(xmiFile.getPath()));
+		assertNotNull(restored);
+		assertTrue(restored instanceof E4XMIResource);
+		assertEquals(1, resourceSet.getResources().size());
+
+		// the non persisted window is left out
+		MApplication restoredApplication = (MApplication) restored.getContents().get(0);
+		assertEquals(2, restoredApplication.getChildren().size());
+
+		// the XMI ids are restored
+		MWindow restoredWindow = restoredApplication.getChildren().get(1);
+		assertEquals("fragment.contributedWindow", restoredWindow.getElementId());
+		assertEquals("_w4fQ8HVHEd-aXt9fFntEtw", ((E4XMIResource) restored).getID((EObject) restoredWindow));
+		MWindowElement restoredWindowElement = restoredWindow.getChildren().get(0);
+		assertEquals("_rdlLgJQUEd-6X_lmWgGEDA", ((E4XMIResource) restored).getID((EObject) restoredWindowElement));
+
+		assertEquals(application.getCommands().size(), restoredApplication.getCommands().size());
+		assertEquals(application.getChildren().get(0).getChildren().size(),
+				restoredApplication.getChildren().get(0).getChildren().size());
+	}
+
+	@Test
+	public void testSaveSkippedWithoutChanges() throws IOException {
+		URI uri = URI.createPlatformPluginURI("org.eclipse.e4.ui.tests/xmi/modelprocessor/base.e4xmi", true);
+
+		ResourceHandler handler = createHandler(uri, true);
+		Resource resource = handler.loadMostRecentModel();
+		MApplication application = (MApplication) resource.getContents().get(0);
+
+		Path output = Files.createTempFile(null, null);
+		output.toFile().deleteOnExit();
+		ModelFastRestore.getLocation(output.toFile()).deleteOnExit();
+		resource.setURI(URI.createFileURI(output.toString()));
+		handler.save();
+
+		// the model did not change, so the file is not rewritten
+		Files.writeString(output, "unchanged");
+		application.getChildren().get(0).setWidget("transient widget");
+		handler.save();
+		assertEquals("unchanged", Files.readString(output));
+
+		application.getChildren().get(0).setLabel("Changed label");
+		handler.save();
+		assertNotEquals("unchanged", Files.readString(output));
+	}
+
+	@Test
+	public void testSaveWithoutFastRestoreAlwaysWrites() throws IOException {
+		URI uri = URI.createPlatformPluginURI("org.eclipse.e4.ui.tests/xmi/modelprocessor/base.e4xmi", true);
+
+		ResourceHandler handler = createHandler(uri);
+		Resource resource = handler.loadMostRecentModel();
+
+		Path output = Files.createTempFile(null, null);
+		output.toFile().deleteOnExit();
+		resource.setURI(URI.createFileURI(output.toString()));
+		handler.save();
+
+		Files.writeString(output, "unchanged");
+		handler.save();
+		assertNotEquals("unchanged", Files.readString(output));
+	}
 }
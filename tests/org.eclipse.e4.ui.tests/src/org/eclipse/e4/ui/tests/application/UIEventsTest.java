@@ -17,6 +17,8 @@ package org.eclipse.e4.ui.tests.application;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -42,12 +44,14 @@ import org.eclipse.e4.ui.workbench.UIEvents.Contribution;
 import org.eclipse.e4.ui.workbench.UIEvents.Dirtyable;
 import org.eclipse.e4.ui.workbench.UIEvents.ElementContainer;
 import org.eclipse.e4.ui.workbench.UIEvents.EventTags;
+import org.eclipse.e4.ui.workbench.UIEvents.EventTypes;
 import org.eclipse.e4.ui.workbench.UIEvents.Parameter;
 import org.eclipse.e4.ui.workbench.UIEvents.UIElement;
 import org.eclipse.e4.ui.workbench.UIEvents.UILabel;
 import org.eclipse.e4.ui.workbench.UIEvents.Window;
 import org.eclipse.emf.common.notify.Notifier;
 import org.junit.Test;
+import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 
 public class UIEventsTest extends HeadlessApplicationElementTest {
@@ -338,6 +342,65 @@ public class UIEventsTest extends HeadlessApplicationElementTest {
 		assertFalse(seen[0]);
 	}
 
+	@Test
+	public void testBatchedEvents() {
+		IEventBroker eventBroker = rule.getApplicationContext().get(IEventBroker.class);
+		UIEventPublisher publisher = rule.getApplicationContext().get(UIEventPublisher.class);
+		MWindow window = ((MApplication) applicationElement).getChildren().get(0);
+
+		List<Event> batches = new ArrayList<>();
+		EventHandler batchHandler = batches::add;
+		eventBroker.subscribe(UIEventPublisher.BATCH_TOPIC, batchHandler);
+		List<Event> labelEvents = new ArrayList<>();
+		EventHandler labelHandler = labelEvents::add;
+		eventBroker.subscribe(UILabel.TOPIC_LABEL, labelHandler);
+
+		publisher.runBatched(() -> {
+			window.setLabel("first");
+			window.setLabel("second");
+			window.getTags().add("removed");
+			window.getTags().add("added");
+			window.getTags().remove("removed");
+			window.setElementId("transient");
+			window.setElementId(null);
+			// nested batches are merged into the outer one
+			publisher.runBatched(() -> window.setLabel("third"));
+		});
+
+		// the individual events are still sent
+		assertEquals(3, labelEvents.size());
+
+		assertEquals(1, batches.size());
+		@SuppressWarnings("unchecked")
+		List<Event> events = (List<Event>) batches.get(0).getProperty(UIEventPublisher.BATCH_EVENTS);
+		assertEquals(2, events.size());
+
+		Event labelEvent = events.get(0);
+		assertEquals("org/eclipse/e4/ui/model/ui/UILabel/label/SET", labelEvent.getTopic());
+		assertSame(window, labelEvent.getProperty(EventTags.ELEMENT));
+		assertNull(labelEvent.getProperty(EventTags.OLD_VALUE));
+		assertEquals("third", labelEvent.getProperty(EventTags.NEW_VALUE));
+
+		Event tagsEvent = events.get(1);
+		assertEquals(EventTypes.ADD_MANY, tagsEvent.getProperty(EventTags.TYPE));
+		assertEquals(ApplicationElement.TAGS, tagsEvent.getProperty(EventTags.ATTNAME));
+		assertEquals(List.of("added"), tagsEvent.getProperty(EventTags.NEW_VALUE));
+
+		// changes outside of a batch are not batched
+		window.setLabel("fourth");
+		assertEquals(1, batches.size());
+
+		// batches without net changes are not sent
+		publisher.runBatched(() -> {
+			window.setLabel("fifth");
+			window.setLabel("fourth");
+		});
+		assertEquals(1, batches.size());
+
+		eventBroker.unsubscribe(batchHandler);
+		eventBroker.unsubscribe(labelHandler);
+	}
+
 	private void checkForFailures(EventTester[] allTesters, EventTester tester) {
 		ensureAllSet(tester);
 		ensureNoCrossTalk(allTesters, tester);
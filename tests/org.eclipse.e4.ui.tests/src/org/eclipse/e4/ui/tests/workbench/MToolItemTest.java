@@ -11,6 +11,7 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *     Rolf Theunissen <rolf.theunissen@gmail.com> - Bug 546632
+ *     Contributors to the Eclipse Foundation - coalesced enablement updates
  ******************************************************************************/
 
 package org.eclipse.e4.ui.tests.workbench;
@@ -21,16 +22,30 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import jakarta.inject.Inject;
+import org.eclipse.e4.core.commands.CommandServiceAddon;
+import org.eclipse.e4.core.commands.ECommandService;
+import org.eclipse.e4.core.commands.EHandlerService;
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.di.annotations.CanExecute;
+import org.eclipse.e4.core.di.annotations.Execute;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.bindings.BindingServiceAddon;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.commands.MCommand;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimBar;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.menu.ItemType;
 import org.eclipse.e4.ui.model.application.ui.menu.MDirectToolItem;
+import org.eclipse.e4.ui.model.application.ui.menu.MHandledToolItem;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolItem;
+import org.eclipse.e4.ui.services.ContextServiceAddon;
 import org.eclipse.e4.ui.tests.rules.WorkbenchContextRule;
+import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.ToolItem;
 import org.junit.Rule;
@@ -38,6 +53,24 @@ import org.junit.Test;
 
 public class MToolItemTest {
 
+	private static final String COMMAND_ID = "org.eclipse.e4.ui.tests.workbench.MToolItemTest.command";
+
+	private static final String DISABLED_TAG = "disabled";
+
+	public static class CountingHandler {
+		int evaluations;
+
+		@CanExecute
+		public boolean canExecute(MHandledToolItem item) {
+			evaluations++;
+			return !item.getTags().contains(DISABLED_TAG);
+		}
+
+		@Execute
+		public void execute() {
+		}
+	}
+
 	@Rule
 	public WorkbenchContextRule contextRule = new WorkbenchContextRule();
 
@@ -258,4 +291,73 @@ public class MToolItemTest {
 		toolItem2.setSelected(true);
 		assertTrue(toolItemWidget2.getSelection());
 	}
+
+	@Test
+	public void testMToolItem_EnablementUpdateOfHiddenToolBar() {
+		IEclipseContext appContext = application.getContext();
+		ContextInjectionFactory.make(CommandServiceAddon.class, appContext);
+		ContextInjectionFactory.make(ContextServiceAddon.class, appContext);
+		ContextInjectionFactory.make(BindingServiceAddon.class, appContext);
+		ECommandService commandService = appContext.get(ECommandService.class);
+		commandService.defineCommand(COMMAND_ID, "Command", null,
+				commandService.defineCategory(COMMAND_ID + ".category", "Category", null), null);
+
+		MCommand command = ems.createModelElement(MCommand.class);
+		command.setElementId(COMMAND_ID);
+		application.getCommands().add(command);
+
+		MTrimmedWindow window = ems.createModelElement(MTrimmedWindow.class);
+		MTrimBar trimBar = ems.createModelElement(MTrimBar.class);
+		MToolBar toolBar = ems.createModelElement(MToolBar.class);
+		MHandledToolItem toolItem1 = ems.createModelElement(MHandledToolItem.class);
+		MHandledToolItem toolItem2 = ems.createModelElement(MHandledToolItem.class);
+		toolItem1.setCommand(command);
+		toolItem2.setCommand(command);
+		toolItem2.getTags().add(DISABLED_TAG);
+
+		window.getTrimBars().add(trimBar);
+		trimBar.getChildren().add(toolBar);
+		toolBar.getChildren().add(toolItem1);
+		toolBar.getChildren().add(toolItem2);
+
+		application.getChildren().add(window);
+		contextRule.createAndRunWorkbench(window);
+
+		CountingHandler handler = new CountingHandler();
+		window.getContext().get(EHandlerService.class).activateHandler(COMMAND_ID, handler);
+
+		// both items are updated in the same batch, each against its own item
+		handler.evaluations = 0;
+		requestEnablementUpdate();
+		waitForEvaluation(handler);
+		assertEquals(2, handler.evaluations);
+		assertTrue(toolItem1.isEnabled());
+		assertFalse(toolItem2.isEnabled());
+
+		// items of a hidden toolbar are updated once it is shown again
+		toolBar.setVisible(false);
+		handler.evaluations = 0;
+		requestEnablementUpdate();
+		waitForEvaluation(handler);
+		assertEquals(0, handler.evaluations);
+
+		toolBar.setVisible(true);
+		waitForEvaluation(handler);
+		assertEquals(2, handler.evaluations);
+	}
+
+	private void requestEnablementUpdate() {
+		application.getContext().get(IEventBroker.class).send(UIEvents.REQUEST_ENABLEMENT_UPDATE_TOPIC,
+				UIEvents.ALL_ELEMENT_ID);
+	}
+
+	private void waitForEvaluation(CountingHandler handler) {
+		Display display = Display.getDefault();
+		long end = System.currentTimeMillis() + 1000;
+		while (handler.evaluations == 0 && System.currentTimeMillis() < end) {
+			if (!display.readAndDispatch()) {
+				Thread.onSpinWait();
+			}
+		}
+	}
 }
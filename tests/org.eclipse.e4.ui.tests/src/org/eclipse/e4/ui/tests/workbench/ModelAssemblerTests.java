@@ -17,6 +17,7 @@
 package org.eclipse.e4.ui.tests.workbench;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import jakarta.annotation.PostConstruct;
@@ -25,6 +26,7 @@ import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.core.internal.registry.ExtensionRegistry;
@@ -37,6 +39,7 @@ import org.eclipse.core.runtime.RegistryFactory;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResourceFactory;
 import org.eclipse.e4.ui.internal.workbench.ExtensionsSort;
@@ -57,6 +60,8 @@ import org.eclipse.e4.ui.model.fragment.MModelFragments;
 import org.eclipse.e4.ui.model.fragment.MStringModelFragment;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.e4.ui.workbench.swt.DisplayUISynchronize;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -545,6 +550,107 @@ public class ModelAssemblerTests {
 		assertEquals("simpleprocessor.post", application.getDescriptors().get(0).getElementId());
 	}
 
+	@Test
+	public void testFragments_incrementalMerge() throws Exception {
+		appContext.set(E4Workbench.INCREMENTAL_FRAGMENT_MERGE, Boolean.TRUE);
+
+		MTrimmedWindow trimmedWindow = modelService.createModelElement(MTrimmedWindow.class);
+		application.getChildren().add(trimmedWindow);
+		MPart part = modelService.createModelElement(MPart.class);
+		part.setElementId("testModelProcessingOrder-part");
+		trimmedWindow.getChildren().add(part);
+		MArea area = modelService.createModelElement(MArea.class);
+		area.setElementId("testModelProcessingOrder-area");
+		trimmedWindow.getChildren().add(area);
+
+		IContributor contributor = ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME);
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		String dataFilePath = "org.eclipse.e4.ui.tests/data/ModelAssembler/modelProcessingOrder.xml";
+		registry.addContribution(getContentsAsInputStream(dataFilePath), contributor, false, null, null, null);
+
+		assembler.processModel(false);
+		assertEquals(1, area.getChildren().size());
+		String mergedBundles = application.getPersistedState().get(ModelAssembler.MERGED_FRAGMENT_BUNDLES);
+		assertNotNull(mergedBundles);
+		assertTrue(mergedBundles.contains(BUNDLE_SYMBOLIC_NAME + "_"));
+
+		// the bundle did not change, so its fragment is not merged again
+		area.getChildren().clear();
+		unloadFragmentResources();
+		assembler.processModel(false);
+		assertEquals(0, area.getChildren().size());
+
+		// the bundle changed, so its fragment is merged again
+		application.getPersistedState().put(ModelAssembler.MERGED_FRAGMENT_BUNDLES, BUNDLE_SYMBOLIC_NAME + "_0.0.0@0");
+		unloadFragmentResources();
+		assembler.processModel(false);
+		assertEquals(1, area.getChildren().size());
+		assertEquals(mergedBundles, application.getPersistedState().get(ModelAssembler.MERGED_FRAGMENT_BUNDLES));
+	}
+
+	@Test
+	public void testFragments_incrementalMergeRecordsOnlyChanges() throws Exception {
+		appContext.set(E4Workbench.INCREMENTAL_FRAGMENT_MERGE, Boolean.TRUE);
+
+		MTrimmedWindow trimmedWindow = modelService.createModelElement(MTrimmedWindow.class);
+		application.getChildren().add(trimmedWindow);
+		MArea area = modelService.createModelElement(MArea.class);
+		area.setElementId("testModelProcessingOrder-area");
+		trimmedWindow.getChildren().add(area);
+
+		IContributor contributor = ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME);
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		String dataFilePath = "org.eclipse.e4.ui.tests/data/ModelAssembler/modelProcessingOrder.xml";
+		registry.addContribution(getContentsAsInputStream(dataFilePath), contributor, false, null, null, null);
+		assembler.processModel(false);
+
+		// processing the model again does not touch the recorded bundles
+		EObject entry = null;
+		for (Map.Entry<String, String> candidate : application.getPersistedState().entrySet()) {
+			if (ModelAssembler.MERGED_FRAGMENT_BUNDLES.equals(candidate.getKey())) {
+				entry = (EObject) candidate;
+			}
+		}
+		assertNotNull(entry);
+		List<Notification> notifications = new ArrayList<>();
+		entry.eAdapters().add(new AdapterImpl() {
+			@Override
+			public void notifyChanged(Notification notification) {
+				notifications.add(notification);
+			}
+		});
+		unloadFragmentResources();
+		assembler.processModel(false);
+		assertTrue(notifications.isEmpty());
+		assertTrue(application.getPersistedState().containsKey(ModelAssembler.MERGED_FRAGMENT_BUNDLES));
+	}
+
+	@Test
+	public void testFragments_incrementalMergeSkipsFailedBundles() throws Exception {
+		appContext.set(E4Workbench.INCREMENTAL_FRAGMENT_MERGE, Boolean.TRUE);
+
+		IContributor contributor = ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME);
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		String dataFilePath = "org.eclipse.e4.ui.tests/data/ModelAssembler/fragment_missing.xml";
+		registry.addContribution(getContentsAsInputStream(dataFilePath), contributor, false, null, null, null);
+
+		assembler.processModel(false);
+		String mergedBundles = application.getPersistedState().get(ModelAssembler.MERGED_FRAGMENT_BUNDLES);
+		assertTrue(mergedBundles == null || !mergedBundles.contains(BUNDLE_SYMBOLIC_NAME + "_"));
+	}
+
+	private void unloadFragmentResources() {
+		for (Resource resource : new ArrayList<>(resourceSet.getResources())) {
+			if (resource != appResource) {
+				resource.unload();
+				resourceSet.getResources().remove(resource);
+			}
+		}
+	}
+
 	private void testProcessor(String filePath, boolean initial, boolean afterFragments) throws Exception {
 		IContributor contributor = ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME);
 		IExtensionRegistry registry = createTestExtensionRegistry();
@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.statusreporter.StatusReporter;
+import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.swt.IEventLoopAdvisor;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.descriptor.basic.MPartDescriptor;
@@ -3237,4 +3238,48 @@ public class PartRenderingEngineTests {
 		modelService.removePerspectiveModel(perspectiveB, window);
 		assertNull(part.getCurSharedRef());
 	}
+
+	@Test
+	public void testDeferHiddenRendering() {
+		appContext.set(E4Workbench.DEFER_HIDDEN_RENDERING, Boolean.TRUE);
+
+		MWindow window = ems.createModelElement(MWindow.class);
+		application.getChildren().add(window);
+		application.setSelectedElement(window);
+
+		MPartSashContainer sash = ems.createModelElement(MPartSashContainer.class);
+		window.getChildren().add(sash);
+		window.setSelectedElement(sash);
+
+		MPartStack stackA = ems.createModelElement(MPartStack.class);
+		sash.getChildren().add(stackA);
+		MPart partA = ems.createModelElement(MPart.class);
+		partA.setContributionURI("bundleclass://org.eclipse.e4.ui.tests/org.eclipse.e4.ui.tests.workbench.SampleView");
+		stackA.getChildren().add(partA);
+		stackA.setSelectedElement(partA);
+
+		MPartStack stackB = ems.createModelElement(MPartStack.class);
+		stackB.setVisible(false);
+		sash.getChildren().add(stackB);
+		MPart partB = ems.createModelElement(MPart.class);
+		partB.setContributionURI("bundleclass://org.eclipse.e4.ui.tests/org.eclipse.e4.ui.tests.workbench.SampleView");
+		stackB.getChildren().add(partB);
+		stackB.setSelectedElement(partB);
+
+		contextRule.createAndRunWorkbench(window);
+
+		assertNotNull(partA.getObject());
+		assertNull(stackB.getWidget());
+		assertNull(partB.getWidget());
+		assertNull(partB.getObject());
+
+		stackB.setVisible(true);
+		assertNotNull(stackB.getWidget());
+		assertEquals(sash.getWidget(), ((Control) stackB.getWidget()).getParent());
+		assertNotNull(partB.getWidget());
+		assertNotNull(partB.getObject());
+
+		stackB.setVisible(false);
+		assertNotNull("Rendered elements are kept while hidden", stackB.getWidget());
+	}
 }
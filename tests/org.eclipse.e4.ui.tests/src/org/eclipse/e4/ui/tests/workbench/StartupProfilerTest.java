@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.workbench;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.eclipse.e4.ui.internal.workbench.StartupProfiler;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the {@link StartupProfiler}.
+ */
+public class StartupProfilerTest {
+
+	private static final Pattern SPAN = Pattern
+			.compile("\"ts\":(\\d+),\"dur\":(\\d+),\"cat\":\"([^\"]*)\",\"name\":\"((?:[^\"\\\\]|\\\\.)*)\"");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@After
+	public void tearDown() {
+		StartupProfiler.complete();
+	}
+
+	@Test
+	public void testNotRecording() {
+		assertFalse(StartupProfiler.isRecording());
+		StartupProfiler.Span span = StartupProfiler.begin("model", "Load model");
+		assertNotNull(span);
+		span.close();
+		// does nothing
+		StartupProfiler.complete();
+	}
+
+	@Test
+	public void testStartOnlyOnce() throws Exception {
+		File file = folder.newFile("trace.json");
+		assertTrue(StartupProfiler.start(file));
+		assertFalse(StartupProfiler.start(folder.newFile("other.json")));
+		assertTrue(StartupProfiler.isRecording());
+		StartupProfiler.complete();
+		assertFalse(StartupProfiler.isRecording());
+		assertTrue(file.length() > 0);
+	}
+
+	@Test
+	public void testNestedSpans() throws Exception {
+		File file = folder.newFile("trace.json");
+		StartupProfiler.start(file);
+		try (StartupProfiler.Span outer = StartupProfiler.begin("model", "Assemble model")) {
+			try (StartupProfiler.Span inner = StartupProfiler.begin("registry", "org.eclipse.e4.workbench.model")) {
+				Thread.sleep(2);
+			}
+			Thread.sleep(2);
+		}
+		StartupProfiler.Span open = StartupProfiler.begin("css", "Never closed");
+		StartupProfiler.complete();
+		open.close();
+
+		Map<String, long[]> spans = readSpans(file);
+		assertFalse(spans.containsKey("Never closed"));
+		long[] outer = spans.get("Assemble model");
+		long[] inner = spans.get("org.eclipse.e4.workbench.model");
+		assertNotNull(outer);
+		assertNotNull(inner);
+		assertTrue(inner[0] >= outer[0]);
+		assertTrue(inner[0] + inner[1] <= outer[0] + outer[1]);
+		assertTrue(Files.readString(file.toPath()).contains("\"thread_name\""));
+	}
+
+	@Test
+	public void testSpansOfOtherThreads() throws Exception {
+		File file = folder.newFile("trace.json");
+		StartupProfiler.start(file);
+		Thread thread = new Thread(() -> StartupProfiler.begin("bundle", "other \"thread\"").close(),
+				"Profiled thread");
+		thread.start();
+		thread.join();
+		StartupProfiler.begin("bundle", "main").close();
+		StartupProfiler.complete();
+
+		String trace = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+		Map<String, long[]> spans = readSpans(file);
+		assertTrue(spans.containsKey("main"));
+		assertTrue(spans.containsKey("other \\\"thread\\\""));
+		assertTrue(trace.contains("\"Profiled thread\""));
+	}
+
+	private static Map<String, long[]> readSpans(File file) throws Exception {
+		Map<String, long[]> spans = new HashMap<>();
+		Matcher matcher = SPAN.matcher(Files.readString(file.toPath(), StandardCharsets.UTF_8));
+		while (matcher.find()) {
+			if (!"platform".equals(matcher.group(3))) {
+				spans.put(matcher.group(4),
+						new long[] { Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)) });
+			}
+		}
+		return spans;
+	}
+}
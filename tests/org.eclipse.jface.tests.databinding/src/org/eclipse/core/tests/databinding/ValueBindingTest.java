@@ -12,6 +12,7 @@
  *     Brad Reynolds - initial API and implementation
  *     Brad Reynolds - bugs 116920, 164653, 159768
  *     Matthew Hall - bugs 260329, 271148
+ *     Contributors to the Eclipse Foundation - unboxed int bindings
  ******************************************************************************/
 
 package org.eclipse.core.tests.databinding;
@@ -38,6 +39,9 @@ import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.observable.value.WritableDoubleValue;
+import org.eclipse.core.databinding.observable.value.WritableIntValue;
+import org.eclipse.core.databinding.observable.value.WritableLongValue;
 import org.eclipse.core.databinding.observable.value.WritableValue;
 import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.databinding.validation.IValidator;
@@ -101,6 +105,79 @@ public class ValueBindingTest extends AbstractDefaultRealmTestCase {
 		assertEquals(target.getValue(), model.getValue());
 	}
 
+	@Test
+	public void testIntValuePropagationWithoutBoxing() throws Exception {
+		BoxCountingIntValue intTarget = new BoxCountingIntValue();
+		BoxCountingIntValue intModel = new BoxCountingIntValue();
+		intModel.setIntValue(1);
+
+		Binding binding = dbc.bindValue(intTarget, intModel);
+		assertEquals(1, intTarget.getIntValue());
+
+		intModel.setIntValue(2);
+		assertEquals(2, intTarget.getIntValue());
+		intTarget.setIntValue(3);
+		assertEquals(3, intModel.getIntValue());
+		assertEquals(0, intTarget.boxedDiffs + intModel.boxedDiffs);
+		assertTrue(binding.getValidationStatus().getValue().isOK());
+
+		binding.dispose();
+		intModel.setIntValue(4);
+		assertEquals(3, intTarget.getIntValue());
+	}
+
+	@Test
+	public void testLongAndDoubleValuePropagationWithoutBoxing() throws Exception {
+		BoxCountingLongValue longTarget = new BoxCountingLongValue();
+		BoxCountingLongValue longModel = new BoxCountingLongValue();
+		BoxCountingDoubleValue doubleTarget = new BoxCountingDoubleValue();
+		BoxCountingDoubleValue doubleModel = new BoxCountingDoubleValue();
+		longModel.setLongValue(1L);
+		doubleModel.setDoubleValue(1.5);
+
+		Binding longBinding = dbc.bindValue(longTarget, longModel);
+		Binding doubleBinding = dbc.bindValue(doubleTarget, doubleModel);
+		assertEquals(1L, longTarget.getLongValue());
+		assertEquals(1.5, doubleTarget.getDoubleValue(), 0);
+
+		longModel.setLongValue(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, longTarget.getLongValue());
+		longTarget.setLongValue(3L);
+		assertEquals(3L, longModel.getLongValue());
+		doubleModel.setDoubleValue(Double.NaN);
+		assertTrue(Double.isNaN(doubleTarget.getDoubleValue()));
+		doubleTarget.setDoubleValue(-0.0);
+		assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(doubleModel.getDoubleValue()));
+		assertEquals(0, longTarget.boxedDiffs + longModel.boxedDiffs + doubleTarget.boxedDiffs
+				+ doubleModel.boxedDiffs);
+		assertTrue(longBinding.getValidationStatus().getValue().isOK());
+		assertTrue(doubleBinding.getValidationStatus().getValue().isOK());
+
+		longBinding.dispose();
+		doubleBinding.dispose();
+		longModel.setLongValue(4L);
+		doubleModel.setDoubleValue(4.5);
+		assertEquals(3L, longTarget.getLongValue());
+		assertEquals(-0.0, doubleTarget.getDoubleValue(), 0);
+	}
+
+	@Test
+	public void testIntValuePropagationWithValidator() throws Exception {
+		WritableIntValue intTarget = new WritableIntValue();
+		WritableIntValue intModel = new WritableIntValue();
+
+		Binding binding = dbc.bindValue(intTarget, intModel,
+				new UpdateValueStrategy<Integer, Integer>().setAfterGetValidator(
+						value -> value.intValue() < 0 ? ValidationStatus.error("negative") : ValidationStatus.ok()),
+				null);
+
+		intTarget.setIntValue(5);
+		assertEquals(5, intModel.getIntValue());
+		intTarget.setIntValue(-1);
+		assertEquals(5, intModel.getIntValue());
+		assertEquals(IStatus.ERROR, binding.getValidationStatus().getValue().getSeverity());
+	}
+
 	@Test
 	public void testGetTarget() throws Exception {
 		Binding binding = dbc.bindValue(target, model);
@@ -449,6 +526,36 @@ public class ValueBindingTest extends AbstractDefaultRealmTestCase {
 		return value -> ValidationStatus.cancel("");
 	}
 
+	private static class BoxCountingIntValue extends WritableIntValue {
+		int boxedDiffs;
+
+		@Override
+		protected void fireValueChange(ValueDiff<Integer> diff) {
+			boxedDiffs++;
+			super.fireValueChange(diff);
+		}
+	}
+
+	private static class BoxCountingLongValue extends WritableLongValue {
+		int boxedDiffs;
+
+		@Override
+		protected void fireValueChange(ValueDiff<Long> diff) {
+			boxedDiffs++;
+			super.fireValueChange(diff);
+		}
+	}
+
+	private static class BoxCountingDoubleValue extends WritableDoubleValue {
+		int boxedDiffs;
+
+		@Override
+		protected void fireValueChange(ValueDiff<Double> diff) {
+			boxedDiffs++;
+			super.fireValueChange(diff);
+		}
+	}
+
 	private static class ObservableValueStub<T> extends AbstractObservableValue<T> {
 		@Override
 		protected T doGetValue() {
@@ -16,10 +16,13 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -268,6 +271,103 @@ public class Diffs_ListDiffTests {
 		checkComputedListDiff(List.of("a", "b", "c"), List.of("c", "a", "b"));
 	}
 
+	@Test
+	public void testComputeListDiff_LargeListsRandomEdits() {
+		Random random = new Random(42);
+		for (int run = 0; run < 20; run++) {
+			List<Object> oldList = new ArrayList<>();
+			for (int i = 0; i < 2000; i++) {
+				oldList.add(Integer.valueOf(random.nextInt(500)));
+			}
+			List<Object> newList = new ArrayList<>(oldList);
+			for (int edit = 0; edit < 1 + random.nextInt(300); edit++) {
+				int index = random.nextInt(newList.size());
+				switch (random.nextInt(3)) {
+				case 0:
+					newList.remove(index);
+					break;
+				case 1:
+					newList.add(index, Integer.valueOf(random.nextInt(1000)));
+					break;
+				default:
+					newList.add(random.nextInt(newList.size()), newList.remove(index));
+					break;
+				}
+			}
+			checkComputedListDiff(oldList, newList);
+		}
+	}
+
+	@Test
+	public void testComputeListDiff_LargeListsNothingInCommon() {
+		List<Object> oldList = new ArrayList<>();
+		List<Object> newList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			oldList.add(Integer.valueOf(i));
+			newList.add(Integer.valueOf(-i - 1));
+		}
+		checkComputedListDiff(oldList, newList);
+		assertEquals(2000, Diffs.computeListDiff(oldList, newList).getDifferences().length);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeListsReversed() {
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		Collections.reverse(newList);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeListsWithNulls() {
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			oldList.add(i % 7 == 0 ? null : Integer.valueOf(i));
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.remove(500);
+		newList.add(100, null);
+		newList.set(20, null);
+		newList.add(0, Integer.valueOf(-1));
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeListMove() {
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.add(900, newList.remove(10));
+		checkComputedListDiff(oldList, newList);
+
+		final int[] moves = new int[1];
+		Diffs.computeListDiff(oldList, newList).accept(new ListDiffVisitor<>() {
+			@Override
+			public void handleAdd(int index, Object element) {
+				fail("Unexpected addition of " + element);
+			}
+
+			@Override
+			public void handleRemove(int index, Object element) {
+				fail("Unexpected removal of " + element);
+			}
+
+			@Override
+			public void handleMove(int oldIndex, int newIndex, Object element) {
+				assertEquals(Integer.valueOf(10), element);
+				assertEquals(10, oldIndex);
+				assertEquals(900, newIndex);
+				moves[0]++;
+			}
+		});
+		assertEquals(1, moves[0]);
+	}
+
 	private static void checkComputedListDiff(List<Object> oldList, List<Object> newList) {
 		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
 
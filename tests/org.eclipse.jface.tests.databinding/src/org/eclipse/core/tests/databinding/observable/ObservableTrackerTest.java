@@ -16,6 +16,7 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.AbstractObservable;
+import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
@@ -186,6 +188,73 @@ public class ObservableTrackerTest extends AbstractDefaultRealmTestCase {
 		assertThrows(IllegalStateException.class, () -> ObservableTracker.setIgnore(false));
 	}
 
+	@Test
+	public void testRunAndMonitor_PreviousDependencies_Unchanged() throws Exception {
+		final ObservableStub observable1 = new ObservableStub();
+		final ObservableStub observable2 = new ObservableStub();
+		IChangeListener listener = event -> {
+		};
+		Runnable runnable = () -> {
+			ObservableTracker.getterCalled(observable1);
+			ObservableTracker.getterCalled(observable2);
+		};
+		IObservable[] dependencies = ObservableTracker.runAndMonitor(runnable, null, listener, null);
+		assertEquals(2, dependencies.length);
+
+		assertSame(dependencies, ObservableTracker.runAndMonitor(runnable, dependencies, listener, null));
+		assertTrue(observable1.hasListeners());
+		assertTrue(observable2.hasListeners());
+	}
+
+	@Test
+	public void testRunAndMonitor_PreviousDependencies_Changed() throws Exception {
+		final List<IObservable> added = new ArrayList<>();
+		final ObservableStub observable1 = new ObservableStub() {
+			@Override
+			public synchronized void addChangeListener(IChangeListener listener) {
+				added.add(this);
+				super.addChangeListener(listener);
+			}
+		};
+		final ObservableStub observable2 = new ObservableStub();
+		final ObservableStub observable3 = new ObservableStub();
+		IChangeListener listener = event -> {
+		};
+		IObservable[] dependencies = ObservableTracker.runAndMonitor(() -> {
+			ObservableTracker.getterCalled(observable1);
+			ObservableTracker.getterCalled(observable2);
+		}, null, listener, null);
+
+		IObservable[] result = ObservableTracker.runAndMonitor(() -> {
+			ObservableTracker.getterCalled(observable3);
+			ObservableTracker.getterCalled(observable1);
+		}, dependencies, listener, null);
+
+		assertEquals(Arrays.asList(observable3, observable1), Arrays.asList(result));
+		// observable1 kept the listener of the first run
+		assertEquals(1, added.size());
+		assertTrue(observable1.hasListeners());
+		assertFalse(observable2.hasListeners());
+		assertTrue(observable3.hasListeners());
+	}
+
+	@Test
+	public void testRunAndMonitor_PreviousDependencies_Exception() throws Exception {
+		final ObservableStub observable1 = new ObservableStub();
+		final ObservableStub observable2 = new ObservableStub();
+		IChangeListener listener = event -> {
+		};
+		IObservable[] dependencies = ObservableTracker
+				.runAndMonitor(() -> ObservableTracker.getterCalled(observable1), null, listener, null);
+
+		assertThrows(IllegalStateException.class, () -> ObservableTracker.runAndMonitor(() -> {
+			ObservableTracker.getterCalled(observable2);
+			throw new IllegalStateException();
+		}, dependencies, listener, null));
+		assertTrue(observable1.hasListeners());
+		assertFalse(observable2.hasListeners());
+	}
+
 	public static class ObservableStub extends AbstractObservable {
 		public ObservableStub() {
 			this(Realm.getDefault());
@@ -199,5 +268,10 @@ public class ObservableTrackerTest extends AbstractDefaultRealmTestCase {
 		public boolean isStale() {
 			return false;
 		}
+
+		@Override
+		public boolean hasListeners() {
+			return super.hasListeners();
+		}
 	}
 }
@@ -15,16 +15,49 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.observable.map.WritableMap;
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.core.databinding.observable.value.ComputedValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.databinding.conformance.util.ChangeEventTracker;
 import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.MapChangeEventTracker;
 import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.SetChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 /**
  * @since 3.2
  */
 public class RealmTest {
+	private Realm realm;
+
+	@Before
+	public void setUp() throws Exception {
+		realm = new CurrentRealm(true);
+		RealmTester.setDefault(realm);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
 	@Test
 	public void testSetDefaultWithRunnable() throws Exception {
 		Realm oldRealm = new CurrentRealm(true);
@@ -35,4 +68,135 @@ public class RealmTest {
 
 		assertEquals("old realm should have been restored", oldRealm, Realm.getDefault());
 	}
+
+	@Test
+	public void testRunInTransaction_MergesValueChanges() {
+		WritableValue<Integer> value = new WritableValue<>(realm, 0, Integer.class);
+		ChangeEventTracker changes = ChangeEventTracker.observe(value);
+		ValueChangeEventTracker<Integer> valueChanges = ValueChangeEventTracker.observe(value);
+
+		realm.runInTransaction(() -> {
+			assertTrue(realm.isInTransaction());
+			for (int i = 1; i <= 10; i++) {
+				value.setValue(i);
+			}
+			assertEquals(0, changes.count);
+			assertEquals(0, valueChanges.count);
+		});
+
+		assertFalse(realm.isInTransaction());
+		assertEquals(1, changes.count);
+		assertEquals(1, valueChanges.count);
+		assertEquals(Integer.valueOf(0), valueChanges.event.diff.getOldValue());
+		assertEquals(Integer.valueOf(10), valueChanges.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testRunInTransaction_MergesListChanges() {
+		WritableList<String> list = new WritableList<>(realm);
+		list.add("a");
+		List<String> oldList = new ArrayList<>(list);
+		ListChangeEventTracker<String> listChanges = ListChangeEventTracker.observe(list);
+
+		realm.runInTransaction(() -> {
+			list.add("b");
+			list.add(0, "c");
+			list.remove("a");
+		});
+
+		assertEquals(1, listChanges.count);
+		listChanges.event.diff.applyTo(oldList);
+		assertEquals(list, oldList);
+	}
+
+	@Test
+	public void testRunInTransaction_SetChangesCancelOut() {
+		WritableSet<String> set = new WritableSet<>(realm);
+		ChangeEventTracker changes = ChangeEventTracker.observe(set);
+		SetChangeEventTracker setChanges = SetChangeEventTracker.observe(set);
+
+		realm.runInTransaction(() -> {
+			set.add("a");
+			set.remove("a");
+		});
+
+		assertEquals(0, changes.count);
+		assertEquals(0, setChanges.count);
+	}
+
+	@Test
+	public void testRunInTransaction_MergesMapChanges() {
+		WritableMap<String, String> map = new WritableMap<>(realm);
+		map.put("changed", "old");
+		map.put("removed", "value");
+		MapChangeEventTracker<String, String> mapChanges = MapChangeEventTracker.observe(map);
+
+		realm.runInTransaction(() -> {
+			map.put("changed", "intermediate");
+			map.put("changed", "new");
+			map.put("added", "value");
+			map.remove("removed");
+			map.put("transient", "value");
+			map.remove("transient");
+		});
+
+		assertEquals(1, mapChanges.count);
+		assertEquals(Set.of("added"), mapChanges.event.diff.getAddedKeys());
+		assertEquals(Set.of("removed"), mapChanges.event.diff.getRemovedKeys());
+		assertEquals(Set.of("changed"), mapChanges.event.diff.getChangedKeys());
+		assertEquals("old", mapChanges.event.diff.getOldValue("changed"));
+		assertEquals("new", mapChanges.event.diff.getNewValue("changed"));
+	}
+
+	@Test
+	public void testRunInTransaction_Nested() {
+		WritableValue<Integer> value = new WritableValue<>(realm, 0, Integer.class);
+		ValueChangeEventTracker<Integer> valueChanges = ValueChangeEventTracker.observe(value);
+
+		realm.runInTransaction(() -> {
+			realm.runInTransaction(() -> value.setValue(1));
+			assertEquals(0, valueChanges.count);
+			value.setValue(2);
+		});
+
+		assertEquals(1, valueChanges.count);
+		assertEquals(Integer.valueOf(2), valueChanges.event.diff.getNewValue());
+	}
+
+	@Test
+	public void testRunInTransaction_ComputedValueChangesOnce() {
+		WritableValue<Integer> first = new WritableValue<>(realm, 0, Integer.class);
+		WritableValue<Integer> second = new WritableValue<>(realm, 0, Integer.class);
+		IObservableValue<Integer> sum = ComputedValue.create(() -> first.getValue() + second.getValue());
+		ValueChangeEventTracker<Integer> sumChanges = ValueChangeEventTracker.observe(sum);
+
+		realm.runInTransaction(() -> {
+			for (int i = 1; i <= 10; i++) {
+				first.setValue(i);
+				second.setValue(i);
+			}
+		});
+
+		assertEquals(1, sumChanges.count);
+		assertEquals(Integer.valueOf(20), sum.getValue());
+	}
+
+	@Test
+	public void testRunInTransaction_FiresEventsOnException() {
+		WritableValue<Integer> value = new WritableValue<>(realm, 0, Integer.class);
+		ValueChangeEventTracker<Integer> valueChanges = ValueChangeEventTracker.observe(value);
+
+		try {
+			realm.runInTransaction(() -> {
+				value.setValue(1);
+				throw new IllegalStateException();
+			});
+			fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		assertFalse(realm.isInTransaction());
+		assertEquals(1, valueChanges.count);
+	}
 }
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.IObservableCollection;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IndexedWritableList;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.jface.databinding.conformance.MutableObservableListContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableListContractTest;
+import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableCollectionContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.TestCollection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IndexedWritableList}. The index is checked against a plain
+ * {@link ArrayList} receiving the same modifications.
+ */
+public class IndexedWritableListTest {
+
+	private static final int VALUE_RANGE = 20;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testIndexOfWithDuplicates() {
+		IndexedWritableList<String> list = new IndexedWritableList<>(Arrays.asList("a", "b", "a", "c"), null);
+		assertEquals(0, list.indexOf("a"));
+		assertEquals(2, list.lastIndexOf("a"));
+
+		list.remove(0);
+		assertEquals(1, list.indexOf("a"));
+		assertTrue(list.contains("a"));
+
+		list.remove("a");
+		assertEquals(-1, list.indexOf("a"));
+		assertFalse(list.contains("a"));
+	}
+
+	@Test
+	public void testMove() {
+		IndexedWritableList<String> list = new IndexedWritableList<>(Arrays.asList("a", "b", "c", "d"), null);
+		assertEquals(3, list.indexOf("d"));
+
+		list.move(3, 0);
+		assertEquals(0, list.indexOf("d"));
+		assertEquals(1, list.indexOf("a"));
+
+		list.move(0, 2);
+		assertEquals(2, list.indexOf("d"));
+		assertEquals(3, list.indexOf("c"));
+	}
+
+	@Test
+	public void testNullElements() {
+		IndexedWritableList<String> list = new IndexedWritableList<>();
+		list.add("a");
+		list.add(null);
+		assertTrue(list.contains(null));
+		assertEquals(1, list.indexOf(null));
+		list.set(1, "b");
+		assertFalse(list.contains(null));
+	}
+
+	@Test
+	public void testApplyListDiff() {
+		IndexedWritableList<Integer> list = new IndexedWritableList<>(Arrays.asList(1, 2, 3, 4, 5), null);
+		List<Integer> newContents = Arrays.asList(5, 3, 6, 1, 3);
+		ListDiff<Integer> diff = Diffs.computeListDiff(new ArrayList<>(list), newContents);
+
+		diff.applyTo(list);
+
+		assertEquals(newContents, list);
+		assertIndexConsistent(newContents, list);
+	}
+
+	@Test
+	public void testRandomModifications() {
+		Random random = new Random(36);
+		List<Integer> expected = new ArrayList<>();
+		IndexedWritableList<Integer> list = new IndexedWritableList<>();
+
+		for (int step = 0; step < 5000; step++) {
+			Integer value = random.nextInt(VALUE_RANGE);
+			int size = expected.size();
+			switch (random.nextInt(10)) {
+			case 0 -> {
+				expected.add(value);
+				list.add(value);
+			}
+			case 1 -> {
+				int index = random.nextInt(size + 1);
+				expected.add(index, value);
+				list.add(index, value);
+			}
+			case 2 -> {
+				if (size > 0) {
+					int index = random.nextInt(size);
+					assertEquals(expected.remove(index), list.remove(index));
+				}
+			}
+			case 3 -> assertEquals(expected.remove(value), list.remove(value));
+			case 4 -> {
+				if (size > 0) {
+					int index = random.nextInt(size);
+					assertEquals(expected.set(index, value), list.set(index, value));
+				}
+			}
+			case 5 -> {
+				if (size > 0) {
+					int oldIndex = random.nextInt(size);
+					int newIndex = random.nextInt(size);
+					expected.add(newIndex, expected.remove(oldIndex));
+					list.move(oldIndex, newIndex);
+				}
+			}
+			case 6 -> {
+				List<Integer> values = randomValues(random);
+				int index = random.nextInt(size + 1);
+				expected.addAll(index, values);
+				list.addAll(index, values);
+			}
+			case 7 -> {
+				Collection<Integer> values = randomValues(random);
+				// WritableList removes the first occurrence of each element
+				for (Integer element : values) {
+					expected.remove(element);
+				}
+				list.removeAll(values);
+			}
+			case 8 -> {
+				if (random.nextInt(10) == 0) {
+					Collection<Integer> values = randomValues(random);
+					expected.retainAll(values);
+					list.retainAll(values);
+				}
+			}
+			default -> {
+				// lookups only
+			}
+			}
+			assertEquals(expected, list);
+			assertEquals(expected.indexOf(value), list.indexOf(value));
+			if (step % 100 == 0) {
+				assertIndexConsistent(expected, list);
+			}
+		}
+	}
+
+	private static List<Integer> randomValues(Random random) {
+		List<Integer> values = new ArrayList<>();
+		for (int i = random.nextInt(5); i > 0; i--) {
+			values.add(random.nextInt(VALUE_RANGE));
+		}
+		return values;
+	}
+
+	private static void assertIndexConsistent(List<Integer> expected, List<Integer> list) {
+		for (int value = 0; value < VALUE_RANGE; value++) {
+			assertEquals(expected.contains(value), list.contains(value));
+			assertEquals(expected.indexOf(value), list.indexOf(value));
+			assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+		}
+	}
+
+	public static void addConformanceTest(TestCollection suite) {
+		suite.addTest(MutableObservableListContractTest.class, new Delegate());
+		suite.addTest(ObservableListContractTest.class, new Delegate());
+	}
+
+	/* package */static class Delegate extends AbstractObservableCollectionContractDelegate<String> {
+		@Override
+		public String createElement(IObservableCollection<String> collection) {
+			return String.valueOf(collection.size() + 1);
+		}
+
+		@Override
+		public Object getElementType(IObservableCollection<String> collection) {
+			return String.class;
+		}
+
+		@Override
+		public IObservableCollection<String> createObservableCollection(Realm realm, final int itemCount) {
+			IndexedWritableList<String> observable = new IndexedWritableList<>(realm, List.of(), String.class);
+
+			for (int i = 0; i < itemCount; i++) {
+				observable.add(String.valueOf(i));
+			}
+
+			return observable;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void change(IObservable observable) {
+			((IndexedWritableList<String>) observable).add("");
+		}
+	}
+}
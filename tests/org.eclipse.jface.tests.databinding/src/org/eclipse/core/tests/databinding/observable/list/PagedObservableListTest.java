@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IPagedListSource;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.PagedObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PagedObservableListTest {
+	private QueueRealm realm;
+	private NumberSource source;
+
+	@Before
+	public void setUp() {
+		realm = new QueueRealm();
+		source = new NumberSource(1_000_000);
+	}
+
+	private PagedObservableList<Integer> createList(int cachedPages) {
+		// fetch synchronously, results are still delivered through the realm
+		return new PagedObservableList<>(realm, source, 100, cachedPages, Runnable::run, Integer.class);
+	}
+
+	@Test
+	public void testSizeWithoutLoading() {
+		PagedObservableList<Integer> list = createList(10);
+		assertEquals(1_000_000, list.size());
+		assertTrue(source.fetches.isEmpty());
+	}
+
+	@Test
+	public void testGet_LoadsPage() throws InterruptedException {
+		PagedObservableList<Integer> list = createList(10);
+		List<ListDiff<? extends Integer>> diffs = new ArrayList<>();
+		list.addListChangeListener(event -> diffs.add(event.diff));
+
+		assertNull(list.get(250));
+		assertTrue(list.isStale());
+		assertFalse(list.isLoaded(250));
+
+		realm.runNext();
+		assertEquals(List.of(200), source.fetches);
+		assertTrue(list.isLoaded(250));
+		assertFalse(list.isStale());
+		assertEquals(Integer.valueOf(250), list.get(250));
+
+		assertEquals(1, diffs.size());
+		assertEquals(200, diffs.get(0).getDifferences().length);
+		List<Integer> placeholders = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			placeholders.add(null);
+		}
+		diffs.get(0).applyTo(placeholders);
+		assertEquals(Integer.valueOf(200), placeholders.get(200));
+		assertEquals(Integer.valueOf(299), placeholders.get(299));
+		assertNull(placeholders.get(199));
+	}
+
+	@Test
+	public void testGet_LoadsPageOnce() throws InterruptedException {
+		PagedObservableList<Integer> list = createList(10);
+
+		list.get(0);
+		list.get(1);
+		list.get(99);
+		realm.runNext();
+
+		assertEquals(List.of(0), source.fetches);
+	}
+
+	@Test
+	public void testLastPage() throws InterruptedException {
+		source = new NumberSource(150);
+		PagedObservableList<Integer> list = createList(10);
+
+		list.get(149);
+		realm.runNext();
+
+		assertEquals(Integer.valueOf(149), list.get(149));
+		assertEquals(50, source.lengths.get(0).intValue());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedPageIsEvicted() throws InterruptedException {
+		PagedObservableList<Integer> list = createList(2);
+		List<ListDiff<? extends Integer>> diffs = new ArrayList<>();
+		list.addListChangeListener(event -> diffs.add(event.diff));
+		list.get(0);
+		realm.runNext();
+		list.get(100);
+		realm.runNext();
+
+		// use page 0, so that page 1 is the least recently used one
+		list.get(0);
+		list.get(200);
+		realm.runNext();
+
+		assertTrue(list.isLoaded(0));
+		assertFalse(list.isLoaded(100));
+		assertTrue(list.isLoaded(200));
+
+		// listeners are told that the elements of page 1 are placeholders again
+		List<Integer> elements = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			elements.add(null);
+		}
+		for (ListDiff<? extends Integer> diff : diffs) {
+			diff.applyTo(elements);
+		}
+		assertEquals(Integer.valueOf(0), elements.get(0));
+		assertNull(elements.get(100));
+		assertNull(elements.get(199));
+		assertEquals(Integer.valueOf(200), elements.get(200));
+		assertEquals(400, diffs.get(2).getDifferences().length);
+	}
+
+	@Test
+	public void testPlaceholder() throws InterruptedException {
+		PagedObservableList<Integer> list = new PagedObservableList<>(realm, source, 100, 10, Runnable::run,
+				Integer.class, Integer.valueOf(-1));
+		List<ListDiff<? extends Integer>> diffs = new ArrayList<>();
+		list.addListChangeListener(event -> diffs.add(event.diff));
+
+		assertEquals(Integer.valueOf(-1), list.get(5));
+		realm.runNext();
+
+		assertEquals(Integer.valueOf(5), list.get(5));
+		assertEquals(Integer.valueOf(-1), diffs.get(0).getDifferences()[0].getElement());
+		assertFalse(diffs.get(0).getDifferences()[0].isAddition());
+	}
+
+	@Test
+	public void testFailedFetchIsRetried() throws InterruptedException {
+		PagedObservableList<Integer> list = createList(10);
+		List<ListDiff<? extends Integer>> diffs = new ArrayList<>();
+		list.addListChangeListener(event -> diffs.add(event.diff));
+		source.fail = true;
+		list.get(0);
+		realm.runNext();
+		assertFalse(list.isLoaded(0));
+		assertFalse(list.isStale());
+		// listeners are told that the list is no longer stale
+		assertEquals(1, diffs.size());
+		assertTrue(diffs.get(0).isEmpty());
+
+		source.fail = false;
+		assertNull(list.get(0));
+		realm.runNext();
+		assertEquals(Integer.valueOf(0), list.get(0));
+	}
+
+	@Test
+	public void testFetchErrorDoesNotKeepPagePending() throws InterruptedException {
+		PagedObservableList<Integer> list = createList(10);
+		source.error = true;
+		try {
+			list.get(0);
+			fail();
+		} catch (LinkageError e) {
+			// thrown by the source on the executor, which runs synchronously here
+		}
+		assertTrue(list.isStale());
+		realm.runNext();
+		assertFalse(list.isStale());
+
+		source.error = false;
+		list.get(0);
+		realm.runNext();
+		assertEquals(Integer.valueOf(0), list.get(0));
+	}
+
+	@Test
+	public void testRejectedLoadEndsStaleState() {
+		PagedObservableList<Integer> list = new PagedObservableList<>(realm, source, 100, 10, command -> {
+			throw new RejectedExecutionException();
+		}, Integer.class);
+		List<String> events = new ArrayList<>();
+		list.addStaleListener(event -> events.add("stale"));
+		list.addListChangeListener(event -> events.add("change"));
+
+		assertNull(list.get(0));
+		assertFalse(list.isStale());
+		assertEquals(List.of("stale", "change"), events);
+	}
+
+	@Test
+	public void testDispose_IgnoresPendingPages() throws InterruptedException {
+		PagedObservableList<Integer> list = createList(10);
+		list.get(0);
+		list.dispose();
+
+		realm.runNext();
+		assertTrue(list.isDisposed());
+	}
+
+	private static class NumberSource implements IPagedListSource<Integer> {
+		final int size;
+		final List<Integer> fetches = new ArrayList<>();
+		final List<Integer> lengths = new ArrayList<>();
+		boolean fail;
+		boolean error;
+
+		NumberSource(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public List<Integer> fetch(int offset, int length) {
+			if (fail) {
+				throw new IllegalStateException("connection lost");
+			}
+			if (error) {
+				throw new LinkageError("class not found");
+			}
+			fetches.add(offset);
+			lengths.add(length);
+			List<Integer> result = new ArrayList<>();
+			for (int i = offset; i < offset + length; i++) {
+				result.add(i);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Realm which queues runnables until the test runs them on its own thread.
+	 */
+	private static class QueueRealm extends Realm {
+		private final Thread thread = Thread.currentThread();
+		private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+		@Override
+		public boolean isCurrent() {
+			return Thread.currentThread() == thread;
+		}
+
+		@Override
+		public void asyncExec(Runnable runnable) {
+			queue.add(runnable);
+		}
+
+		void runNext() throws InterruptedException {
+			Runnable runnable = queue.poll(5, TimeUnit.SECONDS);
+			assertTrue("Timed out waiting for a runnable", runnable != null);
+			safeRun(runnable);
+		}
+	}
+}
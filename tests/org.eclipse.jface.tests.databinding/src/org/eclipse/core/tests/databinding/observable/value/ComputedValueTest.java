@@ -147,6 +147,92 @@ public class ComputedValueTest extends AbstractDefaultRealmTestCase {
 		assertFalse("because value2 is not a part of the calculation the listeners should have been removed", value2.hasListeners());
 	}
 
+	@Test
+	public void testUnchangedComputedDependencyDoesNotRecalculate() throws Exception {
+		WritableValue<Integer> value = new WritableValue<>(Integer.valueOf(1), Integer.TYPE);
+		int[] calculations = new int[2];
+		IObservableValue<Integer> parity = new ComputedValue<>() {
+			@Override
+			protected Integer calculate() {
+				calculations[0]++;
+				return Integer.valueOf(value.getValue().intValue() % 2);
+			}
+
+			@Override
+			protected boolean isEqualValue(Integer oldValue, Integer newValue) {
+				return oldValue.equals(newValue);
+			}
+		};
+		IObservableValue<String> label = ComputedValue.create(() -> {
+			calculations[1]++;
+			return parity.getValue().intValue() == 0 ? "even" : "odd";
+		});
+		label.addValueChangeListener(event -> event.diff.getNewValue());
+		assertEquals("odd", label.getValue());
+
+		value.setValue(Integer.valueOf(3));
+		assertEquals("odd", label.getValue());
+		assertEquals(2, calculations[0]);
+		assertEquals("parity did not change", 1, calculations[1]);
+
+		value.setValue(Integer.valueOf(4));
+		assertEquals("even", label.getValue());
+		assertEquals(3, calculations[0]);
+		assertEquals(2, calculations[1]);
+	}
+
+	@Test
+	public void testMutatedComputedDependencyRecalculates() throws Exception {
+		WritableValue<Integer> count = new WritableValue<>(Integer.valueOf(1), Integer.TYPE);
+		List<Integer> elements = new ArrayList<>();
+		// returns the same list every time
+		IObservableValue<List<Integer>> list = ComputedValue.create(() -> {
+			elements.clear();
+			for (int i = 0; i < count.getValue().intValue(); i++) {
+				elements.add(Integer.valueOf(i));
+			}
+			return elements;
+		});
+		IObservableValue<Integer> size = ComputedValue.create(() -> Integer.valueOf(list.getValue().size()));
+		size.addValueChangeListener(event -> event.diff.getNewValue());
+		assertEquals(Integer.valueOf(1), size.getValue());
+
+		count.setValue(Integer.valueOf(3));
+		assertEquals(Integer.valueOf(3), size.getValue());
+
+		count.setValue(Integer.valueOf(2));
+		assertEquals(Integer.valueOf(2), size.getValue());
+	}
+
+	@Test
+	public void testDependenciesStayHookedWhileListening() throws Exception {
+		final List<WritableValue<Integer>> values = new ArrayList<>();
+		ComputedValue<Integer> cv = new ComputedValue<>() {
+			@Override
+			protected Integer calculate() {
+				int sum = 0;
+				for (WritableValue<Integer> value : values) {
+					sum += value.getValue().intValue();
+				}
+				return Integer.valueOf(sum);
+			}
+		};
+		WritableValueExt<Integer> value1 = new WritableValueExt<>(Integer.TYPE, Integer.valueOf(1));
+		WritableValueExt<Integer> value2 = new WritableValueExt<>(Integer.TYPE, Integer.valueOf(1));
+		values.add(value1);
+		values.add(value2);
+		cv.addChangeListener(event -> {
+		});
+
+		value2.setValue(Integer.valueOf(2));
+		assertTrue("still listening while dirty", value1.hasListeners());
+		values.remove(value2);
+
+		assertEquals(Integer.valueOf(1), cv.getValue());
+		assertTrue(value1.hasListeners());
+		assertFalse(value2.hasListeners());
+	}
+
 	@Test
 	public void testSetValueUnsupportedOperationException() throws Exception {
 		ComputedValue<Object> cv = new ComputedValue<>() {
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Observables;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IIntObservableValue;
+import org.eclipse.core.databinding.observable.value.IntValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.WritableDoubleValue;
+import org.eclipse.core.databinding.observable.value.WritableIntValue;
+import org.eclipse.core.databinding.observable.value.WritableLongValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for the primitive observable values and their interoperability with
+ * the object based observable value API.
+ */
+public class PrimitiveObservableValueTest extends AbstractDefaultRealmTestCase {
+
+	@Test
+	public void testSetIntValueFiresPrimitiveEvent() {
+		WritableIntValue value = new WritableIntValue(1);
+		List<IntValueChangeEvent> events = new ArrayList<>();
+		value.addIntValueChangeListener(events::add);
+
+		value.setIntValue(2);
+
+		assertEquals(1, events.size());
+		assertSame(value, events.get(0).getObservableValue());
+		assertEquals(1, events.get(0).oldValue);
+		assertEquals(2, events.get(0).newValue);
+		assertEquals(2, value.getIntValue());
+	}
+
+	@Test
+	public void testSetSameValueDoesNotFire() {
+		WritableIntValue value = new WritableIntValue(1000);
+		int[] count = new int[1];
+		value.addChangeListener(event -> count[0]++);
+
+		value.setIntValue(1000);
+		value.setValue(Integer.valueOf(1000));
+
+		assertEquals(0, count[0]);
+	}
+
+	@Test
+	public void testValueChangeListenerReceivesBoxedDiff() {
+		WritableLongValue value = new WritableLongValue(1L);
+		List<ValueChangeEvent<? extends Long>> events = new ArrayList<>();
+		value.addValueChangeListener(events::add);
+
+		value.setLongValue(5L);
+
+		assertEquals(1, events.size());
+		assertEquals(Long.valueOf(1L), events.get(0).diff.getOldValue());
+		assertEquals(Long.valueOf(5L), events.get(0).diff.getNewValue());
+		assertEquals(Long.TYPE, value.getValueType());
+	}
+
+	@Test
+	public void testSetNullValue() {
+		WritableIntValue value = new WritableIntValue();
+		assertThrows(IllegalArgumentException.class, () -> value.setValue(null));
+	}
+
+	@Test
+	public void testDoubleNaNIsUnchanged() {
+		WritableDoubleValue value = new WritableDoubleValue(Double.NaN);
+		int[] count = new int[1];
+		value.addDoubleValueChangeListener(event -> count[0]++);
+
+		value.setDoubleValue(Double.NaN);
+		assertEquals(0, count[0]);
+
+		value.setDoubleValue(-0.0);
+		assertEquals(1, count[0]);
+	}
+
+	@Test
+	public void testTransactionMergesPrimitiveEvents() {
+		WritableIntValue value = new WritableIntValue(0);
+		List<IntValueChangeEvent> events = new ArrayList<>();
+		value.addIntValueChangeListener(events::add);
+
+		Realm.getDefault().runInTransaction(() -> {
+			for (int i = 1; i <= 10; i++) {
+				value.setIntValue(i);
+			}
+		});
+
+		assertEquals(1, events.size());
+		assertEquals(0, events.get(0).oldValue);
+		assertEquals(10, events.get(0).newValue);
+	}
+
+	@Test
+	public void testIntObservableValueAdapter() {
+		WritableValue<Integer> boxed = new WritableValue<>(null, Integer.class);
+		IIntObservableValue value = Observables.intObservableValue(boxed);
+		List<IntValueChangeEvent> events = new ArrayList<>();
+		value.addIntValueChangeListener(events::add);
+
+		assertEquals(0, value.getIntValue());
+
+		boxed.setValue(3);
+		assertEquals(1, events.size());
+		assertEquals(0, events.get(0).oldValue);
+		assertEquals(3, events.get(0).newValue);
+
+		value.setIntValue(4);
+		assertEquals(Integer.valueOf(4), boxed.getValue());
+		assertEquals(2, events.size());
+
+		assertSame(value, Observables.intObservableValue(value));
+
+		boxed.dispose();
+		assertEquals(true, value.isDisposed());
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.core.tests.databinding.performance;
+
+import java.beans.PropertyDescriptor;
+
+import org.eclipse.core.databinding.beans.typed.BeanProperties;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.beans.BeanPropertyHelper;
+import org.eclipse.core.tests.internal.databinding.beans.Bean;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures reading and writing bean properties through
+ * {@link BeanProperties} and the {@link BeanPropertyHelper}.
+ */
+public class BeanPropertyAccessPerformanceTest extends PerformanceTestCase {
+
+	private static final int BEANS = 100_000;
+
+	private static final int RUNS = 20;
+
+	private Bean[] beans;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		beans = new Bean[BEANS];
+		for (int i = 0; i < BEANS; i++) {
+			beans[i] = new Bean("value" + i);
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		beans = null;
+		super.tearDown();
+	}
+
+	public void testRead() {
+		IValueProperty<Bean, String> property = BeanProperties.value(Bean.class, "value", String.class);
+		// warm up
+		read(property);
+		for (int i = 0; i < RUNS; i++) {
+			startMeasuring();
+			read(property);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testWrite() {
+		IValueProperty<Bean, String> property = BeanProperties.value(Bean.class, "value", String.class);
+		// warm up
+		write(property);
+		for (int i = 0; i < RUNS; i++) {
+			startMeasuring();
+			write(property);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+		assertEquals("value" + (BEANS - 1), beans[BEANS - 1].getValue());
+	}
+
+	public void testReadPropertyHelper() {
+		PropertyDescriptor descriptor = BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value");
+		// warm up
+		readPropertyHelper(descriptor);
+		for (int i = 0; i < RUNS; i++) {
+			startMeasuring();
+			readPropertyHelper(descriptor);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void read(IValueProperty<Bean, String> property) {
+		for (int i = 0; i < BEANS; i++) {
+			assertEquals("value" + i, property.getValue(beans[i]));
+		}
+	}
+
+	private void write(IValueProperty<Bean, String> property) {
+		for (int i = 0; i < BEANS; i++) {
+			property.setValue(beans[i], "value" + i);
+		}
+	}
+
+	private void readPropertyHelper(PropertyDescriptor descriptor) {
+		for (int i = 0; i < BEANS; i++) {
+			assertNotNull(BeanPropertyHelper.readProperty(beans[i], descriptor));
+		}
+	}
+}
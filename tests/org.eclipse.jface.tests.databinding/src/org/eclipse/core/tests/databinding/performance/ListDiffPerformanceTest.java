@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.core.tests.databinding.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures {@link Diffs#computeListDiff(List, List)} on large lists.
+ */
+public class ListDiffPerformanceTest extends PerformanceTestCase {
+
+	private static final int SIZE = 1_000_000;
+
+	private static final int EDITS = 100;
+
+	private static final int RUNS = 5;
+
+	private List<Object> oldList;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		oldList = new ArrayList<>(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		oldList = null;
+		super.tearDown();
+	}
+
+	public void testScatteredEdits() {
+		List<Object> newList = new ArrayList<>(oldList);
+		Random random = new Random(SIZE);
+		for (int i = 0; i < EDITS; i++) {
+			int index = random.nextInt(newList.size());
+			if (random.nextBoolean()) {
+				newList.remove(index);
+			} else {
+				newList.add(index, Integer.valueOf(-i - 1));
+			}
+		}
+		measureDiff(newList);
+	}
+
+	public void testMoves() {
+		List<Object> newList = new ArrayList<>(oldList);
+		Random random = new Random(SIZE);
+		for (int i = 0; i < EDITS; i++) {
+			newList.add(random.nextInt(SIZE), newList.remove(random.nextInt(SIZE)));
+		}
+		measureDiff(newList);
+	}
+
+	public void testReplaceAll() {
+		List<Object> newList = new ArrayList<>(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			newList.add(Integer.valueOf(-i - 1));
+		}
+		measureDiff(newList);
+	}
+
+	private void measureDiff(List<Object> newList) {
+		// warm up
+		Diffs.computeListDiff(oldList, newList);
+		ListDiff<Object> diff = null;
+		for (int i = 0; i < RUNS; i++) {
+			startMeasuring();
+			diff = Diffs.computeListDiff(oldList, newList);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+
+		List<Object> list = new ArrayList<>(oldList);
+		diff.applyTo(list);
+		assertEquals(newList, list);
+	}
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.tests.databinding.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.core.databinding.validation.AsyncValidator;
+import org.eclipse.core.databinding.validation.IValidator;
+import org.eclipse.core.databinding.validation.ValidationStatus;
+import org.eclipse.core.runtime.IStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncValidatorTest {
+	private static final IValidator<String> NOT_EMPTY = value -> value == null || value.isEmpty()
+			? ValidationStatus.error("empty")
+			: ValidationStatus.ok();
+
+	private QueueRealm realm;
+	private ExecutorService executor;
+	private WritableValue<String> target;
+
+	@Before
+	public void setUp() {
+		realm = new QueueRealm();
+		executor = Executors.newSingleThreadExecutor();
+		target = new WritableValue<>(realm, "", String.class);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testInitialValidation() throws InterruptedException {
+		AsyncValidator<String> validator = new AsyncValidator<>(target, NOT_EMPTY, executor);
+		assertTrue(validator.getValidationStatus().isStale());
+
+		realm.runNext();
+
+		assertFalse(validator.getValidationStatus().isStale());
+		assertEquals(IStatus.ERROR, validator.getValidationStatus().getValue().getSeverity());
+		assertEquals(List.of(target), validator.getTargets());
+	}
+
+	@Test
+	public void testChangeIsValidatedAsynchronously() throws InterruptedException {
+		AsyncValidator<String> validator = new AsyncValidator<>(target, NOT_EMPTY, executor);
+		realm.runNext();
+
+		target.setValue("name");
+		assertTrue(validator.getValidationStatus().isStale());
+		assertEquals(IStatus.ERROR, validator.getValidationStatus().getValue().getSeverity());
+
+		realm.runNext();
+		assertTrue(validator.getValidationStatus().getValue().isOK());
+	}
+
+	@Test
+	public void testErrorInValidatorEndsStaleState() throws InterruptedException {
+		AsyncValidator<String> validator = new AsyncValidator<>(target, value -> {
+			throw new LinkageError("class not found");
+		}, executor);
+		assertTrue(validator.getValidationStatus().isStale());
+
+		realm.runNext();
+
+		assertFalse(validator.getValidationStatus().isStale());
+		IStatus status = validator.getValidationStatus().getValue();
+		assertEquals(IStatus.ERROR, status.getSeverity());
+		assertTrue(status.getException() instanceof LinkageError);
+	}
+
+	@Test
+	public void testSupersededResultIsDropped() throws InterruptedException {
+		ExecutorService pool = Executors.newCachedThreadPool();
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> validated = new CopyOnWriteArrayList<>();
+		AsyncValidator<String> validator = new AsyncValidator<>(target, value -> {
+			validated.add(value);
+			if ("slow".equals(value)) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					// cancelled because a newer value arrived
+				}
+			}
+			return NOT_EMPTY.validate(value);
+		}, pool);
+		realm.runNext();
+
+		target.setValue("slow");
+		target.setValue("");
+		release.countDown();
+
+		// only the result for the latest value is applied
+		realm.runNext();
+		realm.runAll();
+		assertEquals(IStatus.ERROR, validator.getValidationStatus().getValue().getSeverity());
+		assertFalse(validator.getValidationStatus().isStale());
+		assertTrue(validated.contains(""));
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void testDebounce() throws InterruptedException {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		AsyncValidator<String> validator = new AsyncValidator<>(target, value -> {
+			validated.add(value);
+			return NOT_EMPTY.validate(value);
+		}, executor, 50);
+		// the timer runnable of the initial validation and its result
+		realm.runNext();
+		realm.runNext();
+		validated.clear();
+
+		target.setValue("a");
+		target.setValue("ab");
+		target.setValue("abc");
+
+		// three timer runnables, only the last one starts a validation
+		realm.runNext();
+		realm.runNext();
+		realm.runNext();
+		realm.runNext();
+		assertEquals(List.of("abc"), validated);
+		assertTrue(validator.getValidationStatus().getValue().isOK());
+	}
+
+	@Test
+	public void testInitialValidationIsDebounced() throws InterruptedException {
+		List<String> validated = new CopyOnWriteArrayList<>();
+		AsyncValidator<String> validator = new AsyncValidator<>(target, value -> {
+			validated.add(value);
+			return NOT_EMPTY.validate(value);
+		}, executor, 50);
+		target.setValue("abc");
+
+		// the initial timer runnable is superseded by the change
+		realm.runNext();
+		realm.runNext();
+		realm.runNext();
+		assertEquals(List.of("abc"), validated);
+		assertTrue(validator.getValidationStatus().getValue().isOK());
+	}
+
+	@Test
+	public void testDispose() throws InterruptedException {
+		AsyncValidator<String> validator = new AsyncValidator<>(target, NOT_EMPTY, executor);
+		validator.dispose();
+
+		realm.runAll();
+		target.setValue("name");
+		assertTrue(validator.isDisposed());
+	}
+
+	/**
+	 * Realm which queues runnables until the test runs them on its own thread.
+	 */
+	private static class QueueRealm extends Realm {
+		private final Thread thread = Thread.currentThread();
+		private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+		@Override
+		public boolean isCurrent() {
+			return Thread.currentThread() == thread;
+		}
+
+		@Override
+		public void asyncExec(Runnable runnable) {
+			queue.add(runnable);
+		}
+
+		void runNext() throws InterruptedException {
+			Runnable runnable = queue.poll(5, TimeUnit.SECONDS);
+			assertTrue("Timed out waiting for a runnable", runnable != null);
+			safeRun(runnable);
+		}
+
+		void runAll() throws InterruptedException {
+			Runnable runnable;
+			while ((runnable = queue.poll(200, TimeUnit.MILLISECONDS)) != null) {
+				safeRun(runnable);
+			}
+		}
+	}
+}
@@ -16,6 +16,8 @@
 package org.eclipse.core.tests.internal.databinding.beans;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.beans.PropertyDescriptor;
 
@@ -53,4 +55,46 @@ public class BeanPropertyHelperTest {
 		assertEquals(IBean.class.getMethod("setValue", String.class), pd.getWriteMethod());
 	}
 
+	@Test
+	public void testReadAndWriteProperty() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value");
+		Bean bean = new Bean("old");
+		assertEquals("old", BeanPropertyHelper.readProperty(bean, pd));
+
+		BeanPropertyHelper.writeProperty(bean, pd, "new");
+		assertEquals("new", bean.getValue());
+	}
+
+	@Test
+	public void testWriteProperty_WideningConversion() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "count");
+		PrimitiveBean bean = new PrimitiveBean();
+		BeanPropertyHelper.writeProperty(bean, pd, Integer.valueOf(3));
+		assertEquals(3L, bean.getCount());
+		assertEquals(Long.valueOf(3), BeanPropertyHelper.readProperty(bean, pd));
+	}
+
+	@Test
+	public void testReadProperty_ExceptionInGetterIsRethrown() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "failing");
+		RuntimeException e = assertThrows(RuntimeException.class,
+				() -> BeanPropertyHelper.readProperty(new PrimitiveBean(), pd));
+		assertTrue(e.getCause() instanceof IllegalStateException);
+	}
+
+	public static class PrimitiveBean {
+		private long count;
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+
+		public boolean isFailing() {
+			throw new IllegalStateException();
+		}
+	}
 }
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.observable.Observables;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.SetDiff;
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the rate limiting operators of {@link Observables}.
+ */
+public class RateLimitedObservablesTest {
+	private static final int INTERVAL = 20;
+
+	private QueueRealm realm;
+
+	@Before
+	public void setUp() {
+		realm = new QueueRealm();
+	}
+
+	@Test
+	public void testThrottledValue() throws InterruptedException {
+		WritableValue<Integer> source = new WritableValue<>(realm, 0, Integer.class);
+		IObservableValue<Integer> throttled = Observables.throttledValue(source, INTERVAL);
+		List<ValueDiff<? extends Integer>> diffs = new ArrayList<>();
+		throttled.addValueChangeListener(event -> diffs.add(event.diff));
+
+		source.setValue(1);
+		assertEquals(1, diffs.size());
+		assertEquals(Integer.valueOf(1), throttled.getValue());
+		assertFalse(throttled.isStale());
+
+		source.setValue(2);
+		source.setValue(3);
+		assertEquals(1, diffs.size());
+		assertEquals(Integer.valueOf(1), throttled.getValue());
+		assertTrue(throttled.isStale());
+
+		realm.runNext();
+		assertEquals(2, diffs.size());
+		assertEquals(Integer.valueOf(1), diffs.get(1).getOldValue());
+		assertEquals(Integer.valueOf(3), diffs.get(1).getNewValue());
+		assertFalse(throttled.isStale());
+	}
+
+	@Test
+	public void testDebouncedValue() throws InterruptedException {
+		WritableValue<Integer> source = new WritableValue<>(realm, 0, Integer.class);
+		IObservableValue<Integer> debounced = Observables.debouncedValue(source, INTERVAL);
+		List<ValueDiff<? extends Integer>> diffs = new ArrayList<>();
+		debounced.addValueChangeListener(event -> diffs.add(event.diff));
+
+		for (int i = 1; i <= 10; i++) {
+			source.setValue(i);
+		}
+		assertTrue(diffs.isEmpty());
+		assertTrue(debounced.isStale());
+
+		realm.runAll();
+		assertEquals(1, diffs.size());
+		assertEquals(Integer.valueOf(0), diffs.get(0).getOldValue());
+		assertEquals(Integer.valueOf(10), diffs.get(0).getNewValue());
+		assertFalse(debounced.isStale());
+	}
+
+	@Test
+	public void testDebouncedValueBurstReturningToOriginalValue() throws InterruptedException {
+		WritableValue<Integer> source = new WritableValue<>(realm, 0, Integer.class);
+		IObservableValue<Integer> debounced = Observables.debouncedValue(source, INTERVAL);
+		List<ValueDiff<? extends Integer>> diffs = new ArrayList<>();
+		debounced.addValueChangeListener(event -> diffs.add(event.diff));
+		int[] staleEvents = new int[1];
+		debounced.addStaleListener(event -> staleEvents[0]++);
+
+		source.setValue(1);
+		source.setValue(0);
+		assertEquals(1, staleEvents[0]);
+		assertTrue(debounced.isStale());
+
+		realm.runAll();
+		assertEquals(1, diffs.size());
+		assertEquals(Integer.valueOf(0), diffs.get(0).getOldValue());
+		assertEquals(Integer.valueOf(0), diffs.get(0).getNewValue());
+		assertFalse(debounced.isStale());
+	}
+
+	@Test
+	public void testSampledList() throws InterruptedException {
+		WritableList<String> source = new WritableList<>(realm);
+		source.add("a");
+		IObservableList<String> sampled = Observables.sampledList(source, INTERVAL);
+		List<ListDiff<? extends String>> diffs = new ArrayList<>();
+		sampled.addListChangeListener(event -> diffs.add(event.diff));
+
+		source.add("b");
+		source.add(0, "c");
+		source.remove("a");
+		assertTrue(diffs.isEmpty());
+		assertEquals(List.of("a"), sampled);
+		assertTrue(sampled.isStale());
+
+		realm.runNext();
+		assertEquals(1, diffs.size());
+		assertEquals(source, sampled);
+		List<String> contents = new ArrayList<>(List.of("a"));
+		diffs.get(0).applyTo(contents);
+		assertEquals(source, contents);
+		assertFalse(sampled.isStale());
+	}
+
+	@Test
+	public void testThrottledSet() throws InterruptedException {
+		WritableSet<String> source = new WritableSet<>(realm);
+		IObservableSet<String> throttled = Observables.throttledSet(source, INTERVAL);
+		List<SetDiff<? extends String>> diffs = new ArrayList<>();
+		throttled.addSetChangeListener(event -> diffs.add(event.diff));
+
+		source.add("a");
+		source.add("b");
+		source.remove("b");
+		source.add("c");
+		assertEquals(1, diffs.size());
+		assertEquals(Set.of("a"), throttled);
+
+		realm.runNext();
+		assertEquals(2, diffs.size());
+		assertEquals(Set.of("c"), diffs.get(1).getAdditions());
+		assertTrue(diffs.get(1).getRemovals().isEmpty());
+		assertEquals(source, throttled);
+	}
+
+	@Test
+	public void testSampledListBurstCancellingOut() throws InterruptedException {
+		WritableList<String> source = new WritableList<>(realm);
+		source.add("a");
+		IObservableList<String> sampled = Observables.sampledList(source, INTERVAL);
+		List<ListDiff<? extends String>> diffs = new ArrayList<>();
+		sampled.addListChangeListener(event -> diffs.add(event.diff));
+
+		source.add("b");
+		source.remove("b");
+		assertTrue(sampled.isStale());
+
+		realm.runNext();
+		assertEquals(1, diffs.size());
+		List<String> contents = new ArrayList<>(List.of("a"));
+		diffs.get(0).applyTo(contents);
+		assertEquals(List.of("a"), contents);
+		assertEquals(List.of("a"), sampled);
+		assertFalse(sampled.isStale());
+	}
+
+	@Test
+	public void testThrottledSetBurstCancellingOut() throws InterruptedException {
+		WritableSet<String> source = new WritableSet<>(realm);
+		IObservableSet<String> throttled = Observables.throttledSet(source, INTERVAL);
+		List<SetDiff<? extends String>> diffs = new ArrayList<>();
+		throttled.addSetChangeListener(event -> diffs.add(event.diff));
+
+		source.add("a");
+		source.add("b");
+		source.remove("b");
+		assertEquals(1, diffs.size());
+		assertTrue(throttled.isStale());
+
+		realm.runNext();
+		assertEquals(2, diffs.size());
+		assertTrue(diffs.get(1).isEmpty());
+		assertEquals(Set.of("a"), throttled);
+		assertFalse(throttled.isStale());
+	}
+
+	@Test
+	public void testBufferedValues() throws InterruptedException {
+		WritableValue<Integer> source = new WritableValue<>(realm, 0, Integer.class);
+		IObservableList<Integer> buffered = Observables.bufferedValues(source, INTERVAL);
+
+		source.setValue(1);
+		source.setValue(2);
+		source.setValue(3);
+		assertTrue(buffered.isEmpty());
+		assertTrue(buffered.isStale());
+
+		realm.runNext();
+		assertEquals(List.of(1, 2, 3), buffered);
+		assertFalse(buffered.isStale());
+
+		source.setValue(4);
+		realm.runNext();
+		assertEquals(List.of(4), buffered);
+	}
+
+	@Test
+	public void testDispose() throws InterruptedException {
+		WritableValue<Integer> source = new WritableValue<>(realm, 0, Integer.class);
+		IObservableValue<Integer> debounced = Observables.debouncedValue(source, INTERVAL);
+		List<ValueDiff<? extends Integer>> diffs = new ArrayList<>();
+		debounced.addValueChangeListener(event -> diffs.add(event.diff));
+
+		source.setValue(1);
+		debounced.dispose();
+		realm.runAll();
+
+		assertTrue(diffs.isEmpty());
+		assertFalse(source.isDisposed());
+	}
+
+	/**
+	 * Realm which queues runnables until the test runs them on its own thread.
+	 */
+	private static class QueueRealm extends Realm {
+		private final Thread thread = Thread.currentThread();
+		private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+		@Override
+		public boolean isCurrent() {
+			return Thread.currentThread() == thread;
+		}
+
+		@Override
+		public void asyncExec(Runnable runnable) {
+			queue.add(runnable);
+		}
+
+		void runNext() throws InterruptedException {
+			Runnable runnable = queue.poll(5, TimeUnit.SECONDS);
+			assertTrue("Timed out waiting for a runnable", runnable != null);
+			safeRun(runnable);
+		}
+
+		void runAll() throws InterruptedException {
+			Runnable runnable;
+			while ((runnable = queue.poll(200, TimeUnit.MILLISECONDS)) != null) {
+				safeRun(runnable);
+			}
+		}
+	}
+}
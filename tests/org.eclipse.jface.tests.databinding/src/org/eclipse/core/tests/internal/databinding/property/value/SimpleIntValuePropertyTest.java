@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.property.value;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.value.IIntObservableValue;
+import org.eclipse.core.databinding.observable.value.IntValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.NativePropertyListener;
+import org.eclipse.core.databinding.property.value.SimpleIntValueProperty;
+import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
+import org.junit.Test;
+
+public class SimpleIntValuePropertyTest extends AbstractDefaultRealmTestCase {
+
+	static class Counter {
+		int count;
+		Runnable listener;
+
+		void setCount(int count) {
+			this.count = count;
+			if (listener != null) {
+				listener.run();
+			}
+		}
+	}
+
+	static class CountProperty extends SimpleIntValueProperty<Counter> {
+		@Override
+		protected int doGetIntValue(Counter source) {
+			return source.count;
+		}
+
+		@Override
+		protected void doSetIntValue(Counter source, int value) {
+			source.setCount(value);
+		}
+
+		@Override
+		public INativePropertyListener<Counter> adaptListener(
+				ISimplePropertyListener<Counter, ValueDiff<? extends Integer>> listener) {
+			return new NativePropertyListener<>(this, listener) {
+				@Override
+				protected void doAddTo(Counter source) {
+					source.listener = () -> fireChange(source, null);
+				}
+
+				@Override
+				protected void doRemoveFrom(Counter source) {
+					source.listener = null;
+				}
+			};
+		}
+	}
+
+	@Test
+	public void testNullSource() {
+		CountProperty property = new CountProperty();
+		assertEquals(0, property.getIntValue(null));
+		property.setIntValue(null, 1);
+		assertEquals(Integer.TYPE, property.getValueType());
+	}
+
+	@Test
+	public void testObserveFiresPrimitiveEventOnSourceChange() {
+		Counter counter = new Counter();
+		IIntObservableValue observable = new CountProperty().observe(counter);
+		List<IntValueChangeEvent> events = new ArrayList<>();
+		observable.addIntValueChangeListener(events::add);
+
+		counter.setCount(7);
+
+		assertEquals(1, events.size());
+		assertEquals(0, events.get(0).oldValue);
+		assertEquals(7, events.get(0).newValue);
+		assertEquals(7, observable.getIntValue());
+	}
+
+	@Test
+	public void testSetIntValueThroughObservable() {
+		Counter counter = new Counter();
+		IIntObservableValue observable = new CountProperty().observe(counter);
+		List<IntValueChangeEvent> events = new ArrayList<>();
+		observable.addIntValueChangeListener(events::add);
+
+		observable.setIntValue(3);
+		observable.setValue(Integer.valueOf(3));
+
+		assertEquals(3, counter.count);
+		assertEquals(1, events.size());
+		assertEquals(3, events.get(0).newValue);
+	}
+}
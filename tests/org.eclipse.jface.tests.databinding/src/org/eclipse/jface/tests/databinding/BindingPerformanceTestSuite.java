@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.jface.tests.databinding;
+
+import org.eclipse.core.tests.databinding.performance.BeanPropertyAccessPerformanceTest;
+import org.eclipse.core.tests.databinding.performance.ListDiffPerformanceTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+/*
+ * Tests data binding performance (automated).
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ BeanPropertyAccessPerformanceTest.class, ListDiffPerformanceTest.class })
+public class BindingPerformanceTestSuite {
+
+}
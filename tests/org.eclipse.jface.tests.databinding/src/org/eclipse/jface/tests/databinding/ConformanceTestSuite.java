@@ -33,6 +33,7 @@ import org.eclipse.core.tests.databinding.observable.AbstractObservableTest;
 import org.eclipse.core.tests.databinding.observable.list.AbstractObservableListTest;
 import org.eclipse.core.tests.databinding.observable.list.ComputedListTest;
 import org.eclipse.core.tests.databinding.observable.list.DecoratingObservableListTest;
+import org.eclipse.core.tests.databinding.observable.list.IndexedWritableListTest;
 import org.eclipse.core.tests.databinding.observable.list.MultiListTest;
 import org.eclipse.core.tests.databinding.observable.list.ObservableListTest;
 import org.eclipse.core.tests.databinding.observable.list.WritableListTest;
@@ -128,6 +129,7 @@ public class ConformanceTestSuite {
 		EmptyObservableSetTest.addConformanceTest(suite);
 		GroupObservableValueTest.addConformanceTest(suite);
 		IdentityObservableSetTest.addConformanceTest(suite);
+		IndexedWritableListTest.addConformanceTest(suite);
 		LabelObservableValueTest.addConformanceTest(suite);
 		MapEntryObservableValueTest.addConformanceTest(suite);
 		MultiListTest.addConformanceTest(suite);
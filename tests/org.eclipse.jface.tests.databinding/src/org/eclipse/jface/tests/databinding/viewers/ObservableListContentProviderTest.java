@@ -126,6 +126,64 @@ public class ObservableListContentProviderTest extends AbstractDefaultRealmTestC
 		assertEquals(Collections.EMPTY_SET, realizedElements);
 	}
 
+	@Test
+	public void testBulkUpdate_RefreshesViewer() {
+		contentProvider.setBulkUpdateThreshold(3);
+		input.add("one");
+
+		input.addAll(Arrays.asList("two", "three", "four"));
+		assertEquals(4, viewer.getTable().getItemCount());
+		assertEquals("four", viewer.getElementAt(3));
+		assertEquals(new HashSet<>(input), contentProvider.getKnownElements());
+
+		input.removeAll(Arrays.asList("one", "two", "three"));
+		assertEquals(1, viewer.getTable().getItemCount());
+		assertEquals("four", viewer.getElementAt(0));
+		assertEquals(Collections.singleton("four"), contentProvider.getKnownElements());
+	}
+
+	@Test
+	public void testCoalesceUpdates_AppliesChangesOfEventLoopTurn() {
+		contentProvider.setCoalesceUpdates(true);
+
+		input.add("one");
+		input.add("two");
+		input.remove("one");
+		assertEquals(0, viewer.getTable().getItemCount());
+
+		spinEventLoop();
+		assertEquals(1, viewer.getTable().getItemCount());
+		assertEquals("two", viewer.getElementAt(0));
+		assertEquals(Collections.singleton("two"), contentProvider.getKnownElements());
+	}
+
+	@Test
+	public void testCoalesceUpdates_RefreshDiscardsPendingChanges() {
+		contentProvider.setCoalesceUpdates(true);
+
+		input.add("one");
+		viewer.refresh();
+		assertEquals(1, viewer.getTable().getItemCount());
+		assertEquals(Collections.singleton("one"), contentProvider.getKnownElements());
+
+		spinEventLoop();
+		assertEquals(1, viewer.getTable().getItemCount());
+	}
+
+	@Test
+	public void testCoalesceUpdates_DisablingAppliesPendingChanges() {
+		contentProvider.setCoalesceUpdates(true);
+
+		input.add("one");
+		contentProvider.setCoalesceUpdates(false);
+		assertEquals(1, viewer.getTable().getItemCount());
+	}
+
+	private void spinEventLoop() {
+		while (Display.getCurrent().readAndDispatch()) {
+		}
+	}
+
 	static class Mutable {
 		public int id;
 
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.databinding.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IPagedListSource;
+import org.eclipse.core.databinding.observable.list.PagedObservableList;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.jface.databinding.viewers.ObservableListLazyContentProvider;
+import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ObservableListLazyContentProviderTest extends AbstractDefaultRealmTestCase {
+	private Shell shell;
+	private TableViewer viewer;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		shell = new Shell();
+		viewer = new TableViewer(shell, SWT.VIRTUAL);
+		viewer.setUseHashlookup(true);
+		viewer.setContentProvider(new ObservableListLazyContentProvider<>());
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		shell.dispose();
+		viewer = null;
+		super.tearDown();
+	}
+
+	@Test
+	public void testItemCountFollowsList() {
+		WritableList<String> input = new WritableList<>(Arrays.asList("one", "two"), String.class);
+		viewer.setInput(input);
+		assertEquals(2, viewer.getTable().getItemCount());
+
+		input.add("three");
+		assertEquals(3, viewer.getTable().getItemCount());
+
+		input.clear();
+		assertEquals(0, viewer.getTable().getItemCount());
+	}
+
+	@Test
+	public void testReplaceUpdatesRow() {
+		WritableList<String> input = new WritableList<>(Arrays.asList("one", "two"), String.class);
+		viewer.setInput(input);
+		assertEquals("two", viewer.getElementAt(1));
+
+		input.set(1, "changed");
+		assertEquals("changed", viewer.getElementAt(1));
+	}
+
+	@Test
+	public void testPagedList_RowsAreFilledWhenPageIsLoaded() {
+		IPagedListSource<Integer> source = new IPagedListSource<>() {
+			@Override
+			public int size() {
+				return 100_000;
+			}
+
+			@Override
+			public List<Integer> fetch(int offset, int length) {
+				List<Integer> result = new ArrayList<>();
+				for (int i = offset; i < offset + length; i++) {
+					result.add(i);
+				}
+				return result;
+			}
+		};
+		PagedObservableList<Integer> input = new PagedObservableList<>(Realm.getDefault(), source, 50, 4,
+				Runnable::run, Integer.class);
+		viewer.setInput(input);
+		assertEquals(100_000, viewer.getTable().getItemCount());
+
+		viewer.getTable().getItem(75).getText();
+		assertNull(viewer.getTable().getItem(75).getData());
+
+		while (Display.getCurrent().readAndDispatch()) {
+		}
+		assertEquals(Integer.valueOf(75), viewer.getElementAt(75));
+	}
+}
@@ -178,6 +178,24 @@ public class ObservableSetTreeContentProviderTest extends AbstractDefaultRealmTe
 		assertEquals(Collections.emptySet(), realizedElements);
 	}
 
+	@Test
+	public void testBulkUpdate_RefreshesParent() {
+		final IObservableSet<Object> children = new WritableSet<>();
+		initContentProvider(target -> target == input ? children : null);
+		contentProvider.setBulkUpdateThreshold(2);
+
+		children.add("one");
+		assertEquals(1, tree.getItemCount());
+
+		children.addAll(Arrays.asList("two", "three"));
+		assertEquals(3, tree.getItemCount());
+		assertEquals(children, contentProvider.getKnownElements());
+
+		children.removeAll(Arrays.asList("one", "two"));
+		assertEquals(1, tree.getItemCount());
+		assertEquals(Collections.singleton("three"), contentProvider.getKnownElements());
+	}
+
 	static class Mutable {
 		private int id;
 
@@ -17,9 +17,11 @@ package org.eclipse.jface.tests.images;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jface.resource.ColorDescriptor;
 import org.eclipse.jface.resource.DeviceResourceDescriptor;
@@ -318,6 +320,69 @@ public class ResourceManagerTest {
 		globalResourceManager.destroy(descriptor);
 	}
 
+	@Test
+	public void testCreateAsync() throws Exception {
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		LocalResourceManager manager = new LocalResourceManager(globalResourceManager);
+		CompletableFuture<Image> future = manager.createAsync(descriptor);
+		Image image = waitFor(future);
+		validateResource(image);
+		assertSame(image, manager.find(descriptor));
+
+		// already allocated images are returned right away
+		CompletableFuture<Image> second = manager.createAsync(descriptor);
+		assertTrue(second.isDone());
+		assertSame(image, second.get());
+
+		manager.destroy(descriptor);
+		manager.destroy(descriptor);
+		assertNull(manager.find(descriptor));
+		manager.dispose();
+	}
+
+	@Test
+	public void testCreateAfterCreateAsyncReusesDecodedData() throws Exception {
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		LocalResourceManager manager = new LocalResourceManager(globalResourceManager);
+		Image first = waitFor(manager.createAsync(descriptor));
+		validateResource(first);
+		manager.destroy(descriptor);
+		assertNull(manager.find(descriptor));
+
+		// the decoded data stays cached, and is copied for every new image
+		Image second = manager.create(descriptor);
+		validateResource(second);
+		manager.destroy(descriptor);
+		Image third = waitFor(manager.createAsync(descriptor));
+		validateResource(third);
+		manager.dispose();
+	}
+
+	@Test
+	public void testCreateAsyncAfterDispose() throws Exception {
+		ImageDescriptor descriptor = getImage("icons/binary_co.gif");
+		LocalResourceManager manager = new LocalResourceManager(globalResourceManager);
+		CompletableFuture<Image> future = manager.createAsync(descriptor);
+		manager.dispose();
+		Display display = Display.getCurrent();
+		long end = System.currentTimeMillis() + 5000;
+		while (!future.isDone() && System.currentTimeMillis() < end) {
+			display.readAndDispatch();
+		}
+		assertTrue(future.isCancelled());
+		assertNull(globalResourceManager.find(descriptor));
+	}
+
+	private static Image waitFor(CompletableFuture<Image> future) throws Exception {
+		Display display = Display.getCurrent();
+		long end = System.currentTimeMillis() + 5000;
+		while (!future.isDone() && System.currentTimeMillis() < end) {
+			display.readAndDispatch();
+		}
+		assertTrue("Image was not created in time", future.isDone());
+		return future.get();
+	}
+
 	/**
 	 * ImageDataProvider to identify identical ImageData by the given ID.
 	 */
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.deferred.DeferredTreeContentProvider;
+import org.eclipse.jface.viewers.deferred.IConcurrentModel;
+import org.eclipse.jface.viewers.deferred.IConcurrentTreeModel;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.Test;
+
+/**
+ * Tests the background sorting and filtering of {@link DeferredTreeContentProvider}.
+ */
+public class DeferredTreeContentProviderTest extends ViewerTestCase {
+	private static final int NUM_ROOTS = 1000;
+	private static final int NUM_CHILDREN = 100;
+	private static final Comparator<Object> REVERSE_ORDER = (o1, o2) -> ((String) o2).compareTo((String) o1);
+
+	private DeferredTreeContentProvider contentProvider;
+
+	private final Map<TreePath, SetModel> models = new HashMap<>();
+
+	private final IConcurrentTreeModel treeModel = new IConcurrentTreeModel() {
+		@Override
+		public IConcurrentModel getChildren(TreePath parentPath) {
+			return models.computeIfAbsent(parentPath, path -> {
+				if (path.getSegmentCount() > 1) {
+					return null;
+				}
+				String prefix = path.getSegmentCount() == 0 ? "R" : (String) path.getLastSegment();
+				int count = path.getSegmentCount() == 0 ? NUM_ROOTS : NUM_CHILDREN;
+				List<String> children = new ArrayList<>();
+				for (int i = 0; i < count; i++) {
+					children.add(prefix + "-" + i);
+				}
+				SetModel model = new SetModel();
+				model.addAll(children);
+				return model;
+			});
+		}
+
+		@Override
+		public boolean hasChildren(TreePath path) {
+			return path.getSegmentCount() < 2;
+		}
+	};
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		TreeViewer viewer = new TreeViewer(parent, SWT.VIRTUAL);
+		contentProvider = new DeferredTreeContentProvider(REVERSE_ORDER);
+		viewer.setContentProvider(contentProvider);
+		viewer.setLabelProvider(new LabelProvider());
+		return viewer;
+	}
+
+	@Override
+	protected void setInput() {
+		fViewer.setInput(treeModel);
+	}
+
+	private Tree getTree() {
+		return ((TreeViewer) fViewer).getTree();
+	}
+
+	@Test
+	public void testTopLevelElementsAreSorted() {
+		waitForTopItem(NUM_ROOTS, "R-999");
+	}
+
+	@Test
+	public void testFilter() {
+		waitForTopItem(NUM_ROOTS, "R-999");
+		contentProvider.setFilter(element -> ((String) element).endsWith("0"));
+		waitForTopItem(NUM_ROOTS / 10, "R-990");
+	}
+
+	@Test
+	public void testChildrenAreSortedOnExpand() {
+		waitForTopItem(NUM_ROOTS, "R-999");
+		TreeItem topItem = getTree().getItem(0);
+		((TreeViewer) fViewer).expandToLevel(new TreePath(new Object[] { "R-999" }), 1);
+		assertTrue(DisplayHelper.waitForCondition(fShell.getDisplay(), 5000,
+				() -> topItem.getItemCount() == NUM_CHILDREN && "R-999-99".equals(topItem.getItem(0).getData())));
+		assertTrue(topItem.getExpanded());
+	}
+
+	@Test
+	public void testSetSortOrder() {
+		waitForTopItem(NUM_ROOTS, "R-999");
+		contentProvider.setSortOrder(Comparator.comparing(String.class::cast));
+		waitForTopItem(NUM_ROOTS, "R-0");
+	}
+
+	private void waitForTopItem(int itemCount, String firstElement) {
+		Tree tree = getTree();
+		DisplayHelper.waitForCondition(fShell.getDisplay(), 5000,
+				() -> tree.getItemCount() == itemCount && firstElement.equals(tree.getItem(0).getData()));
+		assertEquals(itemCount, tree.getItemCount());
+		assertEquals(firstElement, tree.getItem(0).getData());
+	}
+}
@@ -15,8 +15,12 @@
 
 package org.eclipse.jface.tests.viewers;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -253,6 +257,42 @@ public class TreeSelectionTest {
 				new StructuredSelection(Arrays.asList("element"), comparer));
 	}
 
+	@Test
+	public void testGetPathsForSinglePath() {
+		TreePath path = newTreePath("element 1", "element 2");
+		TreeSelection selection = new TreeSelection(path);
+		assertArrayEquals(new TreePath[] { path }, selection.getPathsFor("element 2"));
+		assertEquals(0, selection.getPathsFor("element 1").length);
+		assertEquals(0, new TreeSelection(path, StructuredSelectionTest.IDENTITY_COMPARER)
+				.getPathsFor(new String("element 2")).length);
+	}
+
+	@Test
+	public void testChildPathsShareParent() {
+		TreePath parent = newTreePath("element 1", "element 2");
+		TreePath child1 = parent.createChildPath("element 3");
+		TreePath child2 = parent.createChildPath("element 4");
+		assertSame(parent, child1.getParentPath());
+		assertSame(parent, child2.getParentPath());
+		assertEquals("element 2", child1.getSegment(1));
+		assertEquals("element 3", child1.getLastSegment());
+		assertEquals("element 1", child1.getFirstSegment());
+		assertTrue(child1.startsWith(parent, null));
+		assertFalse(child1.startsWith(child2, null));
+	}
+
+	@Test
+	public void testLinkedPathEqualsArrayPath() {
+		TreePath linked = TreePath.EMPTY.createChildPath("element 1").createChildPath("element 2");
+		TreePath array = newTreePath("element 1", "element 2");
+		EqualsHashCodeContractTestHelper.testExpectedEqualsObjects(linked, array);
+		EqualsHashCodeContractTestHelper.testExpectedEqualsObjects(linked.getParentPath(), array.getParentPath());
+		EqualsHashCodeContractTestHelper.testExpectedNotEqualsObjects(linked,
+				TreePath.EMPTY.createChildPath("element 1").createChildPath("element 3"));
+		assertEquals(2, array.getParentPath().createChildPath("element 2").getSegmentCount());
+		assertEquals(array, array.getParentPath().createChildPath("element 2"));
+	}
+
 	private static TreePath newTreePath(Object... args) {
 		return new TreePath(args);
 	}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.StyledCellLabelProvider;
+import org.eclipse.jface.viewers.StyledString;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.ViewerCell;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+
+/**
+ * StyledCellLabelProviderTest measures the owner draw paint path of
+ * {@link StyledCellLabelProvider} and the creation of style ranges in
+ * {@link StyledString}.
+ */
+public class StyledCellLabelProviderTest extends ViewerTest {
+
+	private static final int ITEMS = 200;
+
+	private static final int PAINTS = 100;
+
+	private TableViewer viewer;
+
+	private TestStyledLabelProvider labelProvider;
+
+	private static class TestStyledLabelProvider extends StyledCellLabelProvider {
+
+		@Override
+		public void update(ViewerCell cell) {
+			StyledString text = createStyledString(cell.getElement());
+			StyleRange[] ranges = text.getStyleRanges();
+			StyleRange[] styleRanges = new StyleRange[ranges.length + 1];
+			// a range with a font style, which needs a styled font when painted
+			styleRanges[0] = new StyleRange(0, 4, null, null, SWT.BOLD);
+			System.arraycopy(ranges, 0, styleRanges, 1, ranges.length);
+			cell.setText(text.getString());
+			cell.setStyleRanges(styleRanges);
+			super.update(cell);
+		}
+
+		void measureAndPaint(Event event, Object element) {
+			measure(event, element);
+			paint(event, element);
+		}
+	}
+
+	public StyledCellLabelProviderTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public StyledCellLabelProviderTest(String testName) {
+		super(testName);
+	}
+
+	private static StyledString createStyledString(Object element) {
+		StyledString text = new StyledString("Item " + element);
+		text.append(" - ", StyledString.DECORATIONS_STYLER);
+		text.append("qualifier", StyledString.QUALIFIER_STYLER);
+		text.append(" (42)", StyledString.COUNTER_STYLER);
+		return text;
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		viewer = new TableViewer(shell);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		labelProvider = new TestStyledLabelProvider();
+		viewer.setLabelProvider(labelProvider);
+		return viewer;
+	}
+
+	@Override
+	protected Object getInitialInput() {
+		Integer[] input = new Integer[ITEMS];
+		for (int i = 0; i < ITEMS; i++) {
+			input[i] = Integer.valueOf(i);
+		}
+		return input;
+	}
+
+	/**
+	 * Test the time for measuring and painting the cells of a table.
+	 */
+	public void testPaint() throws Throwable {
+		openBrowser();
+		Table table = viewer.getTable();
+		assertEquals(ITEMS, table.getItemCount());
+		TableItem[] items = table.getItems();
+
+		Image image = new Image(table.getDisplay(), 400, 400);
+		GC gc = new GC(image);
+		try {
+			Event event = new Event();
+			event.display = table.getDisplay();
+			event.widget = table;
+			event.gc = gc;
+			event.index = 0;
+
+			exercise(() -> {
+				startMeasuring();
+				for (int i = 0; i < PAINTS; i++) {
+					paintItems(event, items);
+				}
+				stopMeasuring();
+			}, MIN_ITERATIONS, ITERATIONS, JFacePerformanceSuite.MAX_TIME);
+		} finally {
+			gc.dispose();
+			image.dispose();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the time for creating the style ranges of a styled string.
+	 */
+	public void testStyleRanges() throws Throwable {
+		StyledString text = createStyledString("test");
+
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < PAINTS * ITEMS; i++) {
+				assertEquals(3, text.getStyleRanges().length);
+			}
+			stopMeasuring();
+		}, MIN_ITERATIONS, ITERATIONS, JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void paintItems(Event event, TableItem[] items) {
+		for (TableItem item : items) {
+			event.item = item;
+			event.detail = 0;
+			event.width = 0;
+			labelProvider.measureAndPaint(event, item.getData());
+		}
+	}
+}
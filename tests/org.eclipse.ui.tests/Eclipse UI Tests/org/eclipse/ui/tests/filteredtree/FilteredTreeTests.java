@@ -15,6 +15,9 @@
 
 package org.eclipse.ui.tests.filteredtree;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.tests.viewers.TestElement;
@@ -26,8 +29,10 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
 import org.eclipse.ui.dialogs.FilteredTree;
 import org.eclipse.ui.dialogs.PatternFilter;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.junit.After;
 import org.junit.Test;
 
@@ -126,6 +131,32 @@ public class FilteredTreeTests {
 		dialog.close();
 	}
 
+	@Test
+	public void testBackgroundFiltering() {
+		Dialog dialog = createFilteredTreeDialog();
+		fTreeViewer.setBackgroundFiltering(true);
+		assertNumberOfTopLevelItems(NUM_ITEMS);
+
+		typePattern("0-1");
+		waitForNumberOfTopLevelItems(11);
+
+		// refines the previous pattern, only the previous matches are tested
+		typePattern("0-12");
+		waitForNumberOfTopLevelItems(1);
+
+		typePattern("0-1");
+		waitForNumberOfTopLevelItems(11);
+
+		typePattern("0-1-3-");
+		waitForNumberOfTopLevelItems(1);
+		assertEquals(1, fTreeViewer.getViewer().getTree().getItem(0).getItemCount());
+
+		typePattern("");
+		waitForNumberOfTopLevelItems(NUM_ITEMS);
+
+		dialog.close();
+	}
+
 	private void runFilteredTreeTest(final int treeStyle){
 		Dialog dialog = createFilteredTreeDialog(treeStyle);
 
@@ -187,6 +218,22 @@ public class FilteredTreeTests {
 				"tree item count " + actualCount + " does not match expected: " + expectedCount);
 	}
 
+	private void waitForNumberOfTopLevelItems(int expectedCount) {
+		Tree tree = fTreeViewer.getViewer().getTree();
+		boolean reached = new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return tree.getItemCount() == expectedCount;
+			}
+		}.waitForCondition(tree.getDisplay(), 10_000);
+		assertTrue("tree item count " + tree.getItemCount() + " does not match expected: " + expectedCount,
+				reached);
+	}
+
+	private void typePattern(String pattern) {
+		fTreeViewer.getFilterControl().setText(pattern);
+	}
+
 	private void applyPattern(String pattern) {
 		fTreeViewer.getPatternFilter().setPattern(pattern);
 		fTreeViewer.getViewer().refresh();
@@ -69,6 +69,7 @@ import org.junit.runners.Suite;
 	LargeFileLimitsPreferenceHandlerTest.class,
 	WorkbookEditorsHandlerTest.class,
 	ScopeAreaTest.class,
+	UIStatsTimelineTest.class,
 		MarkerTypeTests.class
 })
 public class InternalTestSuite {}
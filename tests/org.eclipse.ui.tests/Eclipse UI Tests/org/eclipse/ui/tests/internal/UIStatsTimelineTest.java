@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.eclipse.ui.internal.misc.UIStats;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the startup timeline recorded by {@link UIStats}.
+ */
+public class UIStatsTimelineTest {
+
+	@After
+	public void tearDown() {
+		UIStats.completeTimeline();
+	}
+
+	@Test
+	public void testNotRecording() {
+		UIStats.start(UIStats.INIT_WORKBENCH, "Commands");
+		UIStats.end(UIStats.INIT_WORKBENCH, this, "Commands");
+		assertTrue(UIStats.completeTimeline().isEmpty());
+	}
+
+	@Test
+	public void testTimeline() throws Exception {
+		UIStats.recordTimeline();
+		UIStats.start(UIStats.INIT_WORKBENCH, "Commands");
+		Thread.sleep(2);
+		UIStats.start(UIStats.INIT_WORKBENCH, "Menus");
+		Thread thread = new Thread(() -> {
+			UIStats.start(UIStats.EARLY_STARTUP, "earlyStartup");
+			UIStats.end(UIStats.EARLY_STARTUP, this, "earlyStartup");
+		}, "Early startup thread");
+		Thread.sleep(2);
+		thread.start();
+		thread.join();
+		UIStats.end(UIStats.INIT_WORKBENCH, this, "Menus");
+		UIStats.end(UIStats.INIT_WORKBENCH, this, "Commands");
+		UIStats.start(UIStats.INIT_WORKBENCH, "Never ended");
+
+		List<String> timeline = UIStats.completeTimeline();
+		assertEquals(timeline.toString(), 3, timeline.size());
+		assertTrue(timeline.get(0), timeline.get(0).startsWith("org.eclipse.ui/perf/workbench.init Commands: started at +"));
+		assertTrue(timeline.get(1), timeline.get(1).startsWith("org.eclipse.ui/perf/workbench.init Menus: started at +"));
+		assertTrue(timeline.get(2), timeline.get(2).startsWith("org.eclipse.ui/perf/earlyStartup earlyStartup: "));
+		assertTrue(timeline.get(2), timeline.get(2).endsWith("on Early startup thread"));
+
+		// recording stopped
+		UIStats.start(UIStats.INIT_WORKBENCH, "Handlers");
+		UIStats.end(UIStats.INIT_WORKBENCH, this, "Handlers");
+		assertTrue(UIStats.completeTimeline().isEmpty());
+	}
+}
@@ -11,6 +11,7 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *     Jeanderson Candido <http://jeandersonbc.github.io> - Bug 433603
+ *     Contributors to the Eclipse Foundation - shared evaluation results
  *******************************************************************************/
 
 package org.eclipse.ui.tests.services;
@@ -19,6 +20,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.expressions.EvaluationResult;
@@ -281,6 +283,68 @@ public class EvaluationServiceTest extends UITestCase {
 		}
 	}
 
+	@Test
+	public void testSharedEvaluation() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		boolean activeShell = forceActive(window.getShell());
+		waitForJobs(500, 5000);
+		Assume.assumeTrue(activeShell);
+
+		IEvaluationService service = window.getService(IEvaluationService.class);
+		assertNotNull(service);
+		RecordingExpression expression = new RecordingExpression();
+		MyEval listener1 = new MyEval();
+		MyEval listener2 = new MyEval();
+		IContextActivation context1 = null;
+		IEvaluationReference evalRef1 = null;
+		IEvaluationReference evalRef2 = null;
+		IContextService contextService = null;
+		try {
+			contextService = window.getService(IContextService.class);
+			assertFalse(contextService.getActiveContextIds().contains(CONTEXT_ID1));
+
+			evalRef1 = service.addEvaluationListener(expression, listener1, IEvaluationService.RESULT);
+			int evaluations = expression.evaluatedValues.size();
+			assertEquals(1, listener1.count);
+			assertFalse(listener1.currentValue);
+
+			// the second reference reuses the result of the first one
+			evalRef2 = service.addEvaluationListener(expression, listener2, IEvaluationService.RESULT);
+			assertEquals(evaluations, expression.evaluatedValues.size());
+			assertEquals(1, listener2.count);
+			assertFalse(listener2.currentValue);
+
+			context1 = contextService.activateContext(CONTEXT_ID1);
+			processEvents();
+			waitForJobs(500, 3000);
+			assertTrue(contextService.getActiveContextIds().contains(CONTEXT_ID1));
+
+			assertEquals(2, listener1.count);
+			assertTrue(listener1.currentValue);
+			assertEquals(2, listener2.count);
+			assertTrue(listener2.currentValue);
+
+			contextService.deactivateContext(context1);
+			context1 = null;
+			processEvents();
+
+			assertEquals(3, listener1.count);
+			assertFalse(listener1.currentValue);
+			assertEquals(3, listener2.count);
+			assertFalse(listener2.currentValue);
+		} finally {
+			if (context1 != null) {
+				contextService.deactivateContext(context1);
+			}
+			if (evalRef1 != null) {
+				service.removeEvaluationListener(evalRef1);
+			}
+			if (evalRef2 != null) {
+				service.removeEvaluationListener(evalRef2);
+			}
+		}
+	}
+
 	@Test
 	@Ignore // TODO fix testRestriction
 	public void testRestriction() {
@@ -396,6 +460,23 @@ public class EvaluationServiceTest extends UITestCase {
 		}
 	}
 
+	private static class RecordingExpression extends Expression {
+		final List<Object> evaluatedValues = new ArrayList<>();
+
+		@Override
+		public void collectExpressionInfo(ExpressionInfo info) {
+			info.addVariableNameAccess(ISources.ACTIVE_CONTEXT_NAME);
+		}
+
+		@Override
+		public EvaluationResult evaluate(IEvaluationContext context) {
+			Object contexts = context.getVariable(ISources.ACTIVE_CONTEXT_NAME);
+			evaluatedValues.add(contexts);
+			return EvaluationResult
+					.valueOf(contexts instanceof Collection<?> collection && collection.contains(CONTEXT_ID1));
+		}
+	}
+
 	private static class UserExpression extends Expression {
 		public String lookFor;
 